@@ -506,6 +506,16 @@ public class JoglGL30 extends JoglGL20 implements GL30 {
 		GLContext.getCurrentGL().getGL2ES3().glResumeTransformFeedback();
 	}
 
+	@Override
+	public void glGetProgramBinary (int program, int bufSize, IntBuffer length, IntBuffer binaryFormat, Buffer binary) {
+		GLContext.getCurrentGL().getGL2ES2().glGetProgramBinary(program, bufSize, length, binaryFormat, binary);
+	}
+
+	@Override
+	public void glProgramBinary (int program, int binaryFormat, Buffer binary, int length) {
+		GLContext.getCurrentGL().getGL2ES2().glProgramBinary(program, binaryFormat, binary, length);
+	}
+
 	@Override
 	public void glProgramParameteri (int program, int pname, int value) {
 		GLContext.getCurrentGL().getGL2ES2().glProgramParameteri(program, pname, value);
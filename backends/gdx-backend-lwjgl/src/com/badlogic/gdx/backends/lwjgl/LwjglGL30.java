@@ -633,6 +633,22 @@ class LwjglGL30 extends LwjglGL20 implements com.badlogic.gdx.graphics.GL30 {
 		GL40.glResumeTransformFeedback();
 	}
 
+	@Override
+	public void glGetProgramBinary (int program, int bufSize, IntBuffer length, IntBuffer binaryFormat, Buffer binary) {
+		if (binary instanceof ByteBuffer)
+			GL41.glGetProgramBinary(program, length, binaryFormat, (ByteBuffer)binary);
+		else
+			throw new GdxRuntimeException("binary must be byte buffer");
+	}
+
+	@Override
+	public void glProgramBinary (int program, int binaryFormat, Buffer binary, int length) {
+		if (binary instanceof ByteBuffer)
+			GL41.glProgramBinary(program, binaryFormat, (ByteBuffer)binary);
+		else
+			throw new GdxRuntimeException("binary must be byte buffer");
+	}
+
 	@Override
 	public void glProgramParameteri (int program, int pname, int value) {
 		GL41.glProgramParameteri(program, pname, value);
@@ -25,6 +25,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 
 import com.badlogic.gdx.Files.FileType;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -127,6 +128,11 @@ public class FileHandle {
 		throw new GdxRuntimeException("Stub");
 	}
 
+	/** Reads the file into a buffer, files can't be memory mapped on this backend. */
+	public ByteBuffer map () {
+		return ByteBuffer.wrap(readBytes());
+	}
+
 	/** Reads the entire file into the byte array. The byte array must be big enough to hold the file's data.
 	 * @param bytes the array to load the file into
 	 * @param offset the offset to start writing bytes
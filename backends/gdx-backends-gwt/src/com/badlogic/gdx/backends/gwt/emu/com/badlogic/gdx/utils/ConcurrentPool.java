@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+/** GWT emulation of ConcurrentPool, there is only one thread so it is a plain {@link Pool} that counts hits and misses. */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	public final int batchSize;
+	private long hits, misses;
+
+	public ConcurrentPool () {
+		this(32, Integer.MAX_VALUE);
+	}
+
+	public ConcurrentPool (int max) {
+		this(32, max);
+	}
+
+	public ConcurrentPool (int batchSize, int max) {
+		super(batchSize, max);
+		if (batchSize < 1) throw new IllegalArgumentException("batchSize must be > 0: " + batchSize);
+		this.batchSize = batchSize;
+	}
+
+	public T obtain () {
+		if (getFree() == 0)
+			misses++;
+		else
+			hits++;
+		return super.obtain();
+	}
+
+	public long getHits () {
+		return hits;
+	}
+
+	public long getMisses () {
+		return misses;
+	}
+
+	public float getHitRate () {
+		long total = hits + misses;
+		return total == 0 ? 0 : hits / (float)total;
+	}
+
+	public long getContention () {
+		return 0;
+	}
+
+	public void resetStats () {
+		hits = 0;
+		misses = 0;
+	}
+}
@@ -26,6 +26,7 @@ import java.util.Locale;
 public class TextFormatter {
 
 	private StringBuilder buffer = new StringBuilder();
+	private final ObjectMap<String, CompiledPattern> compiledPatterns = new ObjectMap();
 
 	public TextFormatter (Locale locale, boolean useMessageFormat) {
 		// both arguments are meaningless for GWT
@@ -44,6 +45,79 @@ public class TextFormatter {
 	 * @return the formatted pattern
 	 * @exception IllegalArgumentException if the pattern is invalid */
 	public String format (String pattern, Object... args) {
+		CompiledPattern compiled = compile(pattern);
+		if (compiled.indices != null && compiled.indices.length == 0) return compiled.literals[0];
+		buffer.setLength(0);
+		format(buffer, compiled, pattern, args);
+		return buffer.toString();
+	}
+
+	/** Appends the given {@code pattern} formatted as by {@link #format(String, Object...)} to {@code out}. String and Integer
+	 * arguments are appended without allocation.
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String pattern, Object... args) {
+		format(out, compile(pattern), pattern, args);
+		return out;
+	}
+
+	/** Appends the given {@code pattern} formatted with a single argument to {@code out}, without boxing or allocation.
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String pattern, int arg) {
+		CompiledPattern compiled = compile(pattern);
+		if (compiled.indices == null) return format(out, pattern, new Object[] {arg});
+		compiled.checkIndices(1);
+		String[] literals = compiled.literals;
+		for (int i = 0, n = compiled.indices.length; i < n; i++)
+			out.append(literals[i]).append(arg);
+		out.append(literals[literals.length - 1]);
+		return out;
+	}
+
+	/** Appends the given {@code pattern} formatted with a single argument to {@code out}, without boxing.
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String pattern, float arg) {
+		CompiledPattern compiled = compile(pattern);
+		if (compiled.indices == null) return format(out, pattern, new Object[] {arg});
+		compiled.checkIndices(1);
+		String[] literals = compiled.literals;
+		for (int i = 0, n = compiled.indices.length; i < n; i++)
+			out.append(literals[i]).append(arg);
+		out.append(literals[literals.length - 1]);
+		return out;
+	}
+
+	private CompiledPattern compile (String pattern) {
+		CompiledPattern compiled = compiledPatterns.get(pattern);
+		if (compiled == null) {
+			compiled = new CompiledPattern(pattern);
+			compiledPatterns.put(pattern, compiled);
+		}
+		return compiled;
+	}
+
+	private void format (StringBuilder out, CompiledPattern compiled, String pattern, Object[] args) {
+		int[] indices = compiled.indices;
+		if (indices == null) {
+			// Invalid pattern, throws the same exception as before.
+			out.append(simpleFormat(pattern, args));
+			return;
+		}
+		compiled.checkIndices(args.length);
+		String[] literals = compiled.literals;
+		for (int i = 0, n = indices.length; i < n; i++) {
+			out.append(literals[i]);
+			Object arg = args[indices[i]];
+			if (arg instanceof String)
+				out.append((String)arg);
+			else if (arg instanceof Integer)
+				out.append(((Integer)arg).intValue());
+			else
+				out.append(arg); // appends "null" for null
+		}
+		out.append(literals[literals.length - 1]);
+	}
+
+	private String simpleFormat (String pattern, Object... args) {
 		buffer.setLength(0);
 		boolean changed = false;
 		int placeholder = -1;
@@ -84,4 +158,50 @@ public class TextFormatter {
 
 		return changed ? buffer.toString() : pattern;
 	}
+
+	/** A pattern split into literal text around placeholders of the form {0}, {1}, {2} and so on. */
+	static class CompiledPattern {
+		/** The text before each placeholder and after the last one, with escaped left curly brackets replaced. */
+		String[] literals;
+		/** The argument index of each placeholder, or null if the pattern is invalid. */
+		int[] indices;
+
+		CompiledPattern (String pattern) {
+			Array<String> literals = new Array(true, 4, String.class);
+			IntArray indices = new IntArray(4);
+			StringBuilder literal = new StringBuilder(pattern.length());
+			for (int i = 0, length = pattern.length(); i < length; i++) {
+				char ch = pattern.charAt(i);
+				if (ch != '{') {
+					literal.append(ch);
+					continue;
+				}
+				if (i + 1 < length && pattern.charAt(i + 1) == '{') {
+					literal.append(ch); // escaped '{'
+					i++;
+					continue;
+				}
+				int end = i + 1, index = 0;
+				for (; end < length; end++) {
+					char digit = pattern.charAt(end);
+					if (digit < '0' || digit > '9') break;
+					index = index * 10 + (digit - '0');
+				}
+				if (end == i + 1 || end == length || pattern.charAt(end) != '}') return;
+				literals.add(literal.toString());
+				literal.setLength(0);
+				indices.add(index);
+				i = end;
+			}
+			literals.add(literals.size == 0 && literal.length() == pattern.length() ? pattern : literal.toString());
+			this.literals = literals.toArray();
+			this.indices = indices.toArray();
+		}
+
+		/** Throws the exception the simplified syntax throws for the first index without an argument. */
+		void checkIndices (int argCount) {
+			for (int i = 0, n = indices.length; i < n; i++)
+				if (indices[i] >= argCount) throw new IllegalArgumentException("Argument index out of bounds: " + indices[i]);
+		}
+	}
 }
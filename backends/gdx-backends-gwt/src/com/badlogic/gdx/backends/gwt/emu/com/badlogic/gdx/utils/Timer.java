@@ -44,6 +44,11 @@ public class Timer {
 		start();
 	}
 
+	/** Tasks are always kept in a list on GWT, the resolution is ignored. */
+	public Timer (float resolutionSeconds) {
+		this();
+	}
+
 	/** Schedules a task to occur once as soon as possible, but not sooner than the start of the next frame. */
 	public Task postTask (Task task) {
 		return scheduleTask(task, 0, 0, 0);
@@ -28,6 +28,11 @@ public class AsyncExecutor implements Disposable {
 	public AsyncExecutor (int maxConcurrent) {
 	}
 
+	/** Returns 1, tasks are called one after another. */
+	public int getMaxConcurrent () {
+		return 1;
+	}
+
 	/** Submits a {@link Runnable} to be executed asynchronously. If maxConcurrent runnables are already running, the runnable will
 	 * be queued.
 	 * @param task the task to execute asynchronously */
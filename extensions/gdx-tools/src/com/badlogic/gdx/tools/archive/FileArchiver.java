@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.zip.Deflater;
+
+import com.badlogic.gdx.files.FileArchive;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** Writes all files of a directory into a single {@link FileArchive}, which can be read through an
+ * {@link com.badlogic.gdx.assets.loaders.resolvers.ArchiveFileHandleResolver}. */
+public class FileArchiver {
+	/** The default alignment of the data of each file, in bytes. */
+	static public final int DEFAULT_ALIGNMENT = 16;
+
+	private boolean compress;
+	private int alignment = DEFAULT_ALIGNMENT;
+
+	/** @param compress if true, files are deflate compressed when that makes them smaller. Compressed files have to be inflated on
+	 *           each read, so this is best used for text files like fonts, atlases and json. */
+	public void setCompress (boolean compress) {
+		this.compress = compress;
+	}
+
+	/** @param alignment the data of each file starts at a multiple of this many bytes. */
+	public void setAlignment (int alignment) {
+		if (alignment < 1) throw new IllegalArgumentException("alignment must be > 0: " + alignment);
+		this.alignment = alignment;
+	}
+
+	/** Archives all files below the input directory, using their paths relative to it. */
+	public void process (File inputDirectory, File outputFile) throws IOException {
+		if (!inputDirectory.isDirectory()) throw new IOException("Input directory doesn't exist: " + inputDirectory);
+		ArrayList<String> paths = new ArrayList();
+		collect(inputDirectory, "", paths);
+		// the reader uses a binary search on the paths
+		Collections.sort(paths);
+
+		int count = paths.size();
+		byte[][] pathBytes = new byte[count][];
+		byte[][] data = new byte[count][];
+		int[] lengths = new int[count];
+		long indexLength = 12;
+		for (int i = 0; i < count; i++) {
+			String path = paths.get(i);
+			pathBytes[i] = path.getBytes("UTF-8");
+			if (pathBytes[i].length > 0xffff) throw new IOException("Path too long: " + path);
+			indexLength += 2 + pathBytes[i].length + 8 + 4 + 4;
+			byte[] bytes = new FileHandle(new File(inputDirectory, path)).readBytes();
+			lengths[i] = bytes.length;
+			data[i] = compress ? deflate(bytes) : bytes;
+		}
+
+		long[] offsets = new long[count];
+		long offset = indexLength;
+		for (int i = 0; i < count; i++) {
+			offset = align(offset);
+			offsets[i] = offset;
+			offset += data[i].length;
+		}
+		if (offset > Integer.MAX_VALUE) throw new IOException("Archive larger than 2GB: " + offset);
+
+		if (outputFile.getParentFile() != null) outputFile.getParentFile().mkdirs();
+		DataOutputStream output = new DataOutputStream(new FileOutputStream(outputFile));
+		try {
+			output.writeInt(FileArchive.MAGIC);
+			output.writeInt(FileArchive.VERSION);
+			output.writeInt(count);
+			for (int i = 0; i < count; i++) {
+				output.writeShort(pathBytes[i].length);
+				output.write(pathBytes[i]);
+				output.writeLong(offsets[i]);
+				output.writeInt(lengths[i]);
+				output.writeInt(data[i].length);
+			}
+			long position = indexLength;
+			for (int i = 0; i < count; i++) {
+				for (; position < offsets[i]; position++)
+					output.write(0);
+				output.write(data[i]);
+				position += data[i].length;
+			}
+		} finally {
+			StreamUtils.closeQuietly(output);
+		}
+	}
+
+	private void collect (File directory, String prefix, ArrayList<String> paths) {
+		File[] files = directory.listFiles();
+		if (files == null) return;
+		for (File file : files) {
+			if (file.isDirectory())
+				collect(file, prefix + file.getName() + "/", paths);
+			else
+				paths.add(prefix + file.getName());
+		}
+	}
+
+	private long align (long offset) {
+		long remainder = offset % alignment;
+		return remainder == 0 ? offset : offset + alignment - remainder;
+	}
+
+	/** @return the compressed bytes, or the input if compressing doesn't make it smaller. */
+	private byte[] deflate (byte[] bytes) {
+		Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+		deflater.setInput(bytes);
+		deflater.finish();
+		ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length);
+		byte[] buffer = new byte[4096];
+		while (!deflater.finished() && output.size() < bytes.length)
+			output.write(buffer, 0, deflater.deflate(buffer));
+		boolean smaller = deflater.finished() && output.size() < bytes.length;
+		deflater.end();
+		return smaller ? output.toByteArray() : bytes;
+	}
+
+	public static void main (String[] args) throws Exception {
+		FileArchiver archiver = new FileArchiver();
+		String input = null, output = null;
+		for (String arg : args) {
+			if (arg.equals("-compress"))
+				archiver.setCompress(true);
+			else if (input == null)
+				input = arg;
+			else if (output == null)
+				output = arg;
+			else
+				input = null;
+		}
+		if (input == null || output == null) {
+			System.out.println("FileArchiver [-compress] <input-dir> <output-file>");
+			System.exit(-1);
+		}
+		archiver.process(new File(input), new File(output));
+	}
+}
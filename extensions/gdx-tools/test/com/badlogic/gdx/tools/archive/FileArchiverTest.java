@@ -0,0 +1,121 @@
+
+package com.badlogic.gdx.tools.archive;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.files.ArchiveFileHandle;
+import com.badlogic.gdx.files.FileArchive;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** Archives a small directory and reads it back through {@link ArchiveFileHandle}s. */
+public class FileArchiverTest {
+	FileHandle directory, archiveFile;
+	byte[] text, binary;
+
+	@Before
+	public void setUp () throws IOException {
+		File temp = File.createTempFile("archive", "");
+		temp.delete();
+		directory = new FileHandle(temp);
+		archiveFile = new FileHandle(new File(temp.getPath() + ".gdxa"));
+
+		StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			buffer.append("line ").append(i).append('\n');
+		text = buffer.toString().getBytes("UTF-8");
+		// random bytes don't get smaller when compressed
+		binary = new byte[1000];
+		new Random(3).nextBytes(binary);
+
+		directory.child("a.txt").writeBytes(text, false);
+		directory.child("data/b.bin").writeBytes(binary, false);
+		directory.child("data/sub/c.txt").writeBytes(text, false);
+	}
+
+	@After
+	public void tearDown () {
+		directory.deleteDirectory();
+		archiveFile.delete();
+	}
+
+	private FileArchive archive (boolean compress) throws IOException {
+		FileArchiver archiver = new FileArchiver();
+		archiver.setCompress(compress);
+		archiver.process(directory.file(), archiveFile.file());
+		return new FileArchive(archiveFile);
+	}
+
+	@Test
+	public void stored () throws IOException {
+		FileArchive archive = archive(false);
+		assertEquals(3, archive.size());
+		assertReads(archive);
+		assertNotNull(archive.getBuffer("a.txt"));
+		assertNotNull(archive.getBuffer("data/b.bin"));
+	}
+
+	@Test
+	public void compressed () throws IOException {
+		FileArchive archive = archive(true);
+		assertEquals(3, archive.size());
+		assertReads(archive);
+		assertTrue(archiveFile.length() < text.length * 2 + binary.length);
+		// only files that got smaller are compressed
+		assertNull(archive.getBuffer("a.txt"));
+		assertNotNull(archive.getBuffer("data/b.bin"));
+	}
+
+	private void assertReads (FileArchive archive) throws IOException {
+		FileHandle root = archive.get("");
+		assertTrue(root.isDirectory());
+		FileHandle[] list = root.list();
+		assertEquals(2, list.length);
+		assertEquals("a.txt", list[0].name());
+		assertEquals("data", list[1].name());
+		assertTrue(list[1].isDirectory());
+
+		FileHandle a = root.child("a.txt");
+		assertTrue(a.exists());
+		assertFalse(a.isDirectory());
+		assertEquals(text.length, a.length());
+		assertArrayEquals(text, a.readBytes());
+		assertArrayEquals(text, StreamUtils.copyStreamToByteArray(a.read()));
+
+		FileHandle b = list[1].child("b.bin");
+		assertEquals(binary.length, b.length());
+		assertArrayEquals(binary, b.readBytes());
+		assertArrayEquals(binary, StreamUtils.copyStreamToByteArray(b.read()));
+		assertEquals(root, b.parent().parent());
+
+		FileHandle c = archive.get("data/sub/c.txt");
+		assertEquals(archive.get("data/sub"), c.parent());
+		assertEquals(b, c.parent().sibling("b.bin"));
+		assertEquals(1, c.parent().list(".txt").length);
+		assertArrayEquals(text, c.readBytes());
+
+		FileHandle missing = archive.get("data/missing.txt");
+		assertFalse(missing.exists());
+		assertEquals(0, missing.length());
+		assertFalse(archive.contains("data/missing.txt"));
+		try {
+			missing.readBytes();
+			fail();
+		} catch (GdxRuntimeException expected) {
+		}
+		try {
+			missing.read();
+			fail();
+		} catch (GdxRuntimeException expected) {
+		}
+	}
+}
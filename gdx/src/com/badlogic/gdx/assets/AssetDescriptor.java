@@ -27,6 +27,8 @@ public class AssetDescriptor<T> {
 	public final AssetLoaderParameters params;
 	/** The resolved file. May be null if the fileName has not been resolved yet. */
 	public FileHandle file;
+	/** The time the descriptor was added to the load queue of an {@link AssetManager}, in nanoseconds. */
+	long queuedTime;
 
 	public AssetDescriptor (String fileName, Class<T> assetType) {
 		this(fileName, assetType, null);
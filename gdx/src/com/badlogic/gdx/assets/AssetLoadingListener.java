@@ -0,0 +1,23 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.assets;
+
+/** Notified by an {@link AssetManager} each time an asset has been loaded, see
+ * {@link AssetManager#setLoadingListener(AssetLoadingListener)}. Called on the thread calling {@link AssetManager#update()}. */
+public interface AssetLoadingListener {
+	/** @param stats the timing of the asset */
+	public void finishedLoading (AssetManager manager, AssetLoadingStats stats);
+}
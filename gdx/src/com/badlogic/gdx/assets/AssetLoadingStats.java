@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.assets;
+
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
+import com.badlogic.gdx.utils.reflect.ClassReflection;
+
+/** Timing of a single asset loaded by an {@link AssetManager}, see {@link AssetManager#setRecordLoadingStats(boolean)} and
+ * {@link AssetLoadingListener}. All times are in nanoseconds. */
+public class AssetLoadingStats {
+	/** The file name of the asset. */
+	public String fileName;
+	/** The type of the asset. */
+	public Class type;
+	/** Whether the asset was loaded as a dependency of another asset rather than from the load queue. */
+	public boolean dependency;
+	/** Time the asset spent in the load queue before loading started. */
+	public long queueTime;
+	/** Time spent waiting for the dependencies of the asset to be loaded. */
+	public long dependencyTime;
+	/** Time spent in {@link AsynchronousAssetLoader#getDependencies} and {@link AsynchronousAssetLoader#loadAsync} on the loading
+	 * threads. */
+	public long asyncTime;
+	/** Time spent in the loader on the thread calling {@link AssetManager#update()}, that is
+	 * {@link AsynchronousAssetLoader#loadSync} or all of a {@link SynchronousAssetLoader}. */
+	public long syncTime;
+	/** Time from the start of loading until the asset was added to the manager, excluding {@link #queueTime}. */
+	public long totalTime;
+	/** The size of the file of the asset, not including dependencies. 0 if unknown. */
+	public long bytes;
+
+	@Override
+	public String toString () {
+		StringBuffer buffer = new StringBuffer();
+		buffer.append(fileName);
+		buffer.append(", ");
+		buffer.append(ClassReflection.getSimpleName(type));
+		buffer.append(", total: ");
+		buffer.append(totalTime / 1000000f);
+		buffer.append("ms, queue: ");
+		buffer.append(queueTime / 1000000f);
+		buffer.append("ms, dependencies: ");
+		buffer.append(dependencyTime / 1000000f);
+		buffer.append("ms, async: ");
+		buffer.append(asyncTime / 1000000f);
+		buffer.append("ms, sync: ");
+		buffer.append(syncTime / 1000000f);
+		buffer.append("ms, bytes: ");
+		buffer.append(bytes);
+		return buffer.toString();
+	}
+}
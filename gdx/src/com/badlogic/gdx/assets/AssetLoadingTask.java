@@ -22,7 +22,6 @@ import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
-import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.async.AsyncExecutor;
 import com.badlogic.gdx.utils.async.AsyncResult;
@@ -37,6 +36,11 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	final AssetLoader loader;
 	final AsyncExecutor executor;
 	final long startTime;
+	/** Nanoseconds spent in the loader on the executor and on the thread calling {@link AssetManager#update()}. */
+	volatile long asyncTime, syncTime;
+	/** Nanoseconds from injecting the dependencies until the task was updated again. */
+	long dependencyTime;
+	private long dependenciesInjectedTime;
 
 	volatile boolean asyncDone = false;
 	volatile boolean dependenciesLoaded = false;
@@ -47,18 +51,32 @@ class AssetLoadingTask implements AsyncTask<Void> {
 
 	int ticks = 0;
 	volatile boolean cancel = false;
+	/** Whether the task was started from the load queue rather than as a dependency of another asset. */
+	boolean root;
+	/** The number of references added by other assets depending on this one while it was loading. */
+	int extraRefs;
 
 	public AssetLoadingTask (AssetManager manager, AssetDescriptor assetDesc, AssetLoader loader, AsyncExecutor threadPool) {
 		this.manager = manager;
 		this.assetDesc = assetDesc;
 		this.loader = loader;
 		this.executor = threadPool;
-		startTime = manager.log.getLevel() == Logger.DEBUG ? TimeUtils.nanoTime() : 0;
+		startTime = TimeUtils.nanoTime();
 	}
 
 	/** Loads parts of the asset asynchronously if the loader is an {@link AsynchronousAssetLoader}. */
 	@Override
 	public Void call () throws Exception {
+		long start = TimeUtils.nanoTime();
+		try {
+			callLoader();
+		} finally {
+			asyncTime += TimeUtils.nanoTime() - start;
+		}
+		return null;
+	}
+
+	private void callLoader () {
 		AsynchronousAssetLoader asyncLoader = (AsynchronousAssetLoader)loader;
 		if (dependenciesLoaded == false) {
 			dependencies = asyncLoader.getDependencies(assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
@@ -73,7 +91,6 @@ class AssetLoadingTask implements AsyncTask<Void> {
 		} else {
 			asyncLoader.loadAsync(manager, assetDesc.fileName, resolve(loader, assetDesc), assetDesc.params);
 		}
-		return null;
 	}
 
 	/** Updates the loading of the asset. In case the asset is loaded with an {@link AsynchronousAssetLoader}, the loaders
@@ -84,11 +101,19 @@ class AssetLoadingTask implements AsyncTask<Void> {
 	 * @throws GdxRuntimeException */
 	public boolean update () {
 		ticks++;
+		long start = TimeUtils.nanoTime();
+		if (dependenciesInjectedTime != 0) {
+			dependencyTime = start - dependenciesInjectedTime;
+			dependenciesInjectedTime = 0;
+		}
 		if (loader instanceof SynchronousAssetLoader) {
 			handleSyncLoader();
 		} else {
 			handleAsyncLoader();
 		}
+		long end = TimeUtils.nanoTime();
+		if (loader instanceof SynchronousAssetLoader || asset != null) syncTime += end - start;
+		if (dependenciesLoaded && dependencies != null && dependencyTime == 0 && asset == null) dependenciesInjectedTime = end;
 		return asset != null;
 	}
 
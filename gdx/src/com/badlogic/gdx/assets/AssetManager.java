@@ -20,6 +20,7 @@ import java.util.Stack;
 
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.assets.loaders.AssetLoader;
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
 import com.badlogic.gdx.assets.loaders.BitmapFontLoader;
 import com.badlogic.gdx.assets.loaders.FileHandleResolver;
 import com.badlogic.gdx.assets.loaders.I18NBundleLoader;
@@ -28,11 +29,13 @@ import com.badlogic.gdx.assets.loaders.ParticleEffectLoader;
 import com.badlogic.gdx.assets.loaders.PixmapLoader;
 import com.badlogic.gdx.assets.loaders.SkinLoader;
 import com.badlogic.gdx.assets.loaders.SoundLoader;
+import com.badlogic.gdx.assets.loaders.SynchronousAssetLoader;
 import com.badlogic.gdx.assets.loaders.TextureAtlasLoader;
 import com.badlogic.gdx.assets.loaders.TextureLoader;
 import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
@@ -53,6 +56,7 @@ import com.badlogic.gdx.utils.Logger;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.OrderedSet;
 import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.UBJsonReader;
 import com.badlogic.gdx.utils.async.AsyncExecutor;
@@ -72,7 +76,14 @@ public class AssetManager implements Disposable {
 	final AsyncExecutor executor;
 
 	final Stack<AssetLoadingTask> tasks = new Stack();
+	final Array<AssetLoadingTask> updating = new Array();
+	final Array<AssetLoadingTask> serialTasks = new Array();
+	final ObjectMap<Class, AssetCache> caches = new ObjectMap();
+	final int maxRootTasks;
 	AssetErrorListener listener = null;
+	AssetLoadingListener loadingListener = null;
+	final Array<AssetLoadingStats> loadingStats = new Array();
+	boolean recordLoadingStats;
 	int loaded = 0;
 	int toLoad = 0;
         
@@ -94,6 +105,30 @@ public class AssetManager implements Disposable {
 	 * manually add the loaders you need, including any loaders they might depend on.
 	 * @param defaultLoaders whether to add the default loaders */
 	public AssetManager (FileHandleResolver resolver, boolean defaultLoaders) {
+		this(resolver, defaultLoaders, 1);
+	}
+
+	/** Creates a new AssetManager with optionally all default loaders, using the given number of threads for the asynchronous part
+	 * of loading. With a single thread assets are loaded one after another, each waiting for its dependencies. With more than one
+	 * thread, independent assets and their dependencies are loaded concurrently: the
+	 * {@link AsynchronousAssetLoader#loadAsync(AssetManager, String, FileHandle, AssetLoaderParameters)} part of any asset whose
+	 * dependencies are loaded runs on the thread pool, while
+	 * {@link AsynchronousAssetLoader#loadSync(AssetManager, String, FileHandle, AssetLoaderParameters)} and
+	 * {@link SynchronousAssetLoader} still run on the thread calling {@link #update()}. Only assets whose loader
+	 * {@link AssetLoader#canLoadConcurrently() can load concurrently} are loaded at the same time as others.
+	 * @param defaultLoaders whether to add the default loaders
+	 * @param loadingThreads the number of threads used for asynchronous loading, must be at least 1 */
+	public AssetManager (FileHandleResolver resolver, boolean defaultLoaders, int loadingThreads) {
+		this(resolver, defaultLoaders, createExecutor(loadingThreads));
+	}
+
+	/** Creates a new AssetManager with optionally all default loaders, which runs the asynchronous part of loading on the given
+	 * executor. Loading is concurrent if {@link AsyncExecutor#getMaxConcurrent()} is more than one, see
+	 * {@link #AssetManager(FileHandleResolver, boolean, int)}. Use
+	 * {@link AsyncExecutor#AsyncExecutor(com.badlogic.gdx.utils.async.JobSystem)} to load on the threads of a job system, eg the
+	 * shared one. The executor is disposed with the manager.
+	 * @param defaultLoaders whether to add the default loaders */
+	public AssetManager (FileHandleResolver resolver, boolean defaultLoaders, AsyncExecutor executor) {
 		this.resolver = resolver;
 		if (defaultLoaders) {
 			setLoader(BitmapFont.class, new BitmapFontLoader(resolver));
@@ -112,7 +147,15 @@ public class AssetManager implements Disposable {
 			setLoader(Model.class, ".g3db", new G3dModelLoader(new UBJsonReader(), resolver));
 			setLoader(Model.class, ".obj", new ObjLoader(resolver));
 		}
-		executor = new AsyncExecutor(1);
+		this.executor = executor;
+		int loadingThreads = executor.getMaxConcurrent();
+		// keep some more root assets in flight than there are threads, so the pool stays busy while the update thread runs loadSync
+		maxRootTasks = loadingThreads == 1 ? 1 : loadingThreads * 2;
+	}
+
+	static private AsyncExecutor createExecutor (int loadingThreads) {
+		if (loadingThreads < 1) throw new IllegalArgumentException("loadingThreads must be >= 1: " + loadingThreads);
+		return new AsyncExecutor(loadingThreads);
 	}
 
 	/** Returns the {@link FileHandleResolver} for which this AssetManager
@@ -172,7 +215,20 @@ public class AssetManager implements Disposable {
 	public synchronized void unload (String fileName) {
 		// check if it's currently processed (and the first element in the stack, thus not a dependency)
 		// and cancel if necessary
-		if (tasks.size() > 0) {
+		if (isParallel()) {
+			AssetLoadingTask task = findTask(fileName);
+			if (task != null && task.root) {
+				if (task.extraRefs > 0) {
+					// other assets depend on it, only drop the reference of the queued load
+					task.root = false;
+					task.extraRefs--;
+					toLoad--;
+				} else
+					task.cancel = true;
+				log.debug("Unload (from tasks): " + fileName);
+				return;
+			}
+		} else if (tasks.size() > 0) {
 			AssetLoadingTask currAsset = tasks.firstElement();
 			if (currAsset.assetDesc.fileName.equals(fileName)) {
 				currAsset.cancel = true;
@@ -201,10 +257,23 @@ public class AssetManager implements Disposable {
 		if (type == null) throw new GdxRuntimeException("Asset not loaded: " + fileName);
 
 		RefCountedContainer assetRef = assets.get(type).get(fileName);
+		// an unreferenced asset kept by the cache is disposed right away
+		if (assetRef.getRefCount() <= 0) {
+			evict(fileName);
+			return;
+		}
+		AssetCache cache = caches.get(type);
 
 		// if it is reference counted, decrement ref count and check if we can really get rid of it.
 		assetRef.decRefCount();
-		if (assetRef.getRefCount() <= 0) {
+		if (assetRef.getRefCount() <= 0 && cache != null) {
+			log.debug("Unload (cache): " + fileName);
+			cache.unreferenced.remove(fileName);
+			cache.unreferenced.add(fileName);
+			// the cached asset keeps its dependencies until it is evicted
+			evict(cache);
+			return;
+		} else if (assetRef.getRefCount() <= 0) {
 			log.debug("Unload (dispose): " + fileName);
 
 			// if it is disposable dispose it
@@ -348,6 +417,7 @@ public class AssetManager implements Disposable {
 
 		toLoad++;
 		AssetDescriptor assetDesc = new AssetDescriptor(fileName, type, parameter);
+		assetDesc.queuedTime = TimeUtils.nanoTime();
 		loadQueue.add(assetDesc);
 		log.debug("Queued: " + assetDesc);
 	}
@@ -361,7 +431,12 @@ public class AssetManager implements Disposable {
 	/** Updates the AssetManager, keeping it loading any assets in the preload queue.
 	 * @return true if all loading is finished. */
 	public synchronized boolean update () {
+		return updateUntil(Long.MAX_VALUE);
+	}
+
+	private synchronized boolean updateUntil (long endTime) {
 		try {
+			if (isParallel()) return updateParallel(endTime);
 			if (tasks.size() == 0) {
 				// loop until we have a new task ready to be processed
 				while (loadQueue.size != 0 && tasks.size() == 0) {
@@ -370,7 +445,7 @@ public class AssetManager implements Disposable {
 				// have we not found a task? We are done!
 				if (tasks.size() == 0) return true;
 			}
-			return updateTask() && loadQueue.size == 0 && tasks.size() == 0;
+			return updateTask(tasks.peek()) && loadQueue.size == 0 && tasks.size() == 0;
 		} catch (Throwable t) {
 			handleTaskError(t);
 			return loadQueue.size == 0;
@@ -379,12 +454,13 @@ public class AssetManager implements Disposable {
 
 	/** Updates the AssetManager continuously for the specified number of milliseconds, yielding the CPU to the loading thread
 	 * between updates. This may block for less time if all loading tasks are complete. This may block for more time if the portion
-	 * of a single task that happens in the GL thread takes a long time.
+	 * of a single task that happens in the GL thread takes a long time. When loading with multiple threads, no further tasks are
+	 * finished on the GL thread once the time is up.
 	 * @return true if all loading is finished. */
 	public boolean update (int millis) {
 		long endTime = TimeUtils.millis() + millis;
 		while (true) {
-			boolean done = update();
+			boolean done = updateUntil(endTime);
 			if (done || TimeUtils.millis() > endTime) return done;
 			ThreadUtils.yield();
 		}
@@ -431,30 +507,35 @@ public class AssetManager implements Disposable {
 		// if the asset is already loaded, increase its reference count.
 		if (isLoaded(dependendAssetDesc.fileName)) {
 			log.debug("Dependency already loaded: " + dependendAssetDesc);
-			Class type = assetTypes.get(dependendAssetDesc.fileName);
-			RefCountedContainer assetRef = assets.get(type).get(dependendAssetDesc.fileName);
-			assetRef.incRefCount();
-			incrementRefCountedDependencies(dependendAssetDesc.fileName);
+			incrementRefCount(dependendAssetDesc.fileName);
 		}
 		// else add a new task for the asset.
 		else {
-			log.info("Loading dependency: " + dependendAssetDesc);
-			addTask(dependendAssetDesc);
+			AssetLoadingTask task = isParallel() ? findTask(dependendAssetDesc.fileName) : null;
+			if (task != null) {
+				// already being loaded, the reference is added once the task completes
+				log.debug("Dependency already loading: " + dependendAssetDesc);
+				task.extraRefs++;
+			} else {
+				log.info("Loading dependency: " + dependendAssetDesc);
+				addTask(dependendAssetDesc);
+			}
 		}
 	}
 
 	/** Removes a task from the loadQueue and adds it to the task stack. If the asset is already loaded (which can happen if it was
 	 * a dependency of a previously loaded asset) its reference count will be increased. */
 	private void nextTask () {
-		AssetDescriptor assetDesc = loadQueue.removeIndex(0);
+		nextTask(0);
+	}
+
+	private void nextTask (int index) {
+		AssetDescriptor assetDesc = loadQueue.removeIndex(index);
 
 		// if the asset not meant to be reloaded and is already loaded, increase its reference count
 		if (isLoaded(assetDesc.fileName)) {
 			log.debug("Already loaded: " + assetDesc);
-			Class type = assetTypes.get(assetDesc.fileName);
-			RefCountedContainer assetRef = assets.get(type).get(assetDesc.fileName);
-			assetRef.incRefCount();
-			incrementRefCountedDependencies(assetDesc.fileName);
+			incrementRefCount(assetDesc.fileName);
 			if (assetDesc.params != null && assetDesc.params.loadedCallback != null) {
 				assetDesc.params.loadedCallback.finishedLoading(this, assetDesc.fileName, assetDesc.type);
 			}
@@ -462,16 +543,112 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading: " + assetDesc);
-			addTask(assetDesc);
+			addTask(assetDesc).root = true;
 		}
 	}
 
 	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset.
 	 * @param assetDesc */
-	private void addTask (AssetDescriptor assetDesc) {
+	private AssetLoadingTask addTask (AssetDescriptor assetDesc) {
 		AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + ClassReflection.getSimpleName(assetDesc.type));
-		tasks.push(new AssetLoadingTask(this, assetDesc, loader, executor));
+		AssetCache cache = caches.get(assetDesc.type);
+		if (cache != null) cache.misses++;
+		return tasks.push(new AssetLoadingTask(this, assetDesc, loader, executor));
+	}
+
+	/** @return the task loading the given file, or null. */
+	private AssetLoadingTask findTask (String fileName) {
+		for (int i = 0, n = tasks.size(); i < n; i++) {
+			AssetLoadingTask task = tasks.get(i);
+			if (task.assetDesc.fileName.equals(fileName)) return task;
+		}
+		return null;
+	}
+
+	/** @return whether assets are loaded concurrently, see {@link #AssetManager(FileHandleResolver, boolean, int)}. */
+	public boolean isParallel () {
+		return maxRootTasks > 1;
+	}
+
+	/** Starts new root tasks from the load queue and updates every task whose dependencies are loaded. Dependencies are pushed after
+	 * the assets depending on them, so the stack is traversed from the top.
+	 * @return true if all loading is finished. */
+	private boolean updateParallel (long endTime) {
+		int rootTasks = 0;
+		for (int i = 0, n = tasks.size(); i < n; i++)
+			if (tasks.get(i).root) rootTasks++;
+		for (int i = 0; i < loadQueue.size && rootTasks < maxRootTasks;) {
+			// an asset already in flight stays queued until it is loaded, then only its reference count is increased
+			if (findTask(loadQueue.get(i).fileName) != null) {
+				i++;
+				continue;
+			}
+			int size = tasks.size();
+			nextTask(i);
+			if (tasks.size() > size) rootTasks++;
+		}
+
+		Array<AssetLoadingTask> updating = this.updating;
+		updating.clear();
+		for (int i = tasks.size() - 1; i >= 0; i--)
+			updating.add(tasks.get(i));
+		try {
+			for (int i = 0; i < updating.size; i++) {
+				AssetLoadingTask task = updating.get(i);
+				if (!task.cancel && (!dependenciesLoaded(task) || !acquireLoader(task))) continue;
+				try {
+					updateTask(task);
+				} catch (RuntimeException ex) {
+					// move the failed task to the top of the stack, so handleTaskError() reports it
+					tasks.remove(task);
+					tasks.push(task);
+					throw ex;
+				}
+				if (TimeUtils.millis() > endTime) break;
+			}
+		} finally {
+			updating.clear();
+		}
+		return loadQueue.size == 0 && tasks.size() == 0;
+	}
+
+	/** Most loaders keep the state of the asset they are loading between calls, so tasks whose loader can't
+	 * {@link AssetLoader#canLoadConcurrently() load concurrently} run one at a time, as they would when loading sequentially. Such a
+	 * task runs until it completes, except that the dependencies it waits for take over until they complete. The running task only
+	 * ever waits for its own dependencies, so tasks can't wait on each other in a cycle.
+	 * @return whether the task may use its loader. */
+	private boolean acquireLoader (AssetLoadingTask task) {
+		if (task.loader.canLoadConcurrently()) return true;
+		Array<AssetLoadingTask> serialTasks = this.serialTasks;
+		if (serialTasks.size > 0) {
+			AssetLoadingTask current = serialTasks.peek();
+			if (current == task) return true;
+			// a task waiting for the dependencies of another task, or for its own, resumes when they complete
+			if (serialTasks.contains(task, true) || !dependsOn(current, task.assetDesc.fileName)) return false;
+		}
+		serialTasks.add(task);
+		return true;
+	}
+
+	/** @return whether the task waits for the given asset, directly or through the tasks loading its dependencies. */
+	private boolean dependsOn (AssetLoadingTask task, String fileName) {
+		Array<AssetDescriptor> dependencies = task.dependencies;
+		if (dependencies == null) return false;
+		for (AssetDescriptor desc : dependencies) {
+			if (desc.fileName.equals(fileName)) return true;
+			AssetLoadingTask dependency = findTask(desc.fileName);
+			if (dependency != null && dependency != task && dependsOn(dependency, fileName)) return true;
+		}
+		return false;
+	}
+
+	/** @return false if the dependencies of the task have been injected but are not all loaded yet. */
+	private boolean dependenciesLoaded (AssetLoadingTask task) {
+		if (!task.dependenciesLoaded || task.dependencies == null) return true;
+		for (AssetDescriptor desc : task.dependencies)
+			if (!isLoaded(desc.fileName)) return false;
+		return true;
 	}
 
 	/** Adds an asset to this AssetManager */
@@ -488,11 +665,9 @@ public class AssetManager implements Disposable {
 		typeToAssets.put(fileName, new RefCountedContainer(asset));
 	}
 
-	/** Updates the current task on the top of the task stack.
+	/** Updates the given task, usually the one on the top of the task stack.
 	 * @return true if the asset is loaded or the task was cancelled. */
-	private boolean updateTask () {
-		AssetLoadingTask task = tasks.peek();
-
+	private boolean updateTask (AssetLoadingTask task) {
 		boolean complete = true;
 		try {
 			complete = task.cancel || task.update();
@@ -504,13 +679,29 @@ public class AssetManager implements Disposable {
 		// if the task has been cancelled or has finished loading
 		if (complete) {
 			// increase the number of loaded assets and pop the task from the stack
-			if (tasks.size() == 1) loaded++;
-			tasks.pop();
+			if (task.root) loaded++;
+			tasks.remove(task);
+			serialTasks.removeValue(task, true);
 
 			if (task.cancel) return true;
 
 			addAsset(task.assetDesc.fileName, task.assetDesc.type, task.getAsset());
 
+			// estimate the memory used by the asset and make room for it if its type is cached
+			RefCountedContainer assetRef = assets.get(task.assetDesc.type).get(task.assetDesc.fileName);
+			assetRef.size = task.loader.getEstimatedSize(task.assetDesc.fileName, task.assetDesc.file, task.getAsset());
+			AssetCache cache = caches.get(task.assetDesc.type);
+			if (cache != null) {
+				cache.bytes += assetRef.size;
+				evict(cache);
+			}
+
+			// add the references of assets which depended on this one while it was loading
+			for (int i = 0; i < task.extraRefs; i++) {
+				assetRef.incRefCount();
+				incrementRefCountedDependencies(task.assetDesc.fileName);
+			}
+
 			// otherwise, if a listener was found in the parameter invoke it
 			if (task.assetDesc.params != null && task.assetDesc.params.loadedCallback != null) {
 				task.assetDesc.params.loadedCallback.finishedLoading(this, task.assetDesc.fileName, task.assetDesc.type);
@@ -519,6 +710,21 @@ public class AssetManager implements Disposable {
 			long endTime = TimeUtils.nanoTime();
 			log.debug("Loaded: " + (endTime - task.startTime) / 1000000f + "ms " + task.assetDesc);
 
+			if (recordLoadingStats || loadingListener != null) {
+				AssetLoadingStats stats = new AssetLoadingStats();
+				stats.fileName = task.assetDesc.fileName;
+				stats.type = task.assetDesc.type;
+				stats.dependency = !task.root;
+				if (task.assetDesc.queuedTime != 0) stats.queueTime = task.startTime - task.assetDesc.queuedTime;
+				stats.dependencyTime = task.dependencyTime;
+				stats.asyncTime = task.asyncTime;
+				stats.syncTime = task.syncTime;
+				stats.totalTime = endTime - task.startTime;
+				if (task.assetDesc.file != null) stats.bytes = task.assetDesc.file.length();
+				if (recordLoadingStats) loadingStats.add(stats);
+				if (loadingListener != null) loadingListener.finishedLoading(this, stats);
+			}
+
 			return true;
 		}
 		return false;
@@ -530,6 +736,58 @@ public class AssetManager implements Disposable {
 		throw ex;
 	}
 
+	/** Increases the reference count of a loaded asset and its dependencies. Reusing an unreferenced asset kept by a cache counts
+	 * as a cache hit, its dependencies are still referenced by it. */
+	private void incrementRefCount (String fileName) {
+		Class type = assetTypes.get(fileName);
+		RefCountedContainer assetRef = assets.get(type).get(fileName);
+		if (assetRef.getRefCount() <= 0) {
+			AssetCache cache = caches.get(type);
+			if (cache != null) {
+				cache.hits++;
+				cache.unreferenced.remove(fileName);
+				assetRef.incRefCount();
+				return;
+			}
+		}
+		assetRef.incRefCount();
+		incrementRefCountedDependencies(fileName);
+	}
+
+	/** Disposes unreferenced assets of the cache, least recently used first, until its memory is within the budget. */
+	private void evict (AssetCache cache) {
+		Array<String> unreferenced = cache.unreferenced.orderedItems();
+		while (cache.bytes > cache.budget && unreferenced.size > 0) {
+			String fileName = unreferenced.first();
+			cache.unreferenced.remove(fileName);
+			Class type = assetTypes.get(fileName);
+			// the asset might have been reused as dependency, in which case it isn't removed from the set
+			if (type != null && assets.get(type).get(fileName).getRefCount() <= 0) {
+				cache.evictions++;
+				evict(fileName);
+			}
+		}
+	}
+
+	/** Disposes an unreferenced asset and releases the references it held on its dependencies. */
+	private void evict (String fileName) {
+		log.debug("Unload (evict): " + fileName);
+		Class type = assetTypes.remove(fileName);
+		RefCountedContainer assetRef = assets.get(type).remove(fileName);
+		if (assetRef.getObject(Object.class) instanceof Disposable) ((Disposable)assetRef.getObject(Object.class)).dispose();
+		AssetCache cache = caches.get(type);
+		if (cache != null) {
+			cache.bytes -= assetRef.size;
+			cache.unreferenced.remove(fileName);
+		}
+
+		Array<String> dependencies = assetDependencies.remove(fileName);
+		if (dependencies != null) {
+			for (String dependency : dependencies)
+				if (isLoaded(dependency)) unload(dependency);
+		}
+	}
+
 	private void incrementRefCountedDependencies (String parent) {
 		Array<String> dependencies = assetDependencies.get(parent);
 		if (dependencies == null) return;
@@ -562,6 +820,7 @@ public class AssetManager implements Disposable {
 
 		// clear the rest of the stack
 		tasks.clear();
+		serialTasks.clear();
 
 		// inform the listener that something bad happened
 		if (listener != null) {
@@ -614,6 +873,31 @@ public class AssetManager implements Disposable {
 		this.listener = listener;
 	}
 
+	/** Sets an {@link AssetLoadingListener} to be invoked with the {@link AssetLoadingStats} of every loaded asset, including
+	 * dependencies.
+	 * @param listener the listener or null */
+	public synchronized void setLoadingListener (AssetLoadingListener listener) {
+		this.loadingListener = listener;
+	}
+
+	/** Sets whether the {@link AssetLoadingStats} of every loaded asset are kept, see {@link #getLoadingStats()}. Disabling clears
+	 * the recorded stats. */
+	public synchronized void setRecordLoadingStats (boolean record) {
+		recordLoadingStats = record;
+		if (!record) loadingStats.clear();
+	}
+
+	/** @return a copy of the stats of all assets loaded since recording was enabled, in the order they finished loading. The stats
+	 *         are kept until {@link #clearLoadingStats()} or {@link #clear()} is called. */
+	public synchronized Array<AssetLoadingStats> getLoadingStats () {
+		return new Array(loadingStats);
+	}
+
+	/** Removes the recorded stats, eg after each loading screen, see {@link #getLoadingStats()}. */
+	public synchronized void clearLoadingStats () {
+		loadingStats.clear();
+	}
+
 	/** Disposes all assets in the manager and stops all asynchronous loading. */
 	@Override
 	public synchronized void dispose () {
@@ -662,6 +946,12 @@ public class AssetManager implements Disposable {
 		this.toLoad = 0;
 		this.loadQueue.clear();
 		this.tasks.clear();
+		this.serialTasks.clear();
+		this.loadingStats.clear();
+		for (AssetCache cache : caches.values()) {
+			cache.bytes = 0;
+			cache.unreferenced.clear();
+		}
 	}
 
 	/** @return the {@link Logger} used by the {@link AssetManager} */
@@ -689,6 +979,57 @@ public class AssetManager implements Disposable {
 		assets.get(type).get(fileName).setRefCount(refCount);
 	}
 
+	/** Keeps assets of the given type loaded after their reference count dropped to zero, so loading them again is free. Once the
+	 * estimated memory of all loaded assets of the type exceeds the budget, unreferenced ones are disposed, least recently used
+	 * first. Memory is estimated by {@link AssetLoader#getEstimatedSize(String, FileHandle, Object)}. Unreferenced assets count as
+	 * loaded for {@link #isLoaded(String)} and {@link #get(String)}, and keep their dependencies loaded until they are disposed.
+	 * Unloading an unreferenced asset disposes it right away.
+	 * @param budget the budget in bytes, or 0 to dispose assets as soon as they are unreferenced. */
+	public synchronized void setCacheBudget (Class type, long budget) {
+		AssetCache cache = caches.get(type);
+		if (budget <= 0) {
+			if (cache == null) return;
+			cache.budget = 0;
+			evict(cache);
+			caches.remove(type);
+			return;
+		}
+		if (cache == null) {
+			caches.put(type, cache = new AssetCache());
+			ObjectMap<String, RefCountedContainer> assetsByType = assets.get(type);
+			if (assetsByType != null) {
+				for (RefCountedContainer assetRef : assetsByType.values())
+					cache.bytes += assetRef.size;
+			}
+		}
+		cache.budget = budget;
+		evict(cache);
+	}
+
+	/** @return the estimated memory in bytes used by loaded assets of the given type, or 0 if the type has no cache budget. */
+	public synchronized long getCacheSize (Class type) {
+		AssetCache cache = caches.get(type);
+		return cache == null ? 0 : cache.bytes;
+	}
+
+	/** @return the number of times an unreferenced asset of the given type was reused instead of being loaded again. */
+	public synchronized int getCacheHits (Class type) {
+		AssetCache cache = caches.get(type);
+		return cache == null ? 0 : cache.hits;
+	}
+
+	/** @return the number of times an asset of the given type had to be loaded while the type had a cache budget. */
+	public synchronized int getCacheMisses (Class type) {
+		AssetCache cache = caches.get(type);
+		return cache == null ? 0 : cache.misses;
+	}
+
+	/** @return the number of unreferenced assets of the given type that were disposed to stay within the cache budget. */
+	public synchronized int getCacheEvictions (Class type) {
+		AssetCache cache = caches.get(type);
+		return cache == null ? 0 : cache.evictions;
+	}
+
 	/** @return a string containing ref count and dependency information for all assets. */
 	public synchronized String getDiagnostics () {
 		StringBuffer buffer = new StringBuffer();
@@ -715,6 +1056,24 @@ public class AssetManager implements Disposable {
 			}
 			buffer.append("\n");
 		}
+		for (ObjectMap.Entry<Class, AssetCache> entry : caches.entries()) {
+			AssetCache cache = entry.value;
+			buffer.append("cache ");
+			buffer.append(ClassReflection.getSimpleName(entry.key));
+			buffer.append(", bytes: ");
+			buffer.append(cache.bytes);
+			buffer.append("/");
+			buffer.append(cache.budget);
+			buffer.append(", unreferenced: ");
+			buffer.append(cache.unreferenced.size);
+			buffer.append(", hits: ");
+			buffer.append(cache.hits);
+			buffer.append(", misses: ");
+			buffer.append(cache.misses);
+			buffer.append(", evictions: ");
+			buffer.append(cache.evictions);
+			buffer.append("\n");
+		}
 		return buffer.toString();
 	}
 
@@ -733,4 +1092,13 @@ public class AssetManager implements Disposable {
 		return assetTypes.get(fileName);
 	}
 
+	/** The memory budget and unreferenced assets of a type, see {@link AssetManager#setCacheBudget(Class, long)}. */
+	static class AssetCache {
+		long budget;
+		long bytes;
+		/** Unreferenced assets, least recently used first. */
+		final OrderedSet<String> unreferenced = new OrderedSet();
+		int hits, misses, evictions;
+	}
+
 }
@@ -19,6 +19,8 @@ package com.badlogic.gdx.assets;
 public class RefCountedContainer {
 	Object object;
 	int refCount = 1;
+	/** The estimated memory used by the object in bytes. */
+	long size;
 
 	public RefCountedContainer (Object object) {
 		if (object == null) throw new IllegalArgumentException("Object must not be null");
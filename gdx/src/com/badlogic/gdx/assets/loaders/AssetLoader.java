@@ -18,6 +18,7 @@ package com.badlogic.gdx.assets.loaders;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 
@@ -42,6 +43,24 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 		return resolver.resolve(fileName);
 	}
 
+	/** Returns whether the loader keeps the state of each asset it loads separately, so that an {@link AssetManager} loading with
+	 * multiple threads may use it for several assets at the same time. Otherwise the AssetManager loads assets with this loader one
+	 * at a time, and not at the same time as assets of other loaders which can't load concurrently.
+	 * @return false by default */
+	public boolean canLoadConcurrently () {
+		return false;
+	}
+
+	/** Returns an estimate of the memory used by a loaded asset, which {@link AssetManager#setCacheBudget(Class, long)} compares
+	 * against the budget of the asset's type.
+	 * @param fileName name of the loaded asset
+	 * @param file the resolved file of the asset
+	 * @param asset the loaded asset
+	 * @return the estimated size in bytes, 0 by default */
+	public long getEstimatedSize (String fileName, FileHandle file, T asset) {
+		return 0;
+	}
+
 	/** Returns the assets this asset requires to be loaded first. This method may be called on a thread other than the GL thread.
 	 * @param fileName name of the asset to load
 	 * @param file the resolved file to load
@@ -22,6 +22,7 @@ import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g3d.Model;
 import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
@@ -125,6 +126,14 @@ public abstract class ModelLoader<P extends ModelLoader.ModelParameters> extends
 		return result;
 	}
 
+	@Override
+	public long getEstimatedSize (String fileName, FileHandle file, Model model) {
+		long size = 0;
+		for (Mesh mesh : model.meshes)
+			size += (long)mesh.getNumVertices() * mesh.getVertexSize() + mesh.getNumIndices() * 2;
+		return size;
+	}
+
 	static public class ModelParameters extends AssetLoaderParameters<Model> {
 		public TextureLoader.TextureParameter textureParameter;
 
@@ -55,6 +55,12 @@ public class SoundLoader extends AsynchronousAssetLoader<Sound, SoundLoader.Soun
 		return sound;
 	}
 
+	@Override
+	public long getEstimatedSize (String fileName, FileHandle file, Sound sound) {
+		// the decoded samples aren't accessible, the encoded size is a lower bound
+		return file == null ? 0 : file.length();
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, SoundParameter parameter) {
 		return null;
@@ -32,6 +32,7 @@ import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously. The texture is then created on the
  * rendering thread, synchronously. Passing a {@link TextureParameter} to
@@ -45,7 +46,7 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		Texture texture;
 	};
 
-	TextureLoaderInfo info = new TextureLoaderInfo();
+	final ObjectMap<String, TextureLoaderInfo> infos = new ObjectMap();
 
 	public TextureLoader (FileHandleResolver resolver) {
 		super(resolver);
@@ -53,6 +54,7 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info = new TextureLoaderInfo();
 		info.filename = fileName;
 		if (parameter == null || parameter.textureData == null) {
 			Pixmap pixmap = null;
@@ -72,10 +74,17 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 			info.texture = parameter.texture;
 		}
 		if (!info.data.isPrepared()) info.data.prepare();
+		synchronized (infos) {
+			infos.put(fileName, info);
+		}
 	}
 
 	@Override
 	public Texture loadSync (AssetManager manager, String fileName, FileHandle file, TextureParameter parameter) {
+		TextureLoaderInfo info;
+		synchronized (infos) {
+			info = infos.remove(fileName);
+		}
 		if (info == null) return null;
 		Texture texture = info.texture;
 		if (texture != null) {
@@ -90,6 +99,40 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		return texture;
 	}
 
+	@Override
+	public long getEstimatedSize (String fileName, FileHandle file, Texture texture) {
+		TextureData data = texture.getTextureData();
+		Format format = data.getFormat();
+		int bytesPerPixel = 4;
+		if (format != null) {
+			switch (format) {
+			case Alpha:
+			case Intensity:
+				bytesPerPixel = 1;
+				break;
+			case LuminanceAlpha:
+			case RGB565:
+			case RGBA4444:
+				bytesPerPixel = 2;
+				break;
+			case RGB888:
+				bytesPerPixel = 3;
+				break;
+			default:
+				bytesPerPixel = 4;
+			}
+		}
+		long size = (long)texture.getWidth() * texture.getHeight() * bytesPerPixel;
+		// a full mipmap chain adds a third
+		if (data.useMipMaps()) size += size / 3;
+		return size;
+	}
+
+	@Override
+	public boolean canLoadConcurrently () {
+		return true;
+	}
+
 	@Override
 	public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, TextureParameter parameter) {
 		return null;
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.assets.loaders.resolvers;
+
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileArchive;
+import com.badlogic.gdx.files.FileHandle;
+
+/** Resolves file names to files inside a {@link FileArchive}, so an {@link com.badlogic.gdx.assets.AssetManager} reads all assets
+ * from a single memory mapped file. Names which are not in the archive are resolved by an optional fallback resolver. */
+public class ArchiveFileHandleResolver implements FileHandleResolver {
+	protected final FileArchive archive;
+	protected final FileHandleResolver fallback;
+
+	public ArchiveFileHandleResolver (FileArchive archive) {
+		this(archive, null);
+	}
+
+	/** @param fallback resolves names which are not in the archive, may be null. */
+	public ArchiveFileHandleResolver (FileArchive archive, FileHandleResolver fallback) {
+		this.archive = archive;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public FileHandle resolve (String fileName) {
+		if (fallback == null || archive.contains(fileName)) return archive.get(fileName);
+		return fallback.resolve(fileName);
+	}
+}
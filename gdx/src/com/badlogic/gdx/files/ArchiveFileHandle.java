@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.files;
+
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FilenameFilter;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@link FileType#Internal} file inside a {@link FileArchive}. Reading is served from the memory of the archive, and
+ * {@link #child(String)}, {@link #sibling(String)} and {@link #parent()} stay within the archive. Like other internal files it
+ * can't be written. Note that backends which need a real file, eg for streaming {@link com.badlogic.gdx.audio.Music} on Android,
+ * can't use archive files. */
+public class ArchiveFileHandle extends FileHandle {
+	final FileArchive archive;
+
+	ArchiveFileHandle (FileArchive archive, String path) {
+		super(new File(path), FileType.Internal);
+		this.archive = archive;
+	}
+
+	public FileArchive getArchive () {
+		return archive;
+	}
+
+	/** @return the stored data of the file without copying it, or null if the file is compressed in the archive. */
+	public ByteBuffer getBuffer () {
+		return archive.getBuffer(path());
+	}
+
+	/** @return the stored data of the file without copying it, or its inflated data if it is compressed in the archive. */
+	public ByteBuffer map () {
+		if (!archive.contains(path())) throw new GdxRuntimeException("File not found: " + file + " (" + type + ")");
+		ByteBuffer buffer = archive.getBuffer(path());
+		return buffer != null ? buffer : ByteBuffer.wrap(archive.readBytes(path()));
+	}
+
+	public InputStream read () {
+		if (!archive.contains(path())) throw new GdxRuntimeException("File not found: " + file + " (" + type + ")");
+		return archive.read(path());
+	}
+
+	public byte[] readBytes () {
+		if (!archive.contains(path())) throw new GdxRuntimeException("File not found: " + file + " (" + type + ")");
+		return archive.readBytes(path());
+	}
+
+	public long length () {
+		return archive.length(path());
+	}
+
+	public long lastModified () {
+		return 0;
+	}
+
+	public boolean exists () {
+		return archive.contains(path()) || archive.isDirectory(path());
+	}
+
+	public boolean isDirectory () {
+		return archive.isDirectory(path());
+	}
+
+	public FileHandle[] list () {
+		Array<String> names = archive.list(path());
+		FileHandle[] handles = new FileHandle[names.size];
+		for (int i = 0; i < names.size; i++)
+			handles[i] = child(names.get(i));
+		return handles;
+	}
+
+	public FileHandle[] list (FileFilter filter) {
+		Array<FileHandle> handles = new Array(FileHandle.class);
+		for (FileHandle child : list())
+			if (filter.accept(child.file)) handles.add(child);
+		return handles.toArray();
+	}
+
+	public FileHandle[] list (FilenameFilter filter) {
+		Array<FileHandle> handles = new Array(FileHandle.class);
+		for (FileHandle child : list())
+			if (filter.accept(file, child.name())) handles.add(child);
+		return handles.toArray();
+	}
+
+	public FileHandle[] list (String suffix) {
+		Array<FileHandle> handles = new Array(FileHandle.class);
+		for (FileHandle child : list())
+			if (child.name().endsWith(suffix)) handles.add(child);
+		return handles.toArray();
+	}
+
+	public FileHandle child (String name) {
+		if (file.getPath().length() == 0) return new ArchiveFileHandle(archive, FileArchive.normalize(name));
+		return new ArchiveFileHandle(archive, FileArchive.normalize(path() + "/" + name));
+	}
+
+	public FileHandle sibling (String name) {
+		if (file.getPath().length() == 0) throw new GdxRuntimeException("Cannot get the sibling of the root.");
+		return parent().child(name);
+	}
+
+	public FileHandle parent () {
+		File parent = file.getParentFile();
+		return new ArchiveFileHandle(archive, parent == null ? "" : FileArchive.normalize(parent.getPath()));
+	}
+
+	public boolean equals (Object obj) {
+		if (!(obj instanceof ArchiveFileHandle)) return false;
+		ArchiveFileHandle other = (ArchiveFileHandle)obj;
+		return archive == other.archive && path().equals(other.path());
+	}
+
+	public int hashCode () {
+		return path().hashCode();
+	}
+}
@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.badlogic.gdx.files;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A read-only archive of many files in a single file, as written by the FileArchiver in gdx-tools. The archive is memory mapped
+ * when it exists on the file system, so reading an entry costs no system calls. Entries are accessed through
+ * {@link ArchiveFileHandle} instances, see {@link #get(String)}.
+ * <p>
+ * The format is big endian: the magic number {@link #MAGIC}, the {@link #VERSION}, the number of entries and then for every entry
+ * sorted by path its path (an unsigned short byte count followed by UTF-8), the offset of its data, its length and its stored
+ * length. An entry is deflate compressed when the stored length differs from the length. Entry data follows the index and is
+ * aligned by the archiver. */
+public class FileArchive {
+	static public final int MAGIC = 0x47445841; // GDXA
+	static public final int VERSION = 1;
+
+	private final ByteBuffer buffer;
+	private final String[] paths;
+	private final int[] offsets, lengths, storedLengths;
+
+	/** Maps the archive into memory. If the file is not on the file system, eg an internal file on Android, it is read into a
+	 * buffer instead, see {@link FileHandle#map()}. */
+	public FileArchive (FileHandle file) {
+		this(file.map());
+	}
+
+	/** @param buffer the archive, the position and limit are ignored. */
+	public FileArchive (ByteBuffer buffer) {
+		this.buffer = buffer;
+		try {
+			ByteBuffer header = buffer.duplicate();
+			header.clear();
+			if (header.getInt() != MAGIC) throw new GdxRuntimeException("Not a file archive.");
+			int version = header.getInt();
+			if (version != VERSION) throw new GdxRuntimeException("Unsupported file archive version: " + version);
+			int count = header.getInt();
+			paths = new String[count];
+			offsets = new int[count];
+			lengths = new int[count];
+			storedLengths = new int[count];
+			byte[] chars = new byte[64];
+			for (int i = 0; i < count; i++) {
+				int length = header.getShort() & 0xffff;
+				if (chars.length < length) chars = new byte[length];
+				header.get(chars, 0, length);
+				paths[i] = new String(chars, 0, length, "UTF-8");
+				long offset = header.getLong();
+				if (offset > Integer.MAX_VALUE) throw new GdxRuntimeException("File archive larger than 2GB: " + paths[i]);
+				offsets[i] = (int)offset;
+				lengths[i] = header.getInt();
+				storedLengths[i] = header.getInt();
+			}
+		} catch (BufferUnderflowException ex) {
+			throw new GdxRuntimeException("Truncated file archive.", ex);
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error reading file archive.", ex);
+		}
+	}
+
+	/** @return the number of files in the archive. */
+	public int size () {
+		return paths.length;
+	}
+
+	/** @return the paths of all files in the archive, sorted. */
+	public Array<String> getPaths () {
+		return new Array(paths);
+	}
+
+	/** @return whether the archive contains a file with the given path. */
+	public boolean contains (String path) {
+		return indexOf(path) >= 0;
+	}
+
+	/** @return whether the path is a parent of files in the archive. The empty path is the root directory. */
+	public boolean isDirectory (String path) {
+		path = normalize(path);
+		if (path.length() == 0) return true;
+		String prefix = path + "/";
+		int index = -Arrays.binarySearch(paths, prefix) - 1;
+		return index >= 0 && index < paths.length && paths[index].startsWith(prefix);
+	}
+
+	/** @return a handle for the file or directory with the given path, which may not exist in the archive. */
+	public ArchiveFileHandle get (String path) {
+		return new ArchiveFileHandle(this, normalize(path));
+	}
+
+	/** @return the names of the files and directories directly contained in the directory, in sorted order. */
+	public Array<String> list (String directory) {
+		directory = normalize(directory);
+		String prefix = directory.length() == 0 ? "" : directory + "/";
+		Array<String> names = new Array();
+		int index = prefix.length() == 0 ? 0 : -Arrays.binarySearch(paths, prefix) - 1;
+		if (index < 0) index = 0;
+		for (int n = paths.length; index < n; index++) {
+			String path = paths[index];
+			if (!path.startsWith(prefix)) break;
+			int end = path.indexOf('/', prefix.length());
+			String name = end == -1 ? path.substring(prefix.length()) : path.substring(prefix.length(), end);
+			if (names.size == 0 || !names.peek().equals(name)) names.add(name);
+		}
+		return names;
+	}
+
+	/** @return the uncompressed length of the file, or 0 if it isn't in the archive. */
+	public long length (String path) {
+		int index = indexOf(path);
+		return index < 0 ? 0 : lengths[index];
+	}
+
+	/** Returns the stored data of an uncompressed file without copying it. The buffer shares the memory of the archive.
+	 * @return null if the file is compressed.
+	 * @throws GdxRuntimeException if the file isn't in the archive. */
+	public ByteBuffer getBuffer (String path) {
+		int index = require(path);
+		if (lengths[index] != storedLengths[index]) return null;
+		return slice(index);
+	}
+
+	/** @throws GdxRuntimeException if the file isn't in the archive. */
+	public InputStream read (String path) {
+		int index = require(path);
+		InputStream input = new ByteBufferInputStream(slice(index));
+		if (lengths[index] != storedLengths[index]) input = new InflaterInputStream(input, new Inflater(), 4096);
+		return input;
+	}
+
+	/** @throws GdxRuntimeException if the file isn't in the archive. */
+	public byte[] readBytes (String path) {
+		int index = require(path);
+		ByteBuffer data = slice(index);
+		byte[] bytes = new byte[lengths[index]];
+		if (lengths[index] == storedLengths[index]) {
+			data.get(bytes);
+			return bytes;
+		}
+		byte[] stored = new byte[storedLengths[index]];
+		data.get(stored);
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(stored);
+			int length = inflater.inflate(bytes);
+			if (length != bytes.length) throw new GdxRuntimeException("Corrupt file in archive: " + path);
+		} catch (DataFormatException ex) {
+			throw new GdxRuntimeException("Corrupt file in archive: " + path, ex);
+		} finally {
+			inflater.end();
+		}
+		return bytes;
+	}
+
+	private ByteBuffer slice (int index) {
+		ByteBuffer data = buffer.duplicate();
+		data.limit(offsets[index] + storedLengths[index]);
+		data.position(offsets[index]);
+		return data.slice();
+	}
+
+	private int require (String path) {
+		int index = indexOf(path);
+		if (index < 0) throw new GdxRuntimeException("File not found in archive: " + path);
+		return index;
+	}
+
+	private int indexOf (String path) {
+		return Arrays.binarySearch(paths, normalize(path));
+	}
+
+	static String normalize (String path) {
+		path = path.replace('\\', '/');
+		while (path.startsWith("/"))
+			path = path.substring(1);
+		while (path.endsWith("/"))
+			path = path.substring(0, path.length() - 1);
+		return path;
+	}
+
+	static private class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+		private int mark;
+
+		ByteBufferInputStream (ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		public int read () {
+			if (!buffer.hasRemaining()) return -1;
+			return buffer.get() & 0xff;
+		}
+
+		public int read (byte[] bytes, int offset, int length) {
+			if (length == 0) return 0;
+			int remaining = buffer.remaining();
+			if (remaining == 0) return -1;
+			if (length > remaining) length = remaining;
+			buffer.get(bytes, offset, length);
+			return length;
+		}
+
+		public long skip (long n) {
+			int count = (int)Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + count);
+			return count;
+		}
+
+		public int available () {
+			return buffer.remaining();
+		}
+
+		public boolean markSupported () {
+			return true;
+		}
+
+		public void mark (int readLimit) {
+			mark = buffer.position();
+		}
+
+		public void reset () {
+			buffer.position(mark);
+		}
+	}
+}
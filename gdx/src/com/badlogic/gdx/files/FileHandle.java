@@ -29,9 +29,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 
 import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Files.FileType;
@@ -256,6 +260,29 @@ public class FileHandle {
 		return position - offset;
 	}
 
+	/** Memory maps the file read-only if it is on the file system. Otherwise, eg for a {@link FileType#Classpath} file or an
+	 * internal file on Android, the file is read into a buffer. The byte order of the buffer is big endian.
+	 * @throws GdxRuntimeException if the file handle represents a directory, doesn't exist, or could not be read. */
+	public ByteBuffer map () {
+		if (type != FileType.Classpath) {
+			File file = file();
+			if (file.isFile()) {
+				RandomAccessFile input = null;
+				try {
+					input = new RandomAccessFile(file, "r");
+					FileChannel channel = input.getChannel();
+					// The mapping stays valid after the channel is closed.
+					return channel.map(MapMode.READ_ONLY, 0, channel.size());
+				} catch (IOException ex) {
+					throw new GdxRuntimeException("Error mapping file: " + this + " (" + type + ")", ex);
+				} finally {
+					StreamUtils.closeQuietly(input);
+				}
+			}
+		}
+		return ByteBuffer.wrap(readBytes());
+	}
+
 	/** Returns a stream for writing to this file. Parent directories will be created if necessary.
 	 * @param append If false, this file will be overwritten if it exists, otherwise it will be appended.
 	 * @throws GdxRuntimeException if this file handle represents a directory, if it is a {@link FileType#Classpath} or
@@ -29,6 +29,7 @@ import com.badlogic.gdx.graphics.glutils.IndexBufferObject;
 import com.badlogic.gdx.graphics.glutils.IndexBufferObjectSubData;
 import com.badlogic.gdx.graphics.glutils.IndexData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
@@ -66,7 +67,7 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author mzechner, Dave Clayton <contact@redskyforge.com>, Xoppa */
 public class Mesh implements Disposable {
 	public enum VertexDataType {
-		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO
+		VertexArray, VertexBufferObject, VertexBufferObjectSubData, VertexBufferObjectWithVAO, VertexBufferObjectStreaming
 	}
 
 	/** list of all meshes **/
@@ -166,6 +167,11 @@ public class Mesh implements Disposable {
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
 			break;
+		case VertexBufferObjectStreaming:
+			vertices = new StreamingVertexBufferObject(maxVertices, attributes);
+			indices = new IndexBufferObject(isStatic, maxIndices);
+			isVertexArray = false;
+			break;
 		case VertexArray:
 		default:
 			vertices = new VertexArray(maxVertices, attributes);
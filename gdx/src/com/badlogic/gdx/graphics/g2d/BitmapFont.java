@@ -450,6 +450,8 @@ public class BitmapFont implements Disposable {
 		public float cursorX;
 
 		public final Glyph[][] glyphs = new Glyph[PAGES][];
+		/** Incremented when glyphs or the line height are changed, so {@link GlyphLayoutCache} can discard stale layouts. */
+		int version;
 		/** The glyph to display for characters not in the font. May be null. */
 		public Glyph missingGlyph;
 
@@ -734,12 +736,14 @@ public class BitmapFont implements Disposable {
 		public void setLineHeight (float height) {
 			lineHeight = height * scaleY;
 			down = flipped ? lineHeight : -lineHeight;
+			version++;
 		}
 
 		public void setGlyph (int ch, Glyph glyph) {
 			Glyph[] page = glyphs[ch / PAGE_SIZE];
 			if (page == null) glyphs[ch / PAGE_SIZE] = page = new Glyph[PAGE_SIZE];
 			page[ch & PAGE_SIZE - 1] = glyph;
+			version++;
 		}
 
 		public Glyph getFirstGlyph () {
@@ -40,6 +40,7 @@ public class BitmapFontCache {
 	private boolean integer;
 	private final Array<GlyphLayout> layouts = new Array();
 	private final Array<GlyphLayout> pooledLayouts = new Array();
+	private GlyphLayoutCache layoutCache;
 	private int glyphCount;
 	private float x, y;
 	private final Color color = new Color(1, 1, 1, 1);
@@ -497,12 +498,18 @@ public class BitmapFontCache {
 	 * @param wrap If true, the text will be wrapped within targetWidth.
 	 * @param truncate If not null, the text will be truncated within targetWidth with this string appended. May be an empty
 	 *           string.
-	 * @return The glyph layout for the cached string (the layout's height is the distance from y to the baseline). */
+	 * @return The glyph layout for the cached string (the layout's height is the distance from y to the baseline). If a
+	 *         {@link #setLayoutCache(GlyphLayoutCache) layout cache} is set, the layout is shared and must not be modified. */
 	public GlyphLayout addText (CharSequence str, float x, float y, int start, int end, float targetWidth, int halign,
 		boolean wrap, String truncate) {
-		GlyphLayout layout = Pools.obtain(GlyphLayout.class);
-		pooledLayouts.add(layout);
-		layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		GlyphLayout layout;
+		if (layoutCache != null)
+			layout = layoutCache.get(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		else {
+			layout = Pools.obtain(GlyphLayout.class);
+			pooledLayouts.add(layout);
+			layout.setText(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		}
 		addText(layout, x, y);
 		return layout;
 	}
@@ -526,6 +533,15 @@ public class BitmapFontCache {
 		return font;
 	}
 
+	/** Sets the cache used to lay out text added by the addText and setText methods, or null to lay out the text each time. */
+	public void setLayoutCache (GlyphLayoutCache layoutCache) {
+		this.layoutCache = layoutCache;
+	}
+
+	public GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** Specifies whether to use integer positions or not. Default is to use them so filtering doesn't kick in as badly.
 	 * @param use */
 	public void setUseIntegerPositions (boolean use) {
@@ -264,6 +264,28 @@ public class CpuSpriteBatch extends SpriteBatch {
 		}
 	}
 
+	/** Draws sprites described by the sprite descriptors, see {@link SpriteVertexGenerator}. The vertices are identical to
+	 * drawing each sprite with {@link #draw(TextureRegion, float, float, float, float, float, float, float, float, float)}, but
+	 * are computed by the generator directly into the batch, for example in parallel with a
+	 * {@link ParallelSpriteVertexGenerator}.
+	 * @param offset The index in sprites of the first descriptor.
+	 * @param count The number of sprites. */
+	public void drawSprites (Texture texture, float[] sprites, int offset, int count, SpriteVertexGenerator generator) {
+		if (!drawing) throw new IllegalStateException("CpuSpriteBatch.begin must be called before draw.");
+
+		if (texture != lastTexture) switchTexture(texture);
+
+		Affine2 transform = adjustNeeded ? adjustAffine : null;
+		while (count > 0) {
+			if (idx == vertices.length) super.flush();
+			int batchCount = Math.min(count, (vertices.length - idx) / Sprite.SPRITE_SIZE);
+			generator.generate(sprites, offset, batchCount, transform, vertices, idx, false);
+			idx += batchCount * Sprite.SPRITE_SIZE;
+			offset += batchCount * SpriteVertexGenerator.DESCRIPTOR_SIZE;
+			count -= batchCount;
+		}
+	}
+
 	private void drawAdjusted (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
 		float scaleX, float scaleY, float rotation) {
 		// v must be flipped
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.ObjectMap;
+
+/** Caches {@link GlyphLayout}s so laying out the same text again with the same font and parameters doesn't repeat the glyph
+ * lookup, wrapping and truncation. Layouts are shared, eg by many {@link com.badlogic.gdx.scenes.scene2d.ui.Label}s, and must
+ * not be modified. The least recently used layouts are discarded when the number of cached glyphs exceeds a maximum.
+ * <p>
+ * A cached layout is not used when the font's scale or {@link BitmapFontData#markupEnabled} differ, or when glyphs or the line
+ * height were changed with the {@link BitmapFontData} methods. If other BitmapFontData fields affecting layout are changed
+ * directly, {@link #invalidate(BitmapFont)} must be called.
+ * <p>
+ * A GlyphLayoutCache is not thread safe. */
+public class GlyphLayoutCache {
+	private final ObjectMap<Key, Entry> entries = new ObjectMap();
+	private final Key lookup = new Key();
+	private Entry head, tail;
+	private int maxGlyphs, glyphCount;
+	private int hits, misses, evictions;
+
+	/** @param maxGlyphs The maximum number of glyphs in all cached layouts. Each layout counts at least as one glyph. */
+	public GlyphLayoutCache (int maxGlyphs) {
+		setMaxGlyphs(maxGlyphs);
+	}
+
+	/** Returns a layout for the whole string, with the font's current color and no alignment or wrapping.
+	 * @see GlyphLayout#setText(BitmapFont, CharSequence) */
+	public GlyphLayout get (BitmapFont font, CharSequence str) {
+		return get(font, str, 0, str.length(), font.getColor(), 0, Align.left, false, null);
+	}
+
+	/** Returns a layout for the whole string, without truncation.
+	 * @see GlyphLayout#setText(BitmapFont, CharSequence, Color, float, int, boolean) */
+	public GlyphLayout get (BitmapFont font, CharSequence str, Color color, float targetWidth, int halign, boolean wrap) {
+		return get(font, str, 0, str.length(), color, targetWidth, halign, wrap, null);
+	}
+
+	/** Returns a cached layout for the text, or lays out the text and caches the layout. The returned layout must not be
+	 * modified.
+	 * @see GlyphLayout#setText(BitmapFont, CharSequence, int, int, Color, float, int, boolean, String) */
+	public GlyphLayout get (BitmapFont font, CharSequence str, int start, int end, Color color, float targetWidth, int halign,
+		boolean wrap, String truncate) {
+		// Without wrapping, truncation or alignment the target width doesn't affect the layout.
+		if (!wrap && truncate == null && (halign & Align.left) != 0) {
+			targetWidth = 0;
+			halign = Align.left;
+		}
+		Key lookup = this.lookup;
+		lookup.set(font, str, start, end, color.toIntBits(), targetWidth, halign, wrap, truncate);
+		Entry entry = entries.get(lookup);
+		lookup.text = null;
+		if (entry != null) {
+			if (entry.version == font.data.version) {
+				hits++;
+				if (entry != head) {
+					unlink(entry);
+					addFirst(entry);
+				}
+				return entry.layout;
+			}
+			remove(entry);
+		}
+		misses++;
+
+		entry = new Entry();
+		entry.set(font, str.subSequence(start, end).toString(), 0, end - start, lookup.color, targetWidth, halign, wrap, truncate);
+		entry.layout = new GlyphLayout(font, str, start, end, color, targetWidth, halign, wrap, truncate);
+		entry.version = font.data.version;
+		int glyphs = 0;
+		for (int i = 0, n = entry.layout.runs.size; i < n; i++)
+			glyphs += entry.layout.runs.get(i).glyphs.size;
+		entry.glyphs = Math.max(1, glyphs);
+
+		entries.put(entry, entry);
+		addFirst(entry);
+		glyphCount += entry.glyphs;
+		evict();
+		return entry.layout;
+	}
+
+	/** Removes the cached layouts for the font. This must be called when {@link BitmapFontData} fields affecting layout are
+	 * changed directly, rather than with the BitmapFontData methods. */
+	public void invalidate (BitmapFont font) {
+		for (Entry entry = head; entry != null;) {
+			Entry next = entry.next;
+			if (entry.font == font) remove(entry);
+			entry = next;
+		}
+	}
+
+	/** Removes all cached layouts. The metrics are not reset. */
+	public void clear () {
+		entries.clear();
+		head = null;
+		tail = null;
+		glyphCount = 0;
+	}
+
+	/** Sets the maximum number of glyphs in all cached layouts, discarding the least recently used layouts if needed. */
+	public void setMaxGlyphs (int maxGlyphs) {
+		if (maxGlyphs < 0) throw new IllegalArgumentException("maxGlyphs cannot be < 0: " + maxGlyphs);
+		this.maxGlyphs = maxGlyphs;
+		evict();
+	}
+
+	public int getMaxGlyphs () {
+		return maxGlyphs;
+	}
+
+	/** Returns the number of glyphs in all cached layouts. */
+	public int getGlyphCount () {
+		return glyphCount;
+	}
+
+	/** Returns the number of cached layouts. */
+	public int getSize () {
+		return entries.size;
+	}
+
+	/** Returns the number of times a cached layout was returned. */
+	public int getHits () {
+		return hits;
+	}
+
+	/** Returns the number of times text was laid out, because no valid layout was cached. */
+	public int getMisses () {
+		return misses;
+	}
+
+	/** Returns the number of layouts discarded to stay within the maximum number of glyphs. */
+	public int getEvictions () {
+		return evictions;
+	}
+
+	/** Sets the hits, misses and evictions to zero. */
+	public void resetMetrics () {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	private void evict () {
+		while (glyphCount > maxGlyphs && tail != null) {
+			remove(tail);
+			evictions++;
+		}
+	}
+
+	/** Removes the entry. Its layout is not reset, since it may still be in use. */
+	private void remove (Entry entry) {
+		entries.remove(entry);
+		unlink(entry);
+		glyphCount -= entry.glyphs;
+	}
+
+	private void addFirst (Entry entry) {
+		entry.next = head;
+		if (head != null) head.prev = entry;
+		head = entry;
+		if (tail == null) tail = entry;
+	}
+
+	private void unlink (Entry entry) {
+		if (entry.prev != null)
+			entry.prev.next = entry.next;
+		else
+			head = entry.next;
+		if (entry.next != null)
+			entry.next.prev = entry.prev;
+		else
+			tail = entry.prev;
+		entry.prev = null;
+		entry.next = null;
+	}
+
+	/** The font and layout parameters. The text is compared by characters, so lookups don't need to copy it. */
+	static class Key {
+		BitmapFont font;
+		CharSequence text;
+		int start, end;
+		int color, halign;
+		float targetWidth, scaleX, scaleY;
+		boolean wrap, markupEnabled;
+		String truncate;
+		int hashCode;
+
+		void set (BitmapFont font, CharSequence text, int start, int end, int color, float targetWidth, int halign, boolean wrap,
+			String truncate) {
+			this.font = font;
+			this.text = text;
+			this.start = start;
+			this.end = end;
+			this.color = color;
+			this.targetWidth = targetWidth;
+			this.halign = halign;
+			this.wrap = wrap;
+			this.truncate = truncate;
+			BitmapFontData data = font.data;
+			scaleX = data.scaleX;
+			scaleY = data.scaleY;
+			markupEnabled = data.markupEnabled;
+
+			int h = font.hashCode();
+			for (int i = start; i < end; i++)
+				h = h * 31 + text.charAt(i);
+			h = h * 31 + color;
+			h = h * 31 + Float.floatToIntBits(targetWidth);
+			h = h * 31 + halign;
+			h = h * 31 + Float.floatToIntBits(scaleX);
+			h = h * 31 + Float.floatToIntBits(scaleY);
+			if (wrap) h += 1;
+			if (markupEnabled) h += 2;
+			if (truncate != null) h = h * 31 + truncate.hashCode();
+			hashCode = h;
+		}
+
+		public int hashCode () {
+			return hashCode;
+		}
+
+		public boolean equals (Object object) {
+			if (!(object instanceof Key)) return false;
+			Key other = (Key)object;
+			if (hashCode != other.hashCode || font != other.font || color != other.color || targetWidth != other.targetWidth
+				|| halign != other.halign || wrap != other.wrap || scaleX != other.scaleX || scaleY != other.scaleY
+				|| markupEnabled != other.markupEnabled) return false;
+			if (truncate == null ? other.truncate != null : !truncate.equals(other.truncate)) return false;
+			int length = end - start;
+			if (length != other.end - other.start) return false;
+			CharSequence text = this.text, otherText = other.text;
+			for (int i = 0, o = other.start - start; i < length; i++)
+				if (text.charAt(start + i) != otherText.charAt(start + i + o)) return false;
+			return true;
+		}
+	}
+
+	static class Entry extends Key {
+		GlyphLayout layout;
+		int version, glyphs;
+		Entry prev, next;
+	}
+}
@@ -0,0 +1,452 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.Application.ApplicationType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Matrix4;
+
+/** A {@link SpriteBatch} that uses GL30 instancing to draw sprites. Instead of four vertices, each sprite is stored as a single
+ * record of {@link #INSTANCE_SIZE} floats (position, size, origin, rotation, UV rectangle and packed color) and the quad is
+ * expanded in the vertex shader, which reduces the data uploaded per sprite from 20 floats to 12 and the CPU work per sprite to
+ * a few stores.
+ * <p>
+ * When GL30 is not available, or while a shader is set with {@link #setShader(ShaderProgram)}, this behaves exactly like a
+ * SpriteBatch. Draws that can't be described by a rotated rectangle, such as {@link #draw(TextureRegion, float, float, Affine2)},
+ * go through the SpriteBatch vertices. Sprite vertices passed to {@link #draw(Texture, float[], int, int)}, eg by
+ * {@link Sprite#draw(Batch)}, are converted to instances when they describe a rotated rectangle with a single color.
+ * @see SpriteBatch */
+public class InstancedSpriteBatch extends SpriteBatch {
+	/** The number of floats per sprite instance. */
+	static public final int INSTANCE_SIZE = 12;
+	/** The attribute holding the scaled width, scaled height and rotation in degrees of each instance. */
+	static public final String SIZE_ATTRIBUTE = "a_size";
+
+	private final Mesh instanceMesh;
+	private final float[] instances;
+	private int instanceIdx;
+	private final ShaderProgram instanceShader;
+	private boolean ownsInstanceShader;
+	private final int[] attributeLocations;
+	private boolean customShader;
+	private final Matrix4 combinedMatrix = new Matrix4();
+
+	/** Constructs a new InstancedSpriteBatch with a size of 1000 and the default instance shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch () {
+		this(1000, null);
+	}
+
+	/** Constructs an InstancedSpriteBatch with the default instance shader.
+	 * @see InstancedSpriteBatch#InstancedSpriteBatch(int, ShaderProgram) */
+	public InstancedSpriteBatch (int size) {
+		this(size, null);
+	}
+
+	/** @param size The max number of sprite instances in a single batch. Without GL30 this is the SpriteBatch size, max of 5460.
+	 * @param instanceShader The shader used to draw instances, see {@link #createDefaultShader()}. This is not owned by the
+	 *           InstancedSpriteBatch and must be disposed separately. If null, the default instance shader is used. Ignored when
+	 *           GL30 is not available. */
+	public InstancedSpriteBatch (int size, ShaderProgram instanceShader) {
+		super(Gdx.gl30 != null ? Math.min(size, 1000) : size);
+		if (Gdx.gl30 == null) {
+			instanceMesh = null;
+			instances = null;
+			this.instanceShader = null;
+			attributeLocations = null;
+			return;
+		}
+
+		instanceMesh = new Mesh(VertexDataType.VertexBufferObjectWithVAO, false, size, 0, new VertexAttribute(Usage.Position, 4,
+			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.Generic, 3, SIZE_ATTRIBUTE), new VertexAttribute(
+			Usage.TextureCoordinates, 4, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"), new VertexAttribute(Usage.ColorPacked, 4,
+			ShaderProgram.COLOR_ATTRIBUTE));
+		instances = new float[size * INSTANCE_SIZE];
+
+		if (instanceShader == null) {
+			instanceShader = createDefaultShader();
+			ownsInstanceShader = true;
+		}
+		this.instanceShader = instanceShader;
+
+		VertexAttributes attributes = instanceMesh.getVertexAttributes();
+		attributeLocations = new int[attributes.size()];
+		for (int i = 0; i < attributeLocations.length; i++)
+			attributeLocations[i] = instanceShader.getAttributeLocation(attributes.get(i).alias);
+	}
+
+	/** Returns a new instance of the default instance shader. Each instance has a {@link ShaderProgram#POSITION_ATTRIBUTE} vec4
+	 * with the world position of the origin and the scaled origin, a {@link #SIZE_ATTRIBUTE} vec3 with the scaled size and the
+	 * rotation in degrees, a {@link ShaderProgram#TEXCOORD_ATTRIBUTE}0 vec4 with the texture coordinates of the bottom left and
+	 * top right corners and a {@link ShaderProgram#COLOR_ATTRIBUTE}. The corner is derived from gl_VertexID, the quad is drawn
+	 * as a triangle strip. Requires GLSL 1.40 or GLSL ES 3.00. */
+	static public ShaderProgram createDefaultShader () {
+		String version = Gdx.app.getType() == ApplicationType.Desktop ? "#version 140\n" : "#version 300 es\n";
+		String vertexShader = version //
+			+ "in vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "in vec3 " + SIZE_ATTRIBUTE + ";\n" //
+			+ "in vec4 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "in vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "out vec4 v_color;\n" //
+			+ "out vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   vec2 corner = vec2(float(gl_VertexID >> 1), float(gl_VertexID & 1));\n" //
+			+ "   vec2 local = corner * " + SIZE_ATTRIBUTE + ".xy - " + ShaderProgram.POSITION_ATTRIBUTE + ".zw;\n" //
+			+ "   float angle = radians(" + SIZE_ATTRIBUTE + ".z);\n" //
+			+ "   float c = cos(angle);\n" //
+			+ "   float s = sin(angle);\n" //
+			+ "   vec2 world = " + ShaderProgram.POSITION_ATTRIBUTE + ".xy + vec2(local.x * c - local.y * s, local.x * s + local.y * c);\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_color.a = v_color.a * (255.0/254.0);\n" //
+			+ "   v_texCoords = mix(" + ShaderProgram.TEXCOORD_ATTRIBUTE + "0.xy, " + ShaderProgram.TEXCOORD_ATTRIBUTE
+			+ "0.zw, corner);\n" //
+			+ "   gl_Position =  u_projTrans * vec4(world, 0.0, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = version //
+			+ "#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "in LOWP vec4 v_color;\n" //
+			+ "in vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "out vec4 fragColor;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  fragColor = v_color * texture(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (shader.isCompiled() == false) throw new IllegalArgumentException("Error compiling shader: " + shader.getLog());
+		return shader;
+	}
+
+	/** Returns true if sprites are currently drawn as instances, false if GL30 is not available or a custom shader is set. */
+	public boolean isInstancing () {
+		return instances != null && !customShader;
+	}
+
+	@Override
+	public void end () {
+		flushInstances();
+		super.end();
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		if (!isInstancing()) {
+			super.draw(texture, x, y, originX, originY, width, height, scaleX, scaleY, rotation, srcX, srcY, srcWidth, srcHeight,
+				flipX, flipY);
+			return;
+		}
+		float[] instances = prepareInstance(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+
+		int idx = this.instanceIdx;
+		instances[idx] = x + originX;
+		instances[idx + 1] = y + originY;
+		instances[idx + 2] = originX * scaleX;
+		instances[idx + 3] = originY * scaleY;
+		instances[idx + 4] = width * scaleX;
+		instances[idx + 5] = height * scaleY;
+		instances[idx + 6] = rotation;
+		instances[idx + 7] = u;
+		instances[idx + 8] = v;
+		instances[idx + 9] = u2;
+		instances[idx + 10] = v2;
+		instances[idx + 11] = color;
+		this.instanceIdx = idx + INSTANCE_SIZE;
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		if (!isInstancing()) {
+			super.draw(texture, x, y, width, height, srcX, srcY, srcWidth, srcHeight, flipX, flipY);
+			return;
+		}
+		float[] instances = prepareInstance(texture);
+
+		float u = srcX * invTexWidth;
+		float v = (srcY + srcHeight) * invTexHeight;
+		float u2 = (srcX + srcWidth) * invTexWidth;
+		float v2 = srcY * invTexHeight;
+		if (flipX) {
+			float tmp = u;
+			u = u2;
+			u2 = tmp;
+		}
+		if (flipY) {
+			float tmp = v;
+			v = v2;
+			v2 = tmp;
+		}
+		addInstance(instances, x, y, width, height, u, v, u2, v2);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		if (!isInstancing()) {
+			super.draw(texture, x, y, srcX, srcY, srcWidth, srcHeight);
+			return;
+		}
+		float[] instances = prepareInstance(texture);
+		addInstance(instances, x, y, srcWidth, srcHeight, srcX * invTexWidth, (srcY + srcHeight) * invTexHeight,
+			(srcX + srcWidth) * invTexWidth, srcY * invTexHeight);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		if (!isInstancing()) {
+			super.draw(texture, x, y, width, height, u, v, u2, v2);
+			return;
+		}
+		addInstance(prepareInstance(texture), x, y, width, height, u, v, u2, v2);
+	}
+
+	@Override
+	public void draw (Texture texture, float x, float y, float width, float height) {
+		if (!isInstancing()) {
+			super.draw(texture, x, y, width, height);
+			return;
+		}
+		addInstance(prepareInstance(texture), x, y, width, height, 0, 1, 1, 0);
+	}
+
+	/** Sprites described by a rotated rectangle with a single color and axis aligned texture coordinates are converted to
+	 * instances, others are drawn through the SpriteBatch vertices. */
+	@Override
+	public void draw (Texture texture, float[] spriteVertices, int offset, int count) {
+		if (!isInstancing() || count % Sprite.SPRITE_SIZE != 0) {
+			flushInstances();
+			super.draw(texture, spriteVertices, offset, count);
+			return;
+		}
+		for (int end = offset + count; offset < end; offset += Sprite.SPRITE_SIZE) {
+			if (!addInstance(texture, spriteVertices, offset)) {
+				flushInstances();
+				super.draw(texture, spriteVertices, offset, Sprite.SPRITE_SIZE);
+			}
+		}
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float width, float height) {
+		if (!isInstancing()) {
+			super.draw(region, x, y, width, height);
+			return;
+		}
+		addInstance(prepareInstance(region.texture), x, y, width, height, region.u, region.v2, region.u2, region.v);
+	}
+
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		if (!isInstancing()) {
+			super.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation);
+			return;
+		}
+		float[] instances = prepareInstance(region.texture);
+
+		int idx = this.instanceIdx;
+		instances[idx] = x + originX;
+		instances[idx + 1] = y + originY;
+		instances[idx + 2] = originX * scaleX;
+		instances[idx + 3] = originY * scaleY;
+		instances[idx + 4] = width * scaleX;
+		instances[idx + 5] = height * scaleY;
+		instances[idx + 6] = rotation;
+		instances[idx + 7] = region.u;
+		instances[idx + 8] = region.v2;
+		instances[idx + 9] = region.u2;
+		instances[idx + 10] = region.v;
+		instances[idx + 11] = color;
+		this.instanceIdx = idx + INSTANCE_SIZE;
+	}
+
+	/** Drawn through the SpriteBatch vertices, since the texture coordinates are rotated. */
+	@Override
+	public void draw (TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		flushInstances();
+		super.draw(region, x, y, originX, originY, width, height, scaleX, scaleY, rotation, clockwise);
+	}
+
+	/** Drawn through the SpriteBatch vertices, since the transform may shear the quad. */
+	@Override
+	public void draw (TextureRegion region, float width, float height, Affine2 transform) {
+		flushInstances();
+		super.draw(region, width, height, transform);
+	}
+
+	/** Checks the batch is drawing, switches to the texture and makes room for one instance. */
+	private float[] prepareInstance (Texture texture) {
+		if (!drawing) throw new IllegalStateException("InstancedSpriteBatch.begin must be called before draw.");
+		if (texture != lastTexture)
+			switchTexture(texture);
+		else if (idx > 0) // Keep the draw order with sprites drawn through the SpriteBatch vertices.
+			super.flush();
+		else if (instanceIdx == instances.length) //
+			flushInstances();
+		return instances;
+	}
+
+	/** Adds an unrotated instance with the origin at the bottom left corner. */
+	private void addInstance (float[] instances, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		int idx = this.instanceIdx;
+		instances[idx] = x;
+		instances[idx + 1] = y;
+		instances[idx + 2] = 0;
+		instances[idx + 3] = 0;
+		instances[idx + 4] = width;
+		instances[idx + 5] = height;
+		instances[idx + 6] = 0;
+		instances[idx + 7] = u;
+		instances[idx + 8] = v;
+		instances[idx + 9] = u2;
+		instances[idx + 10] = v2;
+		instances[idx + 11] = color;
+		this.instanceIdx = idx + INSTANCE_SIZE;
+	}
+
+	/** Adds an instance for the sprite vertices at the offset, if they describe a rotated rectangle with a single color and axis
+	 * aligned texture coordinates.
+	 * @return false if the sprite can't be drawn as an instance. */
+	private boolean addInstance (Texture texture, float[] vertices, int offset) {
+		float color = vertices[offset + 2];
+		if (vertices[offset + 7] != color || vertices[offset + 12] != color || vertices[offset + 17] != color) return false;
+		float u = vertices[offset + 3], v = vertices[offset + 4], u2 = vertices[offset + 13], v2 = vertices[offset + 14];
+		if (vertices[offset + 8] != u || vertices[offset + 9] != v2 || vertices[offset + 18] != u2 || vertices[offset + 19] != v)
+			return false;
+
+		// The edge from the bottom left to the bottom right corner gives the width and rotation, the edge to the top left corner
+		// must be perpendicular to it and gives the height.
+		float x = vertices[offset], y = vertices[offset + 1];
+		float widthX = vertices[offset + 15] - x, widthY = vertices[offset + 16] - y;
+		float heightX = vertices[offset + 5] - x, heightY = vertices[offset + 6] - y;
+		float width = (float)Math.sqrt(widthX * widthX + widthY * widthY);
+		if (width < MathUtils.FLOAT_ROUNDING_ERROR) return false;
+		float tolerance = 0.0001f * (width + Math.abs(heightX) + Math.abs(heightY));
+		if (Math.abs(x + widthX + heightX - vertices[offset + 10]) > tolerance
+			|| Math.abs(y + widthY + heightY - vertices[offset + 11]) > tolerance) return false;
+		if (Math.abs(widthX * heightX + widthY * heightY) > tolerance * width) return false;
+		float height = (widthX * heightY - widthY * heightX) / width;
+
+		float[] instances = prepareInstance(texture);
+		int idx = this.instanceIdx;
+		instances[idx] = x;
+		instances[idx + 1] = y;
+		instances[idx + 2] = 0;
+		instances[idx + 3] = 0;
+		instances[idx + 4] = width;
+		instances[idx + 5] = height;
+		instances[idx + 6] = widthY == 0 && widthX > 0 ? 0 : (float)Math.atan2(widthY, widthX) * MathUtils.radiansToDegrees;
+		instances[idx + 7] = u;
+		instances[idx + 8] = v;
+		instances[idx + 9] = u2;
+		instances[idx + 10] = v2;
+		instances[idx + 11] = color;
+		this.instanceIdx = idx + INSTANCE_SIZE;
+		return true;
+	}
+
+	@Override
+	public void flush () {
+		flushInstances();
+		super.flush();
+	}
+
+	/** Draws the pending instances with a single instanced draw call. */
+	protected void flushInstances () {
+		if (instanceIdx == 0) return;
+
+		renderCalls++;
+		totalRenderCalls++;
+		int spritesInBatch = instanceIdx / INSTANCE_SIZE;
+		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
+
+		lastTexture.bind();
+		Mesh mesh = this.instanceMesh;
+		mesh.setVertices(instances, 0, instanceIdx);
+
+		GL30 gl = Gdx.gl30;
+		if (!isBlendingEnabled()) {
+			gl.glDisable(GL20.GL_BLEND);
+		} else {
+			gl.glEnable(GL20.GL_BLEND);
+			if (getBlendSrcFunc() != -1) gl.glBlendFunc(getBlendSrcFunc(), getBlendDstFunc());
+		}
+
+		ShaderProgram shader = instanceShader;
+		shader.begin();
+		shader.setUniformMatrix("u_projTrans", combinedMatrix.set(getProjectionMatrix()).mul(getTransformMatrix()));
+		shader.setUniformi("u_texture", 0);
+		mesh.bind(shader);
+		for (int location : attributeLocations)
+			if (location >= 0) gl.glVertexAttribDivisor(location, 1);
+		gl.glDrawArraysInstanced(GL20.GL_TRIANGLE_STRIP, 0, 4, spritesInBatch);
+		mesh.unbind(shader);
+		getShader().begin();
+
+		instanceIdx = 0;
+	}
+
+	/** While a shader is set, sprites are drawn through the SpriteBatch vertices so the shader applies to all of them. */
+	@Override
+	public void setShader (ShaderProgram shader) {
+		super.setShader(shader);
+		customShader = shader != null;
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		if (instanceMesh != null) instanceMesh.dispose();
+		if (ownsInstanceShader && instanceShader != null) instanceShader.dispose();
+	}
+}
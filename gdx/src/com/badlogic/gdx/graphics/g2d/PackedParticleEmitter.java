@@ -0,0 +1,541 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static com.badlogic.gdx.graphics.g2d.Sprite.SPRITE_SIZE;
+import static com.badlogic.gdx.graphics.g2d.Sprite.VERTEX_SIZE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** A {@link ParticleEmitter} that stores its particles in parallel primitive arrays rather than as {@link Particle} sprites. A
+ * particle that dies is replaced by the last one, so the first {@link #getActiveCount()} entries are always the active particles
+ * and there are no active flags to scan. Drawing computes the vertices of all particles into one array and passes it to
+ * {@link Batch#draw(Texture, float[], int, int)}.
+ * <p>
+ * Emission and particle behavior are the same as ParticleEmitter and the same effect files are loaded, see
+ * {@link ParticleEffect#ParticleEffect(boolean)}. Particles are drawn in storage order, which changes as particles die, and
+ * {@link #newParticle(Sprite)} is not used. */
+public class PackedParticleEmitter extends ParticleEmitter {
+	private int[] totalLife, currentLife;
+	private float[] positionX, positionY;
+	private float[] scale, scaleDiff, currentScale;
+	private float[] rotation, rotationDiff, currentRotation;
+	private float[] velocity, velocityDiff;
+	private float[] angle, angleDiff, angleCos, angleSin;
+	private float[] wind, windDiff;
+	private float[] gravity, gravityDiff;
+	private float[] transparency, transparencyDiff;
+	private float[] tint;
+	private float[] color;
+	private float[] vertices;
+
+	public PackedParticleEmitter () {
+		setMaxParticleCount(maxParticleCount);
+	}
+
+	public PackedParticleEmitter (BufferedReader reader) throws IOException {
+		super(reader);
+	}
+
+	public PackedParticleEmitter (ParticleEmitter emitter) {
+		super(emitter);
+	}
+
+	public void setMaxParticleCount (int maxParticleCount) {
+		this.maxParticleCount = maxParticleCount;
+		activeCount = 0;
+		totalLife = new int[maxParticleCount];
+		currentLife = new int[maxParticleCount];
+		positionX = new float[maxParticleCount];
+		positionY = new float[maxParticleCount];
+		scale = new float[maxParticleCount];
+		scaleDiff = new float[maxParticleCount];
+		currentScale = new float[maxParticleCount];
+		rotation = new float[maxParticleCount];
+		rotationDiff = new float[maxParticleCount];
+		currentRotation = new float[maxParticleCount];
+		velocity = new float[maxParticleCount];
+		velocityDiff = new float[maxParticleCount];
+		angle = new float[maxParticleCount];
+		angleDiff = new float[maxParticleCount];
+		angleCos = new float[maxParticleCount];
+		angleSin = new float[maxParticleCount];
+		wind = new float[maxParticleCount];
+		windDiff = new float[maxParticleCount];
+		gravity = new float[maxParticleCount];
+		gravityDiff = new float[maxParticleCount];
+		transparency = new float[maxParticleCount];
+		transparencyDiff = new float[maxParticleCount];
+		tint = new float[maxParticleCount * 3];
+		color = new float[maxParticleCount];
+		vertices = new float[maxParticleCount * SPRITE_SIZE];
+	}
+
+	public void addParticle () {
+		if (activeCount == maxParticleCount) return;
+		activateParticle(activeCount);
+		activeCount++;
+	}
+
+	public void addParticles (int count) {
+		count = Math.min(count, maxParticleCount - activeCount);
+		for (int i = 0; i < count; i++) {
+			activateParticle(activeCount);
+			activeCount++;
+		}
+	}
+
+	public void update (float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) return;
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		emit(deltaMillis);
+		updateParticles(delta, deltaMillis);
+	}
+
+	public void draw (Batch batch) {
+		if (premultipliedAlpha) {
+			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		} else if (additive) {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE);
+		} else {
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		}
+
+		if (activeCount > 0) batch.draw(sprite.getTexture(), computeVertices(), 0, activeCount * SPRITE_SIZE);
+
+		if (cleansUpBlendFunction && (additive || premultipliedAlpha))
+			batch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/** Updates and draws the particles. Particles emitted during this update are drawn the next time, as with
+	 * {@link ParticleEmitter#draw(Batch, float)}. */
+	public void draw (Batch batch, float delta) {
+		accumulator += delta * 1000;
+		if (accumulator < 1) {
+			draw(batch);
+			return;
+		}
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		updateParticles(delta, deltaMillis);
+		draw(batch);
+		emit(deltaMillis);
+	}
+
+	public void reset () {
+		emissionDelta = 0;
+		durationTimer = duration;
+		activeCount = 0;
+		start();
+	}
+
+	public void setPosition (float x, float y) {
+		if (attached) {
+			float xAmount = x - this.x;
+			float yAmount = y - this.y;
+			float[] positionX = this.positionX, positionY = this.positionY;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				positionX[i] += xAmount;
+				positionY[i] += yAmount;
+			}
+		}
+		this.x = x;
+		this.y = y;
+	}
+
+	/** The sprite's texture, region, size and origin are used for all particles, including those already active. */
+	public void setSprite (Sprite sprite) {
+		this.sprite = sprite;
+	}
+
+	public void setFlip (boolean flipX, boolean flipY) {
+		this.flipX = flipX;
+		this.flipY = flipY;
+	}
+
+	public BoundingBox getBoundingBox () {
+		if (bounds == null) bounds = new BoundingBox();
+
+		BoundingBox bounds = this.bounds;
+		bounds.inf();
+		if (activeCount > 0) {
+			float[] vertices = computeVertices();
+			for (int i = 0, n = activeCount * SPRITE_SIZE; i < n; i += VERTEX_SIZE)
+				bounds.ext(vertices[i], vertices[i + 1], 0);
+		}
+		return bounds;
+	}
+
+	private void updateParticles (float delta, int deltaMillis) {
+		int activeCount = this.activeCount;
+		for (int i = 0; i < activeCount;) {
+			if (updateParticle(i, delta, deltaMillis))
+				i++;
+			else
+				move(--activeCount, i);
+		}
+		this.activeCount = activeCount;
+	}
+
+	/** Copies the particle at the first index over the particle at the second index. */
+	private void move (int from, int to) {
+		if (from == to) return;
+		totalLife[to] = totalLife[from];
+		currentLife[to] = currentLife[from];
+		positionX[to] = positionX[from];
+		positionY[to] = positionY[from];
+		scale[to] = scale[from];
+		scaleDiff[to] = scaleDiff[from];
+		currentScale[to] = currentScale[from];
+		rotation[to] = rotation[from];
+		rotationDiff[to] = rotationDiff[from];
+		currentRotation[to] = currentRotation[from];
+		velocity[to] = velocity[from];
+		velocityDiff[to] = velocityDiff[from];
+		angle[to] = angle[from];
+		angleDiff[to] = angleDiff[from];
+		angleCos[to] = angleCos[from];
+		angleSin[to] = angleSin[from];
+		wind[to] = wind[from];
+		windDiff[to] = windDiff[from];
+		gravity[to] = gravity[from];
+		gravityDiff[to] = gravityDiff[from];
+		transparency[to] = transparency[from];
+		transparencyDiff[to] = transparencyDiff[from];
+		System.arraycopy(tint, from * 3, tint, to * 3, 3);
+		color[to] = color[from];
+	}
+
+	private void activateParticle (int index) {
+		float percent = durationTimer / (float)duration;
+		int updateFlags = this.updateFlags;
+
+		currentLife[index] = totalLife[index] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		if (velocityValue.active) {
+			float velocity = velocityValue.newLowValue(random);
+			float velocityDiff = velocityValue.newHighValue(random);
+			if (!velocityValue.isRelative()) velocityDiff -= velocity;
+			this.velocity[index] = velocity;
+			this.velocityDiff[index] = velocityDiff;
+		}
+
+		float particleAngle = angleValue.newLowValue(random);
+		float particleAngleDiff = angleValue.newHighValue(random);
+		if (!angleValue.isRelative()) particleAngleDiff -= particleAngle;
+		float angle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle = particleAngle + particleAngleDiff * angleValue.getScale(0);
+			particleAngle = angle;
+			angleCos[index] = MathUtils.cosDeg(angle);
+			angleSin[index] = MathUtils.sinDeg(angle);
+		}
+		this.angle[index] = particleAngle;
+		angleDiff[index] = particleAngleDiff;
+
+		float spriteWidth = sprite.getWidth();
+		float scale = scaleValue.newLowValue(random) / spriteWidth;
+		float scaleDiff = scaleValue.newHighValue(random) / spriteWidth;
+		if (!scaleValue.isRelative()) scaleDiff -= scale;
+		this.scale[index] = scale;
+		this.scaleDiff[index] = scaleDiff;
+		currentScale[index] = scale + scaleDiff * scaleValue.getScale(0);
+
+		if (rotationValue.active) {
+			float rotation = rotationValue.newLowValue(random);
+			float rotationDiff = rotationValue.newHighValue(random);
+			if (!rotationValue.isRelative()) rotationDiff -= rotation;
+			this.rotation[index] = rotation;
+			this.rotationDiff[index] = rotationDiff;
+			rotation += rotationDiff * rotationValue.getScale(0);
+			if (aligned) rotation += angle;
+			currentRotation[index] = rotation;
+		} else {
+			rotation[index] = 0;
+			rotationDiff[index] = 0;
+			currentRotation[index] = sprite.getRotation();
+		}
+
+		if (windValue.active) {
+			float wind = windValue.newLowValue(random);
+			float windDiff = windValue.newHighValue(random);
+			if (!windValue.isRelative()) windDiff -= wind;
+			this.wind[index] = wind;
+			this.windDiff[index] = windDiff;
+		}
+
+		if (gravityValue.active) {
+			float gravity = gravityValue.newLowValue(random);
+			float gravityDiff = gravityValue.newHighValue(random);
+			if (!gravityValue.isRelative()) gravityDiff -= gravity;
+			this.gravity[index] = gravity;
+			this.gravityDiff[index] = gravityDiff;
+		}
+
+		float[] temp = tintValue.getColor(0);
+		tint[index * 3] = temp[0];
+		tint[index * 3 + 1] = temp[1];
+		tint[index * 3 + 2] = temp[2];
+
+		float transparency = transparencyValue.newLowValue(random);
+		this.transparency[index] = transparency;
+		transparencyDiff[index] = transparencyValue.newHighValue(random) - transparency;
+
+		// Spawn.
+		float x = this.x;
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue(random);
+		float y = this.y;
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue(random);
+		switch (spawnShapeValue.shape) {
+		case square: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			x += random.nextFloat() * width - width / 2;
+			y += random.nextFloat() * height - height / 2;
+			break;
+		}
+		case ellipse: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			float radiusX = width / 2;
+			float radiusY = height / 2;
+			if (radiusX == 0 || radiusY == 0) break;
+			float scaleY = radiusX / (float)radiusY;
+			if (spawnShapeValue.edges) {
+				float spawnAngle;
+				switch (spawnShapeValue.side) {
+				case top:
+					spawnAngle = -random.nextFloat() * 179f;
+					break;
+				case bottom:
+					spawnAngle = random.nextFloat() * 179f;
+					break;
+				default:
+					spawnAngle = random.nextFloat() * 360f;
+					break;
+				}
+				float cosDeg = MathUtils.cosDeg(spawnAngle);
+				float sinDeg = MathUtils.sinDeg(spawnAngle);
+				x += cosDeg * radiusX;
+				y += sinDeg * radiusX / scaleY;
+				if ((updateFlags & UPDATE_ANGLE) == 0) {
+					this.angle[index] = spawnAngle;
+					angleCos[index] = cosDeg;
+					angleSin[index] = sinDeg;
+				}
+			} else {
+				float radius2 = radiusX * radiusX;
+				while (true) {
+					float px = random.nextFloat() * width - radiusX;
+					float py = random.nextFloat() * height - radiusY;
+					if (px * px + py * py <= radius2) {
+						x += px;
+						y += py / scaleY;
+						break;
+					}
+				}
+			}
+			break;
+		}
+		case line: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			if (width != 0) {
+				float lineX = width * random.nextFloat();
+				x += lineX;
+				y += lineX * (height / (float)width);
+			} else
+				y += height * random.nextFloat();
+			break;
+		}
+		}
+
+		positionX[index] = x - spriteWidth / 2;
+		positionY[index] = y - sprite.getHeight() / 2;
+		updateColor(index, 0);
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= currentLife[index]) offsetTime = currentLife[index] - 1;
+			updateParticle(index, offsetTime / 1000f, offsetTime);
+		}
+	}
+
+	private boolean updateParticle (int index, float delta, int deltaMillis) {
+		int life = currentLife[index] - deltaMillis;
+		if (life <= 0) return false;
+		currentLife[index] = life;
+
+		float percent = 1 - life / (float)totalLife[index];
+		int updateFlags = this.updateFlags;
+
+		if ((updateFlags & UPDATE_SCALE) != 0) currentScale[index] = scale[index] + scaleDiff[index] * scaleValue.getScale(percent);
+
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			float velocity = (this.velocity[index] + velocityDiff[index] * velocityValue.getScale(percent)) * delta;
+
+			float velocityX, velocityY;
+			if ((updateFlags & UPDATE_ANGLE) != 0) {
+				float angle = this.angle[index] + angleDiff[index] * angleValue.getScale(percent);
+				velocityX = velocity * MathUtils.cosDeg(angle);
+				velocityY = velocity * MathUtils.sinDeg(angle);
+				if ((updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = this.rotation[index] + rotationDiff[index] * rotationValue.getScale(percent);
+					if (aligned) rotation += angle;
+					currentRotation[index] = rotation;
+				}
+			} else {
+				velocityX = velocity * angleCos[index];
+				velocityY = velocity * angleSin[index];
+				if (aligned || (updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = this.rotation[index] + rotationDiff[index] * rotationValue.getScale(percent);
+					if (aligned) rotation += this.angle[index];
+					currentRotation[index] = rotation;
+				}
+			}
+
+			if ((updateFlags & UPDATE_WIND) != 0) velocityX += (wind[index] + windDiff[index] * windValue.getScale(percent)) * delta;
+
+			if ((updateFlags & UPDATE_GRAVITY) != 0)
+				velocityY += (gravity[index] + gravityDiff[index] * gravityValue.getScale(percent)) * delta;
+
+			positionX[index] += velocityX;
+			positionY[index] += velocityY;
+		} else {
+			if ((updateFlags & UPDATE_ROTATION) != 0)
+				currentRotation[index] = rotation[index] + rotationDiff[index] * rotationValue.getScale(percent);
+		}
+
+		updateColor(index, percent);
+		return true;
+	}
+
+	private void updateColor (int index, float percent) {
+		float r, g, b;
+		if ((updateFlags & UPDATE_TINT) != 0) {
+			float[] temp = tintValue.getColor(percent);
+			r = temp[0];
+			g = temp[1];
+			b = temp[2];
+		} else {
+			r = tint[index * 3];
+			g = tint[index * 3 + 1];
+			b = tint[index * 3 + 2];
+		}
+		float a = transparency[index] + transparencyDiff[index] * transparencyValue.getScale(percent);
+		if (premultipliedAlpha) {
+			r *= a;
+			g *= a;
+			b *= a;
+			a *= additive ? 0 : 1;
+		}
+		int intBits = ((int)(255 * a) << 24) | ((int)(255 * b) << 16) | ((int)(255 * g) << 8) | ((int)(255 * r));
+		color[index] = NumberUtils.intToFloatColor(intBits);
+	}
+
+	/** Computes the vertices of the active particles, the same as {@link Sprite#getVertices()} would for each particle. */
+	float[] computeVertices () {
+		Sprite sprite = this.sprite;
+		float originX = sprite.getOriginX(), originY = sprite.getOriginY();
+		float localX = -originX, localY = -originY;
+		float localX2 = localX + sprite.getWidth(), localY2 = localY + sprite.getHeight();
+		float u = sprite.getU(), v = sprite.getV(), u2 = sprite.getU2(), v2 = sprite.getV2();
+		if (flipX) {
+			float temp = u;
+			u = u2;
+			u2 = temp;
+		}
+		if (flipY) {
+			float temp = v;
+			v = v2;
+			v2 = temp;
+		}
+
+		float[] vertices = this.vertices;
+		float[] positionX = this.positionX, positionY = this.positionY, currentScale = this.currentScale;
+		float[] currentRotation = this.currentRotation, color = this.color;
+		for (int i = 0, idx = 0, n = activeCount; i < n; i++, idx += SPRITE_SIZE) {
+			float scale = currentScale[i];
+			float x = localX * scale, y = localY * scale, x2 = localX2 * scale, y2 = localY2 * scale;
+			float worldOriginX = positionX[i] + originX, worldOriginY = positionY[i] + originY;
+			float x1, y1, x3, y3, x4, y4;
+			float rotation = currentRotation[i];
+			if (rotation != 0) {
+				float cos = MathUtils.cosDeg(rotation);
+				float sin = MathUtils.sinDeg(rotation);
+				float xCos = x * cos, xSin = x * sin;
+				float yCos = y * cos, ySin = y * sin;
+				float x2Cos = x2 * cos, x2Sin = x2 * sin;
+				float y2Cos = y2 * cos, y2Sin = y2 * sin;
+				x1 = xCos - ySin + worldOriginX;
+				y1 = yCos + xSin + worldOriginY;
+				x2 = xCos - y2Sin + worldOriginX;
+				y2 = y2Cos + xSin + worldOriginY;
+				x3 = x2Cos - y2Sin + worldOriginX;
+				y3 = y2Cos + x2Sin + worldOriginY;
+				x4 = x1 + (x3 - x2);
+				y4 = y3 - (y2 - y1);
+			} else {
+				x1 = x + worldOriginX;
+				y1 = y + worldOriginY;
+				x3 = x2 + worldOriginX;
+				y3 = y2 + worldOriginY;
+				x2 = x1;
+				y2 = y3;
+				x4 = x3;
+				y4 = y1;
+			}
+			float c = color[i];
+
+			vertices[idx] = x1;
+			vertices[idx + 1] = y1;
+			vertices[idx + 2] = c;
+			vertices[idx + 3] = u;
+			vertices[idx + 4] = v2;
+
+			vertices[idx + 5] = x2;
+			vertices[idx + 6] = y2;
+			vertices[idx + 7] = c;
+			vertices[idx + 8] = u;
+			vertices[idx + 9] = v;
+
+			vertices[idx + 10] = x3;
+			vertices[idx + 11] = y3;
+			vertices[idx + 12] = c;
+			vertices[idx + 13] = u2;
+			vertices[idx + 14] = v;
+
+			vertices[idx + 15] = x4;
+			vertices[idx + 16] = y4;
+			vertices[idx + 17] = c;
+			vertices[idx + 18] = u2;
+			vertices[idx + 19] = v2;
+		}
+		return vertices;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.util.Random;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.JobSystem;
+import com.badlogic.gdx.utils.async.JobSystem.RangeTask;
+
+/** Updates the emitters of many {@link ParticleEffect ParticleEffects}, such as the {@link PooledEffect PooledEffects} in a
+ * scene, using the threads of a {@link JobSystem}. Afterward the effects are drawn on the calling thread as usual, in the same
+ * order.
+ * <p>
+ * Emitters using the shared {@link MathUtils#random} are updated on the calling thread, in order, before the others. To be
+ * updated in parallel an effect needs its own random numbers, see {@link ParticleEffect#setSeed(long)}. Each emitter then gives
+ * the same result as {@link ParticleEffect#update(float)}, whichever thread updates it. Emitters must not share other state that
+ * changes during an update. */
+public class ParallelParticleUpdater {
+	static private ParallelParticleUpdater instance;
+
+	private final JobSystem jobs;
+	final Array<ParticleEmitter> emitters = new Array(false, 64, ParticleEmitter.class);
+	float delta;
+	private final RangeTask task = new RangeTask() {
+		public void run (int start, int end) {
+			ParticleEmitter[] emitters = ParallelParticleUpdater.this.emitters.items;
+			float delta = ParallelParticleUpdater.this.delta;
+			for (int i = start; i < end; i++)
+				emitters[i].update(delta);
+		}
+	};
+
+	/** Fewer emitters are updated on the calling thread. Default is 64. */
+	public int threshold = 64;
+
+	public ParallelParticleUpdater (JobSystem jobs) {
+		this.jobs = jobs;
+	}
+
+	/** Updates the emitters of the effects, as calling {@link ParticleEffect#update(float)} for each effect would. Returns when
+	 * all emitters are updated. The effects must not be modified until then. */
+	public void update (Array<? extends ParticleEffect> effects, float delta) {
+		Array<ParticleEmitter> emitters = this.emitters;
+		Random shared = MathUtils.random;
+		for (int i = 0, n = effects.size; i < n; i++) {
+			Array<ParticleEmitter> effectEmitters = effects.get(i).getEmitters();
+			for (int ii = 0, nn = effectEmitters.size; ii < nn; ii++) {
+				ParticleEmitter emitter = effectEmitters.get(ii);
+				if (emitter.random == shared)
+					emitter.update(delta);
+				else
+					emitters.add(emitter);
+			}
+		}
+		this.delta = delta;
+		try {
+			if (emitters.size < threshold)
+				task.run(0, emitters.size);
+			else
+				jobs.parallelFor(emitters.size, task);
+		} finally {
+			emitters.clear();
+		}
+	}
+
+	/** Returns a ParallelParticleUpdater instance using {@link JobSystem#getShared()} for convenience. */
+	static public ParallelParticleUpdater instance () {
+		if (instance == null) instance = new ParallelParticleUpdater(JobSystem.getShared());
+		return instance;
+	}
+}
@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.utils.async.JobSystem;
+import com.badlogic.gdx.utils.async.JobSystem.RangeTask;
+
+/** Computes the vertices of many sprites using the threads of a {@link JobSystem}. Each thread computes a range of sprites into
+ * its own part of the vertices array, so the result is identical to computing them on the calling thread.
+ * @see SpriteVertexGenerator */
+public class ParallelSpriteVertexGenerator extends SpriteVertexGenerator {
+	static private ParallelSpriteVertexGenerator instance;
+
+	private final JobSystem jobs;
+
+	/** Fewer sprites are computed on the calling thread. Default is 1024. */
+	public int threshold = 1024;
+
+	public ParallelSpriteVertexGenerator (JobSystem jobs) {
+		this.jobs = jobs;
+	}
+
+	public void generate (final float[] sprites, final int offset, int count, final Affine2 transform, final float[] vertices,
+		final int vertexOffset, boolean triangles) {
+		final int spriteSize = triangles ? 30 : 20;
+		if (count < threshold) {
+			generate(sprites, offset, offset + count * DESCRIPTOR_SIZE, transform, vertices, vertexOffset, spriteSize);
+			return;
+		}
+		jobs.parallelFor(count, new RangeTask() {
+			public void run (int start, int end) {
+				generate(sprites, offset + start * DESCRIPTOR_SIZE, offset + end * DESCRIPTOR_SIZE, transform, vertices, vertexOffset
+					+ start * spriteSize, spriteSize);
+			}
+		});
+	}
+
+	/** Returns a ParallelSpriteVertexGenerator instance using {@link JobSystem#getShared()} for convenience. */
+	static public ParallelSpriteVertexGenerator instance () {
+		if (instance == null) instance = new ParallelSpriteVertexGenerator(JobSystem.getShared());
+		return instance;
+	}
+}
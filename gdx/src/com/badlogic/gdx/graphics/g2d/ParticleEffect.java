@@ -23,9 +23,12 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Writer;
 import java.util.HashMap;
+import java.util.Random;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
@@ -36,17 +39,27 @@ import com.badlogic.gdx.utils.StreamUtils;
  * @author mzechner */
 public class ParticleEffect implements Disposable {
 	private final Array<ParticleEmitter> emitters;
+	private final boolean packed;
 	private BoundingBox bounds;
 	private boolean ownsTexture;
 
 	public ParticleEffect () {
+		this(false);
+	}
+
+	/** @param packed If true, emitters are loaded as {@link PackedParticleEmitter PackedParticleEmitters}, which store particles
+	 *           in primitive arrays and draw them with a single {@link Batch#draw(Texture, float[], int, int)} per emitter. */
+	public ParticleEffect (boolean packed) {
+		this.packed = packed;
 		emitters = new Array(8);
 	}
 
+	/** Copies the emitters of the specified effect. The copy is {@link #isPacked() packed} if the effect is. */
 	public ParticleEffect (ParticleEffect effect) {
+		packed = effect.packed;
 		emitters = new Array(true, effect.emitters.size);
 		for (int i = 0, n = effect.emitters.size; i < n; i++)
-			emitters.add(new ParticleEmitter(effect.emitters.get(i)));
+			emitters.add(newEmitter(effect.emitters.get(i)));
 	}
 
 	public void start () {
@@ -111,6 +124,21 @@ public class ParticleEffect implements Disposable {
 			emitters.get(i).flipY();
 	}
 
+	/** Gives each emitter its own random number generator, seeded from the specified seed, instead of {@link MathUtils#random}.
+	 * The effect then emits the same particles for the same seed and updates, regardless of other effects, and its emitters can be
+	 * updated on other threads, see {@link ParallelParticleUpdater}. Emitters added afterward are not seeded. */
+	public void setSeed (long seed) {
+		RandomXS128 seeds = new RandomXS128(seed);
+		for (int i = 0, n = emitters.size; i < n; i++) {
+			ParticleEmitter emitter = emitters.get(i);
+			Random random = emitter.getRandom();
+			if (random == MathUtils.random)
+				emitter.setRandom(new RandomXS128(seeds.nextLong()));
+			else
+				random.setSeed(seeds.nextLong());
+		}
+	}
+
 	public Array<ParticleEmitter> getEmitters () {
 		return emitters;
 	}
@@ -154,7 +182,7 @@ public class ParticleEffect implements Disposable {
 		try {
 			reader = new BufferedReader(new InputStreamReader(input), 512);
 			while (true) {
-				ParticleEmitter emitter = new ParticleEmitter(reader);
+				ParticleEmitter emitter = newEmitter(reader);
 				emitters.add(emitter);
 				if (reader.readLine() == null) break;
 				if (reader.readLine() == null) break;
@@ -166,6 +194,19 @@ public class ParticleEffect implements Disposable {
 		}
 	}
 
+	protected ParticleEmitter newEmitter (BufferedReader reader) throws IOException {
+		return packed ? new PackedParticleEmitter(reader) : new ParticleEmitter(reader);
+	}
+
+	protected ParticleEmitter newEmitter (ParticleEmitter emitter) {
+		return packed ? new PackedParticleEmitter(emitter) : new ParticleEmitter(emitter);
+	}
+
+	/** Returns true if emitters are loaded as {@link PackedParticleEmitter PackedParticleEmitters}. */
+	public boolean isPacked () {
+		return packed;
+	}
+
 	public void loadEmitterImages (TextureAtlas atlas) {
 		loadEmitterImages(atlas, null);
 	}
@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.g2d;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Random;
 
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
@@ -27,62 +28,65 @@ import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.collision.BoundingBox;
 
 public class ParticleEmitter {
-	static private final int UPDATE_SCALE = 1 << 0;
-	static private final int UPDATE_ANGLE = 1 << 1;
-	static private final int UPDATE_ROTATION = 1 << 2;
-	static private final int UPDATE_VELOCITY = 1 << 3;
-	static private final int UPDATE_WIND = 1 << 4;
-	static private final int UPDATE_GRAVITY = 1 << 5;
-	static private final int UPDATE_TINT = 1 << 6;
+	static final int UPDATE_SCALE = 1 << 0;
+	static final int UPDATE_ANGLE = 1 << 1;
+	static final int UPDATE_ROTATION = 1 << 2;
+	static final int UPDATE_VELOCITY = 1 << 3;
+	static final int UPDATE_WIND = 1 << 4;
+	static final int UPDATE_GRAVITY = 1 << 5;
+	static final int UPDATE_TINT = 1 << 6;
 
 	private RangedNumericValue delayValue = new RangedNumericValue();
-	private ScaledNumericValue lifeOffsetValue = new ScaledNumericValue();
+	ScaledNumericValue lifeOffsetValue = new ScaledNumericValue();
 	private RangedNumericValue durationValue = new RangedNumericValue();
-	private ScaledNumericValue lifeValue = new ScaledNumericValue();
+	ScaledNumericValue lifeValue = new ScaledNumericValue();
 	private ScaledNumericValue emissionValue = new ScaledNumericValue();
-	private ScaledNumericValue scaleValue = new ScaledNumericValue();
-	private ScaledNumericValue rotationValue = new ScaledNumericValue();
-	private ScaledNumericValue velocityValue = new ScaledNumericValue();
-	private ScaledNumericValue angleValue = new ScaledNumericValue();
-	private ScaledNumericValue windValue = new ScaledNumericValue();
-	private ScaledNumericValue gravityValue = new ScaledNumericValue();
-	private ScaledNumericValue transparencyValue = new ScaledNumericValue();
-	private GradientColorValue tintValue = new GradientColorValue();
-	private RangedNumericValue xOffsetValue = new ScaledNumericValue();
-	private RangedNumericValue yOffsetValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
-	private SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
-
-	private float accumulator;
-	private Sprite sprite;
-	private Particle[] particles;
-	private int minParticleCount, maxParticleCount = 4;
-	private float x, y;
+	ScaledNumericValue scaleValue = new ScaledNumericValue();
+	ScaledNumericValue rotationValue = new ScaledNumericValue();
+	ScaledNumericValue velocityValue = new ScaledNumericValue();
+	ScaledNumericValue angleValue = new ScaledNumericValue();
+	ScaledNumericValue windValue = new ScaledNumericValue();
+	ScaledNumericValue gravityValue = new ScaledNumericValue();
+	ScaledNumericValue transparencyValue = new ScaledNumericValue();
+	GradientColorValue tintValue = new GradientColorValue();
+	RangedNumericValue xOffsetValue = new ScaledNumericValue();
+	RangedNumericValue yOffsetValue = new ScaledNumericValue();
+	ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
+	ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
+	SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
+
+	float accumulator;
+	Random random = MathUtils.random;
+	Sprite sprite;
+	Particle[] particles;
+	private int minParticleCount;
+	int maxParticleCount = 4;
+	float x, y;
 	private String name;
 	private String imagePath;
-	private int activeCount;
-	private boolean[] active;
+	int activeCount;
+	boolean[] active;
 	private boolean firstUpdate;
-	private boolean flipX, flipY;
-	private int updateFlags;
+	boolean flipX, flipY;
+	int updateFlags;
 	private boolean allowCompletion;
-	private BoundingBox bounds;
-
-	private int emission, emissionDiff, emissionDelta;
-	private int lifeOffset, lifeOffsetDiff;
-	private int life, lifeDiff;
-	private float spawnWidth, spawnWidthDiff;
-	private float spawnHeight, spawnHeightDiff;
+	BoundingBox bounds;
+
+	private int emission, emissionDiff;
+	int emissionDelta;
+	int lifeOffset, lifeOffsetDiff;
+	int life, lifeDiff;
+	float spawnWidth, spawnWidthDiff;
+	float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
 
-	private boolean attached;
+	boolean attached;
 	private boolean continuous;
-	private boolean aligned;
+	boolean aligned;
 	private boolean behind;
-	private boolean additive = true;
-	private boolean premultipliedAlpha = false;
+	boolean additive = true;
+	boolean premultipliedAlpha = false;
 	boolean cleansUpBlendFunction = true;
 
 	public ParticleEmitter () {
@@ -184,40 +188,7 @@ public class ParticleEmitter {
 		int deltaMillis = (int)accumulator;
 		accumulator -= deltaMillis;
 
-		if (delayTimer < delay) {
-			delayTimer += deltaMillis;
-		} else {
-			boolean done = false;
-			if (firstUpdate) {
-				firstUpdate = false;
-				addParticle();
-			}
-
-			if (durationTimer < duration)
-				durationTimer += deltaMillis;
-			else {
-				if (!continuous || allowCompletion)
-					done = true;
-				else
-					restart();
-			}
-
-			if (!done) {
-				emissionDelta += deltaMillis;
-				float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / (float)duration);
-				if (emissionTime > 0) {
-					emissionTime = 1000 / emissionTime;
-					if (emissionDelta >= emissionTime) {
-						int emitCount = (int)(emissionDelta / emissionTime);
-						emitCount = Math.min(emitCount, maxParticleCount - activeCount);
-						emissionDelta -= emitCount * emissionTime;
-						emissionDelta %= emissionTime;
-						addParticles(emitCount);
-					}
-				}
-				if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
-			}
-		}
+		emit(deltaMillis);
 
 		boolean[] active = this.active;
 		int activeCount = this.activeCount;
@@ -231,6 +202,40 @@ public class ParticleEmitter {
 		this.activeCount = activeCount;
 	}
 
+	/** Advances the delay and duration timers and adds the particles emitted during the specified time. */
+	void emit (int deltaMillis) {
+		if (delayTimer < delay) {
+			delayTimer += deltaMillis;
+			return;
+		}
+
+		if (firstUpdate) {
+			firstUpdate = false;
+			addParticle();
+		}
+
+		if (durationTimer < duration)
+			durationTimer += deltaMillis;
+		else {
+			if (!continuous || allowCompletion) return;
+			restart();
+		}
+
+		emissionDelta += deltaMillis;
+		float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / (float)duration);
+		if (emissionTime > 0) {
+			emissionTime = 1000 / emissionTime;
+			if (emissionDelta >= emissionTime) {
+				int emitCount = (int)(emissionDelta / emissionTime);
+				emitCount = Math.min(emitCount, maxParticleCount - activeCount);
+				emissionDelta -= emitCount * emissionTime;
+				emissionDelta %= emissionTime;
+				addParticles(emitCount);
+			}
+		}
+		if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
+	}
+
 	public void draw (Batch batch) {
 		if (premultipliedAlpha) {
 			batch.setBlendFunction(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
@@ -338,30 +343,30 @@ public class ParticleEmitter {
 	}
 
 	private void restart () {
-		delay = delayValue.active ? delayValue.newLowValue() : 0;
+		delay = delayValue.active ? delayValue.newLowValue(random) : 0;
 		delayTimer = 0;
 
 		durationTimer -= duration;
-		duration = durationValue.newLowValue();
+		duration = durationValue.newLowValue(random);
 
-		emission = (int)emissionValue.newLowValue();
-		emissionDiff = (int)emissionValue.newHighValue();
+		emission = (int)emissionValue.newLowValue(random);
+		emissionDiff = (int)emissionValue.newHighValue(random);
 		if (!emissionValue.isRelative()) emissionDiff -= emission;
 
-		life = (int)lifeValue.newLowValue();
-		lifeDiff = (int)lifeValue.newHighValue();
+		life = (int)lifeValue.newLowValue(random);
+		lifeDiff = (int)lifeValue.newHighValue(random);
 		if (!lifeValue.isRelative()) lifeDiff -= life;
 
-		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue() : 0;
-		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue();
+		lifeOffset = lifeOffsetValue.active ? (int)lifeOffsetValue.newLowValue(random) : 0;
+		lifeOffsetDiff = (int)lifeOffsetValue.newHighValue(random);
 		if (!lifeOffsetValue.isRelative()) lifeOffsetDiff -= lifeOffset;
 
-		spawnWidth = spawnWidthValue.newLowValue();
-		spawnWidthDiff = spawnWidthValue.newHighValue();
+		spawnWidth = spawnWidthValue.newLowValue(random);
+		spawnWidthDiff = spawnWidthValue.newHighValue(random);
 		if (!spawnWidthValue.isRelative()) spawnWidthDiff -= spawnWidth;
 
-		spawnHeight = spawnHeightValue.newLowValue();
-		spawnHeightDiff = spawnHeightValue.newHighValue();
+		spawnHeight = spawnHeightValue.newLowValue(random);
+		spawnHeightDiff = spawnHeightValue.newHighValue(random);
 		if (!spawnHeightValue.isRelative()) spawnHeightDiff -= spawnHeight;
 
 		updateFlags = 0;
@@ -391,13 +396,13 @@ public class ParticleEmitter {
 		particle.currentLife = particle.life = life + (int)(lifeDiff * lifeValue.getScale(percent));
 
 		if (velocityValue.active) {
-			particle.velocity = velocityValue.newLowValue();
-			particle.velocityDiff = velocityValue.newHighValue();
+			particle.velocity = velocityValue.newLowValue(random);
+			particle.velocityDiff = velocityValue.newHighValue(random);
 			if (!velocityValue.isRelative()) particle.velocityDiff -= particle.velocity;
 		}
 
-		particle.angle = angleValue.newLowValue();
-		particle.angleDiff = angleValue.newHighValue();
+		particle.angle = angleValue.newLowValue(random);
+		particle.angleDiff = angleValue.newHighValue(random);
 		if (!angleValue.isRelative()) particle.angleDiff -= particle.angle;
 		float angle = 0;
 		if ((updateFlags & UPDATE_ANGLE) == 0) {
@@ -408,14 +413,14 @@ public class ParticleEmitter {
 		}
 
 		float spriteWidth = sprite.getWidth();
-		particle.scale = scaleValue.newLowValue() / spriteWidth;
-		particle.scaleDiff = scaleValue.newHighValue() / spriteWidth;
+		particle.scale = scaleValue.newLowValue(random) / spriteWidth;
+		particle.scaleDiff = scaleValue.newHighValue(random) / spriteWidth;
 		if (!scaleValue.isRelative()) particle.scaleDiff -= particle.scale;
 		particle.setScale(particle.scale + particle.scaleDiff * scaleValue.getScale(0));
 
 		if (rotationValue.active) {
-			particle.rotation = rotationValue.newLowValue();
-			particle.rotationDiff = rotationValue.newHighValue();
+			particle.rotation = rotationValue.newLowValue(random);
+			particle.rotationDiff = rotationValue.newHighValue(random);
 			if (!rotationValue.isRelative()) particle.rotationDiff -= particle.rotation;
 			float rotation = particle.rotation + particle.rotationDiff * rotationValue.getScale(0);
 			if (aligned) rotation += angle;
@@ -423,14 +428,14 @@ public class ParticleEmitter {
 		}
 
 		if (windValue.active) {
-			particle.wind = windValue.newLowValue();
-			particle.windDiff = windValue.newHighValue();
+			particle.wind = windValue.newLowValue(random);
+			particle.windDiff = windValue.newHighValue(random);
 			if (!windValue.isRelative()) particle.windDiff -= particle.wind;
 		}
 
 		if (gravityValue.active) {
-			particle.gravity = gravityValue.newLowValue();
-			particle.gravityDiff = gravityValue.newHighValue();
+			particle.gravity = gravityValue.newLowValue(random);
+			particle.gravityDiff = gravityValue.newHighValue(random);
 			if (!gravityValue.isRelative()) particle.gravityDiff -= particle.gravity;
 		}
 
@@ -441,20 +446,20 @@ public class ParticleEmitter {
 		color[1] = temp[1];
 		color[2] = temp[2];
 
-		particle.transparency = transparencyValue.newLowValue();
-		particle.transparencyDiff = transparencyValue.newHighValue() - particle.transparency;
+		particle.transparency = transparencyValue.newLowValue(random);
+		particle.transparencyDiff = transparencyValue.newHighValue(random) - particle.transparency;
 
 		// Spawn.
 		float x = this.x;
-		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue(random);
 		float y = this.y;
-		if (yOffsetValue.active) y += yOffsetValue.newLowValue();
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue(random);
 		switch (spawnShapeValue.shape) {
 		case square: {
 			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
 			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
-			x += MathUtils.random(width) - width / 2;
-			y += MathUtils.random(height) - height / 2;
+			x += random.nextFloat() * width - width / 2;
+			y += random.nextFloat() * height - height / 2;
 			break;
 		}
 		case ellipse: {
@@ -468,13 +473,13 @@ public class ParticleEmitter {
 				float spawnAngle;
 				switch (spawnShapeValue.side) {
 				case top:
-					spawnAngle = -MathUtils.random(179f);
+					spawnAngle = -random.nextFloat() * 179f;
 					break;
 				case bottom:
-					spawnAngle = MathUtils.random(179f);
+					spawnAngle = random.nextFloat() * 179f;
 					break;
 				default:
-					spawnAngle = MathUtils.random(360f);
+					spawnAngle = random.nextFloat() * 360f;
 					break;
 				}
 				float cosDeg = MathUtils.cosDeg(spawnAngle);
@@ -489,8 +494,8 @@ public class ParticleEmitter {
 			} else {
 				float radius2 = radiusX * radiusX;
 				while (true) {
-					float px = MathUtils.random(width) - radiusX;
-					float py = MathUtils.random(height) - radiusY;
+					float px = random.nextFloat() * width - radiusX;
+					float py = random.nextFloat() * height - radiusY;
 					if (px * px + py * py <= radius2) {
 						x += px;
 						y += py / scaleY;
@@ -504,11 +509,11 @@ public class ParticleEmitter {
 			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
 			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
 			if (width != 0) {
-				float lineX = width * MathUtils.random();
+				float lineX = width * random.nextFloat();
 				x += lineX;
 				y += lineX * (height / (float)width);
 			} else
-				y += height * MathUtils.random();
+				y += height * random.nextFloat();
 			break;
 		}
 		}
@@ -619,6 +624,18 @@ public class ParticleEmitter {
 		durationTimer = duration;
 	}
 
+	/** Sets the random number generator used to emit particles. Default is {@link MathUtils#random}, which is shared by all
+	 * emitters, so an emitter must have its own to be updated on a thread other than the one updating the others.
+	 * @see ParticleEffect#setSeed(long) */
+	public void setRandom (Random random) {
+		if (random == null) throw new IllegalArgumentException("random cannot be null.");
+		this.random = random;
+	}
+
+	public Random getRandom () {
+		return random;
+	}
+
 	public Sprite getSprite () {
 		return sprite;
 	}
@@ -1087,7 +1104,11 @@ public class ParticleEmitter {
 		private float lowMin, lowMax;
 
 		public float newLowValue () {
-			return lowMin + (lowMax - lowMin) * MathUtils.random();
+			return newLowValue(MathUtils.random);
+		}
+
+		public float newLowValue (Random random) {
+			return lowMin + (lowMax - lowMin) * random.nextFloat();
 		}
 
 		public void setLow (float value) {
@@ -1144,7 +1165,11 @@ public class ParticleEmitter {
 		private boolean relative;
 
 		public float newHighValue () {
-			return highMin + (highMax - highMin) * MathUtils.random();
+			return newHighValue(MathUtils.random);
+		}
+
+		public float newHighValue (Random random) {
+			return highMin + (highMax - highMin) * random.nextFloat();
 		}
 
 		public void setHigh (float value) {
@@ -1257,7 +1282,7 @@ public class ParticleEmitter {
 	}
 
 	static public class GradientColorValue extends ParticleValue {
-		static private float[] temp = new float[4];
+		private final float[] temp = new float[4];
 
 		private float[] colors = {1, 1, 1};
 		float[] timeline = {0};
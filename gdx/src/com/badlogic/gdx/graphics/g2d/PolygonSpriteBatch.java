@@ -113,13 +113,16 @@ public class PolygonSpriteBatch implements Batch {
 	 * @param defaultShader The default shader to use. This is not owned by the PolygonSpriteBatch and must be disposed
 	 *           separately. */
 	public PolygonSpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, defaultShader, Gdx.gl30 != null ? VertexDataType.VertexBufferObjectWithVAO : VertexDataType.VertexArray);
+	}
+
+	/** Constructs a new PolygonSpriteBatch that stores its vertices with the given {@link VertexDataType}.
+	 * {@link VertexDataType#VertexBufferObjectStreaming} avoids stalls when the batch is flushed many times per frame.
+	 * @see PolygonSpriteBatch#PolygonSpriteBatch(int, ShaderProgram) */
+	public PolygonSpriteBatch (int size, ShaderProgram defaultShader, VertexDataType vertexDataType) {
 		// 32767 is max index, so 32767 / 3 - (32767 / 3 % 3) = 10920.
 		if (size > 10920) throw new IllegalArgumentException("Can't have more than 10920 triangles per batch: " + size);
 
-		Mesh.VertexDataType vertexDataType = Mesh.VertexDataType.VertexArray;
-		if (Gdx.gl30 != null) {
-			vertexDataType = VertexDataType.VertexBufferObjectWithVAO;
-		}
 		mesh = new Mesh(vertexDataType, false, size, size * 3,
 			new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
 			new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
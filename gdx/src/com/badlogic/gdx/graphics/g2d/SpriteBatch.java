@@ -93,11 +93,16 @@ public class SpriteBatch implements Batch {
 	 * @param size The max number of sprites in a single batch. Max of 5460.
 	 * @param defaultShader The default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, ShaderProgram defaultShader) {
+		this(size, defaultShader, (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType);
+	}
+
+	/** Constructs a new SpriteBatch that stores its vertices with the given {@link VertexDataType}.
+	 * {@link VertexDataType#VertexBufferObjectStreaming} avoids stalls when the batch is flushed many times per frame.
+	 * @see SpriteBatch#SpriteBatch(int, ShaderProgram) */
+	public SpriteBatch (int size, ShaderProgram defaultShader, VertexDataType vertexDataType) {
 		// 32767 is max index, so 32767 / 6 - (32767 / 6 % 3) = 5460.
 		if (size > 5460) throw new IllegalArgumentException("Can't have more than 5460 sprites per batch: " + size);
 
-		VertexDataType vertexDataType = (Gdx.gl30 != null) ? VertexDataType.VertexBufferObjectWithVAO : defaultVertexDataType;
-
 		mesh = new Mesh(vertexDataType, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
 			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
 			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
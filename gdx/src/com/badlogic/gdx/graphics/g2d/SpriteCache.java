@@ -843,6 +843,20 @@ public class SpriteCache implements Disposable {
 		add(sprite.getTexture(), tempVertices, 0, 30);
 	}
 
+	/** Adds sprites described by the sprite descriptors, see {@link SpriteVertexGenerator}. The vertices are identical to adding
+	 * each sprite with {@link #add(TextureRegion, float, float, float, float, float, float, float, float, float)}, but are
+	 * computed by the generator all at once, for example in parallel with a {@link ParallelSpriteVertexGenerator}, and added with
+	 * a single copy.
+	 * @param offset The index in sprites of the first descriptor.
+	 * @param count The number of sprites. */
+	public void addSprites (Texture texture, float[] sprites, int offset, int count, SpriteVertexGenerator generator) {
+		if (currentCache == null) throw new IllegalStateException("beginCache must be called before add.");
+		boolean triangles = mesh.getNumIndices() == 0;
+		float[] vertices = new float[count * (triangles ? 30 : SPRITE_SIZE)];
+		generator.generate(sprites, offset, count, null, vertices, 0, triangles);
+		add(texture, vertices, 0, vertices.length);
+	}
+
 	/** Prepares the OpenGL state for SpriteCache rendering. */
 	public void begin () {
 		if (drawing) throw new IllegalStateException("end must be called before begin.");
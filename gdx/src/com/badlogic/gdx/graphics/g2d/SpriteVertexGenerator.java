@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g2d;
+
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Computes the vertices of many sprites at once, for {@link CpuSpriteBatch#drawSprites(Texture, float[], int, int,
+ * SpriteVertexGenerator)} and {@link SpriteCache#addSprites(Texture, float[], int, int, SpriteVertexGenerator)}. Each sprite is
+ * described by {@link #DESCRIPTOR_SIZE} floats: x, y, originX, originY, width, height, scaleX, scaleY, rotation, the texture
+ * coordinates u, v of the bottom left corner and u2, v2 of the top right corner, and the packed color. The vertices are
+ * identical to the ones {@link SpriteBatch#draw(TextureRegion, float, float, float, float, float, float, float, float, float)}
+ * computes for the same values.
+ * <p>
+ * This class computes the vertices on the calling thread, see {@link ParallelSpriteVertexGenerator} to split the work between
+ * threads.
+ * @see #set(float[], int, TextureRegion, float, float, float, float, float, float, float, float, float, float) */
+public class SpriteVertexGenerator {
+	/** The number of floats describing each sprite. */
+	static public final int DESCRIPTOR_SIZE = 14;
+
+	/** Computes the vertices of the sprites.
+	 * @param sprites The sprite descriptors.
+	 * @param offset The index in sprites of the first descriptor.
+	 * @param count The number of sprites.
+	 * @param transform If not null, the vertex positions are transformed, as {@link CpuSpriteBatch} does when its transform
+	 *           matrix changes during a batch.
+	 * @param vertices Receives 4 vertices per sprite, or 6 vertices (two triangles) if triangles is true.
+	 * @param vertexOffset The index in vertices of the first vertex. */
+	public void generate (float[] sprites, int offset, int count, Affine2 transform, float[] vertices, int vertexOffset,
+		boolean triangles) {
+		generate(sprites, offset, offset + count * DESCRIPTOR_SIZE, transform, vertices, vertexOffset, triangles ? 30 : 20);
+	}
+
+	/** Computes the vertices of the sprites with descriptors from offset to end. Each sprite's vertices are computed only from
+	 * its descriptor, so ranges of sprites can be computed independently.
+	 * @param spriteSize 20 for 4 vertices per sprite or 30 for 6 vertices per sprite. */
+	static protected void generate (float[] sprites, int offset, int end, Affine2 transform, float[] vertices, int vertexOffset,
+		int spriteSize) {
+		for (int idx = vertexOffset; offset < end; offset += DESCRIPTOR_SIZE, idx += spriteSize) {
+			final float originX = sprites[offset + 2];
+			final float originY = sprites[offset + 3];
+			final float scaleX = sprites[offset + 6];
+			final float scaleY = sprites[offset + 7];
+			final float rotation = sprites[offset + 8];
+
+			// bottom left and top right corner points relative to origin
+			final float worldOriginX = sprites[offset] + originX;
+			final float worldOriginY = sprites[offset + 1] + originY;
+			float fx = -originX;
+			float fy = -originY;
+			float fx2 = sprites[offset + 4] - originX;
+			float fy2 = sprites[offset + 5] - originY;
+
+			// scale
+			if (scaleX != 1 || scaleY != 1) {
+				fx *= scaleX;
+				fy *= scaleY;
+				fx2 *= scaleX;
+				fy2 *= scaleY;
+			}
+
+			float x1;
+			float y1;
+			float x2;
+			float y2;
+			float x3;
+			float y3;
+			float x4;
+			float y4;
+
+			// rotate, the corner points start from the bottom left and go clockwise
+			if (rotation != 0) {
+				final float cos = MathUtils.cosDeg(rotation);
+				final float sin = MathUtils.sinDeg(rotation);
+
+				x1 = cos * fx - sin * fy;
+				y1 = sin * fx + cos * fy;
+
+				x2 = cos * fx - sin * fy2;
+				y2 = sin * fx + cos * fy2;
+
+				x3 = cos * fx2 - sin * fy2;
+				y3 = sin * fx2 + cos * fy2;
+
+				x4 = x1 + (x3 - x2);
+				y4 = y3 - (y2 - y1);
+			} else {
+				x1 = fx;
+				y1 = fy;
+
+				x2 = fx;
+				y2 = fy2;
+
+				x3 = fx2;
+				y3 = fy2;
+
+				x4 = fx2;
+				y4 = fy;
+			}
+
+			x1 += worldOriginX;
+			y1 += worldOriginY;
+			x2 += worldOriginX;
+			y2 += worldOriginY;
+			x3 += worldOriginX;
+			y3 += worldOriginY;
+			x4 += worldOriginX;
+			y4 += worldOriginY;
+
+			if (transform != null) {
+				final Affine2 t = transform;
+				float tx = x1;
+				x1 = t.m00 * tx + t.m01 * y1 + t.m02;
+				y1 = t.m10 * tx + t.m11 * y1 + t.m12;
+				tx = x2;
+				x2 = t.m00 * tx + t.m01 * y2 + t.m02;
+				y2 = t.m10 * tx + t.m11 * y2 + t.m12;
+				tx = x3;
+				x3 = t.m00 * tx + t.m01 * y3 + t.m02;
+				y3 = t.m10 * tx + t.m11 * y3 + t.m12;
+				tx = x4;
+				x4 = t.m00 * tx + t.m01 * y4 + t.m02;
+				y4 = t.m10 * tx + t.m11 * y4 + t.m12;
+			}
+
+			final float u = sprites[offset + 9];
+			final float v = sprites[offset + 10];
+			final float u2 = sprites[offset + 11];
+			final float v2 = sprites[offset + 12];
+			final float color = sprites[offset + 13];
+
+			vertices[idx] = x1;
+			vertices[idx + 1] = y1;
+			vertices[idx + 2] = color;
+			vertices[idx + 3] = u;
+			vertices[idx + 4] = v;
+
+			vertices[idx + 5] = x2;
+			vertices[idx + 6] = y2;
+			vertices[idx + 7] = color;
+			vertices[idx + 8] = u;
+			vertices[idx + 9] = v2;
+
+			vertices[idx + 10] = x3;
+			vertices[idx + 11] = y3;
+			vertices[idx + 12] = color;
+			vertices[idx + 13] = u2;
+			vertices[idx + 14] = v2;
+
+			if (spriteSize == 20) {
+				vertices[idx + 15] = x4;
+				vertices[idx + 16] = y4;
+				vertices[idx + 17] = color;
+				vertices[idx + 18] = u2;
+				vertices[idx + 19] = v;
+			} else {
+				vertices[idx + 15] = x3;
+				vertices[idx + 16] = y3;
+				vertices[idx + 17] = color;
+				vertices[idx + 18] = u2;
+				vertices[idx + 19] = v2;
+
+				vertices[idx + 20] = x4;
+				vertices[idx + 21] = y4;
+				vertices[idx + 22] = color;
+				vertices[idx + 23] = u2;
+				vertices[idx + 24] = v;
+
+				vertices[idx + 25] = x1;
+				vertices[idx + 26] = y1;
+				vertices[idx + 27] = color;
+				vertices[idx + 28] = u;
+				vertices[idx + 29] = v;
+			}
+		}
+	}
+
+	/** Stores the descriptor of a sprite drawn with the region, as
+	 * {@link SpriteBatch#draw(TextureRegion, float, float, float, float, float, float, float, float, float)} would draw it.
+	 * @param offset The index in sprites of the descriptor.
+	 * @param color The packed color, see {@link com.badlogic.gdx.graphics.Color#toFloatBits()}. */
+	static public void set (float[] sprites, int offset, TextureRegion region, float x, float y, float originX, float originY,
+		float width, float height, float scaleX, float scaleY, float rotation, float color) {
+		sprites[offset] = x;
+		sprites[offset + 1] = y;
+		sprites[offset + 2] = originX;
+		sprites[offset + 3] = originY;
+		sprites[offset + 4] = width;
+		sprites[offset + 5] = height;
+		sprites[offset + 6] = scaleX;
+		sprites[offset + 7] = scaleY;
+		sprites[offset + 8] = rotation;
+		sprites[offset + 9] = region.u;
+		sprites[offset + 10] = region.v2;
+		sprites[offset + 11] = region.u2;
+		sprites[offset + 12] = region.v;
+		sprites[offset + 13] = color;
+	}
+}
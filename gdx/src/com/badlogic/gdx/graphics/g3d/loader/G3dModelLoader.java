@@ -41,11 +41,15 @@ import com.badlogic.gdx.utils.ArrayMap;
 import com.badlogic.gdx.utils.BaseJsonReader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.UBJsonReader;
 
 public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 	public static final short VERSION_HI = 0;
 	public static final short VERSION_LO = 1;
 	protected final BaseJsonReader reader;
+	/** Fields which a {@link UBJsonReader} keeps as views of the file data rather than a value per element. */
+	private static final ObjectSet<String> bulkArrays = ObjectSet.with("vertices", "indices");
 
 	public G3dModelLoader (final BaseJsonReader reader) {
 		this(reader, null);
@@ -62,7 +66,12 @@ public class G3dModelLoader extends ModelLoader<ModelLoader.ModelParameters> {
 	}
 
 	public ModelData parseModel (FileHandle handle) {
-		JsonValue json = reader.parse(handle);
+		JsonValue json;
+		// subclasses may override parse, so only UBJsonReader itself reads the mapped file
+		if (reader.getClass() == UBJsonReader.class)
+			json = ((UBJsonReader)reader).parse(handle.map(), bulkArrays);
+		else
+			json = reader.parse(handle);
 		ModelData model = new ModelData();
 		JsonValue version = json.require("version");
 		model.version[0] = version.getShort(0);
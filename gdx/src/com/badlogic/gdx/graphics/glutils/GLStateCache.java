@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.Gdx;
+
+/** When enabled, drops GL calls that would not change the GL state, such as binding the texture that is already bound or
+ * enabling blending when it is already enabled. Enabling wraps the Gdx.gl* instances with {@link GL20StateCache} or
+ * {@link GL30StateCache}.
+ * <p>
+ * Code that changes GL state without going through Gdx.gl*, such as a native library or code that kept a reference to the GL
+ * instance from before enabling, must call {@link #invalidate()} afterward. To use it with {@link
+ * com.badlogic.gdx.graphics.profiling.GLProfiler}, enable the profiler first so it counts only the calls that are not dropped,
+ * and disable it last. */
+public abstract class GLStateCache {
+	/** The number of GL calls dropped since the last reset. */
+	public static int savedCalls;
+
+	/** Enables the cache by replacing the {@code GL20} and {@code GL30} instances with caching ones. */
+	public static void enable () {
+		if (!isEnabled()) {
+			Gdx.gl30 = Gdx.gl30 == null ? null : new GL30StateCache(Gdx.gl30);
+			Gdx.gl20 = Gdx.gl30 != null ? Gdx.gl30 : new GL20StateCache(Gdx.gl20);
+			Gdx.gl = Gdx.gl20;
+		}
+	}
+
+	/** Disables the cache by resetting the {@code GL20} and {@code GL30} instances with the original ones. */
+	public static void disable () {
+		if (!isEnabled()) return;
+		GL20StateCache cache = (GL20StateCache)Gdx.gl20;
+		if (cache instanceof GL30StateCache) Gdx.gl30 = ((GL30StateCache)cache).gl30;
+		Gdx.gl20 = cache.gl20;
+		Gdx.gl = Gdx.gl20;
+	}
+
+	/** @return Whether the cache is currently enabled */
+	public static boolean isEnabled () {
+		return Gdx.gl20 instanceof GL20StateCache;
+	}
+
+	/** Forgets all cached state, so the next calls are passed on. Does nothing if the cache is not enabled. This must be called
+	 * after GL state was changed without going through Gdx.gl*, and after the GL context was lost. */
+	public static void invalidate () {
+		if (isEnabled()) ((GL20StateCache)Gdx.gl20).invalidate();
+	}
+
+	/** Resets the number of saved calls. This should be called after every frame. */
+	public static void reset () {
+		savedCalls = 0;
+	}
+}
@@ -19,6 +19,7 @@ package com.badlogic.gdx.graphics.glutils;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
 import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.math.Matrix4;
@@ -57,13 +58,30 @@ public class ImmediateModeRenderer20 implements ImmediateModeRenderer {
 		ownsShader = true;
 	}
 
+	/** @param vertexDataType May be null to use the default for a non-static {@link Mesh}. */
+	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords,
+		VertexDataType vertexDataType) {
+		this(maxVertices, hasNormals, hasColors, numTexCoords, createDefaultShader(hasNormals, hasColors, numTexCoords),
+			vertexDataType);
+		ownsShader = true;
+	}
+
 	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords, ShaderProgram shader) {
+		this(maxVertices, hasNormals, hasColors, numTexCoords, shader, null);
+	}
+
+	/** @param vertexDataType May be null to use the default for a non-static {@link Mesh}. */
+	public ImmediateModeRenderer20 (int maxVertices, boolean hasNormals, boolean hasColors, int numTexCoords, ShaderProgram shader,
+		VertexDataType vertexDataType) {
 		this.maxVertices = maxVertices;
 		this.numTexCoords = numTexCoords;
 		this.shader = shader;
 
 		VertexAttribute[] attribs = buildVertexAttributes(hasNormals, hasColors, numTexCoords);
-		mesh = new Mesh(false, maxVertices, 0, attribs);
+		if (vertexDataType == null)
+			mesh = new Mesh(false, maxVertices, 0, attribs);
+		else
+			mesh = new Mesh(vertexDataType, false, maxVertices, 0, attribs);
 
 		vertices = new float[maxVertices * (mesh.getVertexAttributes().vertexSize / 4)];
 		vertexSize = mesh.getVertexAttributes().vertexSize / 4;
@@ -23,6 +23,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.UnsafeShortArray;
 
 /** <p>
  * In IndexBufferObject wraps OpenGL's index buffer functionality to be used in conjunction with VBOs. This class can be
@@ -47,6 +48,8 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class IndexBufferObject implements IndexData {
 	final ShortBuffer buffer;
 	final ByteBuffer byteBuffer;
+	final boolean ownsBuffer;
+	UnsafeShortArray indexArray;
 	int bufferHandle;
 	final boolean isDirect;
 	boolean isDirty = true;
@@ -78,14 +81,31 @@ public class IndexBufferObject implements IndexData {
 		isDirect = true;
 
 		buffer = byteBuffer.asShortBuffer();
+		ownsBuffer = true;
 		buffer.flip();
 		byteBuffer.flip();
 		bufferHandle = Gdx.gl20.glGenBuffer();
 		usage = isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW;
 	}
 
+	/** Creates a new IndexBufferObject using the specified direct buffer, which is not disposed with this IndexBufferObject.
+	 * 
+	 * @param isStatic whether the index buffer is static
+	 * @param data the direct buffer holding the indices, its limit is the number of indices in bytes */
+	IndexBufferObject (boolean isStatic, ByteBuffer data) {
+		empty = data.capacity() == 0;
+		byteBuffer = data;
+		isDirect = true;
+
+		buffer = byteBuffer.asShortBuffer();
+		ownsBuffer = false;
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		usage = isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW;
+	}
+
 	/** @return the number of indices currently stored in this buffer */
 	public int getNumIndices () {
+		if (indexArray != null) return indexArray.size;
 		return empty ? 0 : buffer.limit();
 	}
 
@@ -108,6 +128,7 @@ public class IndexBufferObject implements IndexData {
 	 * @param count the number of shorts to copy */
 	public void setIndices (short[] indices, int offset, int count) {
 		isDirty = true;
+		indexArray = null;
 		buffer.clear();
 		buffer.put(indices, offset, count);
 		buffer.flip();
@@ -122,6 +143,7 @@ public class IndexBufferObject implements IndexData {
 
 	public void setIndices (ShortBuffer indices) {
 		isDirty = true;
+		indexArray = null;
 		int pos = indices.position();
 		buffer.clear();
 		buffer.put(indices);
@@ -136,9 +158,34 @@ public class IndexBufferObject implements IndexData {
 		}
 	}
 
+	/** Uses the indices of the array instead of copying them to this IndexBufferObject, discarding the old indices. The indices
+	 * are uploaded from the array's memory on the next {@link #bind()}, or immediately if this buffer is bound. The array may
+	 * grow, its current memory is used for each upload. Call this again after modifying the array. The array must not be disposed
+	 * while this buffer uses it. {@link #updateIndices(int, short[], int, int)} and {@link #getBuffer()} use the array until
+	 * other indices are set. */
+	public void setIndices (UnsafeShortArray indices) {
+		isDirty = true;
+		indexArray = indices;
+
+		if (isBound) {
+			ByteBuffer data = indices.getByteBuffer();
+			Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, data.limit(), data, usage);
+			isDirty = false;
+		}
+	}
+
 	@Override
 	public void updateIndices (int targetOffset, short[] indices, int offset, int count) {
 		isDirty = true;
+		if (indexArray != null) {
+			indexArray.set(targetOffset, indices, offset, count);
+			if (isBound) {
+				ByteBuffer data = indexArray.getByteBuffer();
+				Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, data.limit(), data, usage);
+				isDirty = false;
+			}
+			return;
+		}
 		final int pos = byteBuffer.position();
 		byteBuffer.position(targetOffset * 2);
 		BufferUtils.copy(indices, offset, byteBuffer, count);
@@ -159,6 +206,7 @@ public class IndexBufferObject implements IndexData {
 	 * @return the underlying short buffer. */
 	public ShortBuffer getBuffer () {
 		isDirty = true;
+		if (indexArray != null) return indexArray.getBuffer();
 		return buffer;
 	}
 
@@ -168,8 +216,13 @@ public class IndexBufferObject implements IndexData {
 
 		Gdx.gl20.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, bufferHandle);
 		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 2);
-			Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			if (indexArray != null) {
+				ByteBuffer data = indexArray.getByteBuffer();
+				Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, data.limit(), data, usage);
+			} else {
+				byteBuffer.limit(buffer.limit() * 2);
+				Gdx.gl20.glBufferData(GL20.GL_ELEMENT_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			}
 			isDirty = false;
 		}
 		isBound = true;
@@ -193,6 +246,6 @@ public class IndexBufferObject implements IndexData {
 		Gdx.gl20.glDeleteBuffer(bufferHandle);
 		bufferHandle = 0;
 
-		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+		if (ownsBuffer) BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
 	}
 }
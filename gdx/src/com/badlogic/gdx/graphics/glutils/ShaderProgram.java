@@ -27,6 +27,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
@@ -91,6 +92,10 @@ public class ShaderProgram implements Disposable {
 	 * as-is, you should include a newline (`\n`) if needed. */
 	public static String prependFragmentCode = "";
 
+	/** cache of program binaries that shaders are loaded from instead of being compiled, or null. See
+	 * {@link ShaderProgramCache}. */
+	public static ShaderProgramCache binaryCache;
+
 	/** the list of currently available shaders **/
 	private final static ObjectMap<Application, Array<ShaderProgram>> shaders = new ObjectMap<Application, Array<ShaderProgram>>();
 
@@ -183,6 +188,19 @@ public class ShaderProgram implements Disposable {
 	 * @param vertexShader
 	 * @param fragmentShader */
 	private void compileShaders (String vertexShader, String fragmentShader) {
+		ShaderProgramCache binaryCache = ShaderProgram.binaryCache;
+		if (binaryCache != null && binaryCache.isSupported()) {
+			int program = createProgram();
+			if (program != -1 && binaryCache.loadBinary(program, vertexShader, fragmentShader)) {
+				this.program = program;
+				vertexShaderHandle = 0;
+				fragmentShaderHandle = 0;
+				isCompiled = true;
+				return;
+			}
+			if (program != -1) Gdx.gl20.glDeleteProgram(program);
+		}
+
 		vertexShaderHandle = loadShader(GL20.GL_VERTEX_SHADER, vertexShader);
 		fragmentShaderHandle = loadShader(GL20.GL_FRAGMENT_SHADER, fragmentShader);
 
@@ -196,6 +214,7 @@ public class ShaderProgram implements Disposable {
 			isCompiled = false;
 			return;
 		}
+		if (binaryCache != null) binaryCache.storeBinary(program, vertexShader, fragmentShader);
 
 		isCompiled = true;
 	}
@@ -237,6 +256,8 @@ public class ShaderProgram implements Disposable {
 
 		gl.glAttachShader(program, vertexShaderHandle);
 		gl.glAttachShader(program, fragmentShaderHandle);
+		if (binaryCache != null && binaryCache.isSupported())
+			Gdx.gl30.glProgramParameteri(program, GL30.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL20.GL_TRUE);
 		gl.glLinkProgram(program);
 
 		ByteBuffer tmp = ByteBuffer.allocateDirect(4);
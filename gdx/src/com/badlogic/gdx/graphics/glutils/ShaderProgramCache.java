@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.StreamUtils;
+
+/** Stores the linked binaries of {@link ShaderProgram}s in a file, so later runs can load them instead of compiling and linking
+ * the shader sources. Set {@link ShaderProgram#binaryCache} to use it, and call {@link #save()} once the shaders are created.
+ * Binaries are only used with GL30 and when the driver supports at least one program binary format, otherwise shaders are
+ * compiled as usual.
+ * <p>
+ * Binaries are keyed by a hash of the vertex and fragment shader sources, which include any defines. The file also stores the GL
+ * vendor, renderer and version, and all binaries are discarded when they change. A binary the driver rejects is removed and the
+ * shader is compiled from source. */
+public class ShaderProgramCache {
+	static private final int fileVersion = 1;
+
+	private final FileHandle file;
+	private final LongMap<Binary> binaries = new LongMap();
+	private final IntBuffer intbuf = BufferUtils.newIntBuffer(2);
+	private String driver;
+	private boolean loaded, supported, dirty;
+	private int hits, misses;
+
+	/** @param file The file the binaries are loaded from, if it exists, and saved to. */
+	public ShaderProgramCache (FileHandle file) {
+		this.file = file;
+	}
+
+	/** Loads the file the first time a binary is needed, since that requires a GL context. */
+	private void load () {
+		if (loaded) return;
+		loaded = true;
+		GL30 gl = Gdx.gl30;
+		if (gl == null) return;
+		gl.glGetIntegerv(GL30.GL_NUM_PROGRAM_BINARY_FORMATS, intbuf);
+		supported = intbuf.get(0) > 0;
+		if (!supported) return;
+		driver = gl.glGetString(GL20.GL_VENDOR) + "\n" + gl.glGetString(GL20.GL_RENDERER) + "\n"
+			+ gl.glGetString(GL20.GL_VERSION);
+		if (!file.exists()) return;
+
+		DataInputStream input = null;
+		try {
+			input = new DataInputStream(file.read(4096));
+			if (input.readInt() != fileVersion || !input.readUTF().equals(driver)) {
+				// Rewrite the file without the stale binaries.
+				dirty = true;
+				return;
+			}
+			for (int i = 0, n = input.readInt(); i < n; i++) {
+				long key = input.readLong();
+				int format = input.readInt();
+				byte[] bytes = new byte[input.readInt()];
+				input.readFully(bytes);
+				binaries.put(key, new Binary(format, bytes));
+			}
+		} catch (IOException ex) {
+			Gdx.app.error("ShaderProgramCache", "Error reading shader program cache: " + file, ex);
+			binaries.clear();
+			dirty = true;
+		} finally {
+			StreamUtils.closeQuietly(input);
+		}
+	}
+
+	/** Loads the binary for the sources into the program.
+	 * @return false if the cache can't be used or the program must be compiled and linked from the sources. */
+	boolean loadBinary (int program, String vertexShader, String fragmentShader) {
+		load();
+		if (!supported) return false;
+		long key = hash(vertexShader, fragmentShader);
+		Binary binary = binaries.get(key);
+		if (binary == null) {
+			misses++;
+			return false;
+		}
+		GL30 gl = Gdx.gl30;
+		ByteBuffer buffer = BufferUtils.newByteBuffer(binary.bytes.length);
+		buffer.put(binary.bytes);
+		buffer.flip();
+		gl.glProgramBinary(program, binary.format, buffer, binary.bytes.length);
+		gl.glGetProgramiv(program, GL20.GL_LINK_STATUS, intbuf);
+		if (intbuf.get(0) == 0) {
+			binaries.remove(key);
+			dirty = true;
+			misses++;
+			return false;
+		}
+		hits++;
+		return true;
+	}
+
+	/** Returns true if binaries can be loaded and stored. */
+	boolean isSupported () {
+		load();
+		return supported;
+	}
+
+	/** Stores the binary of a program that was linked from the sources. */
+	void storeBinary (int program, String vertexShader, String fragmentShader) {
+		if (!isSupported()) return;
+		GL30 gl = Gdx.gl30;
+		gl.glGetProgramiv(program, GL30.GL_PROGRAM_BINARY_LENGTH, intbuf);
+		int length = intbuf.get(0);
+		if (length <= 0) return;
+		ByteBuffer buffer = BufferUtils.newByteBuffer(length);
+		IntBuffer lengthBuffer = BufferUtils.newIntBuffer(1), formatBuffer = BufferUtils.newIntBuffer(1);
+		gl.glGetProgramBinary(program, length, lengthBuffer, formatBuffer, buffer);
+		byte[] bytes = new byte[lengthBuffer.get(0)];
+		buffer.get(bytes);
+		binaries.put(hash(vertexShader, fragmentShader), new Binary(formatBuffer.get(0), bytes));
+		dirty = true;
+	}
+
+	/** Writes the binaries to the file if they changed since they were loaded or last saved. */
+	public void save () {
+		load();
+		if (!dirty || !supported) return;
+		DataOutputStream output = null;
+		try {
+			output = new DataOutputStream(file.write(false, 4096));
+			output.writeInt(fileVersion);
+			output.writeUTF(driver);
+			output.writeInt(binaries.size);
+			for (LongMap.Entry<Binary> entry : binaries.entries()) {
+				output.writeLong(entry.key);
+				output.writeInt(entry.value.format);
+				output.writeInt(entry.value.bytes.length);
+				output.write(entry.value.bytes);
+			}
+		} catch (IOException ex) {
+			throw new GdxRuntimeException("Error writing shader program cache: " + file, ex);
+		} finally {
+			StreamUtils.closeQuietly(output);
+		}
+		dirty = false;
+	}
+
+	/** Removes all binaries. The file is emptied by the next {@link #save()}. */
+	public void clear () {
+		binaries.clear();
+		dirty = true;
+	}
+
+	/** Returns the number of binaries. */
+	public int getSize () {
+		return binaries.size;
+	}
+
+	/** Returns the number of shader programs that were loaded from a binary. */
+	public int getHits () {
+		return hits;
+	}
+
+	/** Returns the number of shader programs that had to be compiled because there was no binary or the driver rejected it. */
+	public int getMisses () {
+		return misses;
+	}
+
+	/** 64-bit FNV-1a hash of the sources. */
+	static long hash (String vertexShader, String fragmentShader) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0, n = vertexShader.length(); i < n; i++)
+			hash = (hash ^ vertexShader.charAt(i)) * 0x100000001b3L;
+		hash = (hash ^ 0xffff) * 0x100000001b3L;
+		for (int i = 0, n = fragmentShader.length(); i < n; i++)
+			hash = (hash ^ fragmentShader.charAt(i)) * 0x100000001b3L;
+		return hash;
+	}
+
+	static private class Binary {
+		final int format;
+		final byte[] bytes;
+
+		Binary (int format, byte[] bytes) {
+			this.format = format;
+			this.bytes = bytes;
+		}
+	}
+}
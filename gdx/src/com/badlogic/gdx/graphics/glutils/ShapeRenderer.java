@@ -20,6 +20,7 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector2;
@@ -112,10 +113,17 @@ public class ShapeRenderer implements Disposable {
 	}
 
 	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader) {
+		this(maxVertices, defaultShader, null);
+	}
+
+	/** @param defaultShader May be null to use the default shader.
+	 * @param vertexDataType The {@link VertexDataType} used to store the vertices, see
+	 *           {@link VertexDataType#VertexBufferObjectStreaming}. May be null to use the default. */
+	public ShapeRenderer (int maxVertices, ShaderProgram defaultShader, VertexDataType vertexDataType) {
 		if (defaultShader == null) {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
+			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, vertexDataType);
 		} else {
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader);
+			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0, defaultShader, vertexDataType);
 		}
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		matrixDirty = true;
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** A {@link VertexData} for vertices that change every time they are drawn, such as those of a batch. The OpenGL buffer holds
+ * several times the maximum number of vertices and is used as a ring: each upload is written with glBufferSubData after the
+ * previous one and the vertex attributes point at it, so the driver never has to wait for the GPU to finish drawing vertices
+ * that are overwritten. When the ring is full the buffer is orphaned with a glBufferData without data, which gives it new
+ * storage while the GPU keeps reading the old one.
+ * <p>
+ * The ring is written with glBufferSubData only, also with GL30: the buffer is never mapped and no fences are used, orphaning
+ * is what keeps the writes from waiting on the GPU. Uses a vertex array object with GL30. Use it with {@link VertexDataType#VertexBufferObjectStreaming}. */
+public class StreamingVertexBufferObject implements VertexData {
+	static private final IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	private final VertexAttributes attributes;
+	private final ByteBuffer byteBuffer;
+	private final FloatBuffer buffer;
+	private final int capacity;
+	private int bufferHandle, vaoHandle = -1;
+	private int writeOffset, drawOffset;
+	private boolean allocated, isDirty, isBound;
+	private ShaderProgram boundShader;
+	private int[] boundLocations;
+
+	/** Number of times the ring was full and the buffer was orphaned. */
+	public int orphanCount;
+
+	/** Creates a ring of 4 times the maximum number of vertices.
+	 * @param numVertices the maximum number of vertices per upload */
+	public StreamingVertexBufferObject (int numVertices, VertexAttribute... attributes) {
+		this(numVertices, 4, new VertexAttributes(attributes));
+	}
+
+	/** @param numVertices the maximum number of vertices per upload
+	 * @param ringSize the number of uploads of the maximum number of vertices that fit in the ring before it is orphaned */
+	public StreamingVertexBufferObject (int numVertices, int ringSize, VertexAttributes attributes) {
+		if (ringSize < 1) throw new IllegalArgumentException("ringSize must be > 0: " + ringSize);
+		this.attributes = attributes;
+		byteBuffer = BufferUtils.newByteBuffer(attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.limit(0);
+		capacity = attributes.vertexSize * numVertices * ringSize;
+		createHandles();
+	}
+
+	private void createHandles () {
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		if (Gdx.gl30 != null) {
+			tmpHandle.clear();
+			Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+			vaoHandle = tmpHandle.get();
+		}
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	/** Returns the size of the OpenGL buffer in bytes. */
+	public int getCapacity () {
+		return capacity;
+	}
+
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		buffer.clear();
+		buffer.put(vertices, offset, count);
+		buffer.flip();
+		bufferChanged();
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		int limit = buffer.limit();
+		buffer.limit(buffer.capacity());
+		buffer.position(targetOffset);
+		buffer.put(vertices, sourceOffset, count);
+		buffer.position(0);
+		buffer.limit(limit);
+		bufferChanged();
+	}
+
+	private void bufferChanged () {
+		isDirty = true;
+		if (isBound) {
+			upload(Gdx.gl20);
+			setAttributes(boundShader, boundLocations);
+		}
+	}
+
+	/** Writes the vertices after the previous ones, orphaning the buffer first if they don't fit. */
+	private void upload (GL20 gl) {
+		int size = buffer.limit() * 4;
+		if (!allocated || writeOffset + size > capacity) {
+			if (allocated) orphanCount++;
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, capacity, null, GL20.GL_STREAM_DRAW);
+			allocated = true;
+			writeOffset = 0;
+		}
+		buffer.position(0);
+		gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, buffer);
+		drawOffset = writeOffset;
+		writeOffset += size;
+		isDirty = false;
+	}
+
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		GL20 gl = Gdx.gl20;
+		if (vaoHandle != -1) Gdx.gl30.glBindVertexArray(vaoHandle);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload(gl);
+		setAttributes(shader, locations);
+		boundShader = shader;
+		boundLocations = locations;
+		isBound = true;
+	}
+
+	private void setAttributes (ShaderProgram shader, int[] locations) {
+		VertexAttributes attributes = this.attributes;
+		for (int i = 0, n = attributes.size(); i < n; i++) {
+			VertexAttribute attribute = attributes.get(i);
+			int location = locations == null ? shader.getAttributeLocation(attribute.alias) : locations[i];
+			if (location < 0) continue;
+			shader.enableVertexAttribute(location);
+			shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized,
+				attributes.vertexSize, drawOffset + attribute.offset);
+		}
+	}
+
+	@Override
+	public void unbind (ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (ShaderProgram shader, int[] locations) {
+		GL20 gl = Gdx.gl20;
+		if (vaoHandle != -1) {
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+			Gdx.gl30.glBindVertexArray(0);
+		} else {
+			VertexAttributes attributes = this.attributes;
+			for (int i = 0, n = attributes.size(); i < n; i++) {
+				if (locations == null)
+					shader.disableVertexAttribute(attributes.get(i).alias);
+				else if (locations[i] >= 0) //
+					shader.disableVertexAttribute(locations[i]);
+			}
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		}
+		boundShader = null;
+		boundLocations = null;
+		isBound = false;
+	}
+
+	/** Invalidates the buffer so a new OpenGL buffer handle is created. Use this in case of a context loss. */
+	@Override
+	public void invalidate () {
+		createHandles();
+		allocated = false;
+		writeOffset = 0;
+		isDirty = true;
+	}
+
+	@Override
+	public void dispose () {
+		GL20 gl = Gdx.gl20;
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		if (vaoHandle != -1) {
+			GL30 gl30 = Gdx.gl30;
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import com.badlogic.gdx.graphics.VertexAttribute;
 import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.UnsafeFloatArray;
 
 /** <p>
  * A {@link VertexData} implementation based on OpenGL vertex buffer objects.
@@ -55,6 +56,7 @@ public class VertexBufferObject implements VertexData {
 	private FloatBuffer buffer;
 	private ByteBuffer byteBuffer;
 	private boolean ownsBuffer;
+	private UnsafeFloatArray vertexArray;
 	private int bufferHandle;
 	private int usage;
 	boolean isDirty = false;
@@ -97,6 +99,7 @@ public class VertexBufferObject implements VertexData {
 
 	@Override
 	public int getNumVertices () {
+		if (vertexArray != null) return vertexArray.size * 4 / attributes.vertexSize;
 		return buffer.limit() * 4 / attributes.vertexSize;
 	}
 
@@ -108,6 +111,7 @@ public class VertexBufferObject implements VertexData {
 	@Override
 	public FloatBuffer getBuffer () {
 		isDirty = true;
+		if (vertexArray != null) return vertexArray.getBuffer();
 		return buffer;
 	}
 
@@ -119,6 +123,7 @@ public class VertexBufferObject implements VertexData {
 		if (isBound) throw new GdxRuntimeException("Cannot change attributes while VBO is bound");
 		if (this.ownsBuffer && byteBuffer != null)
 			BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+		vertexArray = null;
 		attributes = value;
 		if (data instanceof ByteBuffer)
 			byteBuffer = (ByteBuffer)data;
@@ -135,7 +140,11 @@ public class VertexBufferObject implements VertexData {
 
 	private void bufferChanged () {
 		if (isBound) {
-			Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			if (vertexArray != null) {
+				ByteBuffer data = vertexArray.getByteBuffer();
+				Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, data.limit(), data, usage);
+			} else
+				Gdx.gl20.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
 			isDirty = false;
 		}
 	}
@@ -143,15 +152,32 @@ public class VertexBufferObject implements VertexData {
 	@Override
 	public void setVertices (float[] vertices, int offset, int count) {
 		isDirty = true;
+		vertexArray = null;
 		BufferUtils.copy(vertices, byteBuffer, count, offset);
 		buffer.position(0);
 		buffer.limit(count);
 		bufferChanged();
 	}
 
+	/** Uses the vertices of the array instead of copying them to this VBO, discarding the old vertices. The vertices are uploaded
+	 * from the array's memory on the next {@link #bind(ShaderProgram)}, or immediately if this VBO is bound. The array may grow,
+	 * its current memory is used for each upload. Call this again after modifying the array. The array must not be disposed while
+	 * this VBO uses it. {@link #updateVertices(int, float[], int, int)} and {@link #getBuffer()} use the array until
+	 * {@link #setVertices(float[], int, int)} is called. */
+	public void setVertices (UnsafeFloatArray vertices) {
+		isDirty = true;
+		vertexArray = vertices;
+		bufferChanged();
+	}
+
 	@Override
 	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
 		isDirty = true;
+		if (vertexArray != null) {
+			vertexArray.set(targetOffset, vertices, sourceOffset, count);
+			bufferChanged();
+			return;
+		}
 		final int pos = byteBuffer.position();
 		byteBuffer.position(targetOffset * 4);
 		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
@@ -186,8 +212,13 @@ public class VertexBufferObject implements VertexData {
 
 		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
 		if (isDirty) {
-			byteBuffer.limit(buffer.limit() * 4);
-			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			if (vertexArray != null) {
+				ByteBuffer data = vertexArray.getByteBuffer();
+				gl.glBufferData(GL20.GL_ARRAY_BUFFER, data.limit(), data, usage);
+			} else {
+				byteBuffer.limit(buffer.limit() * 4);
+				gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.limit(), byteBuffer, usage);
+			}
 			isDirty = false;
 		}
 
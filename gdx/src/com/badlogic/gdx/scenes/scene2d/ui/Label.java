@@ -21,6 +21,7 @@ import com.badlogic.gdx.graphics.g2d.Batch;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.GlyphLayoutCache;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.utils.Align;
@@ -35,7 +36,8 @@ public class Label extends Widget {
 	static private final GlyphLayout prefSizeLayout = new GlyphLayout();
 
 	private LabelStyle style;
-	private final GlyphLayout layout = new GlyphLayout();
+	private GlyphLayout layout = new GlyphLayout();
+	private GlyphLayoutCache layoutCache;
 	private final Vector2 prefSize = new Vector2();
 	private final StringBuilder text = new StringBuilder();
 	private BitmapFontCache cache;
@@ -137,8 +139,13 @@ public class Label extends Widget {
 		if (wrap && ellipsis == null) {
 			float width = getWidth();
 			if (style.background != null) width -= style.background.getLeftWidth() + style.background.getRightWidth();
-			prefSizeLayout.setText(cache.getFont(), text, Color.WHITE, width, Align.left, true);
-		} else
+			if (layoutCache != null)
+				prefSizeLayout = layoutCache.get(cache.getFont(), text, Color.WHITE, width, Align.left, true);
+			else
+				prefSizeLayout.setText(cache.getFont(), text, Color.WHITE, width, Align.left, true);
+		} else if (layoutCache != null)
+			prefSizeLayout = layoutCache.get(cache.getFont(), text, Color.WHITE, 0, Align.left, false);
+		else
 			prefSizeLayout.setText(cache.getFont(), text);
 		prefSize.set(prefSizeLayout.width, prefSizeLayout.height);
 	}
@@ -168,11 +175,11 @@ public class Label extends Widget {
 			height -= background.getBottomHeight() + background.getTopHeight();
 		}
 
-		GlyphLayout layout = this.layout;
+		GlyphLayout layout;
 		float textWidth, textHeight;
 		if (wrap || text.indexOf("\n") != -1) {
 			// If the text can span multiple lines, determine the text's actual size so it can be aligned within the label.
-			layout.setText(font, text, 0, text.length, Color.WHITE, width, lineAlign, wrap, ellipsis);
+			layout = layoutText(font, width, wrap);
 			textWidth = layout.width;
 			textHeight = layout.height;
 
@@ -198,12 +205,19 @@ public class Label extends Widget {
 		}
 		if (!cache.getFont().isFlipped()) y += textHeight;
 
-		layout.setText(font, text, 0, text.length, Color.WHITE, textWidth, lineAlign, wrap, ellipsis);
+		layout = layoutText(font, textWidth, wrap);
 		cache.setText(layout, x, y);
 
 		if (fontScaleX != 1 || fontScaleY != 1) font.getData().setScale(oldScaleX, oldScaleY);
 	}
 
+	private GlyphLayout layoutText (BitmapFont font, float width, boolean wrap) {
+		if (layoutCache != null)
+			return layout = layoutCache.get(font, text, 0, text.length, Color.WHITE, width, lineAlign, wrap, ellipsis);
+		layout.setText(font, text, 0, text.length, Color.WHITE, width, lineAlign, wrap, ellipsis);
+		return layout;
+	}
+
 	public void draw (Batch batch, float parentAlpha) {
 		validate();
 		Color color = tempColor.set(getColor());
@@ -235,10 +249,25 @@ public class Label extends Widget {
 		return height;
 	}
 
+	/** If a {@link #setLayoutCache(GlyphLayoutCache) layout cache} is set, the returned layout is shared and must not be
+	 * modified. */
 	public GlyphLayout getGlyphLayout () {
 		return layout;
 	}
 
+	/** Sets a cache used to lay out the text, which may be shared by many labels. Labels showing the same text with the same
+	 * font, size and alignment then share a layout. Default is null, the label lays out its text each time it changes. */
+	public void setLayoutCache (GlyphLayoutCache layoutCache) {
+		if (this.layoutCache == layoutCache) return;
+		if (layoutCache == null) layout = new GlyphLayout(); // The current layout is shared.
+		this.layoutCache = layoutCache;
+		invalidateHierarchy();
+	}
+
+	public GlyphLayoutCache getLayoutCache () {
+		return layoutCache;
+	}
+
 	/** If false, the text will only wrap where it contains newlines (\n). The preferred size of the label will be the text bounds.
 	 * If true, the text will word wrap using the width of the label. The preferred width of the label will be 0, it is expected
 	 * that something external will set the width of the label. Wrapping will not occur when ellipsis is enabled. Default is false.
@@ -26,15 +26,24 @@ import java.nio.IntBuffer;
 import java.nio.LongBuffer;
 import java.nio.ShortBuffer;
 
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 
 /** Class with static helper methods to increase the speed of array/direct buffer and direct buffer/direct buffer transfers
- * 
+ * <p>
+ * Unsafe buffers are kept in a registry so they can be disposed. {@link #setUnsafeTracking(boolean)} records where each one was
+ * allocated to find leaks, see {@link #getUnsafeReport()}, and {@link #setUnsafeBudget(int, boolean)} warns when too much
+ * native memory is used.
  * @author mzechner, xoppa */
 public final class BufferUtils {
-	static Array<ByteBuffer> unsafeBuffers = new Array<ByteBuffer>();
+	/** The live unsafe buffers. The value is {@link #untracked} for buffers allocated while tracking was disabled. */
+	static final IdentityMap<ByteBuffer, UnsafeAllocation> unsafeBuffers = new IdentityMap();
+	static final UnsafeAllocation untracked = new UnsafeAllocation(0, null, new StackTraceElement[0]);
 	static int allocatedUnsafe = 0;
+	static boolean trackUnsafe;
+	static int unsafeBudget;
+	static boolean throwOverBudget;
 
 	/** Copies numFloats floats from src starting at offset to dst. Dst is assumed to be a direct {@link Buffer}. The method will
 	 * crash if that is not the case. The position and limit of the buffer are ignored, the copy is placed at position 0 in the
@@ -493,6 +502,154 @@ public final class BufferUtils {
 		return buffer.asLongBuffer();
 	}
 
+	/** If true, the stack trace and tag of each unsafe buffer allocated afterward are recorded for {@link #getUnsafeAllocations()}
+	 * and {@link #getUnsafeReport()}. This makes allocating slower, so it is meant for finding leaks. Default is false. */
+	public static void setUnsafeTracking (boolean track) {
+		synchronized (unsafeBuffers) {
+			trackUnsafe = track;
+		}
+	}
+
+	public static boolean isUnsafeTracking () {
+		synchronized (unsafeBuffers) {
+			return trackUnsafe;
+		}
+	}
+
+	/** Sets the number of bytes of unsafe buffers that may be allocated at once.
+	 * @param bytes The budget, or 0 for none (the default).
+	 * @param throwWhenExceeded If true, an allocation that would exceed the budget throws a {@link GdxRuntimeException}. If false,
+	 *           an error is logged when the budget is first exceeded. */
+	public static void setUnsafeBudget (int bytes, boolean throwWhenExceeded) {
+		if (bytes < 0) throw new IllegalArgumentException("bytes must be >= 0: " + bytes);
+		synchronized (unsafeBuffers) {
+			unsafeBudget = bytes;
+			throwOverBudget = throwWhenExceeded;
+		}
+	}
+
+	/** Returns the unsafe buffers that were allocated while tracking was enabled and have not been disposed. */
+	public static Array<UnsafeAllocation> getUnsafeAllocations () {
+		Array<UnsafeAllocation> allocations = new Array();
+		synchronized (unsafeBuffers) {
+			for (UnsafeAllocation allocation : unsafeBuffers.values())
+				if (allocation != untracked) allocations.add(allocation);
+		}
+		return allocations;
+	}
+
+	/** Returns a description of the live unsafe buffers grouped by allocation site, largest first. Buffers allocated while
+	 * tracking was disabled are grouped as unknown. */
+	public static String getUnsafeReport () {
+		ObjectMap<String, UnsafeSite> sites = new ObjectMap();
+		int total, count;
+		synchronized (unsafeBuffers) {
+			total = allocatedUnsafe;
+			count = unsafeBuffers.size;
+			for (IdentityMap.Entry<ByteBuffer, UnsafeAllocation> entry : unsafeBuffers.entries()) {
+				UnsafeAllocation allocation = entry.value;
+				String name = allocation == untracked ? "unknown (not tracked)" : allocation.getSite();
+				UnsafeSite site = sites.get(name);
+				if (site == null) sites.put(name, site = new UnsafeSite(name));
+				site.count++;
+				site.bytes += entry.key.capacity();
+				if (allocation.tag != null) site.tags.add(allocation.tag);
+			}
+		}
+		Array<UnsafeSite> sorted = sites.values().toArray();
+		sorted.sort();
+		StringBuilder buffer = new StringBuilder(256);
+		buffer.append("Unsafe buffers: ").append(total).append(" bytes in ").append(count).append(" buffers");
+		for (UnsafeSite site : sorted) {
+			buffer.append("\n").append(site.bytes).append(" bytes in ").append(site.count).append(" buffers: ").append(site.name);
+			if (site.tags.size > 0) buffer.append(" ").append(site.tags.iterator().toArray());
+		}
+		return buffer.toString();
+	}
+
+	static void registerUnsafe (ByteBuffer buffer, String tag) {
+		UnsafeAllocation allocation = untracked;
+		synchronized (unsafeBuffers) {
+			if (trackUnsafe) {
+				StackTraceElement[] trace = new Throwable().getStackTrace();
+				int start = 0;
+				while (start < trace.length && trace[start].getClassName().equals(BufferUtils.class.getName()))
+					start++;
+				StackTraceElement[] stackTrace = new StackTraceElement[trace.length - start];
+				System.arraycopy(trace, start, stackTrace, 0, stackTrace.length);
+				allocation = new UnsafeAllocation(buffer.capacity(), tag, stackTrace);
+			}
+			if (unsafeBuffers.put(buffer, allocation) != null) throw new IllegalArgumentException("buffer is already registered");
+			allocatedUnsafe += buffer.capacity();
+		}
+	}
+
+	static void unregisterUnsafe (ByteBuffer buffer) {
+		synchronized (unsafeBuffers) {
+			if (unsafeBuffers.remove(buffer) == null)
+				throw new IllegalArgumentException("buffer not allocated with newUnsafeByteBuffer or already disposed");
+			allocatedUnsafe -= buffer.capacity();
+		}
+	}
+
+	/** Throws or logs if allocating the specified number of bytes would exceed the budget. */
+	static void checkUnsafeBudget (int numBytes) {
+		String message;
+		synchronized (unsafeBuffers) {
+			int budget = unsafeBudget;
+			if (budget == 0 || allocatedUnsafe + numBytes <= budget) return;
+			message = "Allocating " + numBytes + " bytes exceeds the unsafe buffer budget: " + (allocatedUnsafe + numBytes) + " > "
+				+ budget;
+			if (throwOverBudget) throw new GdxRuntimeException(message);
+			// Only log when crossing the budget.
+			if (allocatedUnsafe > budget) return;
+		}
+		if (Gdx.app != null)
+			Gdx.app.error("BufferUtils", message);
+		else
+			System.err.println(message);
+	}
+
+	/** An unsafe buffer allocated while tracking was enabled.
+	 * @see BufferUtils#setUnsafeTracking(boolean) */
+	public static class UnsafeAllocation {
+		public final int bytes;
+		/** The tag passed to {@link BufferUtils#newUnsafeByteBuffer(int, String)}, may be null. */
+		public final String tag;
+		/** Where the buffer was allocated, starting with the caller of BufferUtils. */
+		public final StackTraceElement[] stackTrace;
+
+		UnsafeAllocation (int bytes, String tag, StackTraceElement[] stackTrace) {
+			this.bytes = bytes;
+			this.tag = tag;
+			this.stackTrace = stackTrace;
+		}
+
+		/** Returns the method that allocated the buffer. */
+		public String getSite () {
+			return stackTrace.length == 0 ? "unknown" : stackTrace[0].toString();
+		}
+
+		public String toString () {
+			return bytes + " bytes" + (tag != null ? " (" + tag + ")" : "") + " at " + getSite();
+		}
+	}
+
+	static class UnsafeSite implements Comparable<UnsafeSite> {
+		final String name;
+		final ObjectSet<String> tags = new ObjectSet();
+		int count;
+		long bytes;
+
+		UnsafeSite (String name) {
+			this.name = name;
+		}
+
+		public int compareTo (UnsafeSite other) {
+			return bytes > other.bytes ? -1 : bytes < other.bytes ? 1 : 0;
+		}
+	}
+
 	// @off
 	/*JNI 
 	#include <stdio.h>
@@ -501,12 +658,7 @@ public final class BufferUtils {
 	*/
 	
 	public static void disposeUnsafeByteBuffer(ByteBuffer buffer) {
-		int size = buffer.capacity(); 
-		synchronized(unsafeBuffers) {
-			if(!unsafeBuffers.removeValue(buffer, true))
-				throw new IllegalArgumentException("buffer not allocated with newUnsafeByteBuffer or already disposed");
-		}
-		allocatedUnsafe -= size;
+		unregisterUnsafe(buffer);
 		freeMemory(buffer);
 	}
 
@@ -514,12 +666,18 @@ public final class BufferUtils {
 	 * {@link #freeMemory(ByteBuffer)}.
 	 * @param numBytes */
 	public static ByteBuffer newUnsafeByteBuffer (int numBytes) {
+		return newUnsafeByteBuffer(numBytes, null);
+	}
+
+	/** Allocates a new direct ByteBuffer from native heap memory using the native byte order. Needs to be disposed with
+	 * {@link #disposeUnsafeByteBuffer(ByteBuffer)}.
+	 * @param tag Describes the owner of the buffer when tracking is enabled, may be null.
+	 * @throws GdxRuntimeException if the allocation would exceed the budget, see {@link #setUnsafeBudget(int, boolean)}. */
+	public static ByteBuffer newUnsafeByteBuffer (int numBytes, String tag) {
+		checkUnsafeBudget(numBytes);
 		ByteBuffer buffer = newDisposableByteBuffer(numBytes);
 		buffer.order(ByteOrder.nativeOrder());
-		allocatedUnsafe += numBytes;
-		synchronized(unsafeBuffers) {
-			unsafeBuffers.add(buffer);
-		}
+		registerUnsafe(buffer, tag);
 		return buffer;
 	}
 	
@@ -540,10 +698,8 @@ public final class BufferUtils {
 	 * @return the ByteBuffer passed to the method
 	 */
 	public static ByteBuffer newUnsafeByteBuffer(ByteBuffer buffer) {
-		allocatedUnsafe += buffer.capacity();
-		synchronized(unsafeBuffers) {
-			unsafeBuffers.add(buffer);
-		}
+		checkUnsafeBudget(buffer.capacity());
+		registerUnsafe(buffer, null);
 		return buffer;
 	}
 
@@ -551,7 +707,9 @@ public final class BufferUtils {
 	 * @return the number of bytes allocated with {@link #newUnsafeByteBuffer(int)}
 	 */
 	public static int getAllocatedBytesUnsafe() {
-		return allocatedUnsafe;
+		synchronized (unsafeBuffers) {
+			return allocatedUnsafe;
+		}
 	}
 	
 	/** Frees the memory allocated for the ByteBuffer. DO NOT USE THIS ON BYTEBUFFERS ALLOCATEd VIA METHODS IN THIS CLASS OR
@@ -0,0 +1,243 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** A {@link Pool} that can be used from many threads at once. Each thread caches up to two batches of free objects, so most calls
+ * to {@link #obtain()} and {@link #free(Object)} don't touch shared state. Full and empty batches are exchanged with a lock-free
+ * shared overflow which holds at most {@link #max} objects.
+ * <p>
+ * Objects are {@link #reset(Object) reset} before they can be obtained by another thread. {@link #getFree()} and {@link #clear()}
+ * only see the shared overflow and the cache of the calling thread. The cache of a thread that has ended is not reclaimed.
+ * @see Pools#getConcurrent(Class) */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	/** The number of objects in a batch. */
+	public final int batchSize;
+
+	private final ThreadLocal<Cache> caches = new ThreadLocal<Cache>() {
+		protected Cache initialValue () {
+			Cache cache = new Cache();
+			synchronized (allCaches) {
+				allCaches.add(cache);
+			}
+			return cache;
+		}
+	};
+	private final Array<Cache> allCaches = new Array(false, 8, Cache.class);
+	private final AtomicReference<Batch> fullBatches = new AtomicReference(), emptyBatches = new AtomicReference();
+	private final AtomicInteger shared = new AtomicInteger();
+	private final AtomicLong contention = new AtomicLong();
+
+	/** Creates a pool with a batch size of 32 and no maximum. */
+	public ConcurrentPool () {
+		this(32, Integer.MAX_VALUE);
+	}
+
+	/** Creates a pool with a batch size of 32.
+	 * @param max The maximum number of free objects to store in the shared overflow. */
+	public ConcurrentPool (int max) {
+		this(32, max);
+	}
+
+	/** @param batchSize The number of objects moved between a thread's cache and the shared overflow at once.
+	 * @param max The maximum number of free objects to store in the shared overflow. */
+	public ConcurrentPool (int batchSize, int max) {
+		super(0, max);
+		if (batchSize < 1) throw new IllegalArgumentException("batchSize must be > 0: " + batchSize);
+		this.batchSize = batchSize;
+	}
+
+	public T obtain () {
+		Cache cache = caches.get();
+		if (cache.loadedCount == 0 && !cache.reload()) {
+			cache.misses++;
+			return newObject();
+		}
+		cache.hits++;
+		int index = --cache.loadedCount;
+		T object = (T)cache.loaded[index];
+		cache.loaded[index] = null;
+		return object;
+	}
+
+	/** Resets the specified object and puts it in the calling thread's cache, making it eligible to be returned by
+	 * {@link #obtain()}. If the cache is full, a batch is moved to the shared overflow or discarded if the overflow already
+	 * contains {@link #max} free objects. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		reset(object);
+		Cache cache = caches.get();
+		if (cache.loadedCount == batchSize) cache.unload();
+		cache.loaded[cache.loadedCount++] = object;
+	}
+
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("object cannot be null.");
+		for (int i = 0; i < objects.size; i++) {
+			T object = objects.get(i);
+			if (object != null) free(object);
+		}
+	}
+
+	/** Removes all free objects from the shared overflow and the calling thread's cache. */
+	public void clear () {
+		caches.get().clear();
+		for (Batch batch; (batch = pop(fullBatches)) != null;)
+			shared.addAndGet(-batchSize);
+	}
+
+	/** The number of objects in the shared overflow and the calling thread's cache. */
+	public int getFree () {
+		Cache cache = caches.get();
+		return shared.get() + cache.loadedCount + cache.previousCount;
+	}
+
+	/** Returns the number of times {@link #obtain()} returned a pooled object, summed over all threads. The count is approximate
+	 * while other threads use the pool. */
+	public long getHits () {
+		long hits = 0;
+		synchronized (allCaches) {
+			for (int i = 0, n = allCaches.size; i < n; i++)
+				hits += allCaches.items[i].hits;
+		}
+		return hits;
+	}
+
+	/** Returns the number of times {@link #obtain()} created a new object, summed over all threads. The count is approximate while
+	 * other threads use the pool. */
+	public long getMisses () {
+		long misses = 0;
+		synchronized (allCaches) {
+			for (int i = 0, n = allCaches.size; i < n; i++)
+				misses += allCaches.items[i].misses;
+		}
+		return misses;
+	}
+
+	/** Returns the fraction of {@link #obtain()} calls that returned a pooled object, or 0 if none were made. */
+	public float getHitRate () {
+		long hits = getHits(), total = hits + getMisses();
+		return total == 0 ? 0 : hits / (float)total;
+	}
+
+	/** Returns the number of times a thread had to retry an update of the shared overflow because another thread changed it. */
+	public long getContention () {
+		return contention.get();
+	}
+
+	/** Sets the hit, miss and contention counts to zero. */
+	public void resetStats () {
+		synchronized (allCaches) {
+			for (int i = 0, n = allCaches.size; i < n; i++) {
+				Cache cache = allCaches.items[i];
+				cache.hits = 0;
+				cache.misses = 0;
+			}
+		}
+		contention.set(0);
+	}
+
+	private void push (AtomicReference<Batch> stack, Object[] items) {
+		// A new node for each push means a node is never reused while another thread may still compare against it.
+		Batch batch = new Batch(items);
+		while (true) {
+			Batch head = stack.get();
+			batch.next = head;
+			if (stack.compareAndSet(head, batch)) return;
+			contention.incrementAndGet();
+		}
+	}
+
+	private Batch pop (AtomicReference<Batch> stack) {
+		while (true) {
+			Batch head = stack.get();
+			if (head == null) return null;
+			if (stack.compareAndSet(head, head.next)) return head;
+			contention.incrementAndGet();
+		}
+	}
+
+	static private class Batch {
+		final Object[] items;
+		Batch next;
+
+		Batch (Object[] items) {
+			this.items = items;
+		}
+	}
+
+	/** Objects cached by a single thread. The previous batch is always either full or empty. */
+	private class Cache {
+		Object[] loaded = new Object[batchSize], previous = new Object[batchSize];
+		int loadedCount, previousCount;
+		long hits, misses;
+
+		/** Called when the loaded batch is empty. Returns false if there are no free objects. */
+		boolean reload () {
+			if (previousCount == 0) {
+				Batch batch = pop(fullBatches);
+				if (batch == null) return false;
+				shared.addAndGet(-batchSize);
+				push(emptyBatches, previous);
+				previous = batch.items;
+				previousCount = batchSize;
+			}
+			swap();
+			return true;
+		}
+
+		/** Called when the loaded batch is full. */
+		void unload () {
+			if (previousCount == batchSize) {
+				int count = shared.addAndGet(batchSize);
+				if (count <= max && count > 0) {
+					if (count > peak) peak = count;
+					push(fullBatches, previous);
+					Batch batch = pop(emptyBatches);
+					previous = batch != null ? batch.items : new Object[batchSize];
+				} else {
+					shared.addAndGet(-batchSize);
+					for (int i = 0; i < batchSize; i++)
+						previous[i] = null;
+				}
+				previousCount = 0;
+			}
+			swap();
+		}
+
+		void swap () {
+			Object[] items = loaded;
+			loaded = previous;
+			previous = items;
+			int count = loadedCount;
+			loadedCount = previousCount;
+			previousCount = count;
+		}
+
+		void clear () {
+			for (int i = 0; i < loadedCount; i++)
+				loaded[i] = null;
+			for (int i = 0; i < previousCount; i++)
+				previous[i] = null;
+			loadedCount = 0;
+			previousCount = 0;
+		}
+	}
+}
@@ -453,4 +453,32 @@ public class I18NBundle {
 		return formatter.format(get(key), args);
 	}
 
+	/** Appends the string with the specified key from this bundle or one of its parent to {@code out} after replacing the given
+	 * arguments if they occur. Patterns are parsed once and cached. With the {@link #setSimpleFormatter(boolean) simplified
+	 * syntax}, String and Integer arguments are appended without allocation.
+	 * 
+	 * @param out the builder the formatted string is appended to
+	 * @param key the key for the desired string
+	 * @param args the arguments to be replaced in the string associated to the given key.
+	 * @exception NullPointerException if <code>key</code> is <code>null</code>
+	 * @exception MissingResourceException if no string for the given key can be found
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String key, Object... args) {
+		return formatter.format(out, get(key), args);
+	}
+
+	/** Appends the string with the specified key formatted with a single argument to {@code out}. With the
+	 * {@link #setSimpleFormatter(boolean) simplified syntax}, the argument is appended without boxing or allocation.
+	 * @see #format(StringBuilder, String, Object...) */
+	public StringBuilder format (StringBuilder out, String key, int arg) {
+		return formatter.format(out, get(key), arg);
+	}
+
+	/** Appends the string with the specified key formatted with a single argument to {@code out}. With the
+	 * {@link #setSimpleFormatter(boolean) simplified syntax}, the argument is appended without boxing.
+	 * @see #format(StringBuilder, String, Object...) */
+	public StringBuilder format (StringBuilder out, String key, float arg) {
+		return formatter.format(out, get(key), arg);
+	}
+
 }
@@ -271,6 +271,12 @@ public class Json {
 		for (FieldMetadata metadata : new OrderedMapValues<FieldMetadata>(fields)) {
 			Field field = metadata.field;
 			try {
+				if (metadata.primitive != 0 && (!quoteLongValues || metadata.primitive == FieldMetadata.INT
+					|| metadata.primitive == FieldMetadata.FLOAT || metadata.primitive == FieldMetadata.BOOLEAN)) {
+					writePrimitive(object, metadata, defaultValues == null ? null : defaultValues[i++]);
+					continue;
+				}
+
 				Object value = field.get(object);
 				if (defaultValues != null) {
 					Object defaultValue = defaultValues[i++];
@@ -286,7 +292,7 @@ public class Json {
 				}
 
 				if (debug) System.out.println("Writing field: " + field.getName() + " (" + type.getName() + ")");
-				writer.name(field.getName());
+				writeName(metadata);
 				writeValue(value, field.getType(), metadata.elementType);
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
@@ -301,6 +307,61 @@ public class Json {
 		}
 	}
 
+	/** Writes a primitive field without boxing its value. Numbers are written the same as {@link JsonWriter#value(Object)}.
+	 * @param defaultValue May be null. */
+	private void writePrimitive (Object object, FieldMetadata metadata, Object defaultValue)
+		throws ReflectionException, IOException {
+		Field field = metadata.field;
+		String json;
+		switch (metadata.primitive) {
+		case FieldMetadata.INT: {
+			int value = field.getInt(object);
+			if (defaultValue != null && value == (Integer)defaultValue) return;
+			json = Integer.toString(value);
+			break;
+		}
+		case FieldMetadata.LONG: {
+			long value = field.getLong(object);
+			if (defaultValue != null && value == (Long)defaultValue) return;
+			json = Long.toString(value);
+			break;
+		}
+		case FieldMetadata.FLOAT: {
+			float value = field.getFloat(object);
+			if (defaultValue != null && Float.floatToIntBits(value) == Float.floatToIntBits((Float)defaultValue)) return;
+			double doubleValue = value;
+			long longValue = (long)doubleValue;
+			json = doubleValue == longValue ? Long.toString(longValue) : Float.toString(value);
+			break;
+		}
+		case FieldMetadata.DOUBLE: {
+			double value = field.getDouble(object);
+			if (defaultValue != null && Double.doubleToLongBits(value) == Double.doubleToLongBits((Double)defaultValue)) return;
+			long longValue = (long)value;
+			json = value == longValue ? Long.toString(longValue) : Double.toString(value);
+			break;
+		}
+		default: {
+			boolean value = field.getBoolean(object);
+			if (defaultValue != null && value == (Boolean)defaultValue) return;
+			json = value ? "true" : "false";
+		}
+		}
+		if (debug) System.out.println("Writing field: " + field.getName() + " (" + object.getClass().getName() + ")");
+		writeName(metadata);
+		writer.json(json);
+	}
+
+	/** Writes the field name, quoting it only when the output type has changed since it was last written. */
+	private void writeName (FieldMetadata metadata) throws IOException {
+		OutputType outputType = writer.outputType;
+		if (metadata.quotedType != outputType) {
+			metadata.quotedName = outputType.quoteName(metadata.field.getName());
+			metadata.quotedType = outputType;
+		}
+		writer.quotedName(metadata.quotedName);
+	}
+
 	private Object[] getDefaultValues (Class type) {
 		if (!usePrototypes) return null;
 		if (classToDefaultValues.containsKey(type)) return classToDefaultValues.get(type);
@@ -739,6 +800,29 @@ public class Json {
 		return (T)readValue(type, elementType, new JsonReader().parse(json));
 	}
 
+	/** Reads the value directly from the parser's events, without building a {@link JsonValue} DOM for the whole document. Objects
+	 * which are read by a {@link Serializer}, are {@link Serializable} or are of an unknown type are still read into a JsonValue
+	 * first. A class tag is only used if it is the first field of an object, which is always the case for JSON written by this
+	 * class. The parser is closed afterward.
+	 * @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromJson (Class<T> type, JsonPullParser parser) {
+		return (T)fromJson(type, null, parser);
+	}
+
+	/** @see #fromJson(Class, JsonPullParser)
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromJson (Class<T> type, Class elementType, JsonPullParser parser) {
+		try {
+			if (parser.next() == null) return null;
+			return (T)readValue(type, elementType, parser);
+		} finally {
+			parser.close();
+		}
+	}
+
 	public void readField (Object object, String name, JsonValue jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -802,7 +886,8 @@ public class Json {
 			}
 			Field field = metadata.field;
 			try {
-				field.set(object, readValue(field.getType(), metadata.elementType, child));
+				if (metadata.primitive == 0 || !readPrimitive(object, metadata, child))
+					field.set(object, readValue(field.getType(), metadata.elementType, child));
 			} catch (ReflectionException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -817,6 +902,36 @@ public class Json {
 		}
 	}
 
+	/** Sets a primitive field without boxing if the JSON value is of a matching type.
+	 * @return false if the value must be converted by {@link #readValue(Class, Class, JsonValue)}. */
+	private boolean readPrimitive (Object object, FieldMetadata metadata, JsonValue jsonValue) throws ReflectionException {
+		Field field = metadata.field;
+		if (classToSerializer.size > 0 && classToSerializer.containsKey(field.getType())) return false;
+		switch (metadata.primitive) {
+		case FieldMetadata.INT:
+			if (!jsonValue.isNumber()) return false;
+			field.setInt(object, jsonValue.asInt());
+			return true;
+		case FieldMetadata.LONG:
+			if (!jsonValue.isNumber()) return false;
+			field.setLong(object, jsonValue.asLong());
+			return true;
+		case FieldMetadata.FLOAT:
+			if (!jsonValue.isNumber()) return false;
+			field.setFloat(object, jsonValue.asFloat());
+			return true;
+		case FieldMetadata.DOUBLE:
+			if (!jsonValue.isNumber()) return false;
+			field.setDouble(object, jsonValue.asDouble());
+			return true;
+		case FieldMetadata.BOOLEAN:
+			if (!jsonValue.isBoolean()) return false;
+			field.setBoolean(object, jsonValue.asBoolean());
+			return true;
+		}
+		return false;
+	}
+
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T readValue (String name, Class<T> type, JsonValue jsonMap) {
@@ -1017,6 +1132,177 @@ public class Json {
 		return null;
 	}
 
+	/** Reads the value which starts at the parser's current event. Afterward the current event is the last event of the value.
+	 * @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null.
+	 * @see #fromJson(Class, JsonPullParser) */
+	public <T> T readValue (Class<T> type, Class elementType, JsonPullParser parser) {
+		JsonPullParser.Event event = parser.getEvent();
+		if (event == JsonPullParser.Event.startArray) {
+			if (type != null && classToSerializer.get(type) != null) return (T)readValue(type, elementType, parser.readValue());
+			if (type == null || type == Object.class) type = (Class<T>)Array.class;
+			if (ClassReflection.isAssignableFrom(Array.class, type)) {
+				Array result = type == Array.class ? new Array() : (Array)newInstance(type);
+				while (parser.next() != JsonPullParser.Event.endArray)
+					result.add(readValue(elementType, null, parser));
+				return (T)result;
+			}
+			if (ClassReflection.isAssignableFrom(Queue.class, type)) {
+				Queue result = type == Queue.class ? new Queue() : (Queue)newInstance(type);
+				while (parser.next() != JsonPullParser.Event.endArray)
+					result.addLast(readValue(elementType, null, parser));
+				return (T)result;
+			}
+			if (ClassReflection.isAssignableFrom(Collection.class, type)) {
+				Collection result = type.isInterface() ? new ArrayList() : (Collection)newInstance(type);
+				while (parser.next() != JsonPullParser.Event.endArray)
+					result.add(readValue(elementType, null, parser));
+				return (T)result;
+			}
+			if (type.isArray()) {
+				Class componentType = type.getComponentType();
+				if (elementType == null) elementType = componentType;
+				Array values = new Array();
+				while (parser.next() != JsonPullParser.Event.endArray)
+					values.add(readValue(elementType, null, parser));
+				Object result = ArrayReflection.newInstance(componentType, values.size);
+				for (int i = 0; i < values.size; i++)
+					ArrayReflection.set(result, i, values.get(i));
+				return (T)result;
+			}
+			throw new SerializationException("Unable to convert value to required type: " + parser.readValue() + " ("
+				+ type.getName() + ")");
+		}
+
+		if (event != JsonPullParser.Event.startObject) return (T)readValue(type, elementType, parser.readValue());
+
+		String objectName = parser.getName();
+		event = parser.next();
+		String className = null;
+		if (event == JsonPullParser.Event.stringValue && typeName != null && typeName.equals(parser.getName())) {
+			className = parser.getString();
+			type = getClass(className);
+			if (type == null) {
+				try {
+					type = (Class<T>)ClassReflection.forName(className);
+				} catch (ReflectionException ex) {
+					throw new SerializationException(ex);
+				}
+			}
+			event = parser.next();
+		}
+
+		if (!canReadFields(type)) {
+			// Read the rest of the object into a DOM.
+			JsonValue jsonData = new JsonValue(JsonValue.ValueType.object);
+			jsonData.name = objectName;
+			if (className != null) {
+				JsonValue classValue = new JsonValue(className);
+				classValue.name = typeName;
+				classValue.parent = jsonData;
+				jsonData.child = classValue;
+				jsonData.size = 1;
+			}
+			if (event != JsonPullParser.Event.endObject) parser.readChildren(jsonData, true);
+			return (T)readValue(type, elementType, jsonData);
+		}
+
+		Object object = newInstance(type);
+		if (object instanceof ObjectMap) {
+			ObjectMap result = (ObjectMap)object;
+			for (; event != JsonPullParser.Event.endObject; event = parser.next())
+				result.put(parser.getName(), readValue(elementType, null, parser));
+			return (T)result;
+		}
+		if (object instanceof ArrayMap) {
+			ArrayMap result = (ArrayMap)object;
+			for (; event != JsonPullParser.Event.endObject; event = parser.next())
+				result.put(parser.getName(), readValue(elementType, null, parser));
+			return (T)result;
+		}
+		if (object instanceof Map) {
+			Map result = (Map)object;
+			for (; event != JsonPullParser.Event.endObject; event = parser.next())
+				result.put(parser.getName(), readValue(elementType, null, parser));
+			return (T)result;
+		}
+
+		ObjectMap<String, FieldMetadata> fields = getFields(type);
+		for (; event != JsonPullParser.Event.endObject; event = parser.next()) {
+			String name = parser.getName();
+			FieldMetadata metadata = fields.get(name);
+			if (metadata == null) {
+				if (name.equals(typeName) || ignoreUnknownFields) {
+					if (debug && !name.equals(typeName))
+						System.out.println("Ignoring unknown field: " + name + " (" + type.getName() + ")");
+					parser.skipValue();
+					continue;
+				}
+				SerializationException ex = new SerializationException("Field not found: " + name + " (" + type.getName() + ")");
+				ex.addTrace("line " + parser.getLine());
+				throw ex;
+			}
+			Field field = metadata.field;
+			try {
+				if (metadata.primitive == 0 || !readPrimitive(object, metadata, parser))
+					field.set(object, readValue(field.getType(), metadata.elementType, parser));
+			} catch (ReflectionException ex) {
+				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
+			} catch (SerializationException ex) {
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			} catch (RuntimeException runtimeEx) {
+				SerializationException ex = new SerializationException(runtimeEx);
+				ex.addTrace("line " + parser.getLine());
+				ex.addTrace(field.getName() + " (" + type.getName() + ")");
+				throw ex;
+			}
+		}
+		return (T)object;
+	}
+
+	/** Sets a primitive field without boxing if the parser's current value is of a matching type.
+	 * @return false if the value must be converted by {@link #readValue(Class, Class, JsonPullParser)}. */
+	private boolean readPrimitive (Object object, FieldMetadata metadata, JsonPullParser parser) throws ReflectionException {
+		Field field = metadata.field;
+		if (classToSerializer.size > 0 && classToSerializer.containsKey(field.getType())) return false;
+		JsonPullParser.Event event = parser.getEvent();
+		if (metadata.primitive == FieldMetadata.BOOLEAN) {
+			if (event != JsonPullParser.Event.booleanValue) return false;
+			field.setBoolean(object, parser.getBoolean());
+			return true;
+		}
+		boolean isLong = event == JsonPullParser.Event.longValue;
+		if (!isLong && event != JsonPullParser.Event.doubleValue) return false;
+		switch (metadata.primitive) {
+		case FieldMetadata.INT:
+			field.setInt(object, isLong ? (int)parser.getLong() : (int)parser.getDouble());
+			return true;
+		case FieldMetadata.LONG:
+			field.setLong(object, isLong ? parser.getLong() : (long)parser.getDouble());
+			return true;
+		case FieldMetadata.FLOAT:
+			field.setFloat(object, isLong ? (float)parser.getLong() : (float)parser.getDouble());
+			return true;
+		case FieldMetadata.DOUBLE:
+			field.setDouble(object, isLong ? (double)parser.getLong() : parser.getDouble());
+			return true;
+		}
+		return false;
+	}
+
+	/** Returns true if objects of the type can be read from a {@link JsonPullParser} without building a {@link JsonValue}. */
+	private boolean canReadFields (Class type) {
+		if (type == null) return false;
+		if (classToSerializer.get(type) != null) return false;
+		if (typeName != null && ClassReflection.isAssignableFrom(Collection.class, type)) return false;
+		if (type == String.class || type == Integer.class || type == Boolean.class || type == Float.class || type == Long.class
+			|| type == Double.class || type == Short.class || type == Byte.class || type == Character.class
+			|| ClassReflection.isAssignableFrom(Enum.class, type)) return false;
+		return !ClassReflection.isAssignableFrom(Serializable.class, type);
+	}
+
 	private String convertToString (Enum e) {
 		return enumNames ? e.name() : e.toString();
 	}
@@ -1080,14 +1366,31 @@ public class Json {
 	}
 
 	static private class FieldMetadata {
+		static final int INT = 1, LONG = 2, FLOAT = 3, DOUBLE = 4, BOOLEAN = 5;
+
 		Field field;
 		Class elementType;
+		/** One of the constants above if the field is a primitive which is read and written without boxing, else 0. */
+		int primitive;
+		String quotedName;
+		OutputType quotedType;
 
 		public FieldMetadata (Field field) {
 			this.field = field;
 			int index = (ClassReflection.isAssignableFrom(ObjectMap.class, field.getType())
 				|| ClassReflection.isAssignableFrom(Map.class, field.getType())) ? 1 : 0;
 			this.elementType = field.getElementType(index);
+
+			Class type = field.getType();
+			if (type == int.class)
+				primitive = INT;
+			else if (type == long.class)
+				primitive = LONG;
+			else if (type == float.class)
+				primitive = FLOAT;
+			else if (type == double.class)
+				primitive = DOUBLE;
+			else if (type == boolean.class) primitive = BOOLEAN;
 		}
 	}
 
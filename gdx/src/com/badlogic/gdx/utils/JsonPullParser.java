@@ -0,0 +1,623 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.JsonValue.ValueType;
+
+/** Streaming JSON parser which reports one {@link Event} at a time instead of building a {@link JsonValue} DOM. Input is read
+ * through a fixed size buffer, so memory use does not depend on the size of the document. The same relaxed syntax as
+ * {@link JsonReader} is accepted: unquoted names and values, comments, newlines as separators and trailing commas.
+ *
+ * <pre>
+ * JsonPullParser parser = new JsonPullParser(file);
+ * for (Event event = parser.next(); event != null; event = parser.next())
+ * 	System.out.println(parser.getName() + " " + event + " " + parser.getString());
+ * parser.close();
+ * </pre>
+ *
+ * @see Json#fromJson(Class, JsonPullParser) */
+public class JsonPullParser {
+	private Reader reader;
+	private final char[] buffer;
+	private int offset, limit;
+	private boolean eof;
+	private int line = 1;
+
+	/** True for each open object, false for each open array. */
+	private final BooleanArray stack = new BooleanArray(16);
+	private boolean afterValue;
+
+	private Event event;
+	private String name;
+	private final StringBuilder value = new StringBuilder(32);
+	private String stringValue;
+	private double doubleValue;
+	private long longValue;
+	private boolean booleanValue;
+
+	public JsonPullParser (String json) {
+		this(new StringReader(json));
+	}
+
+	public JsonPullParser (FileHandle file) {
+		this(file.reader("UTF-8"));
+	}
+
+	public JsonPullParser (InputStream input) {
+		this(utf8(input));
+	}
+
+	public JsonPullParser (Reader reader) {
+		this(reader, 1024);
+	}
+
+	/** @param bufferSize The number of characters read from the reader at once. */
+	public JsonPullParser (Reader reader, int bufferSize) {
+		if (reader == null) throw new IllegalArgumentException("reader cannot be null.");
+		if (bufferSize < 2) throw new IllegalArgumentException("bufferSize must be >= 2: " + bufferSize);
+		this.reader = reader;
+		buffer = new char[bufferSize];
+	}
+
+	static private Reader utf8 (InputStream input) {
+		try {
+			return new InputStreamReader(input, "UTF-8");
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
+	/** Advances to the next event.
+	 * @return The event, or null when the end of the document has been reached. */
+	public Event next () {
+		name = null;
+		stringValue = null;
+		if (stack.size == 0) {
+			if (afterValue) {
+				skipWhitespace();
+				if (peek(0) != -1) throw error("Unexpected character after root value: " + (char)peek(0));
+				return event = null;
+			}
+			skipWhitespace();
+			if (peek(0) == -1) {
+				afterValue = true;
+				return event = null;
+			}
+			return parseValue();
+		}
+
+		boolean object = stack.peek();
+		char close = object ? '}' : ']';
+		int c;
+		if (afterValue) {
+			boolean newline = skipWhitespace();
+			c = peek(0);
+			if (c == ',') {
+				read();
+				skipWhitespace();
+				c = peek(0);
+			} else if (c != close && c != -1 && !newline) //
+				throw error("Expected ',' or '" + close + "' but found: " + (char)c);
+		} else {
+			skipWhitespace();
+			c = peek(0);
+		}
+		if (c == close) {
+			read();
+			stack.pop();
+			afterValue = true;
+			return event = object ? Event.endObject : Event.endArray;
+		}
+		if (c == -1) throw error(object ? "unmatched brace." : "unmatched bracket.");
+
+		if (object) {
+			name = parseName();
+			skipWhitespace();
+			c = read();
+			if (c != ':') throw error("Expected ':' after name: " + name);
+			skipWhitespace();
+		}
+		return parseValue();
+	}
+
+	/** Returns the last event returned by {@link #next()}. */
+	public Event getEvent () {
+		return event;
+	}
+
+	/** Returns the name of the current value, or null if it is not a child of an object. */
+	public String getName () {
+		return name;
+	}
+
+	/** Returns the current value as a string. For numbers this is the text as it appeared in the JSON.
+	 * @return May be null. */
+	public String getString () {
+		if (stringValue != null) return stringValue;
+		if (event == null) return null;
+		switch (event) {
+		case stringValue:
+		case doubleValue:
+		case longValue:
+			return stringValue = value.toString();
+		case booleanValue:
+			return booleanValue ? "true" : "false";
+		}
+		return null;
+	}
+
+	public double getDouble () {
+		if (event != null) {
+			switch (event) {
+			case doubleValue:
+				return doubleValue;
+			case longValue:
+				return longValue;
+			case stringValue:
+				return Double.parseDouble(getString());
+			case booleanValue:
+				return booleanValue ? 1 : 0;
+			}
+		}
+		throw new IllegalStateException("Value cannot be converted to double: " + event);
+	}
+
+	public long getLong () {
+		if (event != null) {
+			switch (event) {
+			case doubleValue:
+				return (long)doubleValue;
+			case longValue:
+				return longValue;
+			case stringValue:
+				return Long.parseLong(getString());
+			case booleanValue:
+				return booleanValue ? 1 : 0;
+			}
+		}
+		throw new IllegalStateException("Value cannot be converted to long: " + event);
+	}
+
+	public boolean getBoolean () {
+		if (event != null) {
+			switch (event) {
+			case doubleValue:
+				return doubleValue != 0;
+			case longValue:
+				return longValue != 0;
+			case stringValue:
+				return getString().equalsIgnoreCase("true");
+			case booleanValue:
+				return booleanValue;
+			}
+		}
+		throw new IllegalStateException("Value cannot be converted to boolean: " + event);
+	}
+
+	/** Returns the number of objects and arrays that are currently open. */
+	public int getDepth () {
+		return stack.size;
+	}
+
+	/** Returns the line number of the current position in the input, starting at 1. */
+	public int getLine () {
+		return line;
+	}
+
+	/** If the current event starts an object or array, advances to the event that ends it. Otherwise does nothing. */
+	public void skipValue () {
+		if (event != Event.startObject && event != Event.startArray) return;
+		int depth = stack.size;
+		while (stack.size >= depth)
+			next();
+	}
+
+	/** Reads the current value, including all children of an object or array, into a {@link JsonValue}. Afterward the current
+	 * event is the last event of the value. This allows DOM access to parts of a document that is otherwise streamed. */
+	public JsonValue readValue () {
+		if (event == null) throw new IllegalStateException("No current value.");
+		JsonValue jsonValue;
+		switch (event) {
+		case startObject:
+			jsonValue = new JsonValue(ValueType.object);
+			jsonValue.name = name;
+			readChildren(jsonValue, false);
+			return jsonValue;
+		case startArray:
+			jsonValue = new JsonValue(ValueType.array);
+			jsonValue.name = name;
+			readChildren(jsonValue, false);
+			return jsonValue;
+		case stringValue:
+			jsonValue = new JsonValue(getString());
+			break;
+		case doubleValue:
+			jsonValue = new JsonValue(doubleValue, getString());
+			break;
+		case longValue:
+			jsonValue = new JsonValue(longValue, getString());
+			break;
+		case booleanValue:
+			jsonValue = new JsonValue(booleanValue);
+			break;
+		case nullValue:
+			jsonValue = new JsonValue((String)null);
+			break;
+		default:
+			throw new IllegalStateException("No current value: " + event);
+		}
+		jsonValue.name = name;
+		return jsonValue;
+	}
+
+	/** Appends children to the specified object or array until the currently open object or array ends.
+	 * @param includeCurrent If true, the current event is the start of the first child to append. */
+	void readChildren (JsonValue parent, boolean includeCurrent) {
+		JsonValue last = parent.child;
+		if (last != null) {
+			while (last.next != null)
+				last = last.next;
+		}
+		while (true) {
+			if (includeCurrent)
+				includeCurrent = false;
+			else {
+				Event event = next();
+				if (event == Event.endObject || event == Event.endArray) return;
+			}
+			JsonValue child = readValue();
+			child.parent = parent;
+			if (last == null)
+				parent.child = child;
+			else {
+				last.next = child;
+				child.prev = last;
+			}
+			last = child;
+			parent.size++;
+		}
+	}
+
+	/** Closes the underlying reader. */
+	public void close () {
+		StreamUtils.closeQuietly(reader);
+	}
+
+	private Event parseValue () {
+		int c = peek(0);
+		switch (c) {
+		case '{':
+			read();
+			stack.add(true);
+			afterValue = false;
+			return event = Event.startObject;
+		case '[':
+			read();
+			stack.add(false);
+			afterValue = false;
+			return event = Event.startArray;
+		case '"':
+			read();
+			parseQuoted();
+			afterValue = true;
+			return event = Event.stringValue;
+		case -1:
+			throw error("Unexpected end of input.");
+		case ':':
+		case ',':
+		case '}':
+		case ']':
+		case '/':
+			throw error("Unexpected character: " + (char)c);
+		}
+		parseUnquoted(false);
+		afterValue = true;
+		return event = unquotedType();
+	}
+
+	private String parseName () {
+		int c = peek(0);
+		switch (c) {
+		case '"':
+			read();
+			parseQuoted();
+			return value.toString();
+		case -1:
+			throw error("Unexpected end of input.");
+		case ':':
+		case ',':
+		case '}':
+		case '/':
+			throw error("Unexpected character: " + (char)c);
+		}
+		parseUnquoted(true);
+		return value.toString();
+	}
+
+	private void parseQuoted () {
+		StringBuilder value = this.value;
+		value.setLength(0);
+		boolean needsUnescape = false;
+		while (true) {
+			int c = read();
+			if (c == '"') break;
+			if (c == -1) throw error("Unterminated string.");
+			value.append((char)c);
+			if (c == '\\') {
+				needsUnescape = true;
+				c = read();
+				if (c == -1) throw error("Unterminated string.");
+				value.append((char)c);
+			}
+		}
+		if (needsUnescape) unescape();
+	}
+
+	private void parseUnquoted (boolean isName) {
+		StringBuilder value = this.value;
+		value.setLength(0);
+		boolean needsUnescape = false;
+		outer:
+		while (true) {
+			int c = peek(0);
+			switch (c) {
+			case -1:
+			case '\r':
+			case '\n':
+				break outer;
+			case ':':
+				if (isName) break outer;
+				break;
+			case '}':
+			case ']':
+			case ',':
+				if (!isName) break outer;
+				break;
+			case '/':
+				int c2 = peek(1);
+				if (c2 == '/' || c2 == '*') break outer;
+				break;
+			case '\\':
+				needsUnescape = true;
+				break;
+			}
+			value.append((char)c);
+			read();
+		}
+		while (value.length > 0 && Character.isSpace(value.chars[value.length - 1]))
+			value.length--;
+		if (needsUnescape) unescape();
+	}
+
+	/** Determines the type of an unquoted value the same way {@link JsonReader} does. */
+	private Event unquotedType () {
+		StringBuilder value = this.value;
+		if (matches("true")) {
+			booleanValue = true;
+			return Event.booleanValue;
+		}
+		if (matches("false")) {
+			booleanValue = false;
+			return Event.booleanValue;
+		}
+		if (matches("null")) return Event.nullValue;
+
+		boolean couldBeDouble = false, couldBeLong = true;
+		char[] chars = value.chars;
+		outer:
+		for (int i = 0, n = value.length; i < n; i++) {
+			switch (chars[i]) {
+			case '0':
+			case '1':
+			case '2':
+			case '3':
+			case '4':
+			case '5':
+			case '6':
+			case '7':
+			case '8':
+			case '9':
+			case '-':
+			case '+':
+				break;
+			case '.':
+			case 'e':
+			case 'E':
+				couldBeDouble = true;
+				couldBeLong = false;
+				break;
+			default:
+				couldBeDouble = false;
+				couldBeLong = false;
+				break outer;
+			}
+		}
+		if (couldBeDouble) {
+			try {
+				doubleValue = Double.parseDouble(getStringValue());
+				return Event.doubleValue;
+			} catch (NumberFormatException ignored) {
+			}
+		} else if (couldBeLong) {
+			try {
+				longValue = Long.parseLong(getStringValue());
+				return Event.longValue;
+			} catch (NumberFormatException ignored) {
+			}
+		}
+		return Event.stringValue;
+	}
+
+	private String getStringValue () {
+		if (stringValue == null) stringValue = value.toString();
+		return stringValue;
+	}
+
+	private boolean matches (String text) {
+		StringBuilder value = this.value;
+		int length = text.length();
+		if (value.length != length) return false;
+		char[] chars = value.chars;
+		for (int i = 0; i < length; i++)
+			if (chars[i] != text.charAt(i)) return false;
+		return true;
+	}
+
+	/** Unescapes the value in place, the result is never longer than the escaped text. */
+	private void unescape () {
+		char[] chars = value.chars;
+		int length = value.length, n = 0;
+		for (int i = 0; i < length;) {
+			char c = chars[i++];
+			if (c != '\\') {
+				chars[n++] = c;
+				continue;
+			}
+			if (i == length) break;
+			c = chars[i++];
+			if (c == 'u') {
+				if (i + 4 > length) throw error("Invalid unicode escape.");
+				int code = 0;
+				for (int ii = 0; ii < 4; ii++) {
+					int digit = Character.digit(chars[i++], 16);
+					if (digit == -1) throw error("Invalid unicode escape.");
+					code = code * 16 + digit;
+				}
+				chars[n++] = (char)code;
+				continue;
+			}
+			switch (c) {
+			case '"':
+			case '\\':
+			case '/':
+				break;
+			case 'b':
+				c = '\b';
+				break;
+			case 'f':
+				c = '\f';
+				break;
+			case 'n':
+				c = '\n';
+				break;
+			case 'r':
+				c = '\r';
+				break;
+			case 't':
+				c = '\t';
+				break;
+			default:
+				throw error("Illegal escaped character: \\" + c);
+			}
+			chars[n++] = c;
+		}
+		value.length = n;
+	}
+
+	/** Skips whitespace and comments.
+	 * @return true if a newline was skipped. */
+	private boolean skipWhitespace () {
+		boolean newline = false;
+		while (true) {
+			int c = peek(0);
+			switch (c) {
+			case '\n':
+				newline = true;
+			case '\r':
+			case '\t':
+			case ' ':
+				read();
+				break;
+			case '/':
+				int c2 = peek(1);
+				if (c2 == '/') {
+					while (true) {
+						c = peek(0);
+						if (c == -1 || c == '\n') break;
+						read();
+					}
+				} else if (c2 == '*') {
+					read();
+					read();
+					while (true) {
+						c = read();
+						if (c == -1) throw error("Unterminated comment.");
+						if (c == '*' && peek(0) == '/') {
+							read();
+							break;
+						}
+					}
+				} else
+					return newline;
+				break;
+			default:
+				return newline;
+			}
+		}
+	}
+
+	/** Returns the character the specified number of characters past the current position, or -1 at the end of the input. */
+	private int peek (int ahead) {
+		if (offset + ahead >= limit) fill(ahead + 1);
+		return offset + ahead < limit ? buffer[offset + ahead] : -1;
+	}
+
+	private int read () {
+		int c = peek(0);
+		if (c != -1) {
+			offset++;
+			if (c == '\n') line++;
+		}
+		return c;
+	}
+
+	/** Moves unread characters to the start of the buffer and reads until at least the specified number are available. */
+	private void fill (int count) {
+		if (eof) return;
+		int remaining = limit - offset;
+		System.arraycopy(buffer, offset, buffer, 0, remaining);
+		offset = 0;
+		limit = remaining;
+		try {
+			while (limit < count) {
+				int length = reader.read(buffer, limit, buffer.length - limit);
+				if (length == -1) {
+					eof = true;
+					return;
+				}
+				limit += length;
+			}
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
+	private SerializationException error (String message) {
+		return new SerializationException("Error parsing JSON on line " + line + ": " + message);
+	}
+
+	static public enum Event {
+		startObject, endObject, startArray, endArray, stringValue, doubleValue, longValue, booleanValue, nullValue
+	}
+}
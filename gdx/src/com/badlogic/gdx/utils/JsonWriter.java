@@ -29,7 +29,7 @@ public class JsonWriter extends Writer {
 	private final Array<JsonObject> stack = new Array();
 	private JsonObject current;
 	private boolean named;
-	private OutputType outputType = OutputType.json;
+	OutputType outputType = OutputType.json;
 	private boolean quoteLongValues = false;
 
 	public JsonWriter (Writer writer) {
@@ -52,12 +52,18 @@ public class JsonWriter extends Writer {
 	}
 
 	public JsonWriter name (String name) throws IOException {
+		if (current == null || current.array) throw new IllegalStateException("Current item must be an object.");
+		return quotedName(outputType.quoteName(name));
+	}
+
+	/** Writes a name which was already quoted using {@link OutputType#quoteName(String)} for the current output type. */
+	JsonWriter quotedName (String quotedName) throws IOException {
 		if (current == null || current.array) throw new IllegalStateException("Current item must be an object.");
 		if (!current.needsComma)
 			current.needsComma = true;
 		else
 			writer.write(',');
-		writer.write(outputType.quoteName(name));
+		writer.write(quotedName);
 		writer.write(':');
 		named = true;
 		return this;
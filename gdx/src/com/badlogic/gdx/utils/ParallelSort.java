@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.badlogic.gdx.utils.async.JobSystem;
+import com.badlogic.gdx.utils.async.JobSystem.RangeTask;
+
+/** Sorts large arrays of objects using the threads of a {@link JobSystem}. The array is split into runs which are sorted in
+ * parallel with timsort, then pairs of runs are merged in parallel until one run is left. Each merge is split at the same points
+ * in both runs, so all threads are used for the last merges too. The sort is stable. Arrays smaller than {@link #threshold} are
+ * sorted on the calling thread.
+ * <p>
+ * Sorting requires working memory and this class allows that memory to be reused to avoid allocation.
+ * @see Sort
+ * @see RadixSort */
+public class ParallelSort {
+	static private ParallelSort instance;
+	static private final Comparator natural = new Comparator<Comparable>() {
+		public int compare (Comparable o1, Comparable o2) {
+			return o1.compareTo(o2);
+		}
+	};
+
+	private final JobSystem jobs;
+	private final TimSort[] timSorts;
+	private Object[] tmp = new Object[0];
+
+	/** Arrays with fewer items are sorted on the calling thread. Default is 8192. */
+	public int threshold = 8192;
+
+	public ParallelSort (JobSystem jobs) {
+		this.jobs = jobs;
+		// At least two runs per thread, rounded up to a power of two so all merges are the same size.
+		timSorts = new TimSort[Integer.highestOneBit((jobs.getThreads() + 1) * 2 - 1) << 1];
+		for (int i = 0; i < timSorts.length; i++)
+			timSorts[i] = new TimSort();
+	}
+
+	public <T extends Comparable> void sort (Array<T> a) {
+		sort(a.items, natural, 0, a.size);
+	}
+
+	public <T> void sort (Array<T> a, Comparator<? super T> c) {
+		sort(a.items, c, 0, a.size);
+	}
+
+	public <T extends Comparable> void sort (T[] a) {
+		sort(a, natural, 0, a.length);
+	}
+
+	public <T> void sort (T[] a, Comparator<? super T> c) {
+		sort(a, c, 0, a.length);
+	}
+
+	public <T> void sort (final T[] a, final Comparator<? super T> c, final int fromIndex, final int toIndex) {
+		final int n = toIndex - fromIndex;
+		if (n < threshold || n < timSorts.length * 2) {
+			timSorts[0].doSort(a, c, fromIndex, toIndex);
+			return;
+		}
+		if (tmp.length < n) tmp = new Object[n];
+		final int runs = timSorts.length, runSize = (n + runs - 1) / runs;
+
+		jobs.parallelFor(runs, 1, new RangeTask() {
+			public void run (int start, int end) {
+				for (int run = start; run < end; run++) {
+					int lo = fromIndex + run * runSize;
+					timSorts[run].doSort(a, c, Math.min(lo, toIndex), Math.min(lo + runSize, toIndex));
+				}
+			}
+		});
+
+		// Merge pairs of runs back and forth between the array and tmp. The tmp indices start at 0.
+		boolean inTmp = false;
+		for (int width = runSize; width < n; width <<= 1) {
+			final Object[] src = inTmp ? tmp : a, dst = inTmp ? a : tmp;
+			final int srcOffset = inTmp ? 0 : fromIndex, dstOffset = inTmp ? fromIndex : 0;
+			final int mergeWidth = width, pairs = (n + width * 2 - 1) / (width * 2);
+			final int parts = Math.max(1, runs / pairs);
+			jobs.parallelFor(pairs * parts, 1, new RangeTask() {
+				public void run (int start, int end) {
+					for (int i = start; i < end; i++) {
+						int pair = i / parts, part = i % parts;
+						int lo = pair * mergeWidth * 2, mid = Math.min(lo + mergeWidth, n), hi = Math.min(mid + mergeWidth, n);
+						long length = hi - lo;
+						int outStart = (int)(length * part / parts), outEnd = (int)(length * (part + 1) / parts);
+						merge(src, srcOffset + lo, mid - lo, srcOffset + mid, hi - mid, outStart, outEnd, dst, dstOffset + lo, c);
+					}
+				}
+			});
+			inTmp = !inTmp;
+		}
+		if (inTmp) System.arraycopy(tmp, 0, a, fromIndex, n);
+		Arrays.fill(tmp, 0, n, null);
+	}
+
+	/** Writes outputs [outStart, outEnd) of the stable merge of runs a and b to dst. */
+	static private void merge (Object[] src, int a, int aLength, int b, int bLength, int outStart, int outEnd, Object[] dst,
+		int dstOffset, Comparator c) {
+		int i = split(src, a, aLength, b, bLength, outStart, c), j = outStart - i;
+		int iEnd = split(src, a, aLength, b, bLength, outEnd, c), jEnd = outEnd - iEnd;
+		int out = dstOffset + outStart;
+		while (i < iEnd && j < jEnd) {
+			// Ties take from a first, which keeps the sort stable.
+			if (c.compare(src[b + j], src[a + i]) < 0)
+				dst[out++] = src[b + j++];
+			else
+				dst[out++] = src[a + i++];
+		}
+		if (i < iEnd) System.arraycopy(src, a + i, dst, out, iEnd - i);
+		if (j < jEnd) System.arraycopy(src, b + j, dst, out, jEnd - j);
+	}
+
+	/** Returns how many items of run a are in the first k items of the stable merge of runs a and b. */
+	static private int split (Object[] src, int a, int aLength, int b, int bLength, int k, Comparator c) {
+		int low = Math.max(0, k - bLength), high = Math.min(k, aLength);
+		while (low < high) {
+			int i = (low + high) >>> 1, j = k - i;
+			// If a[i] is merged before b[j - 1], more than i items come from a.
+			if (c.compare(src[a + i], src[b + j - 1]) <= 0)
+				low = i + 1;
+			else
+				high = i;
+		}
+		return low;
+	}
+
+	/** Returns a ParallelSort instance using {@link JobSystem#getShared()} for convenience. Multiple threads must not use this
+	 * instance at the same time. */
+	static public ParallelSort instance () {
+		if (instance == null) instance = new ParallelSort(JobSystem.getShared());
+		return instance;
+	}
+}
@@ -16,10 +16,12 @@
 
 package com.badlogic.gdx.utils;
 
-/** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access.
+/** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access. The map is not thread
+ * safe. Pools to share between threads are stored separately, see {@link #getConcurrent(Class)}.
  * @author Nathan Sweet */
 public class Pools {
 	static private final ObjectMap<Class, Pool> typePools = new ObjectMap();
+	static private final ObjectMap<Class, ConcurrentPool> concurrentPools = new ObjectMap();
 
 	/** Returns a new or existing pool for the specified type, stored in a Class to {@link Pool} map. Note the max size is ignored
 	 * if this is not the first time this pool has been requested. */
@@ -38,6 +40,30 @@ public class Pools {
 		return get(type, 100);
 	}
 
+	/** Returns a new or existing {@link ConcurrentPool} for the specified type. This can be called from any thread. The pools are
+	 * stored in a separate map from {@link #get(Class)}, so objects obtained from them must be freed to the ConcurrentPool rather
+	 * than with {@link #free(Object)}. Note the max size is ignored if this is not the first time this pool has been requested. */
+	static public <T> ConcurrentPool<T> getConcurrent (Class<T> type, int max) {
+		synchronized (concurrentPools) {
+			ConcurrentPool pool = concurrentPools.get(type);
+			if (pool == null) {
+				final ReflectionPool<T> factory = new ReflectionPool(type, 0);
+				pool = new ConcurrentPool<T>(max) {
+					protected T newObject () {
+						return factory.newObject();
+					}
+				};
+				concurrentPools.put(type, pool);
+			}
+			return pool;
+		}
+	}
+
+	/** Returns a new or existing {@link ConcurrentPool} for the specified type. The max size of the shared overflow is 100. */
+	static public <T> ConcurrentPool<T> getConcurrent (Class<T> type) {
+		return getConcurrent(type, 100);
+	}
+
 	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. */
 	static public <T> void set (Class<T> type, Pool<T> pool) {
 		typePools.put(type, pool);
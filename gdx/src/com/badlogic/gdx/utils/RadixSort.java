@@ -0,0 +1,303 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.util.Arrays;
+
+/** Sorts {@link IntArray}, {@link LongArray} and {@link FloatArray} in linear time with a least significant digit radix sort,
+ * optionally reordering a second array of values the same way as the keys, eg to sort objects by a depth key. The sort is stable.
+ * Small arrays use an insertion sort. Sorting requires working memory and this class allows that memory to be reused to avoid
+ * allocation.
+ * @see Sort */
+public class RadixSort {
+	static private RadixSort instance;
+	static private final int insertionThreshold = 32;
+
+	private int[] keys = new int[0], tmpKeys = keys, values = keys, tmpValues = keys;
+	private long[] longKeys = new long[0], tmpLongKeys = longKeys;
+	private Object[] objects = new Object[0];
+	private final int[] counts = new int[8 * 256];
+
+	public void sort (IntArray keys) {
+		int n = keys.size;
+		System.arraycopy(keys.items, 0, ensureKeys(n), 0, n);
+		sortKeys(n, false);
+		System.arraycopy(this.keys, 0, keys.items, 0, n);
+	}
+
+	/** Sorts the keys and moves each value to the index of its key.
+	 * @param values Must have the same size as the keys. */
+	public void sort (IntArray keys, IntArray values) {
+		int n = keys.size;
+		checkSize(n, values.size);
+		System.arraycopy(keys.items, 0, ensureKeys(n), 0, n);
+		System.arraycopy(values.items, 0, ensureValues(n), 0, n);
+		sortKeys(n, true);
+		System.arraycopy(this.keys, 0, keys.items, 0, n);
+		System.arraycopy(this.values, 0, values.items, 0, n);
+	}
+
+	/** Sorts the keys and moves each value to the index of its key.
+	 * @param values Must have the same size as the keys. */
+	public <T> void sort (IntArray keys, Array<T> values) {
+		int n = keys.size;
+		checkSize(n, values.size);
+		System.arraycopy(keys.items, 0, ensureKeys(n), 0, n);
+		startIndices(n);
+		sortKeys(n, true);
+		System.arraycopy(this.keys, 0, keys.items, 0, n);
+		reorder(values.items, n);
+	}
+
+	public void sort (FloatArray keys) {
+		int n = keys.size;
+		fromFloats(keys.items, n);
+		sortKeys(n, false);
+		toFloats(keys.items, n);
+	}
+
+	/** Sorts the keys and moves each value to the index of its key.
+	 * @param values Must have the same size as the keys. */
+	public void sort (FloatArray keys, IntArray values) {
+		int n = keys.size;
+		checkSize(n, values.size);
+		fromFloats(keys.items, n);
+		System.arraycopy(values.items, 0, ensureValues(n), 0, n);
+		sortKeys(n, true);
+		toFloats(keys.items, n);
+		System.arraycopy(this.values, 0, values.items, 0, n);
+	}
+
+	/** Sorts the keys and moves each value to the index of its key.
+	 * @param values Must have the same size as the keys. */
+	public <T> void sort (FloatArray keys, Array<T> values) {
+		int n = keys.size;
+		checkSize(n, values.size);
+		fromFloats(keys.items, n);
+		startIndices(n);
+		sortKeys(n, true);
+		toFloats(keys.items, n);
+		reorder(values.items, n);
+	}
+
+	public void sort (LongArray keys) {
+		int n = keys.size;
+		System.arraycopy(keys.items, 0, ensureLongKeys(n), 0, n);
+		sortLongKeys(n, false);
+		System.arraycopy(longKeys, 0, keys.items, 0, n);
+	}
+
+	/** Sorts the keys and moves each value to the index of its key.
+	 * @param values Must have the same size as the keys. */
+	public void sort (LongArray keys, IntArray values) {
+		int n = keys.size;
+		checkSize(n, values.size);
+		System.arraycopy(keys.items, 0, ensureLongKeys(n), 0, n);
+		System.arraycopy(values.items, 0, ensureValues(n), 0, n);
+		sortLongKeys(n, true);
+		System.arraycopy(longKeys, 0, keys.items, 0, n);
+		System.arraycopy(this.values, 0, values.items, 0, n);
+	}
+
+	/** Sorts the keys and moves each value to the index of its key.
+	 * @param values Must have the same size as the keys. */
+	public <T> void sort (LongArray keys, Array<T> values) {
+		int n = keys.size;
+		checkSize(n, values.size);
+		System.arraycopy(keys.items, 0, ensureLongKeys(n), 0, n);
+		startIndices(n);
+		sortLongKeys(n, true);
+		System.arraycopy(longKeys, 0, keys.items, 0, n);
+		reorder(values.items, n);
+	}
+
+	static private void checkSize (int keys, int values) {
+		if (keys != values) throw new IllegalArgumentException("values must have the same size as keys: " + values + " != " + keys);
+	}
+
+	private int[] ensureKeys (int n) {
+		if (keys.length < n) {
+			keys = new int[n];
+			tmpKeys = new int[n];
+		}
+		return keys;
+	}
+
+	private int[] ensureValues (int n) {
+		if (values.length < n) {
+			values = new int[n];
+			tmpValues = new int[n];
+		}
+		return values;
+	}
+
+	private long[] ensureLongKeys (int n) {
+		if (longKeys.length < n) {
+			longKeys = new long[n];
+			tmpLongKeys = new long[n];
+		}
+		return longKeys;
+	}
+
+	/** Sets the values to their indices, so they can be used to reorder an array of objects. */
+	private void startIndices (int n) {
+		int[] values = ensureValues(n);
+		for (int i = 0; i < n; i++)
+			values[i] = i;
+	}
+
+	/** Moves the items to the indices the values were sorted to. */
+	private void reorder (Object[] items, int n) {
+		if (objects.length < n) objects = new Object[n];
+		Object[] objects = this.objects;
+		int[] values = this.values;
+		for (int i = 0; i < n; i++)
+			objects[i] = items[values[i]];
+		System.arraycopy(objects, 0, items, 0, n);
+		Arrays.fill(objects, 0, n, null);
+	}
+
+	/** Converts the floats to ints with the same signed order. */
+	private void fromFloats (float[] items, int n) {
+		int[] keys = ensureKeys(n);
+		for (int i = 0; i < n; i++) {
+			int bits = NumberUtils.floatToRawIntBits(items[i]);
+			keys[i] = bits ^ ((bits >> 31) & 0x7fffffff);
+		}
+	}
+
+	private void toFloats (float[] items, int n) {
+		int[] keys = this.keys;
+		for (int i = 0; i < n; i++) {
+			int key = keys[i];
+			items[i] = NumberUtils.intBitsToFloat(key ^ ((key >> 31) & 0x7fffffff));
+		}
+	}
+
+	/** Sorts {@link #keys} and, if sortValues is true, moves {@link #values} with them. */
+	private void sortKeys (int n, boolean sortValues) {
+		int[] keys = this.keys, values = this.values;
+		if (n < insertionThreshold) {
+			for (int i = 1; i < n; i++) {
+				int key = keys[i], value = sortValues ? values[i] : 0, j = i - 1;
+				for (; j >= 0 && keys[j] > key; j--) {
+					keys[j + 1] = keys[j];
+					if (sortValues) values[j + 1] = values[j];
+				}
+				keys[j + 1] = key;
+				if (sortValues) values[j + 1] = value;
+			}
+			return;
+		}
+		int[] counts = this.counts, tmpKeys = this.tmpKeys, tmpValues = this.tmpValues;
+		Arrays.fill(counts, 0, 4 * 256, 0);
+		for (int i = 0; i < n; i++) {
+			int key = keys[i];
+			counts[key & 0xff]++;
+			counts[256 + ((key >>> 8) & 0xff)]++;
+			counts[512 + ((key >>> 16) & 0xff)]++;
+			counts[768 + ((key >>> 24) ^ 0x80)]++; // Flip the sign bit so negative keys come first.
+		}
+		for (int pass = 0; pass < 4; pass++) {
+			int shift = pass << 3, offset = pass << 8, flip = pass == 3 ? 0x80 : 0;
+			// Skip the pass if all keys have the same digit.
+			if (counts[offset + (((keys[0] >>> shift) & 0xff) ^ flip)] == n) continue;
+			for (int i = offset, sum = 0, end = offset + 256; i < end; i++) {
+				int count = counts[i];
+				counts[i] = sum;
+				sum += count;
+			}
+			for (int i = 0; i < n; i++) {
+				int key = keys[i], index = counts[offset + (((key >>> shift) & 0xff) ^ flip)]++;
+				tmpKeys[index] = key;
+				if (sortValues) tmpValues[index] = values[i];
+			}
+			int[] swap = keys;
+			keys = tmpKeys;
+			tmpKeys = swap;
+			if (sortValues) {
+				swap = values;
+				values = tmpValues;
+				tmpValues = swap;
+			}
+		}
+		this.keys = keys;
+		this.tmpKeys = tmpKeys;
+		this.values = values;
+		this.tmpValues = tmpValues;
+	}
+
+	/** Sorts {@link #longKeys} and, if sortValues is true, moves {@link #values} with them. */
+	private void sortLongKeys (int n, boolean sortValues) {
+		long[] keys = longKeys, tmpKeys = tmpLongKeys;
+		int[] values = this.values;
+		if (n < insertionThreshold) {
+			for (int i = 1; i < n; i++) {
+				long key = keys[i];
+				int value = sortValues ? values[i] : 0, j = i - 1;
+				for (; j >= 0 && keys[j] > key; j--) {
+					keys[j + 1] = keys[j];
+					if (sortValues) values[j + 1] = values[j];
+				}
+				keys[j + 1] = key;
+				if (sortValues) values[j + 1] = value;
+			}
+			return;
+		}
+		int[] counts = this.counts, tmpValues = this.tmpValues;
+		Arrays.fill(counts, 0);
+		for (int i = 0; i < n; i++) {
+			long key = keys[i];
+			for (int pass = 0; pass < 7; pass++)
+				counts[(pass << 8) + (int)((key >>> (pass << 3)) & 0xff)]++;
+			counts[7 << 8 | (int)((key >>> 56) ^ 0x80)]++;
+		}
+		for (int pass = 0; pass < 8; pass++) {
+			int shift = pass << 3, offset = pass << 8, flip = pass == 7 ? 0x80 : 0;
+			if (counts[offset + ((int)((keys[0] >>> shift) & 0xff) ^ flip)] == n) continue;
+			for (int i = offset, sum = 0, end = offset + 256; i < end; i++) {
+				int count = counts[i];
+				counts[i] = sum;
+				sum += count;
+			}
+			for (int i = 0; i < n; i++) {
+				long key = keys[i];
+				int index = counts[offset + ((int)((key >>> shift) & 0xff) ^ flip)]++;
+				tmpKeys[index] = key;
+				if (sortValues) tmpValues[index] = values[i];
+			}
+			long[] swap = keys;
+			keys = tmpKeys;
+			tmpKeys = swap;
+			if (sortValues) {
+				int[] swapValues = values;
+				values = tmpValues;
+				tmpValues = swapValues;
+			}
+		}
+		longKeys = keys;
+		tmpLongKeys = tmpKeys;
+		this.values = values;
+		this.tmpValues = tmpValues;
+	}
+
+	/** Returns a RadixSort instance for convenience. Multiple threads must not use this instance at the same time. */
+	static public RadixSort instance () {
+		if (instance == null) instance = new RadixSort();
+		return instance;
+	}
+}
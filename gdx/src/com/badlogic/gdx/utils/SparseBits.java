@@ -0,0 +1,971 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/** A compressed bitset with the same operations as {@link Bits}, for sets of indices that are sparse or spread over a large
+ * range. Indices are split into chunks of 65536 by their high 16 bits, and only chunks with set bits are stored. Each chunk
+ * uses a sorted array of indices when it has at most 4096 bits set and a 1024 word bitmap otherwise, as in Roaring bitmaps.
+ * {@link #runOptimize()} stores chunks of long runs of set bits as runs instead. Operations on two sets only visit the chunks
+ * that are stored.
+ * @see Bits */
+public class SparseBits {
+	static final int maxArraySize = 4096;
+	static final byte arrayType = 0, bitmapType = 1, runType = 2;
+
+	char[] keys = new char[4];
+	Container[] containers = new Container[4];
+	int size;
+
+	/** Scratch bitmaps for changes combining chunks that aren't both arrays, allocated when first needed. */
+	private long[] words1, words2;
+
+	public SparseBits () {
+	}
+
+	/** Creates a copy of the specified set. */
+	public SparseBits (SparseBits bits) {
+		keys = Arrays.copyOf(bits.keys, Math.max(4, bits.size));
+		containers = new Container[keys.length];
+		for (int i = 0; i < bits.size; i++)
+			containers[i] = bits.containers[i].copy();
+		size = bits.size;
+	}
+
+	/** @param index the index of the bit
+	 * @return whether the bit is set
+	 * @throws IndexOutOfBoundsException if index < 0 */
+	public boolean get (int index) {
+		int i = find(key(index));
+		return i >= 0 && containers[i].contains((char)index);
+	}
+
+	/** Returns the bit at the given index and clears it in one go.
+	 * @param index the index of the bit
+	 * @return whether the bit was set before invocation
+	 * @throws IndexOutOfBoundsException if index < 0 */
+	public boolean getAndClear (int index) {
+		int i = find(key(index));
+		if (i < 0) return false;
+		Container container = containers[i];
+		if (!container.contains((char)index)) return false;
+		remove(i, container, (char)index);
+		return true;
+	}
+
+	/** Returns the bit at the given index and sets it in one go.
+	 * @param index the index of the bit
+	 * @return whether the bit was set before invocation
+	 * @throws IndexOutOfBoundsException if index < 0 */
+	public boolean getAndSet (int index) {
+		char key = key(index);
+		int i = find(key);
+		if (i >= 0 && containers[i].contains((char)index)) return true;
+		add(i, key, (char)index);
+		return false;
+	}
+
+	/** @param index the index of the bit to set
+	 * @throws IndexOutOfBoundsException if index < 0 */
+	public void set (int index) {
+		char key = key(index);
+		add(find(key), key, (char)index);
+	}
+
+	/** @param index the index of the bit to flip
+	 * @throws IndexOutOfBoundsException if index < 0 */
+	public void flip (int index) {
+		char key = key(index);
+		int i = find(key);
+		if (i >= 0 && containers[i].contains((char)index))
+			remove(i, containers[i], (char)index);
+		else
+			add(i, key, (char)index);
+	}
+
+	/** @param index the index of the bit to clear
+	 * @throws IndexOutOfBoundsException if index < 0 */
+	public void clear (int index) {
+		int i = find(key(index));
+		if (i >= 0) remove(i, containers[i], (char)index);
+	}
+
+	/** Clears the entire bitset */
+	public void clear () {
+		Arrays.fill(containers, 0, size, null);
+		size = 0;
+	}
+
+	/** @return the number of bits in the chunks currently stored, <b>not</b> the highest set bit! Clamped to
+	 *         {@link Integer#MAX_VALUE} when the last chunk is stored. */
+	public int numBits () {
+		return size == 0 ? 0 : (int)Math.min(Integer.MAX_VALUE, (keys[size - 1] + 1L) << 16);
+	}
+
+	/** Returns the "logical size" of this bitset: the index of the highest set bit in the bitset plus one. Returns zero if the
+	 * bitset contains no set bits.
+	 * 
+	 * @return the logical size of this bitset */
+	public int length () {
+		if (size == 0) return 0;
+		return (keys[size - 1] << 16) + containers[size - 1].last() + 1;
+	}
+
+	/** @return true if this bitset contains no bits that are set to true */
+	public boolean isEmpty () {
+		return size == 0;
+	}
+
+	/** Returns the number of bits set to true. */
+	public int cardinality () {
+		int cardinality = 0;
+		for (int i = 0; i < size; i++)
+			cardinality += containers[i].cardinality;
+		return cardinality;
+	}
+
+	/** Returns the index of the first bit that is set to true that occurs on or after the specified starting index. If no such bit
+	 * exists then -1 is returned. */
+	public int nextSetBit (int fromIndex) {
+		char key = key(fromIndex);
+		int i = find(key);
+		if (i >= 0) {
+			int low = containers[i].next((char)fromIndex);
+			if (low != -1) return key << 16 | low;
+			i++;
+		} else
+			i = -i - 1;
+		if (i >= size) return -1;
+		return keys[i] << 16 | containers[i].next((char)0);
+	}
+
+	/** Returns the index of the first bit that is set to false that occurs on or after the specified starting index. */
+	public int nextClearBit (int fromIndex) {
+		key(fromIndex);
+		for (int index = fromIndex; index >= 0; index = (index & 0xffff0000) + 0x10000) {
+			int i = find((char)(index >>> 16));
+			if (i < 0) return index;
+			int low = containers[i].nextClear((char)index);
+			if (low != -1) return (index & 0xffff0000) | low;
+		}
+		return -1;
+	}
+
+	/** Performs a logical <b>AND</b> of this target bit set with the argument bit set. This bit set is modified so that each bit in
+	 * it has the value true if and only if it both initially had the value true and the corresponding bit in the bit set argument
+	 * also had the value true.
+	 * @param other a bit set */
+	public void and (SparseBits other) {
+		int n = 0;
+		for (int i = 0, j = 0; i < size && j < other.size;) {
+			char key = keys[i], otherKey = other.keys[j];
+			if (key < otherKey)
+				i++;
+			else if (key > otherKey)
+				j++;
+			else {
+				Container container = and(containers[i++], other.containers[j++]);
+				if (container != null) {
+					keys[n] = key;
+					containers[n++] = container;
+				}
+			}
+		}
+		Arrays.fill(containers, n, size, null);
+		size = n;
+	}
+
+	/** Clears all of the bits in this bit set whose corresponding bit is set in the specified bit set.
+	 * 
+	 * @param other a bit set */
+	public void andNot (SparseBits other) {
+		int n = 0;
+		for (int i = 0, j = 0; i < size; i++) {
+			char key = keys[i];
+			while (j < other.size && other.keys[j] < key)
+				j++;
+			Container container = containers[i];
+			if (j < other.size && other.keys[j] == key) container = andNot(container, other.containers[j]);
+			if (container != null) {
+				keys[n] = key;
+				containers[n++] = container;
+			}
+		}
+		Arrays.fill(containers, n, size, null);
+		size = n;
+	}
+
+	/** Performs a logical <b>OR</b> of this bit set with the bit set argument. This bit set is modified so that a bit in it has the
+	 * value true if and only if it either already had the value true or the corresponding bit in the bit set argument has the
+	 * value true.
+	 * @param other a bit set */
+	public void or (SparseBits other) {
+		merge(other, false);
+	}
+
+	/** Performs a logical <b>XOR</b> of this bit set with the bit set argument. This bit set is modified so that a bit in it has
+	 * the value true if and only if exactly one of this bit set and the argument had the value true.
+	 * @param other a bit set */
+	public void xor (SparseBits other) {
+		merge(other, true);
+	}
+
+	private void merge (SparseBits other, boolean xor) {
+		if (other == this) {
+			if (xor) clear();
+			return;
+		}
+		int size = this.size, otherSize = other.size;
+		char[] otherKeys = other.keys;
+		// count the keys only the other set has, the arrays grow only if there are any
+		int added = 0;
+		for (int i = 0, j = 0; j < otherSize;) {
+			if (i == size || keys[i] > otherKeys[j]) {
+				added++;
+				j++;
+			} else if (keys[i] < otherKeys[j])
+				i++;
+			else {
+				i++;
+				j++;
+			}
+		}
+		ensureCapacity(size + added);
+		char[] keys = this.keys;
+		Container[] containers = this.containers;
+
+		// merge from the end, so entries are read before they are overwritten
+		int n = size + added, i = size - 1, j = otherSize - 1;
+		while (j >= 0) {
+			int key = i >= 0 ? keys[i] : -1, otherKey = otherKeys[j];
+			Container container;
+			if (key > otherKey)
+				container = containers[i--];
+			else if (key < otherKey) {
+				key = otherKey;
+				container = other.containers[j--].copy();
+			} else {
+				Container a = containers[i--], b = other.containers[j--];
+				container = xor ? xor(a, b) : or(a, b);
+				if (container == null) continue;
+			}
+			keys[--n] = (char)key;
+			containers[n] = container;
+		}
+		// the entries before the merged ones are already in place, close the gap left by emptied containers
+		if (n > i + 1) {
+			int count = size + added - n;
+			System.arraycopy(keys, n, keys, i + 1, count);
+			System.arraycopy(containers, n, containers, i + 1, count);
+			Arrays.fill(containers, i + 1 + count, size + added, null);
+			this.size = i + 1 + count;
+		} else
+			this.size = size + added;
+	}
+
+	/** Returns true if the specified bit set has any bits set to true that are also set to true in this bit set.
+	 * 
+	 * @param other a bit set
+	 * @return boolean indicating whether this bit set intersects the specified bit set */
+	public boolean intersects (SparseBits other) {
+		for (int i = 0, j = 0; i < size && j < other.size;) {
+			char key = keys[i], otherKey = other.keys[j];
+			if (key < otherKey)
+				i++;
+			else if (key > otherKey)
+				j++;
+			else if (intersects(containers[i++], other.containers[j++])) //
+				return true;
+		}
+		return false;
+	}
+
+	/** Returns true if this bit set is a super set of the specified set, i.e. it has all bits set to true that are also set to true
+	 * in the specified bit set.
+	 * 
+	 * @param other a bit set
+	 * @return boolean indicating whether this bit set is a super set of the specified set */
+	public boolean containsAll (SparseBits other) {
+		for (int i = 0, j = 0; j < other.size; j++) {
+			char otherKey = other.keys[j];
+			while (i < size && keys[i] < otherKey)
+				i++;
+			if (i == size || keys[i] != otherKey) return false;
+			if (!containsAll(containers[i], other.containers[j])) return false;
+		}
+		return true;
+	}
+
+	/** Converts each chunk to run encoding if that is smaller, or from run encoding if it is not. Call this after the set has been
+	 * built, as changing a chunk that uses runs converts it back. */
+	public void runOptimize () {
+		if (size == 0) return;
+		if (words1 == null) words1 = new long[1024];
+		long[] words = words1;
+		for (int i = 0; i < size; i++) {
+			Container container = containers[i];
+			container.toWords(words);
+			int runs = countRuns(words);
+			int runBytes = 2 + runs * 4, otherBytes = Math.min(container.cardinality * 2, 8192);
+			if (runBytes < otherBytes)
+				containers[i] = RunContainer.fromWords(words, runs, container.cardinality);
+			else if (container instanceof RunContainer) //
+				containers[i] = fromWords(words);
+		}
+	}
+
+	/** Writes the set bits in a compact form.
+	 * @see #read(DataInput) */
+	public void write (DataOutput output) throws IOException {
+		output.writeInt(size);
+		for (int i = 0; i < size; i++) {
+			output.writeChar(keys[i]);
+			containers[i].write(output);
+		}
+	}
+
+	/** Replaces the set bits with those written by {@link #write(DataOutput)}. */
+	public void read (DataInput input) throws IOException {
+		clear();
+		int size = input.readInt();
+		ensureCapacity(size);
+		for (int i = 0; i < size; i++) {
+			keys[i] = input.readChar();
+			switch (input.readByte()) {
+			case arrayType:
+				containers[i] = ArrayContainer.read(input);
+				break;
+			case bitmapType:
+				containers[i] = BitmapContainer.read(input);
+				break;
+			case runType:
+				containers[i] = RunContainer.read(input);
+				break;
+			default:
+				throw new IOException("Invalid container type.");
+			}
+		}
+		this.size = size;
+	}
+
+	@Override
+	public int hashCode () {
+		int hash = 0;
+		for (int i = 0; i < size; i++) {
+			Container container = containers[i];
+			int base = keys[i] << 16;
+			for (int low = container.next((char)0); low != -1; low = low == 0xffff ? -1 : container.next((char)(low + 1)))
+				hash = 127 * hash + (base | low);
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals (Object obj) {
+		if (this == obj) return true;
+		if (obj == null) return false;
+		if (getClass() != obj.getClass()) return false;
+		SparseBits other = (SparseBits)obj;
+		if (size != other.size) return false;
+		for (int i = 0; i < size; i++) {
+			if (keys[i] != other.keys[i]) return false;
+			Container container = containers[i], otherContainer = other.containers[i];
+			if (container.cardinality != otherContainer.cardinality) return false;
+			if (!containsAll(container, otherContainer)) return false;
+		}
+		return true;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		StringBuilder buffer = new StringBuilder(32);
+		buffer.append('[');
+		for (int index = nextSetBit(0); index != -1; index = index == Integer.MAX_VALUE ? -1 : nextSetBit(index + 1)) {
+			if (buffer.length() > 1) buffer.append(", ");
+			buffer.append(index);
+		}
+		buffer.append(']');
+		return buffer.toString();
+	}
+
+	static private char key (int index) {
+		if (index < 0) throw new IndexOutOfBoundsException("index can't be < 0: " + index);
+		return (char)(index >>> 16);
+	}
+
+	/** Returns the index of the container for the key, or -(insertion point) - 1. */
+	private int find (char key) {
+		char[] keys = this.keys;
+		int low = 0, high = size - 1;
+		// The last chunk is the most likely to be used when indices are set in increasing order.
+		if (size > 0 && keys[high] < key) return -size - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			char midKey = keys[mid];
+			if (midKey < key)
+				low = mid + 1;
+			else if (midKey > key)
+				high = mid - 1;
+			else
+				return mid;
+		}
+		return -low - 1;
+	}
+
+	private void ensureCapacity (int capacity) {
+		if (capacity <= keys.length) return;
+		capacity = Math.max(capacity, keys.length * 2);
+		keys = Arrays.copyOf(keys, capacity);
+		containers = Arrays.copyOf(containers, capacity);
+	}
+
+	private void add (int i, char key, char low) {
+		if (i >= 0) {
+			containers[i] = containers[i].add(low);
+			return;
+		}
+		i = -i - 1;
+		ensureCapacity(size + 1);
+		System.arraycopy(keys, i, keys, i + 1, size - i);
+		System.arraycopy(containers, i, containers, i + 1, size - i);
+		keys[i] = key;
+		containers[i] = new ArrayContainer(4).add(low);
+		size++;
+	}
+
+	private void remove (int i, Container container, char low) {
+		container = container.remove(low);
+		if (container.cardinality > 0) {
+			containers[i] = container;
+			return;
+		}
+		size--;
+		System.arraycopy(keys, i + 1, keys, i, size - i);
+		System.arraycopy(containers, i + 1, containers, i, size - i);
+		containers[size] = null;
+	}
+
+	private Container and (Container a, Container b) {
+		if (b instanceof ArrayContainer) {
+			Container swap = a;
+			a = b;
+			b = swap;
+		}
+		if (a instanceof ArrayContainer) return ((ArrayContainer)a).filter(b, true);
+		toWords(a, b);
+		long[] words1 = this.words1, words2 = this.words2;
+		for (int i = 0; i < 1024; i++)
+			words1[i] &= words2[i];
+		return fromWords(words1);
+	}
+
+	private Container andNot (Container a, Container b) {
+		if (a instanceof ArrayContainer) return ((ArrayContainer)a).filter(b, false);
+		toWords(a, b);
+		long[] words1 = this.words1, words2 = this.words2;
+		for (int i = 0; i < 1024; i++)
+			words1[i] &= ~words2[i];
+		return fromWords(words1);
+	}
+
+	private Container or (Container a, Container b) {
+		if (a instanceof ArrayContainer && b instanceof ArrayContainer
+			&& a.cardinality + b.cardinality <= maxArraySize) return ((ArrayContainer)a).union((ArrayContainer)b);
+		toWords(a, b);
+		long[] words1 = this.words1, words2 = this.words2;
+		for (int i = 0; i < 1024; i++)
+			words1[i] |= words2[i];
+		return fromWords(words1);
+	}
+
+	private Container xor (Container a, Container b) {
+		toWords(a, b);
+		long[] words1 = this.words1, words2 = this.words2;
+		for (int i = 0; i < 1024; i++)
+			words1[i] ^= words2[i];
+		return fromWords(words1);
+	}
+
+	private boolean intersects (Container a, Container b) {
+		if (b instanceof ArrayContainer) {
+			Container swap = a;
+			a = b;
+			b = swap;
+		}
+		if (a instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)a;
+			for (int i = 0; i < array.cardinality; i++)
+				if (b.contains(array.values[i])) return true;
+			return false;
+		}
+		if (a instanceof RunContainer) {
+			Container swap = a;
+			a = b;
+			b = swap;
+		}
+		if (b instanceof RunContainer) {
+			RunContainer run = (RunContainer)b;
+			char[] runs = run.runs;
+			for (int i = 0, n = run.runCount << 1; i < n; i += 2) {
+				int next = a.next(runs[i]);
+				if (next == -1) return false;
+				if (next <= runs[i] + runs[i + 1]) return true;
+			}
+			return false;
+		}
+		long[] words1 = ((BitmapContainer)a).words, words2 = ((BitmapContainer)b).words;
+		for (int i = 0; i < 1024; i++)
+			if ((words1[i] & words2[i]) != 0) return true;
+		return false;
+	}
+
+	/** Returns true if a contains all bits of b. */
+	private boolean containsAll (Container a, Container b) {
+		if (b.cardinality > a.cardinality) return false;
+		if (b instanceof ArrayContainer) {
+			ArrayContainer array = (ArrayContainer)b;
+			for (int i = 0; i < array.cardinality; i++)
+				if (!a.contains(array.values[i])) return false;
+			return true;
+		}
+		if (b instanceof RunContainer) {
+			// Each run of b must be set in a.
+			RunContainer run = (RunContainer)b;
+			char[] runs = run.runs;
+			for (int i = 0, n = run.runCount << 1; i < n; i += 2) {
+				int clear = a.nextClear(runs[i]);
+				if (clear != -1 && clear <= runs[i] + runs[i + 1]) return false;
+			}
+			return true;
+		}
+		if (!(a instanceof BitmapContainer)) {
+			// b must have no bits set between the runs of a.
+			for (int clear = a.nextClear((char)0); clear != -1;) {
+				int set = a.next((char)clear), next = b.next((char)clear);
+				if (next != -1 && (set == -1 || next < set)) return false;
+				if (set == -1) break;
+				clear = a.nextClear((char)set);
+			}
+			return true;
+		}
+		long[] words1 = ((BitmapContainer)a).words, words2 = ((BitmapContainer)b).words;
+		for (int i = 0; i < 1024; i++)
+			if ((words2[i] & ~words1[i]) != 0) return false;
+		return true;
+	}
+
+	private void toWords (Container a, Container b) {
+		if (words1 == null) {
+			words1 = new long[1024];
+			words2 = new long[1024];
+		}
+		a.toWords(words1);
+		b.toWords(words2);
+	}
+
+	/** Returns an array or bitmap container for the bits, or null if no bits are set. */
+	static Container fromWords (long[] words) {
+		int cardinality = 0;
+		for (int i = 0; i < 1024; i++)
+			cardinality += Long.bitCount(words[i]);
+		if (cardinality == 0) return null;
+		if (cardinality > maxArraySize) return new BitmapContainer(Arrays.copyOf(words, 1024), cardinality);
+		char[] values = new char[cardinality];
+		for (int i = 0, n = 0; i < 1024; i++) {
+			for (long word = words[i]; word != 0; word &= word - 1)
+				values[n++] = (char)(i << 6 | Long.numberOfTrailingZeros(word));
+		}
+		return new ArrayContainer(values, cardinality);
+	}
+
+	static int countRuns (long[] words) {
+		int runs = 0;
+		long previousTop = 0;
+		for (int i = 0; i < 1024; i++) {
+			long word = words[i];
+			// A run starts at each set bit whose lower neighbor is clear.
+			runs += Long.bitCount(word & ~(word << 1 | previousTop));
+			previousTop = word >>> 63;
+		}
+		return runs;
+	}
+
+	/** The set bits of a chunk of 65536 indices. Changes may return a different container. */
+	static abstract class Container {
+		int cardinality;
+
+		abstract boolean contains (char low);
+
+		abstract Container add (char low);
+
+		abstract Container remove (char low);
+
+		/** Returns the first set bit >= low, or -1. */
+		abstract int next (char low);
+
+		/** Returns the first clear bit >= low, or -1. */
+		abstract int nextClear (char low);
+
+		abstract int last ();
+
+		/** Sets the words to the bits of this container. */
+		abstract void toWords (long[] words);
+
+		abstract Container copy ();
+
+		abstract void write (DataOutput output) throws IOException;
+	}
+
+	static class ArrayContainer extends Container {
+		char[] values;
+
+		ArrayContainer (int capacity) {
+			values = new char[capacity];
+		}
+
+		ArrayContainer (char[] values, int cardinality) {
+			this.values = values;
+			this.cardinality = cardinality;
+		}
+
+		boolean contains (char low) {
+			return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+		}
+
+		Container add (char low) {
+			int i = Arrays.binarySearch(values, 0, cardinality, low);
+			if (i >= 0) return this;
+			if (cardinality == maxArraySize) {
+				BitmapContainer bitmap = new BitmapContainer(new long[1024], 0);
+				toWords(bitmap.words);
+				bitmap.cardinality = cardinality;
+				return bitmap.add(low);
+			}
+			i = -i - 1;
+			if (cardinality == values.length) values = Arrays.copyOf(values, Math.min(maxArraySize, cardinality * 2));
+			System.arraycopy(values, i, values, i + 1, cardinality - i);
+			values[i] = low;
+			cardinality++;
+			return this;
+		}
+
+		Container remove (char low) {
+			int i = Arrays.binarySearch(values, 0, cardinality, low);
+			if (i < 0) return this;
+			cardinality--;
+			System.arraycopy(values, i + 1, values, i, cardinality - i);
+			return this;
+		}
+
+		int next (char low) {
+			int i = Arrays.binarySearch(values, 0, cardinality, low);
+			if (i < 0) i = -i - 1;
+			return i < cardinality ? values[i] : -1;
+		}
+
+		int nextClear (char low) {
+			int i = Arrays.binarySearch(values, 0, cardinality, low);
+			if (i < 0) return low;
+			int clear = low;
+			for (; i < cardinality && values[i] == clear; i++)
+				clear++;
+			return clear > 0xffff ? -1 : clear;
+		}
+
+		int last () {
+			return values[cardinality - 1];
+		}
+
+		void toWords (long[] words) {
+			Arrays.fill(words, 0);
+			char[] values = this.values;
+			for (int i = 0, n = cardinality; i < n; i++) {
+				char value = values[i];
+				words[value >>> 6] |= 1L << value;
+			}
+		}
+
+		/** Returns the values that are (or are not) in the other container, or null if there are none. */
+		ArrayContainer filter (Container other, boolean keep) {
+			char[] values = this.values, result = new char[cardinality];
+			int n = 0;
+			for (int i = 0; i < cardinality; i++)
+				if (other.contains(values[i]) == keep) result[n++] = values[i];
+			return n == 0 ? null : new ArrayContainer(result, n);
+		}
+
+		ArrayContainer union (ArrayContainer other) {
+			char[] a = values, b = other.values, result = new char[cardinality + other.cardinality];
+			int i = 0, j = 0, n = 0;
+			while (i < cardinality && j < other.cardinality) {
+				char va = a[i], vb = b[j];
+				if (va < vb) {
+					result[n++] = va;
+					i++;
+				} else if (va > vb) {
+					result[n++] = vb;
+					j++;
+				} else {
+					result[n++] = va;
+					i++;
+					j++;
+				}
+			}
+			while (i < cardinality)
+				result[n++] = a[i++];
+			while (j < other.cardinality)
+				result[n++] = b[j++];
+			return new ArrayContainer(result, n);
+		}
+
+		Container copy () {
+			return new ArrayContainer(Arrays.copyOf(values, Math.max(1, cardinality)), cardinality);
+		}
+
+		void write (DataOutput output) throws IOException {
+			output.writeByte(arrayType);
+			output.writeShort(cardinality);
+			for (int i = 0; i < cardinality; i++)
+				output.writeChar(values[i]);
+		}
+
+		static ArrayContainer read (DataInput input) throws IOException {
+			int cardinality = input.readUnsignedShort();
+			char[] values = new char[Math.max(1, cardinality)];
+			for (int i = 0; i < cardinality; i++)
+				values[i] = input.readChar();
+			return new ArrayContainer(values, cardinality);
+		}
+	}
+
+	static class BitmapContainer extends Container {
+		final long[] words;
+
+		BitmapContainer (long[] words, int cardinality) {
+			this.words = words;
+			this.cardinality = cardinality;
+		}
+
+		boolean contains (char low) {
+			return (words[low >>> 6] & (1L << low)) != 0;
+		}
+
+		Container add (char low) {
+			long word = words[low >>> 6], newWord = word | (1L << low);
+			if (newWord != word) {
+				words[low >>> 6] = newWord;
+				cardinality++;
+			}
+			return this;
+		}
+
+		Container remove (char low) {
+			long word = words[low >>> 6], newWord = word & ~(1L << low);
+			if (newWord == word) return this;
+			words[low >>> 6] = newWord;
+			if (--cardinality > maxArraySize) return this;
+			return fromWords(words);
+		}
+
+		int next (char low) {
+			int i = low >>> 6;
+			long word = words[i] & (-1L << low);
+			while (word == 0) {
+				if (++i == 1024) return -1;
+				word = words[i];
+			}
+			return i << 6 | Long.numberOfTrailingZeros(word);
+		}
+
+		int nextClear (char low) {
+			int i = low >>> 6;
+			long word = ~words[i] & (-1L << low);
+			while (word == 0) {
+				if (++i == 1024) return -1;
+				word = ~words[i];
+			}
+			return i << 6 | Long.numberOfTrailingZeros(word);
+		}
+
+		int last () {
+			int i = 1023;
+			while (words[i] == 0)
+				i--;
+			return i << 6 | 63 - Long.numberOfLeadingZeros(words[i]);
+		}
+
+		void toWords (long[] words) {
+			System.arraycopy(this.words, 0, words, 0, 1024);
+		}
+
+		Container copy () {
+			return new BitmapContainer(Arrays.copyOf(words, 1024), cardinality);
+		}
+
+		void write (DataOutput output) throws IOException {
+			output.writeByte(bitmapType);
+			for (int i = 0; i < 1024; i++)
+				output.writeLong(words[i]);
+		}
+
+		static BitmapContainer read (DataInput input) throws IOException {
+			long[] words = new long[1024];
+			int cardinality = 0;
+			for (int i = 0; i < 1024; i++) {
+				words[i] = input.readLong();
+				cardinality += Long.bitCount(words[i]);
+			}
+			return new BitmapContainer(words, cardinality);
+		}
+	}
+
+	/** Stores each run of set bits as its start and length minus one. Changing it converts it to another container. */
+	static class RunContainer extends Container {
+		final char[] runs;
+		final int runCount;
+
+		RunContainer (char[] runs, int runCount, int cardinality) {
+			this.runs = runs;
+			this.runCount = runCount;
+			this.cardinality = cardinality;
+		}
+
+		/** Returns the index of the last run starting at or before low, or -1. */
+		private int find (char low) {
+			char[] runs = this.runs;
+			int lowRun = 0, highRun = runCount - 1;
+			while (lowRun <= highRun) {
+				int mid = (lowRun + highRun) >>> 1;
+				if (runs[mid << 1] <= low)
+					lowRun = mid + 1;
+				else
+					highRun = mid - 1;
+			}
+			return highRun;
+		}
+
+		boolean contains (char low) {
+			int i = find(low);
+			return i >= 0 && low <= runs[i << 1] + runs[(i << 1) + 1];
+		}
+
+		Container add (char low) {
+			if (contains(low)) return this;
+			return toContainer().add(low);
+		}
+
+		Container remove (char low) {
+			if (!contains(low)) return this;
+			return toContainer().remove(low);
+		}
+
+		private Container toContainer () {
+			long[] words = new long[1024];
+			toWords(words);
+			Container container = SparseBits.fromWords(words);
+			// A bitmap container can use the words directly.
+			return container instanceof BitmapContainer ? new BitmapContainer(words, cardinality) : container;
+		}
+
+		int next (char low) {
+			int i = find(low);
+			if (i >= 0 && low <= runs[i << 1] + runs[(i << 1) + 1]) return low;
+			i++;
+			return i < runCount ? runs[i << 1] : -1;
+		}
+
+		int nextClear (char low) {
+			int i = find(low);
+			if (i < 0) return low;
+			int end = runs[i << 1] + runs[(i << 1) + 1];
+			if (low > end) return low;
+			return end == 0xffff ? -1 : end + 1;
+		}
+
+		int last () {
+			int i = (runCount - 1) << 1;
+			return runs[i] + runs[i + 1];
+		}
+
+		void toWords (long[] words) {
+			Arrays.fill(words, 0);
+			for (int i = 0; i < runCount; i++) {
+				int start = runs[i << 1], end = start + runs[(i << 1) + 1];
+				int startWord = start >>> 6, endWord = end >>> 6;
+				long startMask = -1L << start, endMask = -1L >>> (63 - (end & 63));
+				if (startWord == endWord)
+					words[startWord] |= startMask & endMask;
+				else {
+					words[startWord] |= startMask;
+					for (int w = startWord + 1; w < endWord; w++)
+						words[w] = -1L;
+					words[endWord] |= endMask;
+				}
+			}
+		}
+
+		Container copy () {
+			return new RunContainer(Arrays.copyOf(runs, runCount << 1), runCount, cardinality);
+		}
+
+		void write (DataOutput output) throws IOException {
+			output.writeByte(runType);
+			output.writeShort(runCount);
+			for (int i = 0, n = runCount << 1; i < n; i++)
+				output.writeChar(runs[i]);
+		}
+
+		static RunContainer read (DataInput input) throws IOException {
+			int runCount = input.readUnsignedShort(), cardinality = 0;
+			char[] runs = new char[runCount << 1];
+			for (int i = 0; i < runCount; i++) {
+				runs[i << 1] = input.readChar();
+				runs[(i << 1) + 1] = input.readChar();
+				cardinality += runs[(i << 1) + 1] + 1;
+			}
+			return new RunContainer(runs, runCount, cardinality);
+		}
+
+		static RunContainer fromWords (long[] words, int runCount, int cardinality) {
+			char[] runs = new char[runCount << 1];
+			int n = 0, start = -1;
+			for (int i = 0; i < 1024; i++) {
+				long word = words[i];
+				for (int bit = 0; bit < 64; bit++) {
+					boolean set = (word & (1L << bit)) != 0;
+					int index = i << 6 | bit;
+					if (set && start == -1)
+						start = index;
+					else if (!set && start != -1) {
+						runs[n++] = (char)start;
+						runs[n++] = (char)(index - 1 - start);
+						start = -1;
+					}
+				}
+			}
+			if (start != -1) {
+				runs[n++] = (char)start;
+				runs[n++] = (char)(0xffff - start);
+			}
+			return new RunContainer(runs, runCount, cardinality);
+		}
+	}
+}
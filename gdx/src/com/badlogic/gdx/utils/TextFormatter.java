@@ -17,17 +17,22 @@
 package com.badlogic.gdx.utils;
 
 import java.text.MessageFormat;
+import java.util.Date;
 import java.util.Locale;
 
-/** {@code TextFormatter} is used by {@link I18NBundle} to perform argument replacement.
+/** {@code TextFormatter} is used by {@link I18NBundle} to perform argument replacement. Each pattern is parsed once into literal
+ * text and argument indices, which are cached for later calls.
  * 
  * @author davebaol */
 class TextFormatter {
 
 	private MessageFormat messageFormat;
 	private StringBuilder buffer;
+	private final Locale locale;
+	private final ObjectMap<String, CompiledPattern> compiledPatterns = new ObjectMap();
 
 	public TextFormatter (Locale locale, boolean useMessageFormat) {
+		this.locale = locale;
 		buffer = new StringBuilder();
 		if (useMessageFormat) messageFormat = new MessageFormat("", locale);
 	}
@@ -57,11 +62,100 @@ class TextFormatter {
 	 * @return the formatted pattern
 	 * @exception IllegalArgumentException if the pattern is invalid */
 	public String format (String pattern, Object... args) {
+		CompiledPattern compiled = compile(pattern);
+		if (compiled.indices != null && compiled.indices.length == 0) return compiled.literals[0];
+		buffer.setLength(0);
+		format(buffer, compiled, pattern, args);
+		return buffer.toString();
+	}
+
+	/** Appends the given {@code pattern} formatted as by {@link #format(String, Object...)} to {@code out}. With the simplified
+	 * syntax, String and Integer arguments are appended without allocation.
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String pattern, Object... args) {
+		format(out, compile(pattern), pattern, args);
+		return out;
+	}
+
+	/** Appends the given {@code pattern} formatted with a single argument to {@code out}. With the simplified syntax the argument
+	 * is appended without boxing or allocation.
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String pattern, int arg) {
+		CompiledPattern compiled = compile(pattern);
+		if (messageFormat != null || compiled.indices == null) return format(out, pattern, new Object[] {arg});
+		compiled.checkIndices(1);
+		String[] literals = compiled.literals;
+		for (int i = 0, n = compiled.indices.length; i < n; i++)
+			out.append(literals[i]).append(arg);
+		out.append(literals[literals.length - 1]);
+		return out;
+	}
+
+	/** Appends the given {@code pattern} formatted with a single argument to {@code out}. With the simplified syntax the argument
+	 * is appended without boxing.
+	 * @return {@code out} */
+	public StringBuilder format (StringBuilder out, String pattern, float arg) {
+		CompiledPattern compiled = compile(pattern);
+		if (messageFormat != null || compiled.indices == null) return format(out, pattern, new Object[] {arg});
+		compiled.checkIndices(1);
+		String[] literals = compiled.literals;
+		for (int i = 0, n = compiled.indices.length; i < n; i++)
+			out.append(literals[i]).append(arg);
+		out.append(literals[literals.length - 1]);
+		return out;
+	}
+
+	private CompiledPattern compile (String pattern) {
+		CompiledPattern compiled = compiledPatterns.get(pattern);
+		if (compiled == null) {
+			compiled = new CompiledPattern(pattern);
+			// Patterns using the full MessageFormat syntax and localized arguments are formatted by MessageFormat.
+			if (messageFormat != null) {
+				compiled.messageFormat = new MessageFormat(replaceEscapeChars(pattern), locale);
+				// MessageFormat gives some quotes next to escaped curly brackets a meaning, keep its output in that case.
+				if (compiled.indices != null && !compiled.matches(compiled.messageFormat)) compiled.indices = null;
+			}
+			compiledPatterns.put(pattern, compiled);
+		}
+		return compiled;
+	}
+
+	private void format (StringBuilder out, CompiledPattern compiled, String pattern, Object[] args) {
+		int[] indices = compiled.indices;
+		if (indices == null) {
+			// Invalid with the simplified syntax, which throws the same exception as before.
+			out.append(messageFormat != null ? compiled.messageFormat.format(args) : simpleFormat(pattern, args));
+			return;
+		}
 		if (messageFormat != null) {
-			messageFormat.applyPattern(replaceEscapeChars(pattern));
-			return messageFormat.format(args);
+			// Numbers and dates are localized by MessageFormat.
+			for (int i = 0, n = indices.length; i < n; i++) {
+				int index = indices[i];
+				if (index < args.length && (args[index] instanceof Number || args[index] instanceof Date)) {
+					out.append(compiled.messageFormat.format(args));
+					return;
+				}
+			}
+		} else
+			compiled.checkIndices(args.length);
+		String[] literals = compiled.literals;
+		for (int i = 0, n = indices.length; i < n; i++) {
+			out.append(literals[i]);
+			int index = indices[i];
+			if (index >= args.length) {
+				// MessageFormat leaves placeholders without an argument as they are.
+				out.append('{').append(index).append('}');
+				continue;
+			}
+			Object arg = args[index];
+			if (arg instanceof String)
+				out.append((String)arg);
+			else if (arg instanceof Integer)
+				out.append(((Integer)arg).intValue());
+			else
+				out.append(arg); // appends "null" for null
 		}
-		return simpleFormat(pattern, args);
+		out.append(literals[literals.length - 1]);
 	}
 
 	// This code is needed because a simple replacement like
@@ -153,4 +247,66 @@ class TextFormatter {
 
 		return changed ? buffer.toString() : pattern;
 	}
+
+	/** A pattern split into literal text around placeholders of the form {0}, {1}, {2} and so on. */
+	static class CompiledPattern {
+		/** The text before each placeholder and after the last one, with escaped left curly brackets replaced. */
+		String[] literals;
+		/** The argument index of each placeholder, or null if the pattern doesn't use only the simplified syntax. */
+		int[] indices;
+		MessageFormat messageFormat;
+
+		CompiledPattern (String pattern) {
+			Array<String> literals = new Array(true, 4, String.class);
+			IntArray indices = new IntArray(4);
+			StringBuilder literal = new StringBuilder(pattern.length());
+			for (int i = 0, length = pattern.length(); i < length; i++) {
+				char ch = pattern.charAt(i);
+				if (ch != '{') {
+					literal.append(ch);
+					continue;
+				}
+				if (i + 1 < length && pattern.charAt(i + 1) == '{') {
+					literal.append(ch); // escaped '{'
+					i++;
+					continue;
+				}
+				int end = i + 1, index = 0;
+				for (; end < length; end++) {
+					char digit = pattern.charAt(end);
+					if (digit < '0' || digit > '9') break;
+					index = index * 10 + (digit - '0');
+				}
+				if (end == i + 1 || end == length || pattern.charAt(end) != '}') return;
+				literals.add(literal.toString());
+				literal.setLength(0);
+				indices.add(index);
+				i = end;
+			}
+			literals.add(literals.size == 0 && literal.length() == pattern.length() ? pattern : literal.toString());
+			this.literals = literals.toArray();
+			this.indices = indices.toArray();
+		}
+
+		/** Returns true if the literals and indices format String arguments the same as the message format. */
+		boolean matches (MessageFormat messageFormat) {
+			int argCount = 0;
+			for (int i = 0, n = indices.length; i < n; i++)
+				argCount = Math.max(argCount, indices[i] + 1);
+			String[] args = new String[argCount];
+			for (int i = 0; i < argCount; i++)
+				args[i] = "\u0000" + i + "\u0000";
+			StringBuilder buffer = new StringBuilder();
+			for (int i = 0, n = indices.length; i < n; i++)
+				buffer.append(literals[i]).append(args[indices[i]]);
+			buffer.append(literals[literals.length - 1]);
+			return buffer.toString().equals(messageFormat.format(args));
+		}
+
+		/** Throws the exception the simplified syntax throws for the first index without an argument. */
+		void checkIndices (int argCount) {
+			for (int i = 0, n = indices.length; i < n; i++)
+				if (indices[i] >= argCount) throw new IllegalArgumentException("Argument index out of bounds: " + indices[i]);
+		}
+	}
 }
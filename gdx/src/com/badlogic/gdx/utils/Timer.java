@@ -16,12 +16,17 @@
 
 package com.badlogic.gdx.utils;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.badlogic.gdx.Application;
 import com.badlogic.gdx.Files;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.LifecycleListener;
 
 /** Executes tasks in the future on the main loop thread.
+ * <p>
+ * By default tasks are kept in a list which is checked each time the timer thread wakes up. A timer created with
+ * {@link #Timer(float)} keeps tasks in a hierarchical timing wheel instead, which is better for many thousands of tasks.
  * @author Nathan Sweet */
 public class Timer {
 	static final Array<Timer> instances = new Array(1);
@@ -40,8 +45,21 @@ public class Timer {
 	}
 
 	private final Array<Task> tasks = new Array(false, 8);
+	private final Wheel wheel;
 
 	public Timer () {
+		wheel = null;
+		start();
+	}
+
+	/** Creates a timer which keeps tasks in a hierarchical timing wheel. Scheduling and cancelling a task take constant time and
+	 * the timer thread only visits tasks which are due, so this scales to many thousands of tasks. Execution times are rounded up
+	 * to the resolution, and the tasks due at the same time are posted to the application as a single runnable.
+	 * @param resolutionSeconds The granularity of execution times, at least 0.001. */
+	public Timer (float resolutionSeconds) {
+		long resolutionMillis = (long)(resolutionSeconds * 1000);
+		if (resolutionMillis < 1) throw new IllegalArgumentException("resolutionSeconds must be >= 0.001: " + resolutionSeconds);
+		wheel = new Wheel(resolutionMillis, System.nanoTime() / 1000000);
 		start();
 	}
 
@@ -63,14 +81,24 @@ public class Timer {
 	/** Schedules a task to occur once after the specified delay and then a number of additional times at the specified
 	 * interval. */
 	public Task scheduleTask (Task task, float delaySeconds, float intervalSeconds, int repeatCount) {
+		long executeTimeMillis;
+		int generation;
 		synchronized (task) {
 			if (task.repeatCount != CANCELLED) throw new IllegalArgumentException("The same task may not be scheduled twice.");
-			task.executeTimeMillis = System.nanoTime() / 1000000 + (long)(delaySeconds * 1000);
+			task.executeTimeMillis = executeTimeMillis = System.nanoTime() / 1000000 + (long)(delaySeconds * 1000);
 			task.intervalMillis = (long)(intervalSeconds * 1000);
 			task.repeatCount = repeatCount;
+			generation = ++task.generation;
+			if (wheel != null) {
+				task.wheel = wheel;
+				wheel.scheduled.incrementAndGet();
+			}
 		}
 		synchronized (this) {
-			tasks.add(task);
+			if (wheel != null)
+				wheel.add(task, generation, executeTimeMillis);
+			else
+				tasks.add(task);
 		}
 		wake();
 
@@ -97,6 +125,7 @@ public class Timer {
 	/** Cancels all tasks. */
 	public void clear () {
 		synchronized (this) {
+			if (wheel != null) wheel.clear();
 			for (int i = 0, n = tasks.size; i < n; i++)
 				tasks.get(i).cancel();
 			tasks.clear();
@@ -107,12 +136,14 @@ public class Timer {
 	 * instance to prevent tasks being added, removed, or updated. */
 	public boolean isEmpty () {
 		synchronized (this) {
+			if (wheel != null) return wheel.isEmpty();
 			return tasks.size == 0;
 		}
 	}
 
 	long update (long timeMillis, long waitMillis) {
 		synchronized (this) {
+			if (wheel != null) return wheel.update(timeMillis, waitMillis);
 			for (int i = 0, n = tasks.size; i < n; i++) {
 				Task task = tasks.get(i);
 				synchronized (task) {
@@ -142,6 +173,7 @@ public class Timer {
 	/** Adds the specified delay to all tasks. */
 	public void delay (long delayMillis) {
 		synchronized (this) {
+			if (wheel != null) wheel.delay(delayMillis);
 			for (int i = 0, n = tasks.size; i < n; i++) {
 				Task task = tasks.get(i);
 				synchronized (task) {
@@ -188,7 +220,10 @@ public class Timer {
 		long executeTimeMillis;
 		long intervalMillis;
 		int repeatCount = CANCELLED;
+		int generation;
 		Application app;
+		/** The wheel counting this task as scheduled, or null. */
+		Wheel wheel;
 
 		public Task () {
 			app = Gdx.app; // Need to store the app when the task was created for multiple LwjglAWTCanvas.
@@ -203,6 +238,14 @@ public class Timer {
 		public synchronized void cancel () {
 			executeTimeMillis = 0;
 			repeatCount = CANCELLED;
+			unschedule();
+		}
+
+		void unschedule () {
+			if (wheel != null) {
+				wheel.scheduled.decrementAndGet();
+				wheel = null;
+			}
 		}
 
 		/** Returns true if this task is scheduled to be executed in the future by a timer. The execution time may be reached after
@@ -225,6 +268,238 @@ public class Timer {
 		}
 	}
 
+	/** Tasks of a timer by the tick they are due, in levels of 64 slots where each level's slot covers a whole rotation of the
+	 * level below. A slot of a higher level is moved down when the lower levels have made a full rotation, so each task is moved
+	 * at most once per level. Cancelled tasks are not removed, their nodes are dropped when their slot comes up.
+	 * @see Timer#Timer(float) */
+	static private class Wheel {
+		static final int SLOT_BITS = 6, SLOTS = 1 << SLOT_BITS, SLOT_MASK = SLOTS - 1, LEVELS = 4;
+
+		final long resolutionMillis;
+		final Node[][] slots = new Node[LEVELS][SLOTS];
+		final Array<Task> expired = new Array(false, 16);
+		/** Nodes due on the next update. */
+		Node due;
+		Node freeNodes;
+		long startMillis, tick;
+		/** The number of nodes, including those of cancelled tasks. */
+		int size;
+		/** The number of tasks which are scheduled, updated by the tasks without the timer's lock. */
+		final AtomicInteger scheduled = new AtomicInteger();
+
+		Wheel (long resolutionMillis, long timeMillis) {
+			this.resolutionMillis = resolutionMillis;
+			startMillis = timeMillis;
+		}
+
+		void add (Task task, int generation, long executeTimeMillis) {
+			Node node = freeNodes;
+			if (node != null)
+				freeNodes = node.next;
+			else
+				node = new Node();
+			node.task = task;
+			node.generation = generation;
+			schedule(node, executeTimeMillis);
+			size++;
+		}
+
+		private void schedule (Node node, long executeTimeMillis) {
+			// Round up so a task never runs early.
+			long millis = executeTimeMillis - startMillis;
+			node.tick = millis <= 0 ? 0 : (millis + resolutionMillis - 1) / resolutionMillis;
+			insert(node);
+		}
+
+		private void insert (Node node) {
+			long delta = node.tick - tick;
+			if (delta <= 0) {
+				node.next = due;
+				due = node;
+				return;
+			}
+			int level = 0;
+			while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1)))
+				level++;
+			long slotTick = node.tick;
+			// Beyond the last level, wait in the slot that is cascaded last and insert again from there.
+			if (delta >= 1L << (SLOT_BITS * LEVELS)) slotTick = tick + (1L << (SLOT_BITS * LEVELS)) - 1;
+			int index = (int)(slotTick >>> (SLOT_BITS * level)) & SLOT_MASK;
+			node.next = slots[level][index];
+			slots[level][index] = node;
+		}
+
+		long update (long timeMillis, long waitMillis) {
+			long toTick = (timeMillis - startMillis) / resolutionMillis;
+			runDue(timeMillis);
+			while (tick < toTick) {
+				if (size == 0) {
+					tick = toTick;
+					break;
+				}
+				tick++;
+				for (int level = LEVELS - 1; level > 0; level--) {
+					if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) continue;
+					int index = (int)(tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+					Node node = slots[level][index];
+					slots[level][index] = null;
+					while (node != null) {
+						Node next = node.next;
+						if (isValid(node))
+							insert(node);
+						else
+							free(node);
+						node = next;
+					}
+				}
+				int index = (int)tick & SLOT_MASK;
+				Node node = slots[0][index];
+				slots[0][index] = null;
+				while (node != null) {
+					Node next = node.next;
+					run(node, timeMillis);
+					node = next;
+				}
+				runDue(timeMillis);
+			}
+			post();
+			return Math.min(waitMillis, waitMillis(timeMillis));
+		}
+
+		private void runDue (long timeMillis) {
+			Node node = due;
+			due = null;
+			while (node != null) {
+				Node next = node.next;
+				run(node, timeMillis);
+				node = next;
+			}
+		}
+
+		/** Returns true if no task is scheduled. Nodes of cancelled tasks are still in their slots, so this uses the count of
+		 * scheduled tasks rather than the nodes. */
+		boolean isEmpty () {
+			return scheduled.get() == 0;
+		}
+
+		private boolean isValid (Node node) {
+			Task task = node.task;
+			synchronized (task) {
+				return task.generation == node.generation && task.repeatCount != CANCELLED;
+			}
+		}
+
+		private void run (Node node, long timeMillis) {
+			Task task = node.task;
+			synchronized (task) {
+				if (task.generation == node.generation && task.repeatCount != CANCELLED) {
+					if (task.repeatCount == 0) {
+						task.repeatCount = CANCELLED;
+						task.unschedule();
+					}
+					expired.add(task);
+					if (task.repeatCount != CANCELLED) {
+						task.executeTimeMillis = timeMillis + task.intervalMillis;
+						if (task.repeatCount > 0) task.repeatCount--;
+						schedule(node, task.executeTimeMillis);
+						return;
+					}
+				}
+			}
+			free(node);
+		}
+
+		private void free (Node node) {
+			node.task = null;
+			node.next = freeNodes;
+			freeNodes = node;
+			size--;
+		}
+
+		/** Posts the expired tasks, one runnable for each run of tasks with the same application. A task that throws doesn't keep
+		 * the others from running, the first exception is rethrown after all tasks ran. */
+		private void post () {
+			Array<Task> expired = this.expired;
+			for (int i = 0, n = expired.size; i < n;) {
+				Application app = expired.get(i).app;
+				final Array<Task> batch = new Array(false, n - i, Task.class);
+				for (; i < n && expired.get(i).app == app; i++)
+					batch.add(expired.get(i));
+				app.postRunnable(new Runnable() {
+					public void run () {
+						RuntimeException failure = null;
+						for (int i = 0, n = batch.size; i < n; i++) {
+							try {
+								batch.get(i).run();
+							} catch (RuntimeException ex) {
+								if (failure == null) failure = ex;
+							}
+						}
+						if (failure != null) throw failure;
+					}
+				});
+			}
+			expired.clear();
+		}
+
+		/** Returns the time until the next non-empty slot of the first level or the next cascade. */
+		private long waitMillis (long timeMillis) {
+			if (due != null) return 0;
+			if (size == 0) return Long.MAX_VALUE;
+			long next = tick + 1;
+			while ((next & SLOT_MASK) != 0 && slots[0][(int)next & SLOT_MASK] == null)
+				next++;
+			return Math.max(0, startMillis + next * resolutionMillis - timeMillis);
+		}
+
+		void delay (long delayMillis) {
+			startMillis += delayMillis;
+			for (int level = 0; level < LEVELS; level++)
+				for (int i = 0; i < SLOTS; i++)
+					delay(slots[level][i], delayMillis);
+			delay(due, delayMillis);
+		}
+
+		private void delay (Node node, long delayMillis) {
+			for (; node != null; node = node.next) {
+				Task task = node.task;
+				synchronized (task) {
+					if (task.generation == node.generation) task.executeTimeMillis += delayMillis;
+				}
+			}
+		}
+
+		void clear () {
+			for (int level = 0; level < LEVELS; level++) {
+				for (int i = 0; i < SLOTS; i++) {
+					clear(slots[level][i]);
+					slots[level][i] = null;
+				}
+			}
+			clear(due);
+			due = null;
+		}
+
+		private void clear (Node node) {
+			while (node != null) {
+				Node next = node.next;
+				Task task = node.task;
+				synchronized (task) {
+					if (task.generation == node.generation) task.cancel();
+				}
+				free(node);
+				node = next;
+			}
+		}
+
+		static class Node {
+			Task task;
+			int generation;
+			long tick;
+			Node next;
+		}
+	}
+
 	/** Manages the single timer thread. Stops thread on libgdx application pause and dispose, starts thread on resume.
 	 * @author Nathan Sweet */
 	static class TimerThread implements Runnable, LifecycleListener {
@@ -20,6 +20,14 @@ import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
@@ -29,6 +37,9 @@ import com.badlogic.gdx.utils.JsonWriter.OutputType;
  * <br>
  * The default behavior is to parse the JSON into a DOM containing {@link JsonValue} objects. Extend this class and override
  * methods to perform event driven parsing. When this is done, the parse methods will return null. <br>
+ * <br>
+ * {@link #parse(ByteBuffer, ObjectSet)} reads directly from a buffer, eg a memory mapped file, and can return large numeric arrays
+ * as {@link NumericArray} views of the buffer. The event driven methods are not used in that case. <br>
  * @author Xoppa */
 public class UBJsonReader implements BaseJsonReader {
 	public boolean oldFormat = true;
@@ -57,6 +68,25 @@ public class UBJsonReader implements BaseJsonReader {
 		}
 	}
 
+	/** @see #parse(ByteBuffer, ObjectSet) */
+	public JsonValue parse (ByteBuffer buffer) {
+		return parse(buffer, null);
+	}
+
+	/** Parses the UBJSON from the buffer, starting at its position. The buffer's position and byte order are not changed.
+	 * @param bulkArrays Names of object fields which, if they are a strongly typed array of numbers, are returned as a
+	 *           {@link NumericArray} instead of having a child for each value. May be null. */
+	public JsonValue parse (ByteBuffer buffer, ObjectSet<String> bulkArrays) {
+		buffer = buffer.slice();
+		buffer.order(ByteOrder.BIG_ENDIAN);
+		try {
+			return parse(buffer, buffer.get(), null, bulkArrays);
+		} catch (RuntimeException ex) {
+			if (ex instanceof SerializationException) throw ex;
+			throw new SerializationException("Error parsing UBJSON at byte " + buffer.position(), ex);
+		}
+	}
+
 	public JsonValue parse (final DataInputStream din) throws IOException {
 		try {
 			return parse(din, din.readByte());
@@ -248,4 +278,330 @@ public class UBJsonReader implements BaseJsonReader {
 		din.readFully(data);
 		return new String(data, "UTF-8");
 	}
+
+	private JsonValue parse (ByteBuffer buffer, byte type, String name, ObjectSet<String> bulkArrays) {
+		if (type == '[')
+			return parseArray(buffer, name, bulkArrays);
+		else if (type == '{')
+			return parseObject(buffer, bulkArrays);
+		else if (type == 'Z')
+			return new JsonValue(JsonValue.ValueType.nullValue);
+		else if (type == 'T')
+			return new JsonValue(true);
+		else if (type == 'F')
+			return new JsonValue(false);
+		else if (type == 'B' || type == 'U')
+			return new JsonValue((long)(buffer.get() & 0xFF));
+		else if (type == 'i')
+			return new JsonValue(oldFormat ? (long)buffer.getShort() : (long)buffer.get());
+		else if (type == 'I')
+			return new JsonValue(oldFormat ? (long)buffer.getInt() : (long)buffer.getShort());
+		else if (type == 'l')
+			return new JsonValue((long)buffer.getInt());
+		else if (type == 'L')
+			return new JsonValue(buffer.getLong());
+		else if (type == 'd')
+			return new JsonValue(buffer.getFloat());
+		else if (type == 'D')
+			return new JsonValue(buffer.getDouble());
+		else if (type == 's' || type == 'S')
+			return new JsonValue(parseString(buffer, false, type));
+		else if (type == 'a' || type == 'A')
+			return parseData(buffer, type, name, bulkArrays);
+		else if (type == 'C')
+			return new JsonValue(buffer.getChar());
+		else
+			throw new GdxRuntimeException("Unrecognized data type");
+	}
+
+	private JsonValue parseArray (ByteBuffer buffer, String name, ObjectSet<String> bulkArrays) {
+		byte type = buffer.get();
+		byte valueType = 0;
+		if (type == '$') {
+			valueType = buffer.get();
+			type = buffer.get();
+		}
+		long size = -1;
+		if (type == '#') {
+			size = parseSize(buffer, buffer.get(), false, -1);
+			if (size < 0) throw new GdxRuntimeException("Unrecognized data type");
+			if (valueType != 0 && name != null && bulkArrays != null && bulkArrays.contains(name)) {
+				JsonValue result = parseNumericArray(buffer, valueType, size);
+				if (result != null) return result;
+			}
+			if (size == 0) return new JsonValue(JsonValue.ValueType.array);
+			type = valueType == 0 ? buffer.get() : valueType;
+		}
+		JsonValue result = new JsonValue(JsonValue.ValueType.array);
+		JsonValue prev = null;
+		long c = 0;
+		while (buffer.hasRemaining() && type != ']') {
+			final JsonValue val = parse(buffer, type, null, bulkArrays);
+			addChild(result, prev, val);
+			prev = val;
+			if (size > 0 && ++c >= size) break;
+			type = valueType == 0 ? buffer.get() : valueType;
+		}
+		return result;
+	}
+
+	private JsonValue parseObject (ByteBuffer buffer, ObjectSet<String> bulkArrays) {
+		JsonValue result = new JsonValue(JsonValue.ValueType.object);
+		byte type = buffer.get();
+		byte valueType = 0;
+		if (type == '$') {
+			valueType = buffer.get();
+			type = buffer.get();
+		}
+		long size = -1;
+		if (type == '#') {
+			size = parseSize(buffer, buffer.get(), false, -1);
+			if (size < 0) throw new GdxRuntimeException("Unrecognized data type");
+			if (size == 0) return result;
+			type = buffer.get();
+		}
+		JsonValue prev = null;
+		long c = 0;
+		while (buffer.hasRemaining() && type != '}') {
+			final String key = parseString(buffer, true, type);
+			final JsonValue child = parse(buffer, valueType == 0 ? buffer.get() : valueType, key, bulkArrays);
+			child.setName(key);
+			addChild(result, prev, child);
+			prev = child;
+			if (size > 0 && ++c >= size) break;
+			type = buffer.get();
+		}
+		return result;
+	}
+
+	private JsonValue parseData (ByteBuffer buffer, byte blockType, String name, ObjectSet<String> bulkArrays) {
+		final byte dataType = buffer.get();
+		final long size = blockType == 'A' ? buffer.getInt() & 0xFFFFFFFFL : (long)(buffer.get() & 0xFF);
+		if (name != null && bulkArrays != null && bulkArrays.contains(name)) {
+			JsonValue result = parseNumericArray(buffer, dataType, size);
+			if (result != null) return result;
+		}
+		final JsonValue result = new JsonValue(JsonValue.ValueType.array);
+		JsonValue prev = null;
+		for (long i = 0; i < size; i++) {
+			final JsonValue val = parse(buffer, dataType, null, bulkArrays);
+			addChild(result, prev, val);
+			prev = val;
+		}
+		return result;
+	}
+
+	/** Returns a view of size values of the given type and advances the buffer past them.
+	 * @return null if the type is not a number. */
+	private NumericArray parseNumericArray (ByteBuffer buffer, byte type, long size) {
+		int bytes;
+		switch (type) {
+		case 'B':
+		case 'U':
+			bytes = 1;
+			break;
+		case 'i':
+			bytes = oldFormat ? 2 : 1;
+			break;
+		case 'I':
+			bytes = oldFormat ? 4 : 2;
+			break;
+		case 'l':
+		case 'd':
+			bytes = 4;
+			break;
+		case 'L':
+		case 'D':
+			bytes = 8;
+			break;
+		default:
+			return null;
+		}
+		if (size * bytes > buffer.remaining()) throw new GdxRuntimeException("Array exceeds the end of the data: " + size);
+		ByteBuffer data = buffer.slice();
+		data.order(ByteOrder.BIG_ENDIAN);
+		data.limit((int)size * bytes);
+		buffer.position(buffer.position() + data.limit());
+		Buffer values;
+		if (bytes == 1)
+			values = data;
+		else if (bytes == 2)
+			values = data.asShortBuffer();
+		else if (type == 'd')
+			values = data.asFloatBuffer();
+		else if (type == 'D')
+			values = data.asDoubleBuffer();
+		else if (bytes == 4)
+			values = data.asIntBuffer();
+		else
+			values = data.asLongBuffer();
+		return new NumericArray(values, type == 'B' || type == 'U');
+	}
+
+	static private void addChild (JsonValue parent, JsonValue prev, JsonValue child) {
+		child.parent = parent;
+		if (prev != null) {
+			child.prev = prev;
+			prev.next = child;
+			parent.size++;
+		} else {
+			parent.child = child;
+			parent.size = 1;
+		}
+	}
+
+	private String parseString (ByteBuffer buffer, boolean sOptional, byte type) {
+		long size = -1;
+		if (type == 'S')
+			size = parseSize(buffer, buffer.get(), true, -1);
+		else if (type == 's')
+			size = (long)(buffer.get() & 0xFF);
+		else if (sOptional) size = parseSize(buffer, type, false, -1);
+		if (size < 0) throw new GdxRuntimeException("Unrecognized data type, string expected");
+		if (size == 0) return "";
+		int length = (int)size;
+		try {
+			String string;
+			if (buffer.hasArray())
+				string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, "UTF-8");
+			else {
+				byte[] bytes = new byte[length];
+				buffer.duplicate().get(bytes);
+				string = new String(bytes, "UTF-8");
+			}
+			buffer.position(buffer.position() + length);
+			return string;
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
+	private long parseSize (ByteBuffer buffer, byte type, boolean useIntOnError, long defaultValue) {
+		if (type == 'i') return (long)(buffer.get() & 0xFF);
+		if (type == 'I') return (long)(buffer.getShort() & 0xFFFF);
+		if (type == 'l') return buffer.getInt() & 0xFFFFFFFFL;
+		if (type == 'L') return buffer.getLong();
+		if (useIntOnError) {
+			long result = (long)(type & 0xFF) << 24;
+			result |= (long)(buffer.get() & 0xFF) << 16;
+			result |= (long)(buffer.get() & 0xFF) << 8;
+			result |= (long)(buffer.get() & 0xFF);
+			return result;
+		}
+		return defaultValue;
+	}
+
+	/** A strongly typed array of numbers which is a view of the parsed data rather than having a child for each value. The values
+	 * are available through {@link #getBuffer()} or copied in bulk by the as*Array methods. Other methods that access children
+	 * see an empty array. */
+	static public class NumericArray extends JsonValue {
+		private final Buffer values;
+		private final boolean unsigned;
+
+		NumericArray (Buffer values, boolean unsigned) {
+			super(JsonValue.ValueType.array);
+			this.values = values;
+			this.unsigned = unsigned;
+			size = values.limit();
+		}
+
+		/** Returns the values, a ByteBuffer, ShortBuffer, IntBuffer, LongBuffer, FloatBuffer or DoubleBuffer which shares the memory
+		 * of the parsed data. The byte order is big endian. */
+		public Buffer getBuffer () {
+			return values;
+		}
+
+		/** Returns true if the values are bytes which should be treated as unsigned. */
+		public boolean isUnsigned () {
+			return unsigned;
+		}
+
+		private long longValue (int index) {
+			if (values instanceof ByteBuffer) {
+				byte value = ((ByteBuffer)values).get(index);
+				return unsigned ? value & 0xFF : value;
+			}
+			if (values instanceof ShortBuffer) return ((ShortBuffer)values).get(index);
+			if (values instanceof IntBuffer) return ((IntBuffer)values).get(index);
+			if (values instanceof LongBuffer) return ((LongBuffer)values).get(index);
+			if (values instanceof FloatBuffer) return (long)((FloatBuffer)values).get(index);
+			return (long)((DoubleBuffer)values).get(index);
+		}
+
+		private double doubleValue (int index) {
+			if (values instanceof FloatBuffer) return ((FloatBuffer)values).get(index);
+			if (values instanceof DoubleBuffer) return ((DoubleBuffer)values).get(index);
+			return longValue(index);
+		}
+
+		private boolean isDecimal () {
+			return values instanceof FloatBuffer || values instanceof DoubleBuffer;
+		}
+
+		public float[] asFloatArray () {
+			float[] array = new float[size];
+			if (values instanceof FloatBuffer)
+				((FloatBuffer)values).duplicate().get(array);
+			else {
+				for (int i = 0; i < size; i++)
+					array[i] = isDecimal() ? (float)doubleValue(i) : (float)longValue(i);
+			}
+			return array;
+		}
+
+		public double[] asDoubleArray () {
+			double[] array = new double[size];
+			if (values instanceof DoubleBuffer)
+				((DoubleBuffer)values).duplicate().get(array);
+			else {
+				for (int i = 0; i < size; i++)
+					array[i] = doubleValue(i);
+			}
+			return array;
+		}
+
+		public long[] asLongArray () {
+			long[] array = new long[size];
+			if (values instanceof LongBuffer)
+				((LongBuffer)values).duplicate().get(array);
+			else {
+				for (int i = 0; i < size; i++)
+					array[i] = isDecimal() ? (long)doubleValue(i) : longValue(i);
+			}
+			return array;
+		}
+
+		public int[] asIntArray () {
+			int[] array = new int[size];
+			if (values instanceof IntBuffer)
+				((IntBuffer)values).duplicate().get(array);
+			else {
+				for (int i = 0; i < size; i++)
+					array[i] = isDecimal() ? (int)doubleValue(i) : (int)longValue(i);
+			}
+			return array;
+		}
+
+		public short[] asShortArray () {
+			short[] array = new short[size];
+			if (values instanceof ShortBuffer)
+				((ShortBuffer)values).duplicate().get(array);
+			else {
+				for (int i = 0; i < size; i++)
+					array[i] = isDecimal() ? (short)doubleValue(i) : (short)longValue(i);
+			}
+			return array;
+		}
+
+		public byte[] asByteArray () {
+			byte[] array = new byte[size];
+			if (values instanceof ByteBuffer)
+				((ByteBuffer)values).duplicate().get(array);
+			else {
+				for (int i = 0; i < size; i++)
+					array[i] = isDecimal() ? (byte)doubleValue(i) : (byte)longValue(i);
+			}
+			return array;
+		}
+	}
 }
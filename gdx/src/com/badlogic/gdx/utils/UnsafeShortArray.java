@@ -0,0 +1,268 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+
+import com.badlogic.gdx.graphics.glutils.IndexBufferObject;
+
+/** A resizable, ordered short array stored outside the Java heap, in memory from {@link BufferUtils#newUnsafeByteBuffer(int)}.
+ * The values can be passed to OpenGL without first copying them to a direct buffer, see
+ * {@link IndexBufferObject#setIndices(UnsafeShortArray)}. The memory is counted by
+ * {@link BufferUtils#getAllocatedBytesUnsafe()} and must be freed with {@link #dispose()}.
+ * @see ShortArray */
+public class UnsafeShortArray implements Disposable {
+	public int size;
+	private ByteBuffer bytes;
+	private ShortBuffer buffer;
+
+	/** Creates an array with a capacity of 16. */
+	public UnsafeShortArray () {
+		this(16);
+	}
+
+	/** @param capacity Any elements added beyond this will cause the backing memory to be reallocated. */
+	public UnsafeShortArray (int capacity) {
+		resize(capacity);
+	}
+
+	/** Creates a new array containing the elements in the specified array. The capacity is set to the number of elements. */
+	public UnsafeShortArray (ShortArray array) {
+		this(array.size);
+		addAll(array.items, 0, array.size);
+	}
+
+	public void add (short value) {
+		if (size == getCapacity()) resize(Math.max(8, (int)(size * 1.75f)));
+		buffer.put(size++, value);
+	}
+
+	public void add (short value1, short value2) {
+		if (size + 1 >= getCapacity()) resize(Math.max(8, (int)(size * 1.75f)));
+		ShortBuffer buffer = this.buffer;
+		buffer.put(size, value1);
+		buffer.put(size + 1, value2);
+		size += 2;
+	}
+
+	public void add (short value1, short value2, short value3) {
+		if (size + 2 >= getCapacity()) resize(Math.max(8, (int)(size * 1.75f)));
+		ShortBuffer buffer = this.buffer;
+		buffer.put(size, value1);
+		buffer.put(size + 1, value2);
+		buffer.put(size + 2, value3);
+		size += 3;
+	}
+
+	public void add (short value1, short value2, short value3, short value4) {
+		if (size + 3 >= getCapacity()) resize(Math.max(8, (int)(size * 1.8f))); // 1.75 isn't enough when size=5.
+		ShortBuffer buffer = this.buffer;
+		buffer.put(size, value1);
+		buffer.put(size + 1, value2);
+		buffer.put(size + 2, value3);
+		buffer.put(size + 3, value4);
+		size += 4;
+	}
+
+	public void addAll (ShortArray array) {
+		addAll(array.items, 0, array.size);
+	}
+
+	public void addAll (UnsafeShortArray array) {
+		if (array == this) throw new IllegalArgumentException("array cannot be this array.");
+		ensureCapacity(array.size);
+		ShortBuffer source = array.buffer;
+		source.position(0);
+		source.limit(array.size);
+		buffer.position(size);
+		buffer.put(source);
+		source.clear();
+		size += array.size;
+	}
+
+	public void addAll (short... array) {
+		addAll(array, 0, array.length);
+	}
+
+	public void addAll (short[] array, int offset, int length) {
+		if (offset + length > array.length)
+			throw new IllegalArgumentException("offset + length must be <= size: " + offset + " + " + length + " <= " + array.length);
+		ensureCapacity(length);
+		buffer.position(size);
+		buffer.put(array, offset, length);
+		size += length;
+	}
+
+	public short get (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		return buffer.get(index);
+	}
+
+	public void set (int index, short value) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		buffer.put(index, value);
+	}
+
+	/** Copies values to the specified array.
+	 * @param index The index of the first value to copy. */
+	public void get (int index, short[] array, int offset, int length) {
+		if (index + length > size)
+			throw new IndexOutOfBoundsException("index + length can't be > size: " + index + " + " + length + " > " + size);
+		buffer.position(index);
+		buffer.get(array, offset, length);
+	}
+
+	/** Copies values from the specified array, overwriting existing values.
+	 * @param index The index of the first value to overwrite. */
+	public void set (int index, short[] array, int offset, int length) {
+		if (index + length > size)
+			throw new IndexOutOfBoundsException("index + length can't be > size: " + index + " + " + length + " > " + size);
+		buffer.position(index);
+		buffer.put(array, offset, length);
+	}
+
+	/** Removes and returns the item at the specified index. The following values are moved down. */
+	public short removeIndex (int index) {
+		if (index >= size) throw new IndexOutOfBoundsException("index can't be >= size: " + index + " >= " + size);
+		short value = buffer.get(index);
+		size--;
+		if (index < size) {
+			ShortBuffer source = buffer.duplicate();
+			source.position(index + 1);
+			source.limit(size + 1);
+			buffer.position(index);
+			buffer.put(source);
+		}
+		return value;
+	}
+
+	/** Removes and returns the last item. */
+	public short pop () {
+		return buffer.get(--size);
+	}
+
+	/** Returns the last item. */
+	public short peek () {
+		return buffer.get(size - 1);
+	}
+
+	public void clear () {
+		size = 0;
+	}
+
+	/** Returns the number of values that can be stored without reallocating the backing memory. */
+	public int getCapacity () {
+		return buffer.capacity();
+	}
+
+	/** Reduces the size of the backing memory to the size of the array. */
+	public void shrink () {
+		if (getCapacity() != size) resize(size);
+	}
+
+	/** Increases the size of the backing memory to accommodate the specified number of additional items. Useful before adding many
+	 * items to avoid multiple reallocations. */
+	public void ensureCapacity (int additionalCapacity) {
+		if (additionalCapacity < 0) throw new IllegalArgumentException("additionalCapacity must be >= 0: " + additionalCapacity);
+		int sizeNeeded = size + additionalCapacity;
+		if (sizeNeeded > getCapacity()) resize(Math.max(8, sizeNeeded));
+	}
+
+	/** Sets the array size, leaving any values beyond the current size as 0. */
+	public void setSize (int newSize) {
+		if (newSize < 0) throw new IllegalArgumentException("newSize must be >= 0: " + newSize);
+		if (newSize > getCapacity()) resize(newSize);
+		ShortBuffer buffer = this.buffer;
+		for (int i = size; i < newSize; i++)
+			buffer.put(i, (short)0);
+		size = newSize;
+	}
+
+	private void resize (int newCapacity) {
+		if (newCapacity < 0) throw new IllegalArgumentException("capacity must be >= 0: " + newCapacity);
+		// Some platforms don't allow allocating 0 bytes.
+		ByteBuffer newBytes = allocate(Math.max(1, newCapacity) * 2);
+		ShortBuffer newBuffer = newBytes.asShortBuffer();
+		if (bytes != null) {
+			buffer.position(0);
+			buffer.limit(size);
+			newBuffer.put(buffer);
+			newBuffer.clear();
+			free(bytes);
+		}
+		bytes = newBytes;
+		buffer = newBuffer;
+	}
+
+	/** Allocates backing memory of the specified size. */
+	ByteBuffer allocate (int numBytes) {
+		return BufferUtils.newUnsafeByteBuffer(numBytes);
+	}
+
+	void free (ByteBuffer bytes) {
+		BufferUtils.disposeUnsafeByteBuffer(bytes);
+	}
+
+	/** Returns the backing memory with position 0 and the limit set to the size of the array in bytes. Only valid until the array
+	 * is reallocated or disposed. The position and limit may be changed, they are not used by this array. */
+	public ByteBuffer getByteBuffer () {
+		ByteBuffer bytes = this.bytes;
+		bytes.position(0);
+		bytes.limit(size * 2);
+		return bytes;
+	}
+
+	/** Returns a new view of the values with position 0 and the limit set to the size of the array. Only valid until the array is
+	 * reallocated or disposed. */
+	public ShortBuffer getBuffer () {
+		ShortBuffer view = buffer.duplicate();
+		view.position(0);
+		view.limit(size);
+		return view;
+	}
+
+	public short[] toArray () {
+		short[] array = new short[size];
+		buffer.position(0);
+		buffer.get(array);
+		return array;
+	}
+
+	/** Frees the backing memory. The array cannot be used afterward. */
+	public void dispose () {
+		if (bytes == null) return;
+		free(bytes);
+		bytes = null;
+		buffer = null;
+		size = 0;
+	}
+
+	public String toString () {
+		if (size == 0) return "[]";
+		ShortBuffer buffer = this.buffer;
+		StringBuilder builder = new StringBuilder(32);
+		builder.append('[');
+		builder.append(buffer.get(0));
+		for (int i = 1; i < size; i++) {
+			builder.append(", ");
+			builder.append(buffer.get(i));
+		}
+		builder.append(']');
+		return builder.toString();
+	}
+}
@@ -22,6 +22,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
@@ -31,10 +32,17 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * @author badlogic */
 public class AsyncExecutor implements Disposable {
 	private final ExecutorService executor;
+	private final JobSystem jobs;
+	private final Array<Job> running;
+	private final int maxConcurrent;
+	private volatile boolean disposed;
 
 	/** Creates a new AsynchExecutor that allows maxConcurrent {@link Runnable} instances to run in parallel.
 	 * @param maxConcurrent */
 	public AsyncExecutor (int maxConcurrent) {
+		this.maxConcurrent = maxConcurrent;
+		jobs = null;
+		running = null;
 		executor = Executors.newFixedThreadPool(maxConcurrent, new ThreadFactory() {
 			@Override
 			public Thread newThread (Runnable r) {
@@ -45,10 +53,34 @@ public class AsyncExecutor implements Disposable {
 		});
 	}
 
+	/** Creates a new AsynchExecutor that runs tasks as jobs of the {@link JobSystem}, eg {@link JobSystem#getShared()}, instead of
+	 * creating its own threads. When disposed, it waits for all of its tasks to finish but the job system keeps running. */
+	public AsyncExecutor (JobSystem jobs) {
+		this.jobs = jobs;
+		maxConcurrent = jobs.getThreads();
+		running = new Array();
+		executor = null;
+	}
+
+	/** Returns the maximum number of tasks that run in parallel. */
+	public int getMaxConcurrent () {
+		return maxConcurrent;
+	}
+
 	/** Submits a {@link Runnable} to be executed asynchronously. If maxConcurrent runnables are already running, the runnable will
 	 * be queued.
 	 * @param task the task to execute asynchronously */
 	public <T> AsyncResult<T> submit (final AsyncTask<T> task) {
+		if (jobs != null) {
+			if (disposed) throw new GdxRuntimeException("Cannot run tasks on an executor that has been shutdown (disposed)");
+			Job<T> job = jobs.submit(task);
+			synchronized (running) {
+				for (int i = running.size - 1; i >= 0; i--)
+					if (running.get(i).isDone()) running.removeIndex(i);
+				running.add(job);
+			}
+			return new AsyncResult(job);
+		}
 		if (executor.isShutdown()) {
 			throw new GdxRuntimeException("Cannot run tasks on an executor that has been shutdown (disposed)");
 		}
@@ -64,6 +96,17 @@ public class AsyncExecutor implements Disposable {
 	 * this method is called. */
 	@Override
 	public void dispose () {
+		if (jobs != null) {
+			disposed = true;
+			Job[] tasks;
+			synchronized (running) {
+				tasks = running.toArray(Job.class);
+				running.clear();
+			}
+			for (Job job : tasks)
+				if (!job.isDone()) jobs.waitFor(job);
+			return;
+		}
 		executor.shutdown();
 		try {
 			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
@@ -25,19 +25,28 @@ import java.util.concurrent.Future;
  * @author badlogic */
 public class AsyncResult<T> {
 	private final Future<T> future;
+	private final Job<T> job;
 
 	AsyncResult (Future<T> future) {
 		this.future = future;
+		job = null;
+	}
+
+	AsyncResult (Job<T> job) {
+		this.job = job;
+		future = null;
 	}
 
 	/** @return whether the {@link AsyncTask} is done */
 	public boolean isDone () {
+		if (job != null) return job.isDone();
 		return future.isDone();
 	}
 
 	/** @return waits if necessary for the computation to complete and then returns the result
 	 * @throws GdxRuntimeException if there was an error */
 	public T get () {
+		if (job != null) return job.get();
 		try {
 			return future.get();
 		} catch (InterruptedException ex) {
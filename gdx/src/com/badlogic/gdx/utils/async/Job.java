@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils.async;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** An {@link AsyncTask} submitted to a {@link JobSystem}. A job runs once all the jobs it depends on have completed successfully.
+ * If a dependency fails, the job is not run and fails with the same exception.
+ * @see JobSystem#submit(AsyncTask, Job...) */
+public class Job<T> {
+	final JobSystem system;
+	private final AsyncTask<T> task;
+	private final AtomicInteger waiting;
+	private volatile Throwable dependencyException;
+
+	private volatile boolean done;
+	private T result;
+	private Throwable exception;
+	private Array<Job> dependents;
+	private Array<Listener<T>> listeners;
+
+	Job (JobSystem system, AsyncTask<T> task, int dependencies) {
+		this.system = system;
+		this.task = task;
+		waiting = new AtomicInteger(dependencies);
+	}
+
+	/** Returns true if the job has run or has failed. */
+	public boolean isDone () {
+		return done;
+	}
+
+	/** Waits if necessary for the job to complete and returns its result. When called from a thread of the job system, other jobs
+	 * are run while waiting.
+	 * @throws GdxRuntimeException if the job or one of its dependencies failed. */
+	public T get () {
+		if (!done) system.waitFor(this);
+		if (exception != null) throw new GdxRuntimeException(exception);
+		return result;
+	}
+
+	/** Returns the exception thrown by the job or a dependency, or null if the job has not failed. */
+	public Throwable getException () {
+		return done ? exception : null;
+	}
+
+	/** Submits a job which runs after this job has completed successfully.
+	 * @see JobSystem#submit(AsyncTask, Job...) */
+	public <R> Job<R> then (AsyncTask<R> task) {
+		return system.submit(task, this);
+	}
+
+	/** Adds a listener which is called on the thread that completes this job, or immediately if the job is done. */
+	public void addListener (Listener<T> listener) {
+		synchronized (this) {
+			if (!done) {
+				if (listeners == null) listeners = new Array(2);
+				listeners.add(listener);
+				return;
+			}
+		}
+		notifyListener(listener);
+	}
+
+	/** Adds a listener which is called on the rendering thread, see {@link com.badlogic.gdx.Application#postRunnable(Runnable)}. */
+	public void addRenderThreadListener (final Listener<T> listener) {
+		addListener(new Listener<T>() {
+			public void completed (final T result) {
+				Gdx.app.postRunnable(new Runnable() {
+					public void run () {
+						listener.completed(result);
+					}
+				});
+			}
+
+			public void failed (final Throwable exception) {
+				Gdx.app.postRunnable(new Runnable() {
+					public void run () {
+						listener.failed(exception);
+					}
+				});
+			}
+		});
+	}
+
+	/** Adds a job which is notified when this job completes. Returns false if this job is already done. */
+	boolean addDependent (Job job) {
+		synchronized (this) {
+			if (done) return false;
+			if (dependents == null) dependents = new Array(2);
+			dependents.add(job);
+			return true;
+		}
+	}
+
+	/** Called when a dependency has completed, or with null once all dependencies have been added. */
+	void dependencyDone (Job dependency) {
+		if (dependency != null && dependency.exception != null && dependencyException == null)
+			dependencyException = dependency.exception;
+		if (waiting.decrementAndGet() > 0) return;
+		if (dependencyException != null)
+			complete(null, dependencyException);
+		else
+			system.schedule(this);
+	}
+
+	void run () {
+		T result = null;
+		Throwable exception = null;
+		try {
+			result = task.call();
+		} catch (Throwable ex) {
+			exception = ex;
+		}
+		complete(result, exception);
+	}
+
+	void complete (T result, Throwable exception) {
+		Array<Job> dependents;
+		Array<Listener<T>> listeners;
+		synchronized (this) {
+			this.result = result;
+			this.exception = exception;
+			done = true;
+			notifyAll();
+			dependents = this.dependents;
+			listeners = this.listeners;
+			this.dependents = null;
+			this.listeners = null;
+		}
+		if (dependents != null) {
+			for (int i = 0, n = dependents.size; i < n; i++)
+				dependents.get(i).dependencyDone(this);
+		}
+		if (listeners != null) {
+			for (int i = 0, n = listeners.size; i < n; i++)
+				notifyListener(listeners.get(i));
+		}
+	}
+
+	private void notifyListener (Listener<T> listener) {
+		if (exception != null)
+			listener.failed(exception);
+		else
+			listener.completed(result);
+	}
+
+	/** Notified when a {@link Job} completes. */
+	static public interface Listener<T> {
+		/** Called when the job has run successfully. */
+		public void completed (T result);
+
+		/** Called when the job or one of its dependencies threw an exception. */
+		public void failed (Throwable exception);
+	}
+}
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils.async;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Queue;
+
+/** Runs {@link Job}s on a fixed number of worker threads. Each worker has its own queue: jobs submitted from a worker are added to
+ * its queue and run newest first, while idle workers steal the oldest jobs from other workers. Jobs submitted from other threads
+ * go to a shared queue.
+ * <p>
+ * {@link #getShared()} returns a job system sized to the machine, which engine subsystems and applications can use instead of
+ * creating their own threads. Jobs should not block on I/O for long, since that keeps a worker from running other jobs.
+ * @see AsyncExecutor#AsyncExecutor(JobSystem) */
+public class JobSystem implements Disposable {
+	static private JobSystem shared;
+
+	final Worker[] workers;
+	final Queue<Job> submitted = new Queue();
+	private final Object lock = new Object();
+	private volatile int sleeping;
+	private volatile boolean disposed;
+
+	/** Creates a job system with one worker per available processor, less one for the rendering thread. */
+	public JobSystem () {
+		this(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+	}
+
+	/** @param threads The number of worker threads, must be at least 1. */
+	public JobSystem (int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be >= 1: " + threads);
+		workers = new Worker[threads];
+		for (int i = 0; i < threads; i++)
+			workers[i] = new Worker(i);
+		for (Worker worker : workers)
+			worker.start();
+	}
+
+	/** Returns a job system shared by the whole application, created on first use with the default number of threads. Its
+	 * threads are daemon threads and it should not be disposed. */
+	static synchronized public JobSystem getShared () {
+		if (shared == null) shared = new JobSystem();
+		return shared;
+	}
+
+	/** Returns the number of worker threads. */
+	public int getThreads () {
+		return workers.length;
+	}
+
+	/** Submits a task to run on a worker thread. */
+	public <T> Job<T> submit (AsyncTask<T> task) {
+		Job<T> job = new Job(this, task, 1);
+		job.dependencyDone(null);
+		return job;
+	}
+
+	/** Submits a task to run on a worker thread after all the specified jobs have completed. If any of them fail, the task is not
+	 * run and the returned job fails with the same exception. */
+	public <T> Job<T> submit (AsyncTask<T> task, Job... dependencies) {
+		// One extra count so the job can't be scheduled until all dependencies have been added.
+		Job<T> job = new Job(this, task, dependencies.length + 1);
+		for (Job dependency : dependencies) {
+			if (dependency.system != this) throw new IllegalArgumentException("Dependency is from another job system.");
+			if (!dependency.addDependent(job)) job.dependencyDone(dependency);
+		}
+		job.dependencyDone(null);
+		return job;
+	}
+
+	/** Calls the task for ranges of [0, count) on the worker threads and the calling thread, and returns when all ranges are done.
+	 * The ranges are large enough for each thread to get a few of them.
+	 * @throws GdxRuntimeException if the task threw an exception. */
+	public void parallelFor (int count, RangeTask task) {
+		parallelFor(count, Math.max(1, count / ((workers.length + 1) * 4)), task);
+	}
+
+	/** Calls the task for ranges of [0, count) on the worker threads and the calling thread, and returns when all ranges are done.
+	 * @param grainSize The number of indices in each range, except possibly the last.
+	 * @throws GdxRuntimeException if the task threw an exception. */
+	public void parallelFor (final int count, final int grainSize, final RangeTask task) {
+		if (grainSize < 1) throw new IllegalArgumentException("grainSize must be > 0: " + grainSize);
+		if (count <= 0) return;
+		final int ranges = (count + grainSize - 1) / grainSize;
+		if (ranges == 1) {
+			task.run(0, count);
+			return;
+		}
+		final AtomicInteger next = new AtomicInteger();
+		class RunRanges implements AsyncTask<Void> {
+			public Void call () {
+				try {
+					for (int range; (range = next.getAndIncrement()) < ranges;) {
+						int start = range * grainSize;
+						task.run(start, Math.min(start + grainSize, count));
+					}
+				} catch (RuntimeException ex) {
+					next.set(ranges); // Skip the remaining ranges.
+					throw ex;
+				}
+				return null;
+			}
+		}
+		RunRanges runRanges = new RunRanges();
+		Job[] helpers = new Job[Math.min(workers.length, ranges - 1)];
+		for (int i = 0; i < helpers.length; i++)
+			helpers[i] = submit(runRanges);
+		RuntimeException exception = null;
+		try {
+			runRanges.call();
+		} catch (RuntimeException ex) {
+			exception = ex;
+		}
+		for (Job helper : helpers) {
+			if (!helper.isDone()) waitFor(helper);
+			if (exception == null && helper.getException() != null) exception = new GdxRuntimeException(helper.getException());
+		}
+		if (exception != null) throw exception;
+	}
+
+	/** Calls the task for each item of the array, using the worker threads and the calling thread. Returns when all items are
+	 * done. The array must not be modified until then. */
+	public <T> void parallelFor (final Array<T> array, final ItemTask<? super T> task) {
+		parallelFor(array.size, new RangeTask() {
+			public void run (int start, int end) {
+				T[] items = array.items;
+				for (int i = start; i < end; i++)
+					task.run(items[i], i);
+			}
+		});
+	}
+
+	/** Replaces each value of the array with the result of the task, using the worker threads and the calling thread. Returns
+	 * when all values are done. */
+	public void parallelFor (final FloatArray array, final FloatTask task) {
+		parallelFor(array.size, new RangeTask() {
+			public void run (int start, int end) {
+				float[] items = array.items;
+				for (int i = start; i < end; i++)
+					items[i] = task.run(items[i], i);
+			}
+		});
+	}
+
+	void schedule (Job job) {
+		if (disposed) {
+			job.complete(null, new GdxRuntimeException("Cannot run jobs on a job system that has been disposed."));
+			return;
+		}
+		Thread thread = Thread.currentThread();
+		Queue<Job> queue = thread instanceof Worker && ((Worker)thread).system() == this ? ((Worker)thread).jobs : submitted;
+		synchronized (queue) {
+			queue.addLast(job);
+		}
+		if (sleeping > 0) {
+			synchronized (lock) {
+				lock.notify();
+			}
+		}
+	}
+
+	/** Waits until the job is done. A worker thread of this job system runs other jobs in the meantime. */
+	void waitFor (Job job) {
+		Thread thread = Thread.currentThread();
+		if (thread instanceof Worker && ((Worker)thread).system() == this) {
+			Worker worker = (Worker)thread;
+			while (!job.isDone()) {
+				Job other = worker.findJob();
+				if (other != null)
+					worker.runJob(other);
+				else {
+					synchronized (job) {
+						if (!job.isDone()) waitOn(job, 1);
+					}
+				}
+			}
+		} else {
+			synchronized (job) {
+				while (!job.isDone())
+					waitOn(job, 0);
+			}
+		}
+	}
+
+	static private void waitOn (Object monitor, long millis) {
+		try {
+			monitor.wait(millis);
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+	}
+
+	static private Job poll (Queue<Job> queue, boolean newest) {
+		synchronized (queue) {
+			if (queue.size == 0) return null;
+			return newest ? queue.removeLast() : queue.removeFirst();
+		}
+	}
+
+	private boolean hasJobs () {
+		synchronized (submitted) {
+			if (submitted.size > 0) return true;
+		}
+		for (Worker worker : workers) {
+			synchronized (worker.jobs) {
+				if (worker.jobs.size > 0) return true;
+			}
+		}
+		return false;
+	}
+
+	/** Stops the worker threads after the jobs they are running have finished. Jobs that have not started fail. */
+	@Override
+	public void dispose () {
+		disposed = true;
+		synchronized (lock) {
+			lock.notifyAll();
+		}
+		for (Worker worker : workers) {
+			try {
+				worker.join();
+			} catch (InterruptedException ex) {
+				throw new GdxRuntimeException("Couldn't stop job system thread", ex);
+			}
+		}
+		GdxRuntimeException exception = new GdxRuntimeException("Job system was disposed before the job could run.");
+		for (Job job; (job = poll(submitted, false)) != null;)
+			job.complete(null, exception);
+		for (Worker worker : workers) {
+			for (Job job; (job = poll(worker.jobs, false)) != null;)
+				job.complete(null, exception);
+		}
+	}
+
+	class Worker extends Thread {
+		final Queue<Job> jobs = new Queue();
+		private final int index;
+		private int victim;
+
+		Worker (int index) {
+			super("JobSystem-Worker-" + index);
+			this.index = index;
+			victim = index;
+			setDaemon(true);
+		}
+
+		JobSystem system () {
+			return JobSystem.this;
+		}
+
+		Job findJob () {
+			Job job = poll(jobs, true);
+			if (job != null) return job;
+			job = poll(submitted, false);
+			if (job != null) return job;
+			for (int i = 1, n = workers.length; i < n; i++) {
+				victim = (victim + 1) % n;
+				if (victim == index) continue;
+				job = poll(workers[victim].jobs, false);
+				if (job != null) return job;
+			}
+			return null;
+		}
+
+		void runJob (Job job) {
+			try {
+				job.run();
+			} catch (Throwable ex) {
+				// The job's exception is stored in the job, this is thrown by a listener.
+				getUncaughtExceptionHandler().uncaughtException(this, ex);
+			}
+		}
+
+		public void run () {
+			while (!disposed) {
+				Job job = findJob();
+				if (job != null) {
+					runJob(job);
+					continue;
+				}
+				synchronized (lock) {
+					sleeping++;
+					try {
+						if (!disposed && !hasJobs()) lock.wait();
+					} catch (InterruptedException ignored) {
+					} finally {
+						sleeping--;
+					}
+				}
+			}
+		}
+	}
+
+	/** Called by {@link JobSystem#parallelFor(int, RangeTask)} for a range of indices. */
+	static public interface RangeTask {
+		/** @param start The first index of the range.
+		 * @param end The index after the last index of the range. */
+		public void run (int start, int end);
+	}
+
+	/** Called by {@link JobSystem#parallelFor(Array, ItemTask)} for each item of an array. */
+	static public interface ItemTask<T> {
+		public void run (T item, int index);
+	}
+
+	/** Called by {@link JobSystem#parallelFor(FloatArray, FloatTask)} for each value of an array.
+	 * @return The new value. */
+	static public interface FloatTask {
+		public float run (float value, int index);
+	}
+}
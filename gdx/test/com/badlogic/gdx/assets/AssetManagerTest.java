@@ -0,0 +1,338 @@
+
+package com.badlogic.gdx.assets;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.assets.loaders.AsynchronousAssetLoader;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.JobSystem;
+
+public class AssetManagerTest {
+	static final FileHandleResolver resolver = new FileHandleResolver() {
+		@Override
+		public FileHandle resolve (String fileName) {
+			return new FileHandle(fileName);
+		}
+	};
+
+	static class Leaf {
+	}
+
+	static class Node {
+	}
+
+	/** Loads a {@link Node} named "nodeN" which depends on "leafN" and "shared". Tracks how many loadAsync calls overlap, only leaves
+	 * may be loaded concurrently. */
+	static class TestLoader<T> extends AsynchronousAssetLoader<T, AssetLoaderParameters<T>> {
+		final Class<T> type;
+		final AtomicInteger running = new AtomicInteger();
+		final AtomicInteger maxRunning = new AtomicInteger();
+		Thread syncThread;
+
+		TestLoader (Class<T> type) {
+			super(resolver);
+			this.type = type;
+		}
+
+		@Override
+		public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, AssetLoaderParameters<T> parameter) {
+			if (type != Node.class) return null;
+			Array<AssetDescriptor> deps = new Array();
+			deps.add(new AssetDescriptor("leaf" + fileName.substring(4), Leaf.class));
+			deps.add(new AssetDescriptor("shared", Leaf.class));
+			return deps;
+		}
+
+		@Override
+		public long getEstimatedSize (String fileName, FileHandle file, T asset) {
+			return 100;
+		}
+
+		@Override
+		public boolean canLoadConcurrently () {
+			return type == Leaf.class;
+		}
+
+		@Override
+		public void loadAsync (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<T> parameter) {
+			int count = running.incrementAndGet();
+			while (true) {
+				int max = maxRunning.get();
+				if (count <= max || maxRunning.compareAndSet(max, count)) break;
+			}
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException ignored) {
+			}
+			running.decrementAndGet();
+		}
+
+		@Override
+		public T loadSync (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<T> parameter) {
+			syncThread = Thread.currentThread();
+			try {
+				return type.newInstance();
+			} catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		}
+	}
+
+	/** Loads assets whose dependencies are given by name. Like most loaders it keeps the asset being loaded in a field from
+	 * getDependencies until loadSync, and notes when another asset was loaded in between. */
+	static class StatefulLoader<T> extends AsynchronousAssetLoader<T, AssetLoaderParameters<T>> {
+		final Class<T> type;
+		final ObjectMap<String, AssetDescriptor> dependencies = new ObjectMap();
+		volatile String loading;
+		volatile boolean overlapped;
+
+		StatefulLoader (Class<T> type) {
+			super(resolver);
+			this.type = type;
+		}
+
+		@Override
+		public Array<AssetDescriptor> getDependencies (String fileName, FileHandle file, AssetLoaderParameters<T> parameter) {
+			if (loading != null) overlapped = true;
+			loading = fileName;
+			Array<AssetDescriptor> deps = new Array();
+			for (ObjectMap.Entry<String, AssetDescriptor> entry : dependencies)
+				if (entry.key.startsWith(fileName + ">")) deps.add(entry.value);
+			return deps.size == 0 ? null : deps;
+		}
+
+		@Override
+		public void loadAsync (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<T> parameter) {
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException ignored) {
+			}
+			if (!fileName.equals(loading)) overlapped = true;
+		}
+
+		@Override
+		public T loadSync (AssetManager manager, String fileName, FileHandle file, AssetLoaderParameters<T> parameter) {
+			if (!fileName.equals(loading)) overlapped = true;
+			loading = null;
+			try {
+				return type.newInstance();
+			} catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		}
+
+		void depend (String fileName, String dependency, Class type) {
+			dependencies.put(fileName + ">" + dependency, new AssetDescriptor(dependency, type));
+		}
+	}
+
+	@Test(timeout = 10000)
+	public void serializedLoaders () {
+		AssetManager manager = new AssetManager(resolver, false, 4);
+		StatefulLoader<Node> nodeLoader = new StatefulLoader(Node.class);
+		StatefulLoader<Leaf> leafLoader = new StatefulLoader(Leaf.class);
+		manager.setLoader(Node.class, nodeLoader);
+		manager.setLoader(Leaf.class, leafLoader);
+		// each root needs the loader of the other root for its dependency
+		nodeLoader.depend("nodeA", "leafA", Leaf.class);
+		leafLoader.depend("leafB", "nodeB", Node.class);
+		// sibling dependencies share a loader
+		nodeLoader.depend("nodeC", "leafC1", Leaf.class);
+		nodeLoader.depend("nodeC", "leafC2", Leaf.class);
+
+		manager.load("nodeA", Node.class);
+		manager.load("leafB", Leaf.class);
+		manager.load("nodeC", Node.class);
+		manager.finishLoading();
+
+		assertEquals(7, manager.getLoadedAssets());
+		assertFalse(nodeLoader.overlapped);
+		assertFalse(leafLoader.overlapped);
+		manager.dispose();
+	}
+
+	private void loadNodes (int threads) {
+		loadNodes(new AssetManager(resolver, false, threads), threads);
+	}
+
+	private void loadNodes (AssetManager manager, int threads) {
+		TestLoader<Node> nodeLoader = new TestLoader(Node.class);
+		TestLoader<Leaf> leafLoader = new TestLoader(Leaf.class);
+		manager.setLoader(Node.class, nodeLoader);
+		manager.setLoader(Leaf.class, leafLoader);
+
+		int nodes = 8;
+		for (int i = 0; i < nodes; i++)
+			manager.load("node" + i, Node.class);
+		manager.load("node0", Node.class);
+		manager.finishLoading();
+
+		assertEquals(1f, manager.getProgress(), 0);
+		assertEquals(nodes * 2 + 1, manager.getLoadedAssets());
+		assertEquals(2, manager.getReferenceCount("node0"));
+		assertEquals(2, manager.getReferenceCount("leaf0"));
+		assertEquals(1, manager.getReferenceCount("leaf1"));
+		assertEquals(nodes + 1, manager.getReferenceCount("shared"));
+		assertSame(Thread.currentThread(), nodeLoader.syncThread);
+		assertSame(Thread.currentThread(), leafLoader.syncThread);
+		if (threads > 1)
+			assertTrue(leafLoader.maxRunning.get() > 1);
+		else
+			assertEquals(1, leafLoader.maxRunning.get());
+		assertEquals(1, nodeLoader.maxRunning.get());
+
+		manager.unload("node0");
+		manager.unload("node0");
+		for (int i = 1; i < nodes; i++)
+			manager.unload("node" + i);
+		assertEquals(0, manager.getLoadedAssets());
+		manager.dispose();
+	}
+
+	@Test
+	public void sequentialLoading () {
+		loadNodes(1);
+	}
+
+	@Test
+	public void parallelLoading () {
+		loadNodes(4);
+	}
+
+	@Test
+	public void jobSystemLoading () {
+		JobSystem jobs = new JobSystem(3);
+		loadNodes(new AssetManager(resolver, false, new AsyncExecutor(jobs)), 3);
+		jobs.dispose();
+	}
+
+	@Test
+	public void loadingStats () {
+		AssetManager manager = new AssetManager(resolver, false, 4);
+		manager.setLoader(Node.class, new TestLoader(Node.class));
+		manager.setLoader(Leaf.class, new TestLoader(Leaf.class));
+		manager.setRecordLoadingStats(true);
+		final Array<AssetLoadingStats> notified = new Array();
+		manager.setLoadingListener(new AssetLoadingListener() {
+			@Override
+			public void finishedLoading (AssetManager manager, AssetLoadingStats stats) {
+				notified.add(stats);
+			}
+		});
+
+		manager.load("node0", Node.class);
+		manager.load("node1", Node.class);
+		manager.finishLoading();
+
+		Array<AssetLoadingStats> stats = manager.getLoadingStats();
+		assertEquals(5, stats.size);
+		assertEquals(stats, notified);
+		for (AssetLoadingStats stat : stats) {
+			// every loadAsync sleeps 20ms
+			assertTrue(stat.toString(), stat.asyncTime >= 15000000L);
+			assertTrue(stat.toString(), stat.totalTime >= stat.asyncTime + stat.syncTime);
+			assertEquals(stat.type == Leaf.class, stat.dependency);
+			if (stat.type == Node.class) assertTrue(stat.toString(), stat.dependencyTime >= 15000000L);
+			if (stat.dependency) assertEquals(0, stat.queueTime);
+		}
+		assertSame(Node.class, stats.peek().type);
+		stats.clear();
+		assertEquals(5, manager.getLoadingStats().size);
+		manager.clearLoadingStats();
+		assertEquals(0, manager.getLoadingStats().size);
+
+		manager.load("node2", Node.class);
+		manager.finishLoading();
+		assertEquals(2, manager.getLoadingStats().size);
+		manager.clear();
+		assertEquals(0, manager.getLoadingStats().size);
+		manager.dispose();
+	}
+
+	@Test
+	public void cacheBudget () {
+		AssetManager manager = new AssetManager(resolver, false);
+		manager.setLoader(Node.class, new TestLoader(Node.class));
+		manager.setLoader(Leaf.class, new TestLoader(Leaf.class));
+		manager.setCacheBudget(Leaf.class, 250);
+
+		manager.load("node0", Node.class);
+		manager.finishLoading();
+		manager.unload("node0");
+		assertFalse(manager.isLoaded("node0"));
+		assertTrue(manager.isLoaded("leaf0"));
+		assertTrue(manager.isLoaded("shared"));
+		assertEquals(0, manager.getReferenceCount("shared"));
+		assertEquals(200, manager.getCacheSize(Leaf.class));
+		assertEquals(2, manager.getCacheMisses(Leaf.class));
+
+		manager.load("node0", Node.class);
+		manager.finishLoading();
+		assertEquals(2, manager.getCacheHits(Leaf.class));
+		assertEquals(1, manager.getReferenceCount("leaf0"));
+		manager.unload("node0");
+
+		manager.load("node1", Node.class);
+		manager.finishLoading();
+		assertEquals(3, manager.getCacheHits(Leaf.class));
+		assertEquals(1, manager.getCacheEvictions(Leaf.class));
+		assertFalse(manager.isLoaded("leaf0"));
+		assertEquals(200, manager.getCacheSize(Leaf.class));
+
+		manager.clear();
+		assertEquals(0, manager.getLoadedAssets());
+		assertEquals(0, manager.getCacheSize(Leaf.class));
+		manager.dispose();
+	}
+
+	@Test
+	public void cacheBudgetKeepsDependencies () {
+		AssetManager manager = new AssetManager(resolver, false);
+		manager.setLoader(Node.class, new TestLoader(Node.class));
+		manager.setLoader(Leaf.class, new TestLoader(Leaf.class));
+		manager.setCacheBudget(Node.class, 150);
+
+		// the cached node keeps its leaves loaded
+		manager.load("node0", Node.class);
+		manager.finishLoading();
+		Leaf leaf = manager.get("leaf0");
+		manager.unload("node0");
+		assertTrue(manager.isLoaded("node0"));
+		assertEquals(0, manager.getReferenceCount("node0"));
+		assertEquals(1, manager.getReferenceCount("leaf0"));
+		assertEquals(1, manager.getReferenceCount("shared"));
+
+		manager.load("node0", Node.class);
+		manager.finishLoading();
+		assertEquals(1, manager.getCacheHits(Node.class));
+		assertEquals(1, manager.getReferenceCount("node0"));
+		assertEquals(1, manager.getReferenceCount("leaf0"));
+		assertSame(leaf, manager.get("leaf0"));
+		manager.unload("node0");
+
+		// evicting the node releases its leaves
+		manager.load("node1", Node.class);
+		manager.finishLoading();
+		assertEquals(1, manager.getCacheEvictions(Node.class));
+		assertFalse(manager.isLoaded("node0"));
+		assertFalse(manager.isLoaded("leaf0"));
+		assertEquals(1, manager.getReferenceCount("shared"));
+
+		// unloading a cached node disposes it right away
+		manager.unload("node1");
+		assertTrue(manager.isLoaded("node1"));
+		manager.unload("node1");
+		assertFalse(manager.isLoaded("node1"));
+		assertEquals(0, manager.getLoadedAssets());
+		assertEquals(0, manager.getCacheSize(Node.class));
+		manager.dispose();
+	}
+}
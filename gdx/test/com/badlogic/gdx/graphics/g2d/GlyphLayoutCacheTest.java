@@ -0,0 +1,127 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.StringBuilder;
+
+public class GlyphLayoutCacheTest {
+	BitmapFont font;
+	GlyphLayoutCache cache;
+
+	@Before
+	public void create () {
+		BitmapFontData data = new BitmapFontData();
+		data.setLineHeight(10);
+		data.spaceWidth = 4;
+		// No glyphs while the font is created, so no texture is needed.
+		font = new BitmapFont(data, Array.with(new TextureRegion()), false);
+		for (char c = 'a'; c <= 'z'; c++)
+			setGlyph(c, 5);
+		setGlyph(' ', 4);
+		cache = new GlyphLayoutCache(1000);
+	}
+
+	private void setGlyph (char c, int width) {
+		Glyph glyph = new Glyph();
+		glyph.id = c;
+		glyph.width = width;
+		glyph.height = 8;
+		glyph.xadvance = width + 1;
+		font.getData().setGlyph(c, glyph);
+	}
+
+	private void assertLayout (GlyphLayout expected, GlyphLayout actual) {
+		assertEquals(expected.width, actual.width, 0);
+		assertEquals(expected.height, actual.height, 0);
+		assertEquals(expected.runs.size, actual.runs.size);
+		for (int i = 0; i < expected.runs.size; i++) {
+			assertEquals(expected.runs.get(i).glyphs, actual.runs.get(i).glyphs);
+			assertEquals(expected.runs.get(i).xAdvances, actual.runs.get(i).xAdvances);
+			assertEquals(expected.runs.get(i).x, actual.runs.get(i).x, 0);
+			assertEquals(expected.runs.get(i).y, actual.runs.get(i).y, 0);
+		}
+	}
+
+	@Test
+	public void hits () {
+		String text = "the quick brown fox jumps";
+		GlyphLayout layout = cache.get(font, text, Color.WHITE, 40, Align.center, true);
+		assertLayout(new GlyphLayout(font, text, Color.WHITE, 40, Align.center, true), layout);
+		assertTrue(layout.runs.size > 1);
+		assertEquals(1, cache.getMisses());
+
+		// Equal text in a different CharSequence, and as a range of a longer one.
+		assertSame(layout, cache.get(font, new StringBuilder(text), Color.WHITE, 40, Align.center, true));
+		assertSame(layout, cache.get(font, "[" + text + "]", 1, text.length() + 1, Color.WHITE, 40, Align.center, true, null));
+		assertEquals(2, cache.getHits());
+
+		assertNotSame(layout, cache.get(font, text, Color.WHITE, 50, Align.center, true));
+		assertNotSame(layout, cache.get(font, text, Color.RED, 40, Align.center, true));
+		assertNotSame(layout, cache.get(font, text, Color.WHITE, 40, Align.right, true));
+		assertNotSame(layout, cache.get(font, text, 0, text.length(), Color.WHITE, 40, Align.center, true, "..."));
+		assertEquals(5, cache.getMisses());
+		assertEquals(5, cache.getSize());
+
+		// The target width doesn't matter for left aligned text without wrapping.
+		GlyphLayout unwrapped = cache.get(font, text, Color.WHITE, 40, Align.left, false);
+		assertSame(unwrapped, cache.get(font, text, Color.WHITE, 80, Align.left, false));
+	}
+
+	@Test
+	public void invalidation () {
+		GlyphLayout layout = cache.get(font, "abc");
+		font.getData().setScale(2);
+		GlyphLayout scaled = cache.get(font, "abc");
+		assertNotSame(layout, scaled);
+		assertLayout(new GlyphLayout(font, "abc"), scaled);
+		font.getData().setScale(1);
+		assertSame(layout, cache.get(font, "abc"));
+
+		setGlyph('b', 9);
+		GlyphLayout changed = cache.get(font, "abc");
+		assertNotSame(layout, changed);
+		assertLayout(new GlyphLayout(font, "abc"), changed);
+
+		font.getData().markupEnabled = true;
+		assertNotSame(changed, cache.get(font, "abc"));
+		font.getData().markupEnabled = false;
+		assertSame(changed, cache.get(font, "abc"));
+
+		cache.invalidate(font);
+		assertEquals(0, cache.getSize());
+		assertEquals(0, cache.getGlyphCount());
+		assertNotSame(changed, cache.get(font, "abc"));
+	}
+
+	@Test
+	public void eviction () {
+		cache.setMaxGlyphs(10);
+		GlyphLayout abcd = cache.get(font, "abcd");
+		GlyphLayout efgh = cache.get(font, "efgh");
+		assertEquals(8, cache.getGlyphCount());
+		assertSame(abcd, cache.get(font, "abcd"));
+		cache.get(font, "ijk");
+		assertEquals(1, cache.getEvictions());
+		assertEquals(7, cache.getGlyphCount());
+		assertSame(abcd, cache.get(font, "abcd"));
+		assertNotSame(efgh, cache.get(font, "efgh"));
+
+		// Empty text counts as one glyph, so the number of layouts is bounded too.
+		cache.setMaxGlyphs(0);
+		assertEquals(0, cache.getSize());
+		cache.get(font, "");
+		assertEquals(0, cache.getSize());
+
+		cache.resetMetrics();
+		assertEquals(0, cache.getHits() + cache.getMisses() + cache.getEvictions());
+	}
+}
@@ -0,0 +1,225 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Mesh.VertexDataType;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.IndexBufferObjectSubData;
+import com.badlogic.gdx.graphics.glutils.StreamingVertexBufferObject;
+
+/** Feeds the same draws to a {@link SpriteBatch} and a {@link MultiTextureBatch} and counts the draw calls made to a fake GL20.
+ * The natives aren't loaded, so the batches are drawn to without {@link Batch#begin()}, which multiplies matrices natively, and
+ * their meshes are replaced with ones that upload without native copies. */
+@SuppressWarnings("deprecation")
+public class MultiTextureBatchTest {
+	Application oldApp;
+	Graphics oldGraphics;
+	GL20 oldGL20;
+	GL30 oldGL30;
+	VertexDataType oldVertexDataType;
+	int drawCalls;
+	Texture[] textures;
+
+	@Before
+	public void setUp () {
+		oldApp = Gdx.app;
+		oldGraphics = Gdx.graphics;
+		oldGL20 = Gdx.gl20;
+		oldGL30 = Gdx.gl30;
+		oldVertexDataType = SpriteBatch.defaultVertexDataType;
+		// The only mesh which is created without natives.
+		SpriteBatch.defaultVertexDataType = VertexDataType.VertexBufferObjectSubData;
+		Gdx.gl30 = null;
+		// Shaders and meshes are managed per application.
+		Gdx.app = (Application)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Application.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+					if (method.getName().equals("equals")) return proxy == args[0];
+					return null;
+				}
+			});
+		Gdx.graphics = (Graphics)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Graphics.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					if (method.getReturnType() == int.class) return 640;
+					if (method.getReturnType() == float.class) return 0f;
+					if (method.getReturnType() == long.class) return 0L;
+					if (method.getReturnType() == boolean.class) return false;
+					return null;
+				}
+			});
+		Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL20.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					String name = method.getName();
+					if (name.equals("glDrawElements"))
+						drawCalls++;
+					else if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) //
+						((IntBuffer)args[2]).put(0, (Integer)args[1] == GL20.GL_ACTIVE_ATTRIBUTES
+							|| (Integer)args[1] == GL20.GL_ACTIVE_UNIFORMS ? 0 : 1);
+					Class type = method.getReturnType();
+					if (type == int.class) return 1;
+					if (type == boolean.class) return false;
+					if (type == String.class) return "";
+					return null;
+				}
+			});
+
+		textures = new Texture[6];
+		for (int i = 0; i < textures.length; i++)
+			textures[i] = new Texture(new CustomTextureData(16 << i));
+	}
+
+	@After
+	public void tearDown () {
+		for (Texture texture : textures)
+			texture.dispose();
+		SpriteBatch.defaultVertexDataType = oldVertexDataType;
+		Gdx.gl = Gdx.gl20 = oldGL20;
+		Gdx.gl30 = oldGL30;
+		Gdx.graphics = oldGraphics;
+		Gdx.app = oldApp;
+	}
+
+	/** Replaces the mesh of the batch with one that has the same vertex attributes. */
+	private void replaceMesh (Batch batch, Class<? extends Batch> type, int size) throws Exception {
+		Field field = type.getDeclaredField("mesh");
+		field.setAccessible(true);
+		Mesh mesh = (Mesh)field.get(batch);
+		Mesh replacement = new Mesh(new StreamingVertexBufferObject(size * 4, 1, mesh.getVertexAttributes()),
+			new IndexBufferObjectSubData(false, size * 6), false) {
+		};
+		replacement.setIndices(new short[size * 6]);
+		mesh.dispose();
+		field.set(batch, replacement);
+	}
+
+	/** Draws the textures with the given indices with both batches.
+	 * @return the render calls of the SpriteBatch and the MultiTextureBatch. */
+	private int[] renderCalls (int size, int... indices) throws Exception {
+		SpriteBatch spriteBatch = new SpriteBatch(size);
+		MultiTextureBatch multiTextureBatch = new MultiTextureBatch(size, 4);
+		replaceMesh(spriteBatch, SpriteBatch.class, size);
+		replaceMesh(multiTextureBatch, MultiTextureBatch.class, size);
+
+		drawCalls = 0;
+		spriteBatch.drawing = true;
+		for (int index : indices)
+			spriteBatch.draw(textures[index], 0, 0);
+		spriteBatch.end();
+		assertEquals(spriteBatch.renderCalls, drawCalls);
+
+		drawCalls = 0;
+		multiTextureBatch.drawing = true;
+		for (int index : indices)
+			multiTextureBatch.draw(textures[index], 0, 0);
+		multiTextureBatch.end();
+		assertEquals(multiTextureBatch.renderCalls, drawCalls);
+
+		int[] renderCalls = {spriteBatch.renderCalls, multiTextureBatch.renderCalls};
+		spriteBatch.dispose();
+		multiTextureBatch.dispose();
+		return renderCalls;
+	}
+
+	@Test
+	public void interleavedTextures () throws Exception {
+		int[] indices = new int[300];
+		for (int i = 0; i < indices.length; i++)
+			indices[i] = i % 3;
+		// every texture change flushes a SpriteBatch, while 3 textures fit in the 4 units
+		assertArrayEquals(new int[] {300, 1}, renderCalls(1000, indices));
+	}
+
+	@Test
+	public void moreTexturesThanUnits () throws Exception {
+		int[] indices = new int[24];
+		for (int i = 0; i < indices.length; i++)
+			indices[i] = i % 6;
+		// each run of 4 different textures fills the units
+		assertArrayEquals(new int[] {24, 6}, renderCalls(1000, indices));
+	}
+
+	@Test
+	public void reusesBoundUnits () throws Exception {
+		// the texture in a unit since the last flush is reused without flushing
+		assertArrayEquals(new int[] {8, 2}, renderCalls(1000, 0, 1, 0, 2, 3, 4, 3, 0));
+	}
+
+	@Test
+	public void fullBatch () throws Exception {
+		// both flush when the vertices are full
+		assertArrayEquals(new int[] {3, 3}, renderCalls(10, new int[25]));
+	}
+
+	static class CustomTextureData implements TextureData {
+		final int size;
+
+		CustomTextureData (int size) {
+			this.size = size;
+		}
+
+		public TextureDataType getType () {
+			return TextureDataType.Custom;
+		}
+
+		public boolean isPrepared () {
+			return true;
+		}
+
+		public void prepare () {
+		}
+
+		public Pixmap consumePixmap () {
+			return null;
+		}
+
+		public boolean disposePixmap () {
+			return false;
+		}
+
+		public void consumeCustomData (int target) {
+		}
+
+		public int getWidth () {
+			return size;
+		}
+
+		public int getHeight () {
+			return size;
+		}
+
+		public Format getFormat () {
+			return Format.RGBA8888;
+		}
+
+		public boolean useMipMaps () {
+			return false;
+		}
+
+		public boolean isManaged () {
+			return false;
+		}
+	}
+}
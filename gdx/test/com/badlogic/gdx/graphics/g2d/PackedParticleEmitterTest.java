@@ -0,0 +1,152 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.Particle;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpawnShape;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+
+public class PackedParticleEmitterTest {
+	private ParticleEmitter newEmitter () {
+		Sprite sprite = new Sprite();
+		sprite.setSize(16, 16);
+		sprite.setOrigin(8, 8);
+
+		ParticleEmitter emitter = new ParticleEmitter();
+		emitter.setName("test");
+		emitter.setMaxParticleCount(300);
+		emitter.setSprite(sprite);
+		emitter.setContinuous(true);
+		emitter.getDuration().setLow(1000);
+		emitter.getEmission().setHigh(400);
+		emitter.getLife().setHigh(200, 600);
+		emitter.getLifeOffset().setActive(true);
+		emitter.getLifeOffset().setHigh(0, 100);
+		emitter.getScale().setHigh(16, 32);
+		emitter.getScale().setScaling(new float[] {1, 0.5f});
+		emitter.getScale().setTimeline(new float[] {0, 1});
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(50, 100);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		emitter.getAngle().setScaling(new float[] {0, 1});
+		emitter.getAngle().setTimeline(new float[] {0, 1});
+		emitter.getRotation().setActive(true);
+		emitter.getRotation().setHigh(0, 180);
+		emitter.getRotation().setScaling(new float[] {0, 1});
+		emitter.getRotation().setTimeline(new float[] {0, 1});
+		emitter.getWind().setActive(true);
+		emitter.getWind().setHigh(10);
+		emitter.getGravity().setActive(true);
+		emitter.getGravity().setHigh(-20);
+		emitter.getTint().setColors(new float[] {1, 0, 0, 0, 0, 1});
+		emitter.getTint().setTimeline(new float[] {0, 1});
+		emitter.getTransparency().setHigh(1);
+		emitter.getSpawnShape().setShape(SpawnShape.ellipse);
+		emitter.getSpawnWidth().setHigh(50);
+		emitter.getSpawnHeight().setHigh(30);
+		return emitter;
+	}
+
+	/** Runs both emitters with the same random numbers and checks each particle of the first has a quad in the second. */
+	private void assertSameParticles (ParticleEmitter emitter, PackedParticleEmitter packed) {
+		MathUtils.random.setSeed(1);
+		emitter.start();
+		for (int i = 0; i < 60; i++)
+			emitter.update(1 / 60f);
+		MathUtils.random.setSeed(1);
+		packed.start();
+		for (int i = 0; i < 60; i++)
+			packed.update(1 / 60f);
+
+		assertTrue(emitter.getActiveCount() > 50);
+		assertEquals(emitter.getActiveCount(), packed.getActiveCount());
+		float[] vertices = packed.computeVertices();
+		int count = packed.getActiveCount();
+		boolean[] matched = new boolean[count];
+		outer:
+		for (int i = 0; i < emitter.active.length; i++) {
+			if (!emitter.active[i]) continue;
+			float[] expected = emitter.particles[i].getVertices();
+			for (int p = 0; p < count; p++)
+				if (!matched[p] && same(expected, vertices, p * Sprite.SPRITE_SIZE)) {
+					matched[p] = true;
+					continue outer;
+				}
+			fail("No match for particle: " + i);
+		}
+
+		BoundingBox expected = emitter.getBoundingBox(), actual = packed.getBoundingBox();
+		assertEquals(expected.min.x, actual.min.x, 0.01f);
+		assertEquals(expected.max.y, actual.max.y, 0.01f);
+	}
+
+	private boolean same (float[] expected, float[] vertices, int offset) {
+		for (int i = 0; i < Sprite.SPRITE_SIZE; i++) {
+			// Colors are packed bits, positions differ by rounding since sprites translate their vertices.
+			if (i % Sprite.VERTEX_SIZE == 2) {
+				if (expected[i] != vertices[offset + i]) return false;
+			} else if (Math.abs(expected[i] - vertices[offset + i]) > 0.01f) return false;
+		}
+		return true;
+	}
+
+	@Test
+	public void matchesParticleEmitter () {
+		ParticleEmitter emitter = newEmitter();
+		assertSameParticles(emitter, new PackedParticleEmitter(emitter));
+	}
+
+	@Test
+	public void matchesAlignedPremultiplied () {
+		ParticleEmitter emitter = newEmitter();
+		emitter.setAligned(true);
+		emitter.setPremultipliedAlpha(true);
+		emitter.getAngle().setScaling(new float[] {1});
+		emitter.getAngle().setTimeline(new float[] {0});
+		emitter.getSpawnShape().setEdges(true);
+		PackedParticleEmitter packed = new PackedParticleEmitter(emitter);
+		emitter.setFlip(true, false);
+		packed.setFlip(true, false);
+		assertSameParticles(emitter, packed);
+	}
+
+	@Test
+	public void completes () {
+		PackedParticleEmitter packed = new PackedParticleEmitter(newEmitter());
+		packed.start();
+		for (int i = 0; i < 30; i++)
+			packed.update(1 / 60f);
+		assertTrue(packed.getActiveCount() > 0);
+		packed.allowCompletion();
+		for (int i = 0; i < 60 && !packed.isComplete(); i++)
+			packed.update(1 / 60f);
+		assertTrue(packed.isComplete());
+		assertEquals(0, packed.getActiveCount());
+	}
+
+	@Test
+	public void load () throws IOException {
+		StringWriter writer = new StringWriter();
+		newEmitter().save(writer);
+		PackedParticleEmitter packed = new PackedParticleEmitter(new BufferedReader(new StringReader(writer.toString())));
+		assertEquals("test", packed.getName());
+		assertEquals(300, packed.getMaxParticleCount());
+
+		ParticleEffect effect = new ParticleEffect(true);
+		effect.getEmitters().add(packed);
+		ParticleEffect copy = new ParticleEffect(effect);
+		assertTrue(copy.isPacked());
+		assertTrue(copy.getEmitters().first() instanceof PackedParticleEmitter);
+		assertFalse(new ParticleEffect(new ParticleEffect()).isPacked());
+	}
+}
@@ -0,0 +1,125 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpawnShape;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.async.JobSystem;
+
+public class ParallelParticleUpdaterTest {
+	JobSystem jobs;
+	ParallelParticleUpdater updater;
+
+	@Before
+	public void setup () {
+		jobs = new JobSystem(3);
+		updater = new ParallelParticleUpdater(jobs);
+		updater.threshold = 1;
+	}
+
+	@After
+	public void dispose () {
+		jobs.dispose();
+	}
+
+	private ParticleEffect newEffect (boolean packed) {
+		Sprite sprite = new Sprite();
+		sprite.setSize(16, 16);
+		sprite.setOrigin(8, 8);
+
+		ParticleEmitter emitter = packed ? new PackedParticleEmitter() : new ParticleEmitter();
+		emitter.setMaxParticleCount(100);
+		emitter.setSprite(sprite);
+		emitter.setContinuous(true);
+		emitter.getDuration().setLow(500);
+		emitter.getEmission().setHigh(100);
+		emitter.getLife().setHigh(200, 600);
+		emitter.getScale().setHigh(8, 32);
+		emitter.getVelocity().setActive(true);
+		emitter.getVelocity().setHigh(50, 100);
+		emitter.getAngle().setActive(true);
+		emitter.getAngle().setHigh(0, 360);
+		emitter.getRotation().setActive(true);
+		emitter.getRotation().setHigh(0, 180);
+		emitter.getTint().setColors(new float[] {1, 0, 0, 0, 0, 1});
+		emitter.getTint().setTimeline(new float[] {0, 1});
+		emitter.getTransparency().setHigh(1);
+		emitter.getSpawnShape().setShape(SpawnShape.square);
+		emitter.getSpawnWidth().setHigh(50);
+		emitter.getSpawnHeight().setHigh(30);
+
+		ParticleEffect effect = new ParticleEffect(packed);
+		effect.getEmitters().add(emitter);
+		effect.getEmitters().add(packed ? new PackedParticleEmitter(emitter) : new ParticleEmitter(emitter));
+		return effect;
+	}
+
+	/** Returns 40 pooled effects, seeded except the first two. */
+	private Array<PooledEffect> obtain () {
+		ParticleEffectPool pool = new ParticleEffectPool(newEffect(false), 0, 20);
+		ParticleEffectPool packedPool = new ParticleEffectPool(newEffect(true), 0, 20);
+		Array<PooledEffect> effects = new Array();
+		for (int i = 0; i < 40; i++) {
+			PooledEffect effect = i % 2 == 0 ? pool.obtain() : packedPool.obtain();
+			effects.add(effect);
+			effect.setPosition(i * 10, 0);
+			if (i >= 2) effect.setSeed(i);
+		}
+		MathUtils.random.setSeed(0);
+		for (PooledEffect effect : effects)
+			effect.start();
+		return effects;
+	}
+
+	private FloatArray vertices (Array<PooledEffect> effects) {
+		FloatArray vertices = new FloatArray();
+		for (PooledEffect effect : effects) {
+			for (ParticleEmitter emitter : effect.getEmitters()) {
+				if (emitter instanceof PackedParticleEmitter) {
+					vertices.addAll(((PackedParticleEmitter)emitter).computeVertices(), 0,
+						emitter.getActiveCount() * Sprite.SPRITE_SIZE);
+				} else {
+					for (int i = 0; i < emitter.active.length; i++)
+						if (emitter.active[i]) vertices.addAll(emitter.particles[i].getVertices());
+				}
+			}
+		}
+		return vertices;
+	}
+
+	@Test
+	public void matchesSerialUpdate () {
+		Array<PooledEffect> serial = obtain();
+		for (int frame = 0; frame < 60; frame++)
+			for (PooledEffect effect : serial)
+				effect.update(1 / 60f);
+
+		Array<PooledEffect> parallel = obtain();
+		for (int frame = 0; frame < 60; frame++)
+			updater.update(parallel, 1 / 60f);
+
+		FloatArray expected = vertices(serial);
+		assertTrue(expected.size > 40 * 2 * Sprite.SPRITE_SIZE);
+		assertArrayEquals(expected.toArray(), vertices(parallel).toArray(), 0);
+	}
+
+	@Test
+	public void seed () {
+		ParticleEffect effect = newEffect(true);
+		effect.setSeed(5);
+		ParticleEmitter emitter = effect.getEmitters().first();
+		assertNotSame(MathUtils.random, emitter.getRandom());
+		float first = emitter.getRandom().nextFloat();
+		effect.setSeed(5);
+		assertEquals(first, emitter.getRandom().nextFloat(), 0);
+		assertNotSame(emitter.getRandom(), effect.getEmitters().get(1).getRandom());
+	}
+}
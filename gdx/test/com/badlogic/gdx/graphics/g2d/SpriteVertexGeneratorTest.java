@@ -0,0 +1,83 @@
+
+package com.badlogic.gdx.graphics.g2d;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.utils.async.JobSystem;
+
+public class SpriteVertexGeneratorTest {
+	static final int count = 5000;
+
+	JobSystem jobs;
+	ParallelSpriteVertexGenerator parallel;
+	final SpriteVertexGenerator sequential = new SpriteVertexGenerator();
+	final float[] sprites = new float[3 + count * SpriteVertexGenerator.DESCRIPTOR_SIZE];
+
+	@Before
+	public void create () {
+		jobs = new JobSystem(3);
+		parallel = new ParallelSpriteVertexGenerator(jobs);
+		Random random = new Random(7);
+		for (int i = 0; i < sprites.length; i++)
+			sprites[i] = random.nextFloat() * 200 - 100;
+		// Exercise the unscaled and unrotated paths.
+		for (int i = 3; i < sprites.length; i += SpriteVertexGenerator.DESCRIPTOR_SIZE * 3) {
+			sprites[i + 6] = 1;
+			sprites[i + 7] = 1;
+			sprites[i + 8] = 0;
+		}
+	}
+
+	@After
+	public void dispose () {
+		jobs.dispose();
+	}
+
+	private void assertIdentical (Affine2 transform, boolean triangles) {
+		int spriteSize = triangles ? 30 : 20;
+		float[] expected = new float[1 + count * spriteSize];
+		float[] actual = new float[expected.length];
+		sequential.generate(sprites, 3, count, transform, expected, 1, triangles);
+		parallel.generate(sprites, 3, count, transform, actual, 1, triangles);
+		for (int i = 0; i < expected.length; i++)
+			if (Float.floatToRawIntBits(expected[i]) != Float.floatToRawIntBits(actual[i]))
+				fail("Vertex " + i + " differs: " + expected[i] + " != " + actual[i]);
+	}
+
+	@Test
+	public void parallelIsIdentical () {
+		parallel.threshold = 0;
+		assertIdentical(null, false);
+		assertIdentical(null, true);
+		assertIdentical(new Affine2().setToTrnRotScl(10, -20, 33, 1.5f, 0.5f).shear(0.2f, 0), false);
+		assertIdentical(new Affine2().setToTranslation(5, 5), true);
+	}
+
+	@Test
+	public void belowThreshold () {
+		assertIdentical(null, false);
+	}
+
+	@Test
+	public void corners () {
+		float color = Color.RED.toFloatBits();
+		float[] sprites = {10, 20, 2, 3, 30, 40, 1, 1, 0, 0.25f, 0.5f, 0.75f, 0, color};
+		float[] vertices = new float[30];
+		sequential.generate(sprites, 0, 1, null, vertices, 0, false);
+		assertArrayEquals(new float[] {10, 20, color, 0.25f, 0.5f, 10, 60, color, 0.25f, 0, 40, 60, color, 0.75f, 0, 40, 20, color,
+			0.75f, 0.5f}, Arrays.copyOf(vertices, 20), 0);
+
+		sequential.generate(sprites, 0, 1, new Affine2().setToTranslation(1, 2), vertices, 0, true);
+		assertArrayEquals(new float[] {11, 22, color, 0.25f, 0.5f, 11, 62, color, 0.25f, 0, 41, 62, color, 0.75f, 0, 41, 62, color,
+			0.75f, 0, 41, 22, color, 0.75f, 0.5f, 11, 22, color, 0.25f, 0.5f}, vertices, 0);
+	}
+}
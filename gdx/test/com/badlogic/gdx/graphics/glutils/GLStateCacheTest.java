@@ -0,0 +1,157 @@
+
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+
+public class GLStateCacheTest {
+	final Array<String> calls = new Array();
+	GL20 oldGL20;
+	GL30 oldGL30;
+	GL30 recorder;
+
+	@Before
+	public void setUp () {
+		oldGL20 = Gdx.gl20;
+		oldGL30 = Gdx.gl30;
+		recorder = (GL30)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL30.class}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				calls.add(method.getName() + (args == null ? "" : " " + Arrays.toString(args)));
+				return null;
+			}
+		});
+		GLStateCache.reset();
+	}
+
+	@After
+	public void tearDown () {
+		GLStateCache.disable();
+		Gdx.gl = Gdx.gl20 = oldGL20;
+		Gdx.gl30 = oldGL30;
+	}
+
+	private String calls () {
+		String result = calls.toString();
+		calls.clear();
+		return result;
+	}
+
+	@Test
+	public void enable () {
+		Gdx.gl30 = null;
+		Gdx.gl = Gdx.gl20 = recorder;
+		GLStateCache.enable();
+		assertTrue(Gdx.gl20 instanceof GL20StateCache);
+		assertFalse(Gdx.gl20 instanceof GL30StateCache);
+		assertSame(Gdx.gl20, Gdx.gl);
+		GLStateCache.disable();
+		assertSame(recorder, Gdx.gl20);
+		assertSame(recorder, Gdx.gl);
+
+		Gdx.gl = Gdx.gl20 = Gdx.gl30 = recorder;
+		GLStateCache.enable();
+		assertTrue(Gdx.gl30 instanceof GL30StateCache);
+		assertSame(Gdx.gl30, Gdx.gl20);
+		GLStateCache.disable();
+		assertSame(recorder, Gdx.gl30);
+		assertSame(recorder, Gdx.gl20);
+	}
+
+	@Test
+	public void dropsRedundantCalls () {
+		GL20 gl = new GL20StateCache(recorder);
+		gl.glUseProgram(1);
+		gl.glUseProgram(1);
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glEnable(GL20.GL_BLEND);
+		gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glBlendFuncSeparate(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA, GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glDepthMask(false);
+		gl.glDepthMask(false);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 2);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 2);
+		gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 3);
+		gl.glBindFramebuffer(GL20.GL_FRAMEBUFFER, 3);
+		assertEquals("[glUseProgram [1], glEnable [3042], glBlendFunc [770, 771], glDepthMask [false], glBindBuffer [34962, 2], "
+			+ "glBindBuffer [34963, 2], glBindFramebuffer [36160, 3]]", calls());
+		assertEquals(6, GLStateCache.savedCalls);
+
+		gl.glDisable(GL20.GL_BLEND);
+		gl.glBlendFunc(GL20.GL_ONE, GL20.GL_ONE_MINUS_SRC_ALPHA);
+		gl.glUseProgram(0);
+		assertEquals("[glDisable [3042], glBlendFunc [1, 771], glUseProgram [0]]", calls());
+
+		// Unknown state is always passed on.
+		gl.glEnable(GL20.GL_DEPTH_TEST);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 2);
+		((GL20StateCache)gl).invalidate();
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 2);
+		gl.glDisable(GL20.GL_BLEND);
+		assertEquals("[glEnable [2929], glBindBuffer [34962, 2], glDisable [3042]]", calls());
+		assertEquals(7, GLStateCache.savedCalls);
+	}
+
+	@Test
+	public void textures () {
+		GL20 gl = new GL20StateCache(recorder);
+		// The active unit isn't known yet.
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		assertEquals(2, calls.size);
+		calls.clear();
+
+		gl.glActiveTexture(GL20.GL_TEXTURE0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glBindTexture(GL20.GL_TEXTURE_CUBE_MAP, 1);
+		gl.glActiveTexture(GL20.GL_TEXTURE1);
+		gl.glActiveTexture(GL20.GL_TEXTURE1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glActiveTexture(GL20.GL_TEXTURE0);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		assertEquals("[glActiveTexture [33984], glBindTexture [3553, 1], glBindTexture [34067, 1], glActiveTexture [33985], "
+			+ "glBindTexture [3553, 1], glActiveTexture [33984]]", calls());
+		assertEquals(3, GLStateCache.savedCalls);
+
+		// Deleting a texture unbinds it, so binding a new texture with the same handle must be passed on.
+		gl.glDeleteTextures(1, BufferUtils.newIntBuffer(1).put(0, 1));
+		calls.clear();
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		gl.glActiveTexture(GL20.GL_TEXTURE1);
+		gl.glBindTexture(GL20.GL_TEXTURE_2D, 1);
+		assertEquals("[glBindTexture [3553, 1], glActiveTexture [33985], glBindTexture [3553, 1]]", calls());
+	}
+
+	@Test
+	public void vertexArrays () {
+		GL30 gl = new GL30StateCache(recorder);
+		gl.glBindVertexArray(1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		gl.glBindVertexArray(1);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		// The element array buffer binding belongs to the vertex array object.
+		gl.glBindVertexArray(0);
+		gl.glBindBuffer(GL20.GL_ELEMENT_ARRAY_BUFFER, 2);
+		assertEquals("[glBindVertexArray [1], glBindBuffer [34963, 2], glBindVertexArray [0], glBindBuffer [34963, 2]]", calls());
+		assertEquals(2, GLStateCache.savedCalls);
+
+		gl.glDeleteVertexArrays(1, new int[] {0}, 0);
+		gl.glBindVertexArray(0);
+		assertEquals("glBindVertexArray [0]", calls.peek());
+	}
+}
@@ -0,0 +1,171 @@
+
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.utils.IntIntMap;
+
+/** Uses a fake GL30 whose program binaries start with the driver version and only load with the same version. */
+public class ShaderProgramCacheTest {
+	Application oldApp;
+	GL20 oldGL20;
+	GL30 oldGL30;
+	FileHandle file;
+	String version = "1";
+	int handles, compiles;
+	final IntIntMap linked = new IntIntMap();
+
+	@Before
+	public void setUp () throws IOException {
+		oldApp = Gdx.app;
+		oldGL20 = Gdx.gl20;
+		oldGL30 = Gdx.gl30;
+		Gdx.app = (Application)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Application.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+					if (method.getName().equals("equals")) return proxy == args[0];
+					return null;
+				}
+			});
+		Gdx.gl = Gdx.gl20 = Gdx.gl30 = (GL30)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL30.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					String name = method.getName();
+					if (name.equals("glCreateShader") || name.equals("glCreateProgram")) return ++handles;
+					if (name.equals("glCompileShader")) compiles++;
+					if (name.equals("glLinkProgram")) linked.put((Integer)args[0], 1);
+					if (name.equals("glGetString")) return (Integer)args[0] == GL20.GL_VERSION ? version : "test";
+					if (name.equals("glGetIntegerv")) ((IntBuffer)args[1]).put(0, 1);
+					if (name.equals("glGetShaderiv")) ((IntBuffer)args[2]).put(0, 1);
+					if (name.equals("glGetProgramiv")) {
+						int program = (Integer)args[0], pname = (Integer)args[1];
+						if (pname == GL20.GL_LINK_STATUS) ((IntBuffer)args[2]).put(0, linked.get(program, 0));
+						if (pname == GL30.GL_PROGRAM_BINARY_LENGTH) ((IntBuffer)args[2]).put(0, 2);
+					}
+					if (name.equals("glGetProgramBinary")) {
+						((IntBuffer)args[2]).put(0, 2);
+						((IntBuffer)args[3]).put(0, 7);
+						((ByteBuffer)args[4]).put(0, (byte)version.charAt(0)).put(1, (byte)0);
+					}
+					if (name.equals("glProgramBinary")) {
+						ByteBuffer binary = (ByteBuffer)args[2];
+						if ((Integer)args[1] == 7 && binary.get(0) == version.charAt(0)) linked.put((Integer)args[0], 1);
+					}
+					Class type = method.getReturnType();
+					if (type == int.class) return 0;
+					if (type == boolean.class) return false;
+					if (type == String.class) return "";
+					return null;
+				}
+			});
+		File temp = File.createTempFile("shaders", ".bin");
+		temp.delete();
+		file = new FileHandle(temp);
+	}
+
+	@After
+	public void tearDown () {
+		ShaderProgram.binaryCache = null;
+		file.delete();
+		Gdx.app = oldApp;
+		Gdx.gl = Gdx.gl20 = oldGL20;
+		Gdx.gl30 = oldGL30;
+	}
+
+	private ShaderProgramCache newCache () {
+		ShaderProgram.binaryCache = new ShaderProgramCache(file);
+		return ShaderProgram.binaryCache;
+	}
+
+	private void createShaders (String... defines) {
+		for (String define : defines) {
+			ShaderProgram shader = new ShaderProgram("#define " + define + "\nvertex", "fragment");
+			assertTrue(shader.isCompiled());
+			shader.dispose();
+		}
+	}
+
+	@Test
+	public void loadsSavedBinaries () {
+		ShaderProgramCache cache = newCache();
+		createShaders("a", "b");
+		assertEquals(4, compiles);
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertEquals(2, cache.getSize());
+		assertFalse(file.exists());
+		cache.save();
+		assertTrue(file.exists());
+
+		compiles = 0;
+		cache = newCache();
+		createShaders("a", "b", "c");
+		assertEquals(2, compiles);
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		cache.save();
+
+		compiles = 0;
+		cache = newCache();
+		createShaders("c");
+		assertEquals(0, compiles);
+		assertEquals(1, cache.getHits());
+	}
+
+	@Test
+	public void discardsOtherDrivers () {
+		newCache();
+		createShaders("a", "b");
+		ShaderProgram.binaryCache.save();
+
+		compiles = 0;
+		version = "2";
+		ShaderProgramCache cache = newCache();
+		createShaders("a");
+		assertEquals(2, compiles);
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getSize());
+	}
+
+	@Test
+	public void compilesRejectedBinaries () {
+		ShaderProgramCache cache = newCache();
+		createShaders("a");
+		cache.save();
+
+		// The driver changed without changing its version string.
+		cache = newCache();
+		cache.isSupported();
+		version = "3";
+		compiles = 0;
+		createShaders("a");
+		assertEquals(2, compiles);
+		assertEquals(0, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertEquals(1, cache.getSize());
+
+		// The rejected binary was replaced.
+		compiles = 0;
+		createShaders("a");
+		assertEquals(0, compiles);
+		assertEquals(1, cache.getHits());
+	}
+}
@@ -0,0 +1,140 @@
+
+package com.badlogic.gdx.graphics.glutils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.utils.Array;
+
+/** Records the buffer calls made to a fake GL20, since no OpenGL context is available. */
+public class StreamingVertexBufferObjectTest {
+	final Array<String> calls = new Array();
+	Application oldApp;
+	GL20 oldGL20;
+	GL30 oldGL30;
+	ShaderProgram shader;
+	final int[] locations = {0, 1};
+
+	@Before
+	public void setUp () {
+		oldApp = Gdx.app;
+		oldGL20 = Gdx.gl20;
+		oldGL30 = Gdx.gl30;
+		Gdx.gl30 = null;
+		// Shaders are managed per application.
+		Gdx.app = (Application)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Application.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("hashCode")) return System.identityHashCode(proxy);
+					if (method.getName().equals("equals")) return proxy == args[0];
+					return null;
+				}
+			});
+		Gdx.gl20 = (GL20)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL20.class}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("glBufferData"))
+					calls.add("data " + args[1] + " " + args[2]);
+				else if (name.equals("glBufferSubData"))
+					calls.add("subData " + args[1] + " " + args[2]);
+				else if (name.equals("glVertexAttribPointer")) //
+					calls.add("pointer " + args[0] + " " + args[5]);
+				else if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) //
+					((IntBuffer)args[2]).put(0, (Integer)args[1] == GL20.GL_ACTIVE_ATTRIBUTES
+						|| (Integer)args[1] == GL20.GL_ACTIVE_UNIFORMS ? 0 : 1);
+				Class type = method.getReturnType();
+				if (type == int.class) return 1;
+				if (type == boolean.class) return false;
+				if (type == String.class) return "";
+				return null;
+			}
+		});
+		Gdx.gl = Gdx.gl20;
+		shader = new ShaderProgram("vertex", "fragment");
+		assertTrue(shader.isCompiled());
+	}
+
+	@After
+	public void tearDown () {
+		shader.dispose();
+		Gdx.gl = Gdx.gl20 = oldGL20;
+		Gdx.gl30 = oldGL30;
+		Gdx.app = oldApp;
+	}
+
+	private StreamingVertexBufferObject newBuffer (int ringSize) {
+		return new StreamingVertexBufferObject(10, ringSize, new VertexAttributes(new VertexAttribute(Usage.Position, 2,
+			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE)));
+	}
+
+	private void draw (StreamingVertexBufferObject vertexData, int numVertices) {
+		vertexData.setVertices(new float[numVertices * 3], 0, numVertices * 3);
+		vertexData.bind(shader, locations);
+		vertexData.unbind(shader, locations);
+	}
+
+	@Test
+	public void appendsUntilFull () {
+		// 10 vertices of 12 bytes, 3 times.
+		StreamingVertexBufferObject vertexData = newBuffer(3);
+		assertEquals(360, vertexData.getCapacity());
+		assertEquals(10, vertexData.getNumMaxVertices());
+
+		draw(vertexData, 10);
+		assertEquals("[data 360 null, subData 0 120, pointer 0 0, pointer 1 8]", calls.toString());
+		assertEquals(10, vertexData.getNumVertices());
+		calls.clear();
+
+		draw(vertexData, 5);
+		draw(vertexData, 10);
+		assertEquals("[subData 120 60, pointer 0 120, pointer 1 128, subData 180 120, pointer 0 180, pointer 1 188]",
+			calls.toString());
+		assertEquals(0, vertexData.orphanCount);
+		calls.clear();
+
+		// 120 bytes don't fit after 300, so the buffer is orphaned and the ring starts over.
+		draw(vertexData, 10);
+		assertEquals("[data 360 null, subData 0 120, pointer 0 0, pointer 1 8]", calls.toString());
+		assertEquals(1, vertexData.orphanCount);
+	}
+
+	@Test
+	public void uploadsWhileBound () {
+		StreamingVertexBufferObject vertexData = newBuffer(4);
+		vertexData.setVertices(new float[30], 0, 30);
+		vertexData.bind(shader, locations);
+		calls.clear();
+
+		// Changing the vertices while bound writes them to a new part of the ring instead of over the ones being drawn.
+		vertexData.updateVertices(0, new float[3], 0, 3);
+		assertEquals("[subData 120 120, pointer 0 120, pointer 1 128]", calls.toString());
+		vertexData.unbind(shader, locations);
+		calls.clear();
+
+		// Binding again without changes draws the same vertices.
+		vertexData.bind(shader, locations);
+		assertEquals("[pointer 0 120, pointer 1 128]", calls.toString());
+		vertexData.unbind(shader, locations);
+		calls.clear();
+
+		// After a context loss the buffer is allocated again.
+		vertexData.invalidate();
+		vertexData.bind(shader, locations);
+		assertEquals("[data 480 null, subData 0 120, pointer 0 0, pointer 1 8]", calls.toString());
+	}
+}
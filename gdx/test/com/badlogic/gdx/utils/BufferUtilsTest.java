@@ -0,0 +1,81 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.BufferUtils.UnsafeAllocation;
+
+/** Registers direct buffers as unsafe buffers, since the natives needed to allocate and free unsafe buffers aren't loaded. */
+public class BufferUtilsTest {
+	final Array<ByteBuffer> registered = new Array();
+
+	@After
+	public void dispose () {
+		for (ByteBuffer buffer : registered)
+			BufferUtils.unregisterUnsafe(buffer);
+		BufferUtils.setUnsafeTracking(false);
+		BufferUtils.setUnsafeBudget(0, false);
+	}
+
+	private ByteBuffer register (int bytes) {
+		ByteBuffer buffer = BufferUtils.newUnsafeByteBuffer(ByteBuffer.allocateDirect(bytes));
+		registered.add(buffer);
+		return buffer;
+	}
+
+	@Test
+	public void registry () {
+		int allocated = BufferUtils.getAllocatedBytesUnsafe();
+		for (int i = 0; i < 1000; i++)
+			register(16);
+		assertEquals(allocated + 16000, BufferUtils.getAllocatedBytesUnsafe());
+		ByteBuffer buffer = registered.removeIndex(500);
+		BufferUtils.unregisterUnsafe(buffer);
+		assertEquals(allocated + 15984, BufferUtils.getAllocatedBytesUnsafe());
+		try {
+			BufferUtils.unregisterUnsafe(buffer);
+			fail();
+		} catch (IllegalArgumentException expected) {
+		}
+		// Equal contents are still different buffers.
+		register(16);
+		assertEquals(allocated + 16000, BufferUtils.getAllocatedBytesUnsafe());
+	}
+
+	@Test
+	public void tracking () {
+		register(100);
+		BufferUtils.setUnsafeTracking(true);
+		register(200);
+		register(300);
+		Array<UnsafeAllocation> allocations = BufferUtils.getUnsafeAllocations();
+		assertEquals(2, allocations.size);
+		for (UnsafeAllocation allocation : allocations)
+			assertTrue(allocation.getSite(), allocation.getSite().startsWith(BufferUtilsTest.class.getName() + ".register"));
+
+		String report = BufferUtils.getUnsafeReport();
+		assertTrue(report, report.contains("500 bytes in 2 buffers: " + BufferUtilsTest.class.getName() + ".register"));
+		assertTrue(report, report.contains("bytes in 1 buffers: unknown"));
+	}
+
+	@Test
+	public void budget () {
+		BufferUtils.setUnsafeBudget(BufferUtils.getAllocatedBytesUnsafe() + 100, true);
+		register(60);
+		try {
+			register(60);
+			fail();
+		} catch (GdxRuntimeException expected) {
+		}
+		assertEquals(1, registered.size);
+		// Only logs when not throwing.
+		BufferUtils.setUnsafeBudget(BufferUtils.getAllocatedBytesUnsafe() + 10, false);
+		register(60);
+		assertEquals(2, registered.size);
+	}
+}
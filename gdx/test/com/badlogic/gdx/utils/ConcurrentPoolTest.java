@@ -0,0 +1,153 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Pool.Poolable;
+
+public class ConcurrentPoolTest {
+	static public class Item implements Poolable {
+		static final AtomicInteger created = new AtomicInteger();
+		volatile boolean used;
+
+		public Item () {
+			created.incrementAndGet();
+		}
+
+		public void reset () {
+			used = false;
+		}
+	}
+
+	static class ItemPool extends ConcurrentPool<Item> {
+		ItemPool (int batchSize, int max) {
+			super(batchSize, max);
+		}
+
+		protected Item newObject () {
+			return new Item();
+		}
+	}
+
+	@Test
+	public void singleThread () {
+		ItemPool pool = new ItemPool(2, 4);
+		Array<Item> items = new Array();
+		for (int i = 0; i < 10; i++)
+			items.add(pool.obtain());
+		assertEquals(10, pool.getMisses());
+		items.first().used = true;
+		pool.freeAll(items);
+		assertFalse(items.first().used);
+		// Two batches in the thread's cache, two in the shared overflow, the rest are discarded.
+		assertEquals(8, pool.getFree());
+		assertEquals(4, pool.peak);
+		for (int i = 0; i < 10; i++)
+			pool.obtain();
+		assertEquals(8, pool.getHits());
+		assertEquals(12, pool.getMisses());
+		assertEquals(0.4f, pool.getHitRate(), 0.001f);
+		pool.free(items.first());
+		pool.clear();
+		assertEquals(0, pool.getFree());
+		pool.resetStats();
+		assertEquals(0, pool.getHits());
+	}
+
+	@Test
+	public void sharedBetweenThreads () throws InterruptedException {
+		final ItemPool pool = new ItemPool(4, Integer.MAX_VALUE);
+		final Array<Item> items = new Array();
+		for (int i = 0; i < 64; i++)
+			items.add(pool.obtain());
+		pool.freeAll(items);
+		Thread thread = new Thread() {
+			public void run () {
+				for (int i = 0; i < 56; i++)
+					pool.obtain();
+			}
+		};
+		thread.start();
+		thread.join();
+		// The other thread's obtains are served by the batches this thread moved to the shared overflow.
+		assertEquals(56, pool.getHits());
+		assertEquals(8, pool.getFree());
+	}
+
+	@Test
+	public void concurrentUse () throws InterruptedException {
+		final ItemPool pool = new ItemPool(8, 1000);
+		final int threads = 8;
+		final AtomicInteger errors = new AtomicInteger();
+		final CountDownLatch done = new CountDownLatch(threads);
+		Item.created.set(0);
+		for (int t = 0; t < threads; t++) {
+			new Thread() {
+				public void run () {
+					Array<Item> held = new Array();
+					for (int i = 0; i < 20000; i++) {
+						int count = 1 + (i % 13);
+						for (int ii = 0; ii < count; ii++) {
+							Item item = pool.obtain();
+							if (item.used) errors.incrementAndGet();
+							item.used = true;
+							held.add(item);
+						}
+						// Free on one thread objects obtained by another.
+						pool.freeAll(held);
+						held.clear();
+					}
+					done.countDown();
+				}
+			}.start();
+		}
+		done.await();
+		assertEquals(0, errors.get());
+		assertTrue(pool.getHitRate() > 0.9f);
+		assertEquals(Item.created.get(), pool.getMisses());
+	}
+
+	static public class RegistryItem {
+	}
+
+	@Test
+	public void registry () throws InterruptedException {
+		final int threads = 8;
+		final Array<ConcurrentPool> pools = new Array();
+		final CountDownLatch start = new CountDownLatch(1), done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			new Thread() {
+				public void run () {
+					try {
+						start.await();
+					} catch (InterruptedException ignored) {
+					}
+					ConcurrentPool pool = Pools.getConcurrent(RegistryItem.class);
+					synchronized (pools) {
+						pools.add(pool);
+					}
+					done.countDown();
+				}
+			}.start();
+		}
+		start.countDown();
+		done.await();
+		ConcurrentPool<RegistryItem> pool = Pools.getConcurrent(RegistryItem.class);
+		for (ConcurrentPool other : pools)
+			assertSame(pool, other);
+
+		// The pools used by the render thread are separate.
+		Pool<RegistryItem> plain = Pools.get(RegistryItem.class);
+		assertNotSame(pool, plain);
+		RegistryItem item = pool.obtain();
+		pool.free(item);
+		assertNotSame(item, Pools.obtain(RegistryItem.class));
+		assertSame(plain, Pools.get(RegistryItem.class));
+		assertSame(pool, Pools.getConcurrent(RegistryItem.class));
+	}
+}
@@ -0,0 +1,154 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonPullParser.Event;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+public class JsonPullParserTest {
+	static final String relaxed = "// comment\n{\n" //
+		+ "\tname: unquoted value  , \"quoted\": \"a\\\"b\\u0041\\n\" /* block */\n" //
+		+ "\tlong: -42\n\tdouble: 1.5e3, bool: true, nothing: null,\n" //
+		+ "\tarray: [ 1, two\n 3, [], {}, ],\n" //
+		+ "\tpath: a/b\n}\n";
+
+	@Test
+	public void events () {
+		JsonPullParser parser = new JsonPullParser(new StringReader(relaxed), 2);
+		assertEquals(Event.startObject, parser.next());
+		assertEquals(Event.stringValue, parser.next());
+		assertEquals("name", parser.getName());
+		assertEquals("unquoted value", parser.getString());
+		assertEquals(Event.stringValue, parser.next());
+		assertEquals("a\"bA\n", parser.getString());
+		assertEquals(Event.longValue, parser.next());
+		assertEquals(-42, parser.getLong());
+		assertEquals(Event.doubleValue, parser.next());
+		assertEquals(1500, parser.getDouble(), 0);
+		assertEquals(Event.booleanValue, parser.next());
+		assertTrue(parser.getBoolean());
+		assertEquals(Event.nullValue, parser.next());
+		assertNull(parser.getString());
+		assertEquals(Event.startArray, parser.next());
+		assertEquals("array", parser.getName());
+		assertEquals(2, parser.getDepth());
+		assertEquals(Event.longValue, parser.next());
+		assertEquals(Event.stringValue, parser.next());
+		assertEquals("two", parser.getString());
+		assertNull(parser.getName());
+		assertEquals(Event.longValue, parser.next());
+		assertEquals(Event.startArray, parser.next());
+		assertEquals(Event.endArray, parser.next());
+		assertEquals(Event.startObject, parser.next());
+		parser.skipValue();
+		assertEquals(Event.endObject, parser.getEvent());
+		assertEquals(Event.endArray, parser.next());
+		assertEquals(Event.stringValue, parser.next());
+		assertEquals("a/b", parser.getString());
+		assertEquals(Event.endObject, parser.next());
+		assertNull(parser.next());
+	}
+
+	@Test
+	public void sameAsJsonReader () {
+		JsonPullParser parser = new JsonPullParser(relaxed);
+		parser.next();
+		JsonValue streamed = parser.readValue();
+		assertNull(parser.next());
+		JsonValue parsed = new JsonReader().parse(relaxed);
+		assertEquals(parsed.toJson(OutputType.json), streamed.toJson(OutputType.json));
+		assertEquals(parsed.get("array").size, streamed.get("array").size);
+	}
+
+	@Test
+	public void errors () {
+		String[] invalid = {"{a:1", "[\"a\" 2]", "{a 1}", "\"abc", "[1]]", "{a:}"};
+		for (String json : invalid) {
+			try {
+				JsonPullParser parser = new JsonPullParser(json);
+				while (parser.next() != null) {
+				}
+				fail("Expected error: " + json);
+			} catch (SerializationException expected) {
+			}
+		}
+	}
+
+	static public class Item {
+		public String name;
+		public int count;
+		public float[] values;
+	}
+
+	static public class Level {
+		public String title;
+		public Array<Item> items;
+		public ObjectMap<String, Integer> scores;
+		public ArrayList<String> tags;
+		public Object extra;
+		public Item[] list;
+	}
+
+	static public class SpecialItem extends Item implements Json.Serializable {
+		public String special;
+
+		public void write (Json json) {
+			json.writeValue("special", special);
+		}
+
+		public void read (Json json, JsonValue jsonData) {
+			special = "read " + jsonData.getString("special");
+		}
+	}
+
+	@Test
+	public void binding () {
+		Level level = new Level();
+		level.title = "first";
+		level.items = new Array();
+		Item item = new Item();
+		item.name = "sword";
+		item.count = 3;
+		item.values = new float[] {1, 2.5f};
+		level.items.add(item);
+		SpecialItem special = new SpecialItem();
+		special.special = "x";
+		level.items.add(special);
+		level.scores = new ObjectMap();
+		level.scores.put("a", 1);
+		level.tags = new ArrayList();
+		level.tags.add("t");
+		level.extra = item;
+		level.list = new Item[] {item};
+
+		Json json = new Json();
+		String text = json.toJson(level);
+		Level read = json.fromJson(Level.class, new JsonPullParser(text));
+		assertEquals("first", read.title);
+		assertEquals(2, read.items.size);
+		assertEquals("sword", read.items.first().name);
+		assertEquals(3, read.items.first().count);
+		assertArrayEquals(item.values, read.items.first().values, 0);
+		assertEquals("read x", ((SpecialItem)read.items.get(1)).special);
+		assertEquals(1, (int)read.scores.get("a"));
+		assertEquals("t", read.tags.get(0));
+		assertEquals(Item.class, read.extra.getClass());
+		assertEquals(1, read.list.length);
+		assertEquals("sword", read.list[0].name);
+
+		try {
+			json.fromJson(Level.class, new JsonPullParser("{unknown:{a:[1]},title:x}"));
+			fail();
+		} catch (SerializationException expected) {
+		}
+		json.setIgnoreUnknownFields(true);
+		assertEquals("x", json.fromJson(Level.class, new JsonPullParser("{unknown:{a:[1]},title:x}")).title);
+		assertNull(json.fromJson(Level.class, new JsonPullParser("")));
+	}
+}
@@ -0,0 +1,87 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+public class JsonTest {
+	static public class Primitives {
+		public int i = 1;
+		public long l;
+		public float f;
+		public double d;
+		public boolean b;
+		public short s;
+		public Integer boxed;
+	}
+
+	private Json json () {
+		Json json = new Json();
+		json.setOutputType(OutputType.minimal);
+		return json;
+	}
+
+	@Test
+	public void primitiveFields () {
+		Primitives object = new Primitives();
+		object.i = 7;
+		object.l = Long.MAX_VALUE;
+		object.f = 2.5f;
+		object.d = 3;
+		object.b = true;
+		object.s = 4;
+		object.boxed = 5;
+		Json json = json();
+		String text = json.toJson(object);
+		assertEquals("{i:7,l:9223372036854775807,f:2.5,d:3,b:true,s:4,boxed:5}", text);
+
+		for (int i = 0; i < 2; i++) {
+			Primitives read = i == 0 ? json.fromJson(Primitives.class, text)
+				: json.fromJson(Primitives.class, new JsonPullParser(text));
+			assertEquals(7, read.i);
+			assertEquals(Long.MAX_VALUE, read.l);
+			assertEquals(2.5f, read.f, 0);
+			assertEquals(3, read.d, 0);
+			assertTrue(read.b);
+			assertEquals(4, read.s);
+			assertEquals(5, (int)read.boxed);
+		}
+	}
+
+	@Test
+	public void defaultValuesSkipped () {
+		assertEquals("{}", json().toJson(new Primitives()));
+		Primitives object = new Primitives();
+		object.i = 0;
+		object.f = -0f;
+		assertEquals("{i:0,f:0}", json().toJson(object));
+	}
+
+	@Test
+	public void outputTypeChanged () {
+		Primitives object = new Primitives();
+		object.i = 2;
+		Json json = json();
+		assertEquals("{i:2}", json.toJson(object));
+		json.setOutputType(OutputType.json);
+		assertEquals("{\"i\":2}", json.toJson(object));
+	}
+
+	@Test
+	public void primitiveConversions () {
+		String text = "{i:\"12\",f:1,d:\"0.5\",l:2.7,b:\"true\"}";
+		Json json = json();
+		for (int i = 0; i < 2; i++) {
+			Primitives read = i == 0 ? json.fromJson(Primitives.class, text)
+				: json.fromJson(Primitives.class, new JsonPullParser(text));
+			assertEquals(12, read.i);
+			assertEquals(1, read.f, 0);
+			assertEquals(0.5, read.d, 0);
+			assertEquals(2, read.l);
+			assertTrue(read.b);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.async.JobSystem;
+
+public class ParallelSortTest {
+	JobSystem jobs;
+	ParallelSort sort;
+
+	@Before
+	public void create () {
+		jobs = new JobSystem(3);
+		sort = new ParallelSort(jobs);
+		sort.threshold = 100;
+	}
+
+	@After
+	public void dispose () {
+		jobs.dispose();
+	}
+
+	static class Item {
+		final int key, index;
+
+		Item (int key, int index) {
+			this.key = key;
+			this.index = index;
+		}
+	}
+
+	@Test
+	public void comparable () {
+		Random random = new Random(1);
+		for (int n : new int[] {0, 1, 50, 99, 100, 101, 1000, 12345, 100000}) {
+			Array<Integer> array = new Array(true, n, Integer.class);
+			for (int i = 0; i < n; i++)
+				array.add(random.nextInt());
+			Integer[] expected = array.toArray();
+			Arrays.sort(expected);
+			sort.sort(array);
+			assertArrayEquals(expected, array.toArray());
+		}
+	}
+
+	@Test
+	public void stable () {
+		Random random = new Random(2);
+		Comparator<Item> byKey = new Comparator<Item>() {
+			public int compare (Item o1, Item o2) {
+				return o1.key - o2.key;
+			}
+		};
+		for (int n : new int[] {500, 4097, 50000}) {
+			Array<Item> array = new Array();
+			for (int i = 0; i < n; i++)
+				array.add(new Item(random.nextInt(20), i));
+			sort.sort(array, byKey);
+			for (int i = 1; i < n; i++) {
+				Item previous = array.get(i - 1), item = array.get(i);
+				assertTrue(previous.key < item.key || (previous.key == item.key && previous.index < item.index));
+			}
+		}
+	}
+
+	@Test
+	public void range () {
+		Integer[] values = new Integer[1000];
+		for (int i = 0; i < values.length; i++)
+			values[i] = values.length - i;
+		sort.sort(values, new Comparator<Integer>() {
+			public int compare (Integer o1, Integer o2) {
+				return o1.compareTo(o2);
+			}
+		}, 100, 900);
+		assertEquals(1000, (int)values[0]);
+		assertEquals(101, (int)values[100]);
+		assertEquals(900, (int)values[899]);
+		assertEquals(100, (int)values[900]);
+	}
+}
@@ -0,0 +1,84 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class RadixSortTest {
+	final Random random = new Random(1);
+	final RadixSort sort = new RadixSort();
+
+	@Test
+	public void ints () {
+		for (int n : new int[] {0, 1, 5, 31, 32, 1000, 100000}) {
+			IntArray keys = new IntArray(), values = new IntArray();
+			for (int i = 0; i < n; i++) {
+				// Few distinct keys, so stability is checked.
+				keys.add(i % 3 == 0 ? random.nextInt() : random.nextInt(100) - 50);
+				values.add(i);
+			}
+			int[] expected = keys.toArray();
+			Arrays.sort(expected);
+			IntArray copy = new IntArray(keys);
+			sort.sort(keys, values);
+			assertArrayEquals(expected, keys.toArray());
+			for (int i = 0; i < n; i++) {
+				assertEquals(copy.get(values.get(i)), keys.get(i));
+				if (i > 0 && keys.get(i - 1) == keys.get(i)) assertTrue("stable", values.get(i - 1) < values.get(i));
+			}
+			sort.sort(copy);
+			assertArrayEquals(expected, copy.toArray());
+		}
+	}
+
+	@Test
+	public void floats () {
+		FloatArray keys = new FloatArray();
+		Array<String> values = new Array();
+		float[] special = {0f, -0f, Float.MAX_VALUE, -Float.MAX_VALUE, Float.MIN_VALUE, Float.NEGATIVE_INFINITY,
+			Float.POSITIVE_INFINITY};
+		for (float value : special) {
+			keys.add(value);
+			values.add(String.valueOf(value));
+		}
+		for (int i = 0; i < 50000; i++) {
+			float value = (random.nextFloat() - 0.5f) * random.nextInt(1000000);
+			keys.add(value);
+			values.add(String.valueOf(value));
+		}
+		float[] expected = keys.toArray();
+		Arrays.sort(expected);
+		sort.sort(keys, values);
+		assertTrue(Arrays.equals(expected, keys.toArray()));
+		for (int i = 0; i < keys.size; i++)
+			assertEquals(String.valueOf(keys.get(i)), values.get(i));
+	}
+
+	@Test
+	public void longs () {
+		for (int n : new int[] {10, 10000}) {
+			LongArray keys = new LongArray();
+			IntArray values = new IntArray();
+			for (int i = 0; i < n; i++) {
+				keys.add(i % 2 == 0 ? random.nextLong() : random.nextInt(10));
+				values.add(i);
+			}
+			LongArray copy = new LongArray(keys);
+			long[] expected = keys.toArray();
+			Arrays.sort(expected);
+			sort.sort(keys, values);
+			assertArrayEquals(expected, keys.toArray());
+			for (int i = 0; i < n; i++)
+				assertEquals(copy.get(values.get(i)), keys.get(i));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sizeMismatch () {
+		sort.sort(IntArray.with(1, 2), IntArray.with(1));
+	}
+}
@@ -0,0 +1,257 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.SparseBits.ArrayContainer;
+import com.badlogic.gdx.utils.SparseBits.BitmapContainer;
+import com.badlogic.gdx.utils.SparseBits.RunContainer;
+
+public class SparseBitsTest {
+	final Random random = new Random(7);
+
+	/** Sets bits in a few chunks: some sparse, some dense and some in long runs. */
+	private void fill (SparseBits bits, BitSet expected) {
+		for (int chunk = 0; chunk < 12; chunk++) {
+			int base = random.nextInt(40) << 16;
+			switch (random.nextInt(3)) {
+			case 0:
+				for (int i = 0; i < 500; i++)
+					set(bits, expected, base + random.nextInt(65536));
+				break;
+			case 1:
+				for (int i = 0; i < 20000; i++)
+					set(bits, expected, base + random.nextInt(65536));
+				break;
+			case 2:
+				for (int run = 0; run < 10; run++) {
+					int start = random.nextInt(60000), length = random.nextInt(5000);
+					for (int i = start; i < start + length; i++)
+						set(bits, expected, base + i);
+				}
+			}
+		}
+	}
+
+	private void set (SparseBits bits, BitSet expected, int index) {
+		bits.set(index);
+		expected.set(index);
+	}
+
+	private void assertBits (BitSet expected, SparseBits bits) {
+		assertEquals(expected.cardinality(), bits.cardinality());
+		assertEquals(expected.length(), bits.length());
+		assertEquals(expected.isEmpty(), bits.isEmpty());
+		for (int i = expected.nextSetBit(0), index = bits.nextSetBit(0);; i = expected.nextSetBit(i + 1), index = bits
+			.nextSetBit(index + 1)) {
+			assertEquals(i, index);
+			if (i == -1) break;
+		}
+		for (int i = 0; i < 50; i++) {
+			int index = random.nextInt(45 << 16);
+			assertEquals(expected.get(index), bits.get(index));
+			assertEquals(expected.nextClearBit(index), bits.nextClearBit(index));
+		}
+	}
+
+	@Test
+	public void setAndClear () {
+		SparseBits bits = new SparseBits();
+		BitSet expected = new BitSet();
+		fill(bits, expected);
+		assertBits(expected, bits);
+		for (int i = 0; i < 100000; i++) {
+			int index = random.nextInt(40 << 16);
+			switch (random.nextInt(4)) {
+			case 0:
+				assertEquals(expected.get(index), bits.getAndClear(index));
+				expected.clear(index);
+				break;
+			case 1:
+				assertEquals(expected.get(index), bits.getAndSet(index));
+				expected.set(index);
+				break;
+			case 2:
+				bits.flip(index);
+				expected.flip(index);
+				break;
+			case 3:
+				bits.clear(index);
+				expected.clear(index);
+			}
+		}
+		assertBits(expected, bits);
+
+		bits.clear();
+		assertTrue(bits.isEmpty());
+		assertEquals(0, bits.length());
+		assertEquals(-1, bits.nextSetBit(0));
+		bits.set(Integer.MAX_VALUE);
+		assertEquals(Integer.MAX_VALUE, bits.nextSetBit(0));
+		assertEquals(-1, bits.nextClearBit(Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void containers () {
+		SparseBits bits = new SparseBits();
+		for (int i = 0; i < SparseBits.maxArraySize; i++)
+			bits.set(i * 2);
+		assertTrue(bits.containers[0] instanceof ArrayContainer);
+		bits.set(1);
+		assertTrue(bits.containers[0] instanceof BitmapContainer);
+		bits.clear(1);
+		assertTrue(bits.containers[0] instanceof ArrayContainer);
+
+		bits.clear();
+		for (int i = 100; i < 60000; i++)
+			bits.set(i);
+		bits.runOptimize();
+		assertTrue(bits.containers[0] instanceof RunContainer);
+		assertEquals(59900, bits.cardinality());
+		assertEquals(100, bits.nextSetBit(0));
+		assertEquals(60000, bits.nextClearBit(100));
+		bits.clear(200);
+		assertTrue(bits.containers[0] instanceof BitmapContainer);
+		assertEquals(59899, bits.cardinality());
+
+		bits.clear(100);
+		assertTrue(bits.isEmpty() == false);
+		for (int i = 0; i < 65536; i++)
+			bits.clear(i);
+		assertEquals(0, bits.size);
+	}
+
+	@Test
+	public void operations () {
+		for (int test = 0; test < 10; test++) {
+			SparseBits a = new SparseBits(), b = new SparseBits();
+			BitSet expectedA = new BitSet(), expectedB = new BitSet();
+			fill(a, expectedA);
+			fill(b, expectedB);
+			if (test % 2 == 1) a.runOptimize();
+			if (test % 3 == 1) b.runOptimize();
+
+			assertEquals(expectedA.intersects(expectedB), a.intersects(b));
+			SparseBits and = new SparseBits(a);
+			and.and(b);
+			BitSet expected = (BitSet)expectedA.clone();
+			expected.and(expectedB);
+			assertBits(expected, and);
+			assertTrue(a.containsAll(and));
+			assertTrue(b.containsAll(and));
+
+			SparseBits andNot = new SparseBits(a);
+			andNot.andNot(b);
+			expected = (BitSet)expectedA.clone();
+			expected.andNot(expectedB);
+			assertBits(expected, andNot);
+			assertFalse(andNot.intersects(b));
+
+			SparseBits or = new SparseBits(a);
+			or.or(b);
+			expected = (BitSet)expectedA.clone();
+			expected.or(expectedB);
+			assertBits(expected, or);
+			assertTrue(or.containsAll(a));
+			assertTrue(or.containsAll(b));
+
+			SparseBits xor = new SparseBits(a);
+			xor.xor(b);
+			expected = (BitSet)expectedA.clone();
+			expected.xor(expectedB);
+			assertBits(expected, xor);
+
+			// The same bits in different containers are equal.
+			SparseBits copy = new SparseBits(or);
+			copy.runOptimize();
+			assertEquals(or, copy);
+			assertEquals(or.hashCode(), copy.hashCode());
+			copy.xor(copy);
+			assertTrue(copy.isEmpty());
+		}
+	}
+
+	/** Compares intersects and containsAll of single chunks of each container type, which are computed without scratch bitmaps. */
+	@Test
+	public void chunkComparisons () {
+		SparseBits[] sets = new SparseBits[9];
+		BitSet[] expected = new BitSet[9];
+		for (int i = 0; i < sets.length; i++) {
+			SparseBits bits = sets[i] = new SparseBits();
+			BitSet bitSet = expected[i] = new BitSet();
+			int type = i % 3, start = random.nextInt(30000);
+			for (int n = 0; n < (type == 0 ? 300 : 8000); n++)
+				set(bits, bitSet, type == 2 ? start + n : random.nextInt(65536));
+			if (type == 2) bits.runOptimize();
+		}
+		for (int i = 0; i < sets.length; i++) {
+			for (int j = 0; j < sets.length; j++) {
+				SparseBits a = sets[i], b = new SparseBits(sets[j]);
+				assertEquals(expected[i].intersects(expected[j]), a.intersects(b));
+				BitSet missing = (BitSet)expected[j].clone();
+				missing.andNot(expected[i]);
+				assertEquals(missing.isEmpty(), a.containsAll(b));
+				b.and(a);
+				b.runOptimize();
+				assertTrue(a.containsAll(b));
+			}
+		}
+	}
+
+	@Test
+	public void mergeInPlace () {
+		SparseBits bits = new SparseBits(), subset = new SparseBits();
+		BitSet expected = new BitSet();
+		for (int chunk = 0; chunk < 8; chunk++) {
+			set(bits, expected, chunk << 16 | chunk);
+			if (chunk % 2 == 0) subset.set(chunk << 16 | 100);
+		}
+		char[] keys = bits.keys;
+		bits.or(subset);
+		assertSame(keys, bits.keys);
+		for (int chunk = 0; chunk < 8; chunk += 2)
+			expected.set(chunk << 16 | 100);
+		assertBits(expected, bits);
+
+		// chunks emptied by xor in between the kept ones are removed
+		SparseBits other = new SparseBits(bits);
+		other.clear(7 << 16 | 7);
+		other.set(9 << 16);
+		bits.xor(other);
+		expected.clear();
+		expected.set(7 << 16 | 7);
+		expected.set(9 << 16);
+		assertBits(expected, bits);
+		assertEquals(2, bits.size);
+		assertNull(bits.containers[2]);
+
+		bits.set(Integer.MAX_VALUE);
+		assertEquals(Integer.MAX_VALUE, bits.numBits());
+	}
+
+	@Test
+	public void serialization () throws IOException {
+		SparseBits bits = new SparseBits();
+		BitSet expected = new BitSet();
+		fill(bits, expected);
+		bits.runOptimize();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bits.write(new DataOutputStream(bytes));
+		SparseBits read = new SparseBits();
+		read.set(123);
+		read.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+		assertBits(expected, read);
+		assertEquals(bits, read);
+	}
+}
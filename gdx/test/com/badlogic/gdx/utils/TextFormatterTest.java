@@ -0,0 +1,47 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class TextFormatterTest {
+	@Test
+	public void simpleFormat () {
+		TextFormatter formatter = new TextFormatter(Locale.US, false);
+		assertEquals("It's 1234567 {x}, 1.5 null", formatter.format("It's {0} {{x}, {1} {2}", 1234567, 1.5f, null));
+		String pattern = "no placeholders";
+		assertSame(pattern, formatter.format(pattern));
+
+		StringBuilder out = new StringBuilder("Score: ");
+		assertSame(out, formatter.format(out, "{0} / {0}", 1500));
+		assertEquals("Score: 1500 / 1500", out.toString());
+		out.setLength(0);
+		assertEquals("0.25%", formatter.format(out, "{0}%", 0.25f).toString());
+
+		try {
+			formatter.format("{0} {1}", "a");
+			fail();
+		} catch (IllegalArgumentException expected) {
+			assertEquals("Argument index out of bounds: 1", expected.getMessage());
+		}
+		try {
+			formatter.format(out, "{0,number}", 1);
+			fail();
+		} catch (IllegalArgumentException expected) {
+			assertEquals("Unexpected ',' while parsing argument index", expected.getMessage());
+		}
+	}
+
+	@Test
+	public void messageFormat () {
+		TextFormatter formatter = new TextFormatter(Locale.US, true);
+		assertEquals("It's 1,234,567 {x}, a {3}", formatter.format("It's {0} {{x}, {1} {3}", 1234567, "a"));
+		assertEquals("1,234.5", formatter.format(new StringBuilder(), "{0,number,#,##0.0}", 1234.5f).toString());
+		assertEquals("1,500 / 1,500", formatter.format(new StringBuilder(), "{0} / {0}", 1500).toString());
+		// Cached patterns are formatted the same again.
+		assertEquals("It's 7 {x}, b {3}", formatter.format("It's {0} {{x}, {1} {3}", 7, "b"));
+	}
+}
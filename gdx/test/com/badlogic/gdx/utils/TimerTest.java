@@ -0,0 +1,177 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Timer.Task;
+
+public class TimerTest {
+	/** Runnables posted to the application. */
+	final Array<Runnable> posted = new Array();
+	Application oldApp;
+	Timer timer;
+	long startMillis;
+
+	@Before
+	public void create () {
+		oldApp = Gdx.app;
+		Gdx.app = (Application)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {Application.class},
+			new InvocationHandler() {
+				public Object invoke (Object proxy, Method method, Object[] args) {
+					if (method.getName().equals("postRunnable")) posted.add((Runnable)args[0]);
+					return null;
+				}
+			});
+		startMillis = System.nanoTime() / 1000000;
+		timer = new Timer(0.01f);
+		// Updated by the test instead of the timer thread.
+		timer.stop();
+	}
+
+	@After
+	public void dispose () {
+		Gdx.app = oldApp;
+	}
+
+	static class CountingTask extends Task {
+		int runs;
+
+		public void run () {
+			runs++;
+		}
+	}
+
+	/** Updates the timer at the specified time after the start of the test and runs the posted tasks. */
+	private void update (long millis) {
+		timer.update(startMillis + millis, Long.MAX_VALUE);
+		for (Runnable runnable : posted)
+			runnable.run();
+		posted.clear();
+	}
+
+	@Test
+	public void wheel () {
+		// Delays on every level of the wheel and beyond it.
+		float[] delays = {0, 0.005f, 0.5f, 0.64f, 5, 40.95f, 41, 600, 3000, 50 * 3600, 60 * 3600};
+		CountingTask[] tasks = new CountingTask[delays.length];
+		for (int i = 0; i < delays.length; i++)
+			timer.scheduleTask(tasks[i] = new CountingTask(), delays[i]);
+		assertFalse(timer.isEmpty());
+		for (int i = 0; i < delays.length; i++) {
+			long executeMillis = tasks[i].getExecuteTimeMillis() - startMillis;
+			if (executeMillis > 30) {
+				update(executeMillis - 30);
+				assertEquals("early: " + delays[i], 0, tasks[i].runs);
+			}
+			update(executeMillis + 30);
+			assertEquals("late: " + delays[i], 1, tasks[i].runs);
+			assertFalse(tasks[i].isScheduled());
+		}
+		for (CountingTask task : tasks)
+			assertEquals(1, task.runs);
+		assertTrue(timer.isEmpty());
+	}
+
+	@Test
+	public void cancel () {
+		CountingTask cancelled = new CountingTask(), rescheduled = new CountingTask();
+		timer.scheduleTask(cancelled, 1);
+		timer.scheduleTask(rescheduled, 1);
+		cancelled.cancel();
+		rescheduled.cancel();
+		timer.scheduleTask(rescheduled, 2);
+		update(1500);
+		assertEquals(0, cancelled.runs);
+		assertEquals(0, rescheduled.runs);
+		update(2500);
+		assertEquals(0, cancelled.runs);
+		assertEquals(1, rescheduled.runs);
+		assertTrue(timer.isEmpty());
+
+		// Cancelled tasks don't count before their slot comes up.
+		timer.scheduleTask(cancelled, 1);
+		timer.scheduleTask(rescheduled, 100);
+		assertFalse(timer.isEmpty());
+		cancelled.cancel();
+		assertFalse(timer.isEmpty());
+		rescheduled.cancel();
+		assertTrue(timer.isEmpty());
+
+		timer.scheduleTask(cancelled, 1);
+		timer.clear();
+		assertFalse(cancelled.isScheduled());
+		assertTrue(timer.isEmpty());
+		update(5000);
+		assertEquals(0, cancelled.runs);
+	}
+
+	@Test
+	public void repeat () {
+		CountingTask task = new CountingTask();
+		timer.scheduleTask(task, 1, 0.5f, 3);
+		for (int millis = 0; millis <= 5000; millis += 100)
+			update(millis);
+		assertEquals(4, task.runs);
+		assertTrue(timer.isEmpty());
+	}
+
+	@Test
+	public void batched () {
+		for (int i = 0; i < 1000; i++)
+			timer.scheduleTask(new CountingTask(), 1);
+		timer.update(startMillis + 1100, Long.MAX_VALUE);
+		assertEquals(1, posted.size);
+	}
+
+	@Test
+	public void failingTask () {
+		CountingTask before = new CountingTask(), after = new CountingTask();
+		timer.scheduleTask(before, 1);
+		timer.scheduleTask(new Task() {
+			public void run () {
+				throw new IllegalStateException("failed");
+			}
+		}, 1);
+		timer.scheduleTask(after, 1);
+		timer.update(startMillis + 1100, Long.MAX_VALUE);
+		assertEquals(1, posted.size);
+		try {
+			posted.first().run();
+			fail();
+		} catch (IllegalStateException expected) {
+		}
+		assertEquals(1, before.runs);
+		assertEquals(1, after.runs);
+	}
+
+	@Test
+	public void delay () {
+		CountingTask task = new CountingTask();
+		timer.scheduleTask(task, 1);
+		long executeMillis = task.getExecuteTimeMillis();
+		timer.delay(1000);
+		assertEquals(executeMillis + 1000, task.getExecuteTimeMillis());
+		update(1500);
+		assertEquals(0, task.runs);
+		update(2100);
+		assertEquals(1, task.runs);
+	}
+
+	@Test
+	public void waitMillis () {
+		timer.scheduleTask(new CountingTask(), 0.3f);
+		long wait = timer.update(startMillis, 5000);
+		assertTrue(String.valueOf(wait), wait > 0 && wait <= 310);
+		assertEquals(5000, new Timer(0.01f).update(startMillis, 5000));
+	}
+}
@@ -0,0 +1,95 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+public class UBJsonReaderTest {
+	static final float[] vertices = {1, -2.5f, 3.25f, 1e10f};
+	static final short[] indices = {0, 1, 2, -1, 300};
+
+	private byte[] write () throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		UBJsonWriter writer = new UBJsonWriter(bytes);
+		writer.object();
+		writer.set("id", "mesh");
+		writer.set("vertices", vertices);
+		writer.set("indices", indices);
+		writer.set("values", new int[] {5, 6});
+		writer.set("bytes", new byte[] {-1, 2});
+		writer.array("children");
+		writer.value(1.5);
+		writer.value(true);
+		writer.value();
+		writer.object().set("vertices", 7).pop();
+		writer.pop();
+		writer.pop();
+		writer.close();
+		return bytes.toByteArray();
+	}
+
+	private UBJsonReader reader () {
+		UBJsonReader reader = new UBJsonReader();
+		reader.oldFormat = false;
+		return reader;
+	}
+
+	@Test
+	public void sameAsStream () throws IOException {
+		byte[] data = write();
+		JsonValue streamed = reader().parse(new ByteArrayInputStream(data));
+		ByteBuffer buffer = ByteBuffer.allocateDirect(data.length + 2);
+		buffer.put((byte)0).put(data).put((byte)0);
+		buffer.position(1);
+		JsonValue parsed = reader().parse(buffer);
+		assertEquals(1, buffer.position());
+		assertEquals(streamed.toJson(OutputType.json), parsed.toJson(OutputType.json));
+		assertSame(parsed.get("values"), parsed.get("bytes").prev);
+		assertSame(parsed.get("children"), parsed.get("children").child.parent);
+	}
+
+	@Test
+	public void bulkArrays () throws IOException {
+		JsonValue parsed = reader().parse(ByteBuffer.wrap(write()), ObjectSet.with("vertices", "indices", "bytes"));
+		JsonValue vertexValue = parsed.get("vertices");
+		assertTrue(vertexValue instanceof UBJsonReader.NumericArray);
+		assertTrue(vertexValue.isArray());
+		assertEquals(vertices.length, vertexValue.size);
+		assertTrue(((UBJsonReader.NumericArray)vertexValue).getBuffer() instanceof FloatBuffer);
+		assertArrayEquals(vertices, vertexValue.asFloatArray(), 0);
+		assertArrayEquals(new int[] {1, -2, 3, Integer.MAX_VALUE}, vertexValue.asIntArray());
+
+		JsonValue indexValue = parsed.get("indices");
+		assertTrue(((UBJsonReader.NumericArray)indexValue).getBuffer() instanceof ShortBuffer);
+		assertArrayEquals(indices, indexValue.asShortArray());
+		assertArrayEquals(new float[] {0, 1, 2, -1, 300}, indexValue.asFloatArray(), 0);
+
+		JsonValue byteValue = parsed.get("bytes");
+		assertArrayEquals(new byte[] {-1, 2}, byteValue.asByteArray());
+		assertArrayEquals(new long[] {-1, 2}, byteValue.asLongArray());
+
+		assertFalse(parsed.get("values") instanceof UBJsonReader.NumericArray);
+		assertEquals(7, parsed.get("children").get(3).getInt("vertices"));
+		assertEquals("mesh", parsed.getString("id"));
+	}
+
+	@Test
+	public void truncated () throws IOException {
+		// ends within the vertices
+		try {
+			reader().parse(ByteBuffer.wrap(write(), 0, 30), ObjectSet.with("vertices"));
+			fail();
+		} catch (SerializationException expected) {
+		}
+	}
+}
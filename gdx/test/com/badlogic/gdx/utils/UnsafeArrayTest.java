@@ -0,0 +1,247 @@
+
+package com.badlogic.gdx.utils;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.IndexBufferObject;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
+
+/** Backs the arrays with direct buffers registered as unsafe buffers, since the natives needed to allocate and free unsafe
+ * buffers aren't loaded. Uploads are recorded by a fake GL20. */
+public class UnsafeArrayTest {
+	final Array<ByteBuffer> freed = new Array();
+	final Array<ByteBuffer> uploaded = new Array();
+	final IntArray uploadedSizes = new IntArray();
+	GL20 oldGL20;
+	int allocated;
+
+	@Before
+	public void setUp () {
+		allocated = BufferUtils.getAllocatedBytesUnsafe();
+		oldGL20 = Gdx.gl20;
+		Gdx.gl20 = (GL20)Proxy.newProxyInstance(getClass().getClassLoader(), new Class[] {GL20.class}, new InvocationHandler() {
+			public Object invoke (Object proxy, Method method, Object[] args) {
+				if (method.getName().equals("glBufferData")) {
+					ByteBuffer data = (ByteBuffer)args[2];
+					assertFalse("Uploaded freed memory.", freed.contains(data, true));
+					uploadedSizes.add((Integer)args[1]);
+					uploaded.add(data);
+				}
+				return method.getReturnType() == int.class ? 1 : null;
+			}
+		});
+	}
+
+	@After
+	public void tearDown () {
+		Gdx.gl20 = oldGL20;
+		assertEquals(allocated, BufferUtils.getAllocatedBytesUnsafe());
+	}
+
+	ByteBuffer allocateDirect (int numBytes) {
+		return BufferUtils.newUnsafeByteBuffer(ByteBuffer.allocateDirect(numBytes).order(ByteOrder.nativeOrder()));
+	}
+
+	void freeDirect (ByteBuffer bytes) {
+		BufferUtils.unregisterUnsafe(bytes);
+		freed.add(bytes);
+	}
+
+	class TestFloatArray extends UnsafeFloatArray {
+		TestFloatArray (int capacity) {
+			super(capacity);
+		}
+
+		ByteBuffer allocate (int numBytes) {
+			return allocateDirect(numBytes);
+		}
+
+		void free (ByteBuffer bytes) {
+			freeDirect(bytes);
+		}
+	}
+
+	class TestIntArray extends UnsafeIntArray {
+		TestIntArray (int capacity) {
+			super(capacity);
+		}
+
+		ByteBuffer allocate (int numBytes) {
+			return allocateDirect(numBytes);
+		}
+
+		void free (ByteBuffer bytes) {
+			freeDirect(bytes);
+		}
+	}
+
+	class TestShortArray extends UnsafeShortArray {
+		TestShortArray (int capacity) {
+			super(capacity);
+		}
+
+		ByteBuffer allocate (int numBytes) {
+			return allocateDirect(numBytes);
+		}
+
+		void free (ByteBuffer bytes) {
+			freeDirect(bytes);
+		}
+	}
+
+	@Test
+	public void floats () {
+		UnsafeFloatArray array = new TestFloatArray(2);
+		assertEquals(allocated + 8, BufferUtils.getAllocatedBytesUnsafe());
+		for (int i = 0; i < 10; i++)
+			array.add(i);
+		array.add(10, 11, 12, 13);
+		assertEquals(14, array.size);
+		assertTrue(array.getCapacity() >= 14);
+		assertEquals(allocated + array.getCapacity() * 4, BufferUtils.getAllocatedBytesUnsafe());
+		assertTrue(freed.size > 0);
+		assertEquals(13, array.peek(), 0);
+		assertEquals(7, array.get(7), 0);
+
+		assertEquals(3, array.removeIndex(3), 0);
+		assertEquals(13, array.pop(), 0);
+		array.set(0, -1);
+		assertArrayEquals(new float[] {-1, 1, 2, 4, 5, 6, 7, 8, 9, 10, 11, 12}, array.toArray(), 0);
+		assertEquals(12 * 4, array.getByteBuffer().limit());
+		assertEquals(12, array.getBuffer().limit());
+
+		UnsafeFloatArray copy = new TestFloatArray(0);
+		copy.addAll(array);
+		copy.addAll(new float[] {1, 2, 3}, 1, 2);
+		assertEquals(14, copy.size);
+		assertEquals(3, copy.peek(), 0);
+		copy.shrink();
+		assertEquals(14, copy.getCapacity());
+		copy.setSize(16);
+		assertEquals(0, copy.peek(), 0);
+		copy.dispose();
+		array.dispose();
+		assertEquals(0, array.size);
+	}
+
+	@Test
+	public void ints () {
+		UnsafeIntArray array = new TestIntArray(0);
+		for (int i = 0; i < 100; i++)
+			array.add(i);
+		assertEquals(100, array.size);
+		assertEquals(allocated + array.getCapacity() * 4, BufferUtils.getAllocatedBytesUnsafe());
+		for (int i = 0; i < 50; i++)
+			assertEquals(i * 2 + 1, array.removeIndex(i + 1));
+		assertEquals(50, array.size);
+		assertEquals(0, array.get(0));
+		assertEquals(98, array.peek());
+		array.clear();
+		assertEquals(0, array.size);
+		array.dispose();
+	}
+
+	@Test
+	public void shorts () {
+		UnsafeShortArray array = new TestShortArray(1);
+		array.add((short)1, (short)2, (short)3);
+		array.add((short)4);
+		assertArrayEquals(new short[] {1, 2, 3, 4}, array.toArray());
+		assertEquals(2, array.removeIndex(1));
+		assertArrayEquals(new short[] {1, 3, 4}, array.toArray());
+		assertEquals(allocated + array.getCapacity() * 2, BufferUtils.getAllocatedBytesUnsafe());
+		array.dispose();
+	}
+
+	@Test
+	public void vertexBufferObject () {
+		VertexAttributes attributes = new VertexAttributes(new VertexAttribute(Usage.Position, 2,
+			ShaderProgram.POSITION_ATTRIBUTE));
+		ByteBuffer data = ByteBuffer.allocateDirect(8).order(ByteOrder.nativeOrder());
+		data.limit(0);
+		VertexBufferObject vbo = new VertexBufferObject(GL20.GL_DYNAMIC_DRAW, data, false, attributes) {
+		};
+		int[] locations = {-1};
+
+		UnsafeFloatArray vertices = new TestFloatArray(2);
+		vertices.add(1, 2);
+		vbo.setVertices(vertices);
+		assertEquals(1, vbo.getNumVertices());
+		vbo.bind(null, locations);
+		assertSame(vertices.getByteBuffer(), uploaded.peek());
+		assertEquals(8, uploadedSizes.peek());
+		vbo.unbind(null, locations);
+
+		// Growing the array frees the memory the VBO uploaded before.
+		vertices.add(3, 4, 5, 6);
+		assertTrue(freed.contains(uploaded.peek(), true));
+		vbo.setVertices(vertices);
+		assertEquals(3, vbo.getNumVertices());
+		vbo.bind(null, locations);
+		assertSame(vertices.getByteBuffer(), uploaded.peek());
+		assertEquals(24, uploadedSizes.peek());
+
+		// Updates while bound write to the array and are uploaded immediately.
+		vbo.updateVertices(2, new float[] {7, 8}, 0, 2);
+		assertEquals(8, vertices.get(3), 0);
+		assertEquals(3, uploaded.size);
+		vbo.unbind(null, locations);
+
+		vertices.add(9, 10);
+		vbo.updateVertices(0, new float[] {0}, 0, 1);
+		vbo.bind(null, locations);
+		assertSame(vertices.getByteBuffer(), uploaded.peek());
+		assertEquals(32, uploadedSizes.peek());
+		vbo.unbind(null, locations);
+		vbo.dispose();
+		vertices.dispose();
+	}
+
+	@Test
+	public void indexBufferObject () throws Exception {
+		// the constructor taking a buffer is package private
+		Constructor<IndexBufferObject> constructor = IndexBufferObject.class.getDeclaredConstructor(boolean.class, ByteBuffer.class);
+		constructor.setAccessible(true);
+		IndexBufferObject ibo = constructor.newInstance(false, ByteBuffer.allocateDirect(2).order(ByteOrder.nativeOrder()));
+
+		UnsafeShortArray indices = new TestShortArray(1);
+		indices.add((short)1);
+		ibo.setIndices(indices);
+		assertEquals(1, ibo.getNumIndices());
+		ibo.bind();
+		assertSame(indices.getByteBuffer(), uploaded.peek());
+		assertEquals(2, uploadedSizes.peek());
+		ibo.unbind();
+
+		indices.add((short)2, (short)3, (short)4);
+		assertTrue(freed.contains(uploaded.peek(), true));
+		ibo.setIndices(indices);
+		assertEquals(4, ibo.getNumIndices());
+		ibo.bind();
+		assertSame(indices.getByteBuffer(), uploaded.peek());
+		assertEquals(8, uploadedSizes.peek());
+		ibo.updateIndices(1, new short[] {5}, 0, 1);
+		assertEquals(5, indices.get(1));
+		assertEquals(3, uploaded.size);
+		ibo.unbind();
+		ibo.dispose();
+		indices.dispose();
+	}
+}
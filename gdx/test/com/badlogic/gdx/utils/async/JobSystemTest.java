@@ -0,0 +1,176 @@
+
+package com.badlogic.gdx.utils.async;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+public class JobSystemTest {
+	JobSystem jobs;
+
+	@Before
+	public void create () {
+		jobs = new JobSystem(3);
+	}
+
+	@After
+	public void dispose () {
+		jobs.dispose();
+	}
+
+	static AsyncTask<Integer> value (final int value) {
+		return new AsyncTask<Integer>() {
+			public Integer call () throws Exception {
+				Thread.sleep(5);
+				return value;
+			}
+		};
+	}
+
+	@Test
+	public void dependencies () {
+		final Job<Integer> a = jobs.submit(value(1)), b = jobs.submit(value(2));
+		Job<Integer> sum = jobs.submit(new AsyncTask<Integer>() {
+			public Integer call () {
+				assertTrue(a.isDone() && b.isDone());
+				return a.get() + b.get();
+			}
+		}, a, b);
+		Job<Integer> next = sum.then(new AsyncTask<Integer>() {
+			public Integer call () {
+				return 0;
+			}
+		});
+		assertEquals(3, (int)sum.get());
+		assertEquals(0, (int)next.get());
+		// Depending on a job that is already done.
+		assertEquals(3, (int)jobs.submit(value(3), a).get());
+	}
+
+	@Test
+	public void failedDependency () throws InterruptedException {
+		final AtomicInteger ran = new AtomicInteger();
+		Job<Integer> failed = jobs.submit(new AsyncTask<Integer>() {
+			public Integer call () {
+				throw new IllegalStateException("failed");
+			}
+		});
+		Job<Integer> dependent = failed.then(new AsyncTask<Integer>() {
+			public Integer call () {
+				ran.incrementAndGet();
+				return 1;
+			}
+		});
+		final Throwable[] notified = new Throwable[1];
+		final CountDownLatch listenerCalled = new CountDownLatch(1);
+		dependent.addListener(new Job.Listener<Integer>() {
+			public void completed (Integer result) {
+			}
+
+			public void failed (Throwable exception) {
+				notified[0] = exception;
+				listenerCalled.countDown();
+			}
+		});
+		try {
+			dependent.get();
+			fail();
+		} catch (GdxRuntimeException ex) {
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(0, ran.get());
+		// Listeners are called after the job is done, so get may return first.
+		listenerCalled.await();
+		assertSame(failed.getException(), notified[0]);
+	}
+
+	@Test
+	public void nestedJobs () {
+		// Each job waits for jobs it submits, which only finishes because waiting workers run other jobs.
+		Job<Integer> root = jobs.submit(new AsyncTask<Integer>() {
+			public Integer call () {
+				Array<Job<Integer>> children = new Array();
+				for (int i = 0; i < 20; i++) {
+					final int index = i;
+					children.add(jobs.submit(new AsyncTask<Integer>() {
+						public Integer call () {
+							return jobs.submit(value(index)).get();
+						}
+					}));
+				}
+				int sum = 0;
+				for (Job<Integer> child : children)
+					sum += child.get();
+				return sum;
+			}
+		});
+		assertEquals(190, (int)root.get());
+	}
+
+	@Test
+	public void parallelFor () {
+		final int[] counts = new int[1000];
+		jobs.parallelFor(counts.length, 7, new JobSystem.RangeTask() {
+			public void run (int start, int end) {
+				for (int i = start; i < end; i++)
+					counts[i]++;
+			}
+		});
+		for (int count : counts)
+			assertEquals(1, count);
+
+		Array<StringBuilder> items = new Array();
+		for (int i = 0; i < 100; i++)
+			items.add(new StringBuilder());
+		jobs.parallelFor(items, new JobSystem.ItemTask<StringBuilder>() {
+			public void run (StringBuilder item, int index) {
+				item.append(index);
+			}
+		});
+		assertEquals("42", items.get(42).toString());
+
+		FloatArray values = new FloatArray();
+		for (int i = 0; i < 5000; i++)
+			values.add(i);
+		jobs.parallelFor(values, new JobSystem.FloatTask() {
+			public float run (float value, int index) {
+				return value * 2;
+			}
+		});
+		assertEquals(9998, values.get(4999), 0);
+
+		try {
+			jobs.parallelFor(100, 1, new JobSystem.RangeTask() {
+				public void run (int start, int end) {
+					if (start == 50) throw new IllegalArgumentException();
+				}
+			});
+			fail();
+		} catch (RuntimeException expected) {
+		}
+	}
+
+	@Test
+	public void asyncExecutor () {
+		AsyncExecutor executor = new AsyncExecutor(jobs);
+		assertEquals(3, executor.getMaxConcurrent());
+		AsyncResult<Integer> result = executor.submit(value(5));
+		executor.dispose();
+		assertTrue(result.isDone());
+		assertEquals(5, (int)result.get());
+		try {
+			executor.submit(value(1));
+			fail();
+		} catch (GdxRuntimeException expected) {
+		}
+	}
+}
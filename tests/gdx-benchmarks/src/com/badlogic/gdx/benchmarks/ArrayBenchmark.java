@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+/** Iteration over {@link Array} and {@link SnapshotArray}, by index, with the pooled iterator and with begin/end. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayBenchmark {
+	@Param({"100", "10000"}) int size;
+
+	Array<Vector2> array;
+	SnapshotArray<Vector2> snapshotArray;
+
+	@Setup
+	public void setup () {
+		array = new Array(true, size, Vector2.class);
+		snapshotArray = new SnapshotArray(true, size, Vector2.class);
+		for (int i = 0; i < size; i++) {
+			Vector2 vector = new Vector2(i, -i);
+			array.add(vector);
+			snapshotArray.add(vector);
+		}
+	}
+
+	@Benchmark
+	public float arrayIndexed () {
+		float sum = 0;
+		Array<Vector2> array = this.array;
+		for (int i = 0, n = array.size; i < n; i++)
+			sum += array.get(i).x;
+		return sum;
+	}
+
+	@Benchmark
+	public float arrayItems () {
+		float sum = 0;
+		Vector2[] items = array.items;
+		for (int i = 0, n = array.size; i < n; i++)
+			sum += items[i].x;
+		return sum;
+	}
+
+	@Benchmark
+	public float arrayIterator () {
+		float sum = 0;
+		for (Vector2 vector : array)
+			sum += vector.x;
+		return sum;
+	}
+
+	@Benchmark
+	public float snapshotArrayBegin () {
+		float sum = 0;
+		Vector2[] items = snapshotArray.begin();
+		for (int i = 0, n = snapshotArray.size; i < n; i++)
+			sum += items[i].x;
+		snapshotArray.end();
+		return sum;
+	}
+
+	/** Modifying the array between begin and end copies it. */
+	@Benchmark
+	public float snapshotArrayBeginModified () {
+		float sum = 0;
+		SnapshotArray<Vector2> snapshotArray = this.snapshotArray;
+		Vector2[] items = snapshotArray.begin();
+		snapshotArray.add(snapshotArray.pop());
+		for (int i = 0, n = snapshotArray.size; i < n; i++)
+			sum += items[i].x;
+		snapshotArray.end();
+		return sum;
+	}
+}
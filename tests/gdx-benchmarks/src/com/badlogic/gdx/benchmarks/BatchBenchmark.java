@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.MultiTextureBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Generates the vertices for 2000 sprites using a few textures in random order with {@link SpriteBatch} and
+ * {@link MultiTextureBatch}, using {@link HeadlessGL}. Measures the CPU side of batching: vertex generation, copying and
+ * flushing. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBenchmark {
+	static final int spriteCount = 2000;
+
+	@Param({"1", "4"}) public int textureCount;
+
+	SpriteBatch spriteBatch;
+	MultiTextureBatch multiTextureBatch;
+	Texture[] textures;
+	TextureRegion[] regions;
+	final float[] positions = new float[spriteCount * 2];
+	final int[] textureIndices = new int[spriteCount];
+
+	@Setup
+	public void setup () {
+		HeadlessGL.install();
+		spriteBatch = new SpriteBatch();
+		multiTextureBatch = new MultiTextureBatch(1000, 4);
+		textures = new Texture[textureCount];
+		regions = new TextureRegion[spriteCount];
+		for (int i = 0; i < textureCount; i++)
+			textures[i] = HeadlessGL.newTexture(256, 256);
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < spriteCount; i++) {
+			positions[i * 2] = MathUtils.random(1000);
+			positions[i * 2 + 1] = MathUtils.random(1000);
+			textureIndices[i] = MathUtils.random(textureCount - 1);
+			regions[i] = new TextureRegion(textures[textureIndices[i]], 32, 32, 64, 64);
+		}
+	}
+
+	@TearDown
+	public void dispose () {
+		spriteBatch.dispose();
+		multiTextureBatch.dispose();
+		for (Texture texture : textures)
+			texture.dispose();
+	}
+
+	/** Returns the number of render calls. */
+	private int drawTextures (Batch batch) {
+		batch.begin();
+		for (int i = 0; i < spriteCount; i++)
+			batch.draw(textures[textureIndices[i]], positions[i * 2], positions[i * 2 + 1], 32, 32);
+		batch.end();
+		return batch == spriteBatch ? spriteBatch.renderCalls : multiTextureBatch.renderCalls;
+	}
+
+	private int drawRotatedRegions (Batch batch) {
+		batch.begin();
+		for (int i = 0; i < spriteCount; i++)
+			batch.draw(regions[i], positions[i * 2], positions[i * 2 + 1], 16, 16, 32, 32, 1.5f, 1.5f, i);
+		batch.end();
+		return batch == spriteBatch ? spriteBatch.renderCalls : multiTextureBatch.renderCalls;
+	}
+
+	@Benchmark
+	public int spriteBatchTextures () {
+		return drawTextures(spriteBatch);
+	}
+
+	@Benchmark
+	public int multiTextureBatchTextures () {
+		return drawTextures(multiTextureBatch);
+	}
+
+	@Benchmark
+	public int spriteBatchRotatedRegions () {
+		return drawRotatedRegions(spriteBatch);
+	}
+
+	@Benchmark
+	public int multiTextureBatchRotatedRegions () {
+		return drawRotatedRegions(multiTextureBatch);
+	}
+}
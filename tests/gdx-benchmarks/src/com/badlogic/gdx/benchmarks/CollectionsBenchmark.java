@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+
+/** Get, put and remove of {@link ObjectMap}, {@link IntMap} and {@link ObjectSet}. Each benchmark handles all keys, so scores
+ * are per {@link #size} operations. The put benchmarks clear the collection first, which keeps its capacity. The remove
+ * benchmarks put the keys back first, so their score includes the puts. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollectionsBenchmark {
+	@Param({"100", "10000"}) int size;
+
+	String[] keys, missing;
+	int[] intKeys;
+	ObjectMap<String, Integer> objectMap;
+	IntMap<String> intMap;
+	ObjectSet<String> objectSet;
+
+	@Setup
+	public void setup () {
+		MathUtils.random.setSeed(0);
+		keys = new String[size];
+		missing = new String[size];
+		intKeys = new int[size];
+		objectMap = new ObjectMap();
+		intMap = new IntMap();
+		objectSet = new ObjectSet();
+		for (int i = 0; i < size; i++) {
+			keys[i] = "key" + MathUtils.random.nextLong();
+			missing[i] = "missing" + i;
+			intKeys[i] = MathUtils.random.nextInt();
+			objectMap.put(keys[i], i);
+			intMap.put(intKeys[i], keys[i]);
+			objectSet.add(keys[i]);
+		}
+	}
+
+	@Benchmark
+	public int objectMapGet () {
+		int found = 0;
+		for (String key : keys)
+			if (objectMap.get(key) != null) found++;
+		return found;
+	}
+
+	@Benchmark
+	public int objectMapGetMissing () {
+		int found = 0;
+		for (String key : missing)
+			if (objectMap.get(key) != null) found++;
+		return found;
+	}
+
+	@Benchmark
+	public ObjectMap objectMapPut () {
+		ObjectMap<String, Integer> objectMap = this.objectMap;
+		objectMap.clear();
+		String[] keys = this.keys;
+		for (int i = 0, n = keys.length; i < n; i++)
+			objectMap.put(keys[i], i);
+		return objectMap;
+	}
+
+	@Benchmark
+	public ObjectMap objectMapRemove () {
+		ObjectMap<String, Integer> objectMap = objectMapPut();
+		for (String key : keys)
+			objectMap.remove(key);
+		return objectMap;
+	}
+
+	@Benchmark
+	public int intMapGet () {
+		int found = 0;
+		for (int key : intKeys)
+			if (intMap.get(key) != null) found++;
+		return found;
+	}
+
+	@Benchmark
+	public IntMap intMapPut () {
+		IntMap<String> intMap = this.intMap;
+		intMap.clear();
+		int[] intKeys = this.intKeys;
+		String[] keys = this.keys;
+		for (int i = 0, n = intKeys.length; i < n; i++)
+			intMap.put(intKeys[i], keys[i]);
+		return intMap;
+	}
+
+	@Benchmark
+	public IntMap intMapRemove () {
+		IntMap<String> intMap = intMapPut();
+		for (int key : intKeys)
+			intMap.remove(key);
+		return intMap;
+	}
+
+	@Benchmark
+	public int objectSetContains () {
+		int found = 0;
+		for (String key : keys)
+			if (objectSet.contains(key)) found++;
+		return found;
+	}
+
+	@Benchmark
+	public ObjectSet objectSetAdd () {
+		ObjectSet<String> objectSet = this.objectSet;
+		objectSet.clear();
+		for (String key : keys)
+			objectSet.add(key);
+		return objectSet;
+	}
+
+	@Benchmark
+	public ObjectSet objectSetRemove () {
+		ObjectSet<String> objectSet = objectSetAdd();
+		for (String key : keys)
+			objectSet.remove(key);
+		return objectSet;
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/** Sets up {@link Gdx} with a GL that does nothing, so batches, meshes and shaders can be used without a display. Counts
+ * {@link GL20#glDrawElements(int, int, int, int) draw calls}. */
+public class HeadlessGL implements InvocationHandler {
+	static public final HeadlessGL instance = new HeadlessGL();
+
+	public int drawCalls;
+
+	private HeadlessGL () {
+	}
+
+	static public void install () {
+		GdxNativesLoader.load();
+		ClassLoader loader = HeadlessGL.class.getClassLoader();
+		Gdx.gl = Gdx.gl20 = (GL20)Proxy.newProxyInstance(loader, new Class[] {GL20.class}, instance);
+		Gdx.graphics = (Graphics)Proxy.newProxyInstance(loader, new Class[] {Graphics.class}, instance);
+		Gdx.app = (Application)Proxy.newProxyInstance(loader, new Class[] {Application.class}, instance);
+	}
+
+	public Object invoke (Object proxy, Method method, Object[] args) {
+		String name = method.getName();
+		if (name.equals("glDrawElements")) drawCalls++;
+		// Shaders compile and link, with no active attributes or uniforms.
+		if (name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) {
+			int parameter = (Integer)args[1];
+			((IntBuffer)args[2]).put(0, parameter == GL20.GL_ACTIVE_ATTRIBUTES || parameter == GL20.GL_ACTIVE_UNIFORMS ? 0 : 1);
+		}
+		if (name.equals("hashCode")) return System.identityHashCode(proxy);
+		if (name.equals("equals")) return proxy == args[0];
+		if (name.equals("getWidth") || name.equals("getHeight")) return 1024;
+		Class type = method.getReturnType();
+		if (type == int.class) return 1;
+		if (type == long.class) return 0L;
+		if (type == float.class) return 0f;
+		if (type == boolean.class) return false;
+		if (type == String.class) return "";
+		return null;
+	}
+
+	/** Returns a texture without pixels. */
+	static public Texture newTexture (final int width, final int height) {
+		return new Texture(new TextureData() {
+			public TextureDataType getType () {
+				return TextureDataType.Custom;
+			}
+
+			public boolean isPrepared () {
+				return true;
+			}
+
+			public void prepare () {
+			}
+
+			public Pixmap consumePixmap () {
+				return null;
+			}
+
+			public boolean disposePixmap () {
+				return false;
+			}
+
+			public void consumeCustomData (int target) {
+			}
+
+			public int getWidth () {
+				return width;
+			}
+
+			public int getHeight () {
+				return height;
+			}
+
+			public Format getFormat () {
+				return Format.RGBA8888;
+			}
+
+			public boolean useMipMaps () {
+				return false;
+			}
+
+			public boolean isManaged () {
+				return false;
+			}
+		});
+	}
+}
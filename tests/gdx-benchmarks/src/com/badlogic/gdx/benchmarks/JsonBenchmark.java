@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.UBJsonWriter;
+
+/** {@link Json} serialization of a small object graph, and {@link UBJsonWriter}/{@link UBJsonReader} round trips of the same
+ * data. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+	static public class Level {
+		public String name;
+		public int width, height;
+		public float gravity;
+		public boolean dark;
+		public Array<Entity> entities = new Array();
+		public ObjectMap<String, String> properties = new ObjectMap();
+	}
+
+	static public class Entity {
+		public String type;
+		public int id;
+		public Vector2 position = new Vector2(), velocity = new Vector2();
+		public float[] path;
+	}
+
+	final Json json = new Json(OutputType.minimal);
+	final JsonReader jsonReader = new JsonReader();
+	final UBJsonReader ubjsonReader = new UBJsonReader();
+	final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+	Level level;
+	String text;
+	JsonValue tree;
+	byte[] ubjson;
+
+	@Setup
+	public void setup () throws IOException {
+		level = new Level();
+		level.name = "level1";
+		level.width = 256;
+		level.height = 128;
+		level.gravity = -9.8f;
+		for (int i = 0; i < 200; i++) {
+			Entity entity = new Entity();
+			entity.type = i % 3 == 0 ? "enemy" : "pickup";
+			entity.id = i;
+			entity.position.set(i * 1.5f, i % 16);
+			entity.velocity.set(-i, i * 0.25f);
+			entity.path = new float[] {0, 1, 2, 3, 4, 5, 6, 7};
+			level.entities.add(entity);
+		}
+		for (int i = 0; i < 20; i++)
+			level.properties.put("property" + i, "value" + i);
+		text = json.toJson(level);
+		tree = jsonReader.parse(text);
+		ubjson = writeUBJson();
+	}
+
+	@Benchmark
+	public String jsonWrite () {
+		return json.toJson(level);
+	}
+
+	@Benchmark
+	public Level jsonRead () {
+		return json.fromJson(Level.class, text);
+	}
+
+	@Benchmark
+	public Level jsonRoundTrip () {
+		return json.fromJson(Level.class, json.toJson(level));
+	}
+
+	@Benchmark
+	public JsonValue jsonParse () {
+		return jsonReader.parse(text);
+	}
+
+	@Benchmark
+	public byte[] ubjsonWrite () throws IOException {
+		return writeUBJson();
+	}
+
+	@Benchmark
+	public JsonValue ubjsonRead () {
+		return ubjsonReader.parse(ByteBuffer.wrap(ubjson));
+	}
+
+	@Benchmark
+	public Level ubjsonRoundTrip () throws IOException {
+		return json.readValue(Level.class, ubjsonReader.parse(ByteBuffer.wrap(writeUBJson())));
+	}
+
+	private byte[] writeUBJson () throws IOException {
+		bytes.reset();
+		UBJsonWriter writer = new UBJsonWriter(bytes);
+		writer.value(tree);
+		writer.flush();
+		return bytes.toByteArray();
+	}
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import static com.badlogic.gdx.math.Matrix4.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+/** {@link Matrix4} multiplication with the native method and in Java, and common {@link Vector3} and {@link Quaternion}
+ * operations. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MathBenchmark {
+	final Matrix4 a = new Matrix4(), b = new Matrix4();
+	final float[] tmp = new float[16];
+	final Vector3 v1 = new Vector3(), v2 = new Vector3();
+	final Quaternion q1 = new Quaternion(), q2 = new Quaternion(), q3 = new Quaternion();
+	final float[] source = new float[3 * 256], vertices = new float[source.length];
+
+	@Setup
+	public void setup () {
+		GdxNativesLoader.load();
+		b.setToLookAt(new Vector3(1, 2, 3), new Vector3(0, 0, 0), Vector3.Y).rotate(Vector3.X, 10).scale(1.1f, 1.1f, 1.1f);
+		v1.set(1, 2, 3);
+		v2.set(-3, 1, 0.5f);
+		q1.setEulerAngles(10, 20, 30);
+		q3.setEulerAngles(-40, 5, 90);
+		for (int i = 0; i < source.length; i++)
+			source[i] = i;
+	}
+
+	@Benchmark
+	public Matrix4 matrix4MulNative () {
+		a.idt().mul(b);
+		return a;
+	}
+
+	@Benchmark
+	public Matrix4 matrix4MulJava () {
+		javaMul(a.idt().val, b.val, tmp);
+		return a;
+	}
+
+	/** Transforms 256 vertices, the vertices are copied first. */
+	@Benchmark
+	public float[] matrix4MulVecNative () {
+		System.arraycopy(source, 0, vertices, 0, source.length);
+		Matrix4.mulVec(b.val, vertices, 0, vertices.length / 3, 3);
+		return vertices;
+	}
+
+	/** Transforms 256 vertices, the vertices are copied first. */
+	@Benchmark
+	public float[] vector3MulLoop () {
+		System.arraycopy(source, 0, vertices, 0, source.length);
+		float[] vertices = this.vertices;
+		Vector3 v = v1;
+		for (int i = 0, n = vertices.length; i < n; i += 3) {
+			v.set(vertices[i], vertices[i + 1], vertices[i + 2]).mul(b);
+			vertices[i] = v.x;
+			vertices[i + 1] = v.y;
+			vertices[i + 2] = v.z;
+		}
+		return vertices;
+	}
+
+	@Benchmark
+	public Matrix4 matrix4Inv () {
+		return a.set(b).inv();
+	}
+
+	@Benchmark
+	public Vector3 vector3Crs () {
+		return v2.set(v1).crs(-3, 1, 0.5f).nor();
+	}
+
+	@Benchmark
+	public Vector3 vector3Prj () {
+		return v2.set(v1).prj(b);
+	}
+
+	@Benchmark
+	public Quaternion quaternionMul () {
+		return q2.set(q1).mul(q3).nor();
+	}
+
+	@Benchmark
+	public Quaternion quaternionSlerp () {
+		return q2.set(q1).slerp(q3, 0.25f);
+	}
+
+	@Benchmark
+	public Vector3 quaternionTransform () {
+		return q1.transform(v2.set(v1));
+	}
+
+	/** The same as the native {@link Matrix4#mul(float[], float[])}, writing the result to tmp first. */
+	static void javaMul (float[] mata, float[] matb, float[] tmp) {
+		tmp[M00] = mata[M00] * matb[M00] + mata[M01] * matb[M10] + mata[M02] * matb[M20] + mata[M03] * matb[M30];
+		tmp[M01] = mata[M00] * matb[M01] + mata[M01] * matb[M11] + mata[M02] * matb[M21] + mata[M03] * matb[M31];
+		tmp[M02] = mata[M00] * matb[M02] + mata[M01] * matb[M12] + mata[M02] * matb[M22] + mata[M03] * matb[M32];
+		tmp[M03] = mata[M00] * matb[M03] + mata[M01] * matb[M13] + mata[M02] * matb[M23] + mata[M03] * matb[M33];
+		tmp[M10] = mata[M10] * matb[M00] + mata[M11] * matb[M10] + mata[M12] * matb[M20] + mata[M13] * matb[M30];
+		tmp[M11] = mata[M10] * matb[M01] + mata[M11] * matb[M11] + mata[M12] * matb[M21] + mata[M13] * matb[M31];
+		tmp[M12] = mata[M10] * matb[M02] + mata[M11] * matb[M12] + mata[M12] * matb[M22] + mata[M13] * matb[M32];
+		tmp[M13] = mata[M10] * matb[M03] + mata[M11] * matb[M13] + mata[M12] * matb[M23] + mata[M13] * matb[M33];
+		tmp[M20] = mata[M20] * matb[M00] + mata[M21] * matb[M10] + mata[M22] * matb[M20] + mata[M23] * matb[M30];
+		tmp[M21] = mata[M20] * matb[M01] + mata[M21] * matb[M11] + mata[M22] * matb[M21] + mata[M23] * matb[M31];
+		tmp[M22] = mata[M20] * matb[M02] + mata[M21] * matb[M12] + mata[M22] * matb[M22] + mata[M23] * matb[M32];
+		tmp[M23] = mata[M20] * matb[M03] + mata[M21] * matb[M13] + mata[M22] * matb[M23] + mata[M23] * matb[M33];
+		tmp[M30] = mata[M30] * matb[M00] + mata[M31] * matb[M10] + mata[M32] * matb[M20] + mata[M33] * matb[M30];
+		tmp[M31] = mata[M30] * matb[M01] + mata[M31] * matb[M11] + mata[M32] * matb[M21] + mata[M33] * matb[M31];
+		tmp[M32] = mata[M30] * matb[M02] + mata[M31] * matb[M12] + mata[M32] * matb[M22] + mata[M33] * matb[M32];
+		tmp[M33] = mata[M30] * matb[M03] + mata[M31] * matb[M13] + mata[M32] * matb[M23] + mata[M33] * matb[M33];
+		System.arraycopy(tmp, 0, mata, 0, 16);
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PackedParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpawnShape;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+
+/** Updates and draws a continuous effect of 4 emitters with {@link ParticleEmitter} and {@link PackedParticleEmitter}, using
+ * {@link HeadlessGL}. Each emitter has about the given number of particles alive. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+	static final int emitterCount = 4;
+
+	@Param({"250", "2500"}) public int particleCount;
+
+	SpriteBatch batch;
+	Texture texture;
+	ParticleEffect effect, packedEffect;
+
+	@Setup
+	public void setup () {
+		HeadlessGL.install();
+		batch = new SpriteBatch();
+		texture = HeadlessGL.newTexture(32, 32);
+		effect = newEffect(false);
+		packedEffect = newEffect(true);
+	}
+
+	@TearDown
+	public void dispose () {
+		batch.dispose();
+		texture.dispose();
+	}
+
+	private ParticleEffect newEffect (boolean packed) {
+		ParticleEffect effect = new ParticleEffect(packed);
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < emitterCount; i++) {
+			ParticleEmitter emitter = packed ? new PackedParticleEmitter() : new ParticleEmitter();
+			emitter.setMaxParticleCount(particleCount * 2);
+			emitter.setSprite(new Sprite(texture));
+			emitter.setContinuous(true);
+			emitter.getDuration().setLow(1000);
+			emitter.getEmission().setHigh(particleCount);
+			emitter.getLife().setHigh(1000);
+			emitter.getScale().setHigh(8, 32);
+			emitter.getScale().setScaling(new float[] {1, 0.25f});
+			emitter.getScale().setTimeline(new float[] {0, 1});
+			emitter.getVelocity().setActive(true);
+			emitter.getVelocity().setHigh(50, 150);
+			emitter.getAngle().setActive(true);
+			emitter.getAngle().setHigh(0, 360);
+			emitter.getRotation().setActive(true);
+			emitter.getRotation().setHigh(0, 360);
+			emitter.getRotation().setScaling(new float[] {0, 1});
+			emitter.getRotation().setTimeline(new float[] {0, 1});
+			emitter.getGravity().setActive(true);
+			emitter.getGravity().setHigh(-50);
+			emitter.getTint().setColors(new float[] {1, 1, 0, 1, 0, 0});
+			emitter.getTint().setTimeline(new float[] {0, 1});
+			emitter.getTransparency().setHigh(1);
+			emitter.getTransparency().setScaling(new float[] {1, 0});
+			emitter.getTransparency().setTimeline(new float[] {0, 1});
+			emitter.getSpawnShape().setShape(SpawnShape.ellipse);
+			emitter.getSpawnWidth().setHigh(100);
+			emitter.getSpawnHeight().setHigh(100);
+			emitter.setPosition(i * 200, 300);
+			effect.getEmitters().add(emitter);
+		}
+		effect.start();
+		// Reach the steady state, where as many particles die as are emitted.
+		for (int i = 0; i < 120; i++)
+			effect.update(1 / 60f);
+		return effect;
+	}
+
+	/** Returns the number of render calls. */
+	private int updateAndDraw (ParticleEffect effect) {
+		effect.update(1 / 60f);
+		batch.begin();
+		effect.draw(batch);
+		batch.end();
+		return batch.renderCalls;
+	}
+
+	@Benchmark
+	public int particleEmitter () {
+		return updateAndDraw(effect);
+	}
+
+	@Benchmark
+	public int packedParticleEmitter () {
+		return updateAndDraw(packedEffect);
+	}
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PackedParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.ParallelParticleUpdater;
+import com.badlogic.gdx.graphics.g2d.ParticleEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool;
+import com.badlogic.gdx.graphics.g2d.ParticleEffectPool.PooledEffect;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter;
+import com.badlogic.gdx.graphics.g2d.ParticleEmitter.SpawnShape;
+import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.async.JobSystem;
+
+/** Updates 1000 pooled effects of 2 emitters with about 30 particles each, one after another with
+ * {@link ParticleEffect#update(float)} and on all cores with {@link ParallelParticleUpdater}, using {@link HeadlessGL}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleUpdateBenchmark {
+	static final int effectCount = 1000;
+
+	@Param({"false", "true"}) public boolean packed;
+
+	Texture texture;
+	JobSystem jobs;
+	ParallelParticleUpdater updater;
+	final Array<PooledEffect> effects = new Array();
+
+	@Setup
+	public void setup () {
+		HeadlessGL.install();
+		texture = HeadlessGL.newTexture(32, 32);
+		jobs = new JobSystem();
+		updater = new ParallelParticleUpdater(jobs);
+
+		ParticleEffectPool pool = new ParticleEffectPool(newEffect(), effectCount, effectCount);
+		for (int i = 0; i < effectCount; i++) {
+			PooledEffect effect = pool.obtain();
+			effect.setPosition(i % 40 * 50, i / 40 * 50);
+			effect.setSeed(i);
+			effect.start();
+			effects.add(effect);
+		}
+		// Reach the steady state, where as many particles die as are emitted.
+		for (int i = 0; i < 60; i++)
+			updater.update(effects, 1 / 60f);
+	}
+
+	@TearDown
+	public void dispose () {
+		jobs.dispose();
+		texture.dispose();
+	}
+
+	private ParticleEffect newEffect () {
+		ParticleEffect effect = new ParticleEffect(packed);
+		for (int i = 0; i < 2; i++) {
+			ParticleEmitter emitter = packed ? new PackedParticleEmitter() : new ParticleEmitter();
+			emitter.setMaxParticleCount(100);
+			emitter.setSprite(new Sprite(texture));
+			emitter.setContinuous(true);
+			emitter.getDuration().setLow(1000);
+			emitter.getEmission().setHigh(50);
+			emitter.getLife().setHigh(400, 800);
+			emitter.getScale().setHigh(8, 32);
+			emitter.getScale().setScaling(new float[] {1, 0.25f});
+			emitter.getScale().setTimeline(new float[] {0, 1});
+			emitter.getVelocity().setActive(true);
+			emitter.getVelocity().setHigh(20, 60);
+			emitter.getAngle().setActive(true);
+			emitter.getAngle().setHigh(0, 360);
+			emitter.getRotation().setActive(true);
+			emitter.getRotation().setHigh(0, 360);
+			emitter.getRotation().setScaling(new float[] {0, 1});
+			emitter.getRotation().setTimeline(new float[] {0, 1});
+			emitter.getTint().setColors(new float[] {1, 1, 0, 1, 0, 0});
+			emitter.getTint().setTimeline(new float[] {0, 1});
+			emitter.getTransparency().setHigh(1);
+			emitter.getTransparency().setScaling(new float[] {1, 0});
+			emitter.getTransparency().setTimeline(new float[] {0, 1});
+			emitter.getSpawnShape().setShape(SpawnShape.ellipse);
+			emitter.getSpawnWidth().setHigh(20);
+			emitter.getSpawnHeight().setHigh(20);
+			effect.getEmitters().add(emitter);
+		}
+		return effect;
+	}
+
+	@Benchmark
+	public Array<PooledEffect> serial () {
+		for (int i = 0, n = effects.size; i < n; i++)
+			effects.get(i).update(1 / 60f);
+		return effects;
+	}
+
+	@Benchmark
+	public Array<PooledEffect> parallel () {
+		updater.update(effects, 1 / 60f);
+		return effects;
+	}
+}
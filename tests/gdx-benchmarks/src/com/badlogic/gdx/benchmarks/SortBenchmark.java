@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ParallelSort;
+import com.badlogic.gdx.utils.RadixSort;
+import com.badlogic.gdx.utils.Select;
+import com.badlogic.gdx.utils.Sort;
+
+/** {@link Sort}, {@link ParallelSort}, {@link RadixSort} and {@link Select} on shuffled and nearly sorted arrays. The array is
+ * restored before each call, the copy is included in the score. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+	static final Comparator<Integer> comparator = new Comparator<Integer>() {
+		public int compare (Integer o1, Integer o2) {
+			return o1.compareTo(o2);
+		}
+	};
+
+	@Param({"100", "10000", "1000000"}) int size;
+	@Param({"true", "false"}) boolean shuffled;
+
+	Integer[] values;
+	Array<Integer> array;
+	float[] floatValues;
+	FloatArray floatKeys;
+	IntArray indices;
+
+	@Setup(Level.Trial)
+	public void setup () {
+		MathUtils.random.setSeed(0);
+		values = new Integer[size];
+		for (int i = 0; i < size; i++)
+			values[i] = i;
+		// Nearly sorted swaps a few values, as when sorting sprites by depth every frame.
+		for (int i = 0, n = shuffled ? size : size / 20; i < n; i++) {
+			int a = shuffled ? i : MathUtils.random(size - 1), b = MathUtils.random(size - 1);
+			Integer temp = values[a];
+			values[a] = values[b];
+			values[b] = temp;
+		}
+		array = new Array(true, size, Integer.class);
+		floatValues = new float[size];
+		for (int i = 0; i < size; i++)
+			floatValues[i] = values[i] * 0.5f;
+		floatKeys = new FloatArray(size);
+		indices = new IntArray(size);
+	}
+
+	private Array<Integer> restore () {
+		Array<Integer> array = this.array;
+		array.clear();
+		array.addAll(values);
+		return array;
+	}
+
+	@Benchmark
+	public Array sortComparable () {
+		Array<Integer> array = restore();
+		Sort.instance().sort(array);
+		return array;
+	}
+
+	@Benchmark
+	public Array sortComparator () {
+		Array<Integer> array = restore();
+		Sort.instance().sort(array, comparator);
+		return array;
+	}
+
+	@Benchmark
+	public Array parallelSortComparable () {
+		Array<Integer> array = restore();
+		ParallelSort.instance().sort(array);
+		return array;
+	}
+
+	@Benchmark
+	public Array parallelSortComparator () {
+		Array<Integer> array = restore();
+		ParallelSort.instance().sort(array, comparator);
+		return array;
+	}
+
+	/** Sorts float keys and the indices of the values they were created from, as when sorting renderables by depth. */
+	@Benchmark
+	public IntArray radixSortFloatKeys () {
+		FloatArray floatKeys = this.floatKeys;
+		IntArray indices = this.indices;
+		floatKeys.clear();
+		floatKeys.addAll(floatValues);
+		indices.clear();
+		for (int i = 0; i < size; i++)
+			indices.add(i);
+		RadixSort.instance().sort(floatKeys, indices);
+		return indices;
+	}
+
+	@Benchmark
+	public FloatArray floatArraySort () {
+		FloatArray floatKeys = this.floatKeys;
+		floatKeys.clear();
+		floatKeys.addAll(floatValues);
+		floatKeys.sort();
+		return floatKeys;
+	}
+
+	@Benchmark
+	public Array arraySort () {
+		Array<Integer> array = restore();
+		array.sort();
+		return array;
+	}
+
+	@Benchmark
+	public Integer selectMedian () {
+		Array<Integer> array = restore();
+		return Select.instance().select(array.items, comparator, array.size / 2 + 1, array.size);
+	}
+
+	@Benchmark
+	public Integer selectLowest () {
+		Array<Integer> array = restore();
+		return Select.instance().select(array.items, comparator, 1, array.size);
+	}
+}
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.InstancedSpriteBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws many rotating and scaling sprites with a {@link SpriteBatch} and an {@link InstancedSpriteBatch} and shows the time
+ * each needs. Touch to switch batches. Without GL30 the InstancedSpriteBatch falls back to drawing like a SpriteBatch. */
+public class InstancedSpriteBatchTest extends GdxTest {
+	static final int spriteCount = 10000;
+
+	Texture texture;
+	TextureRegion region;
+	SpriteBatch spriteBatch;
+	InstancedSpriteBatch instancedBatch;
+	SpriteBatch uiBatch;
+	BitmapFont font;
+	final float[] sprites = new float[spriteCount * 4];
+	boolean useInstancing = true;
+	float time;
+
+	@Override
+	public void create () {
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		region = new TextureRegion(texture);
+		spriteBatch = new SpriteBatch(5460);
+		instancedBatch = new InstancedSpriteBatch(spriteCount);
+		uiBatch = new SpriteBatch();
+		font = new BitmapFont();
+
+		for (int i = 0; i < spriteCount; i++) {
+			sprites[i * 4] = MathUtils.random(Gdx.graphics.getWidth());
+			sprites[i * 4 + 1] = MathUtils.random(Gdx.graphics.getHeight());
+			sprites[i * 4 + 2] = MathUtils.random(-180f, 180f);
+			sprites[i * 4 + 3] = MathUtils.random(0.2f, 1f);
+		}
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		if (Gdx.input.justTouched()) useInstancing = !useInstancing;
+		time += Gdx.graphics.getDeltaTime();
+
+		SpriteBatch batch = useInstancing ? instancedBatch : spriteBatch;
+		long start = TimeUtils.nanoTime();
+		batch.begin();
+		for (int i = 0; i < spriteCount; i++) {
+			float scale = sprites[i * 4 + 3] * (1 + MathUtils.sin(time + i) * 0.2f);
+			batch.draw(region, sprites[i * 4] - 16, sprites[i * 4 + 1] - 16, 16, 16, 32, 32, scale, scale, sprites[i * 4 + 2]
+				* time);
+		}
+		batch.end();
+		float millis = (TimeUtils.nanoTime() - start) / 1000000f;
+
+		uiBatch.begin();
+		String name = useInstancing ? (instancedBatch.isInstancing() ? "InstancedSpriteBatch" : "InstancedSpriteBatch (no GL30)")
+			: "SpriteBatch";
+		font.draw(uiBatch, name + ", render calls: " + batch.renderCalls + ", " + millis + " ms, fps: "
+			+ Gdx.graphics.getFramesPerSecond(), 10, 20);
+		uiBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		texture.dispose();
+		spriteBatch.dispose();
+		instancedBatch.dispose();
+		uiBatch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.MultiTextureBatch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws the same sprites, alternating between a few textures, with a {@link SpriteBatch} and a {@link MultiTextureBatch} and
+ * shows the render calls each needs. Touch to switch batches. */
+public class MultiTextureBatchTest extends GdxTest {
+	static final int spriteCount = 2000;
+
+	Texture[] textures;
+	SpriteBatch spriteBatch;
+	MultiTextureBatch multiTextureBatch;
+	SpriteBatch uiBatch;
+	BitmapFont font;
+	final float[] positions = new float[spriteCount * 2];
+	final int[] textureIndices = new int[spriteCount];
+	boolean useMultiTexture = true;
+
+	@Override
+	public void create () {
+		textures = new Texture[] {new Texture(Gdx.files.internal("data/badlogicsmall.jpg")),
+			new Texture(Gdx.files.internal("data/bobargb8888-32x32.png")), new Texture(Gdx.files.internal("data/egg.png")),
+			new Texture(Gdx.files.internal("data/wheel.png"))};
+		spriteBatch = new SpriteBatch();
+		multiTextureBatch = new MultiTextureBatch();
+		uiBatch = new SpriteBatch();
+		font = new BitmapFont();
+
+		for (int i = 0; i < spriteCount; i++) {
+			positions[i * 2] = MathUtils.random(Gdx.graphics.getWidth() - 32);
+			positions[i * 2 + 1] = MathUtils.random(Gdx.graphics.getHeight() - 32);
+			textureIndices[i] = MathUtils.random(textures.length - 1);
+		}
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
+		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
+		if (Gdx.input.justTouched()) useMultiTexture = !useMultiTexture;
+
+		Batch batch = useMultiTexture ? multiTextureBatch : spriteBatch;
+		long start = TimeUtils.nanoTime();
+		batch.begin();
+		for (int i = 0; i < spriteCount; i++)
+			batch.draw(textures[textureIndices[i]], positions[i * 2], positions[i * 2 + 1], 32, 32);
+		batch.end();
+		float millis = (TimeUtils.nanoTime() - start) / 1000000f;
+		int renderCalls = useMultiTexture ? multiTextureBatch.renderCalls : spriteBatch.renderCalls;
+
+		uiBatch.begin();
+		font.draw(uiBatch, (useMultiTexture ? "MultiTextureBatch" : "SpriteBatch") + ", render calls: " + renderCalls + ", "
+			+ millis + " ms, fps: " + Gdx.graphics.getFramesPerSecond(), 10, 20);
+		if (useMultiTexture) font.draw(uiBatch, "Textures bound at once: " + multiTextureBatch.getMaxTextures(), 10, 40);
+		uiBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		for (Texture texture : textures)
+			texture.dispose();
+		spriteBatch.dispose();
+		multiTextureBatch.dispose();
+		uiBatch.dispose();
+		font.dispose();
+	}
+}
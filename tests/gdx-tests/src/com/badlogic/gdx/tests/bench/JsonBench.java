@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonPullParser;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Measures {@link Json} serialization of a large object graph made mostly of primitive fields, like a save game. */
+public class JsonBench extends GdxTest {
+	static public class SaveGame {
+		public String name;
+		public Array<Entity> entities = new Array();
+	}
+
+	static public class Entity {
+		public int id;
+		public float x, y, rotation;
+		public double health;
+		public long flags;
+		public boolean alive;
+		public String name;
+		public Array<Item> inventory = new Array();
+	}
+
+	static public class Item {
+		public int type;
+		public int count;
+		public float durability;
+	}
+
+	@Override
+	public void create () {
+		SaveGame save = new SaveGame();
+		save.name = "bench";
+		for (int i = 0; i < 20000; i++) {
+			Entity entity = new Entity();
+			entity.id = i;
+			entity.x = MathUtils.random(1000f);
+			entity.y = MathUtils.random(1000f);
+			entity.rotation = MathUtils.random(360f);
+			entity.health = MathUtils.random(100.0f);
+			entity.flags = MathUtils.random(1 << 30) * 31L;
+			entity.alive = MathUtils.randomBoolean();
+			entity.name = "entity" + i;
+			for (int ii = 0; ii < 5; ii++) {
+				Item item = new Item();
+				item.type = MathUtils.random(100);
+				item.count = MathUtils.random(1, 99);
+				item.durability = MathUtils.random();
+				entity.inventory.add(item);
+			}
+			save.entities.add(entity);
+		}
+
+		Json json = new Json();
+		String text = json.toJson(save);
+		Gdx.app.log("JsonBench", save.entities.size + " entities, " + text.length() + " chars");
+
+		int runs = 10;
+		long write = 0, readTree = 0, readStream = 0;
+		for (int i = 0; i < runs + 2; i++) {
+			boolean warmup = i < 2;
+			long start = TimeUtils.nanoTime();
+			json.toJson(save);
+			long time = TimeUtils.nanoTime();
+			if (!warmup) write += time - start;
+
+			start = time;
+			json.fromJson(SaveGame.class, text);
+			time = TimeUtils.nanoTime();
+			if (!warmup) readTree += time - start;
+
+			start = time;
+			json.fromJson(SaveGame.class, new JsonPullParser(text));
+			time = TimeUtils.nanoTime();
+			if (!warmup) readStream += time - start;
+		}
+		Gdx.app.log("JsonBench", "toJson: " + write / runs / 1000000 + " ms");
+		Gdx.app.log("JsonBench", "fromJson, JsonValue: " + readTree / runs / 1000000 + " ms");
+		Gdx.app.log("JsonBench", "fromJson, JsonPullParser: " + readStream / runs / 1000000 + " ms");
+	}
+}
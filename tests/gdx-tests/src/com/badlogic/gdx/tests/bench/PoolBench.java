@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ConcurrentPool;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Measures obtaining and freeing objects from several threads at once, comparing a {@link ConcurrentPool} with a {@link Pool}
+ * whose methods are synchronized. */
+public class PoolBench extends GdxTest {
+	static final int iterations = 200000, held = 8;
+
+	static class SynchronizedPool extends Pool<Vector3> {
+		protected Vector3 newObject () {
+			return new Vector3();
+		}
+
+		synchronized public Vector3 obtain () {
+			return super.obtain();
+		}
+
+		synchronized public void free (Vector3 object) {
+			super.free(object);
+		}
+	}
+
+	static class VectorPool extends ConcurrentPool<Vector3> {
+		protected Vector3 newObject () {
+			return new Vector3();
+		}
+	}
+
+	@Override
+	public void create () {
+		int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		for (int threads = 1; threads <= maxThreads; threads *= 2) {
+			long sync = 0, concurrent = 0;
+			VectorPool pool = null;
+			for (int i = 0; i < 3; i++) {
+				sync = run(new SynchronizedPool(), threads);
+				pool = new VectorPool();
+				concurrent = run(pool, threads);
+			}
+			Gdx.app.log("PoolBench", threads + " threads, synchronized Pool: " + sync / 1000000 + " ms, ConcurrentPool: " + concurrent
+				/ 1000000 + " ms, hit rate: " + pool.getHitRate() + ", contention: " + pool.getContention());
+		}
+	}
+
+	private long run (final Pool<Vector3> pool, int threadCount) {
+		Thread[] threads = new Thread[threadCount];
+		for (int t = 0; t < threadCount; t++) {
+			threads[t] = new Thread() {
+				public void run () {
+					Array<Vector3> objects = new Array(held);
+					for (int i = 0; i < iterations; i++) {
+						for (int ii = 0; ii < held; ii++)
+							objects.add(pool.obtain().set(i, ii, 0));
+						for (int ii = 0; ii < held; ii++)
+							pool.free(objects.get(ii));
+						objects.clear();
+					}
+				}
+			};
+		}
+		long start = TimeUtils.nanoTime();
+		for (Thread thread : threads)
+			thread.start();
+		try {
+			for (Thread thread : threads)
+				thread.join();
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+		return TimeUtils.nanoTime() - start;
+	}
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.Timer;
+import com.badlogic.gdx.utils.Timer.Task;
+
+/** Schedules 100k tasks with random delays on a {@link Timer} that keeps tasks in a list and on one that uses a timing wheel,
+ * then logs the time to schedule and cancel them and how late the remaining tasks run. */
+public class TimerBench extends GdxTest {
+	static final int taskCount = 100000;
+
+	final Mode list = new Mode("list", new Timer());
+	final Mode wheel = new Mode("wheel", new Timer(0.01f));
+	float logTime;
+
+	static class Mode {
+		final String name;
+		final Timer timer;
+		final Task[] tasks = new Task[taskCount];
+		int fired;
+		long lateMillis;
+
+		Mode (String name, Timer timer) {
+			this.name = name;
+			this.timer = timer;
+			for (int i = 0; i < taskCount; i++) {
+				tasks[i] = new Task() {
+					public void run () {
+						fired++;
+						lateMillis += TimeUtils.nanoTime() / 1000000 - getExecuteTimeMillis();
+					}
+				};
+			}
+		}
+
+		void run () {
+			timer.stop();
+			MathUtils.random.setSeed(0);
+			long start = TimeUtils.nanoTime();
+			for (Task task : tasks)
+				timer.scheduleTask(task, MathUtils.random(1f, 30f));
+			long schedule = TimeUtils.nanoTime() - start;
+
+			// Cancel every other task, as games do when a cooldown or effect is interrupted.
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < taskCount; i += 2)
+				tasks[i].cancel();
+			long cancel = TimeUtils.nanoTime() - start;
+			timer.start();
+
+			Gdx.app.log("TimerBench", name + ", schedule: " + schedule / 1000000 + " ms, cancel: " + cancel / 1000000 + " ms");
+		}
+
+		void log () {
+			Gdx.app.log("TimerBench", name + ", fired: " + fired + ", average lateness: " + (fired == 0 ? 0 : lateMillis / fired)
+				+ " ms");
+		}
+	}
+
+	@Override
+	public void create () {
+		list.run();
+		wheel.run();
+	}
+
+	@Override
+	public void render () {
+		logTime += Gdx.graphics.getDeltaTime();
+		if (logTime < 1) return;
+		logTime = 0;
+		list.log();
+		wheel.log();
+	}
+
+	@Override
+	public void dispose () {
+		list.timer.clear();
+		wheel.timer.clear();
+	}
+}
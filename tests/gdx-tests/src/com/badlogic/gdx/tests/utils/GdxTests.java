@@ -37,7 +37,10 @@ import java.util.Collections;
 import java.util.List;
 
 import com.badlogic.gdx.tests.*;
+import com.badlogic.gdx.tests.bench.JsonBench;
+import com.badlogic.gdx.tests.bench.PoolBench;
 import com.badlogic.gdx.tests.bench.TiledMapBench;
+import com.badlogic.gdx.tests.bench.TimerBench;
 import com.badlogic.gdx.tests.conformance.DisplayModeTest;
 import com.badlogic.gdx.tests.examples.MoveSpriteExample;
 import com.badlogic.gdx.tests.extensions.ControllersTest;
@@ -152,10 +155,12 @@ public class GdxTests {
 		ImmediateModeRendererTest.class,
 		IndexBufferObjectShaderTest.class,
 		InputTest.class,
+		InstancedSpriteBatchTest.class,
 		IntegerBitmapFontTest.class,
 		InterpolationTest.class,
 		InverseKinematicsTest.class,
 		IsometricTileTest.class,
+		JsonBench.class,
 		KinematicBodyTest.class,
 		KTXTest.class,
 		LabelScaleTest.class,
@@ -171,6 +176,7 @@ public class GdxTests {
 		ModelCacheTest.class,
 		MoveSpriteExample.class,
 		MultipleRenderTargetTest.class,
+		MultiTextureBatchTest.class,
 		MultitouchTest.class,
 		MusicTest.class,
 		NetAPITest.class,
@@ -187,6 +193,7 @@ public class GdxTests {
 		PixmapTest.class,
 		PolygonRegionTest.class,
 		PolygonSpriteTest.class,
+		PoolBench.class,
 		PreferencesTest.class,
 		ProjectTest.class,
 		ProjectiveTextureTest.class,
@@ -240,6 +247,7 @@ public class GdxTests {
 		TiledMapModifiedExternalTilesetTest.class,
 		TiledMapObjectLoadingTest.class,
 		TiledMapBench.class,
+		TimerBench.class,
 		TimerTest.class,
 		TimeUtilsTest.class,
 		TouchpadTest.class,